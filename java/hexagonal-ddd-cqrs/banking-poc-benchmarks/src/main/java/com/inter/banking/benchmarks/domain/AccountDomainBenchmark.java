@@ -0,0 +1,80 @@
+package com.inter.banking.benchmarks.domain;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operações de domínio da entity Account, sem persistência
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AccountDomainBenchmark {
+  private Account account;
+  private Money amount;
+  private Money initialBalance;
+  private AccountId accountId;
+  private CustomerId customerId;
+
+  @Setup
+  public void setUp() {
+    accountId = AccountId.generate();
+    customerId = CustomerId.generate();
+    initialBalance = Money.brl("1000000.00");
+    amount = Money.brl("12.34");
+    account = new Account(accountId, "00000001-8", customerId, initialBalance);
+  }
+
+  @Benchmark
+  public Account createAccount() {
+    return new Account(accountId, "00000001-8", customerId, initialBalance);
+  }
+
+  @Benchmark
+  public Account debit() {
+    account.debit(amount);
+    account.credit(amount);
+    return account;
+  }
+
+  @Benchmark
+  public Account credit() {
+    account.credit(amount);
+    account.debit(amount);
+    return account;
+  }
+
+  @Benchmark
+  public boolean canDebit() {
+    return account.canDebit(amount);
+  }
+
+  @Benchmark
+  public Account blockAndUnblock() {
+    account.block();
+    account.unblock();
+    return account;
+  }
+
+  @Benchmark
+  public Money readBalance() {
+    return account.getBalance();
+  }
+}
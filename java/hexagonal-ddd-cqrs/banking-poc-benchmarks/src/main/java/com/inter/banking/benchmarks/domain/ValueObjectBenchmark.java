@@ -0,0 +1,90 @@
+package com.inter.banking.benchmarks.domain;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de criação/aritmética dos Value Objects (use -prof gc para bytes alocados)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValueObjectBenchmark {
+  private BigDecimal rawAmount;
+  private Money balance;
+  private Money amount;
+  private String accountIdText;
+  private AccountId accountId;
+
+  @Setup
+  public void setUp() {
+    rawAmount = new BigDecimal("1234.5");
+    balance = Money.brl("1000000.00");
+    amount = Money.brl("12.34");
+    accountIdText = UUID.randomUUID().toString();
+    accountId = AccountId.from(accountIdText);
+  }
+
+  @Benchmark
+  public Money moneyFromBigDecimal() {
+    return Money.brl(rawAmount);
+  }
+
+  @Benchmark
+  public Money moneyFromString() {
+    return Money.brl("1234.50");
+  }
+
+  @Benchmark
+  public Money moneyAdd() {
+    return balance.add(amount);
+  }
+
+  @Benchmark
+  public Money moneySubtract() {
+    return balance.subtract(amount);
+  }
+
+  @Benchmark
+  public boolean moneyIsLessThan() {
+    return balance.isLessThan(amount);
+  }
+
+  @Benchmark
+  public AccountId accountIdFromString() {
+    return AccountId.from(accountIdText);
+  }
+
+  @Benchmark
+  public AccountId accountIdGenerate() {
+    return AccountId.generate();
+  }
+
+  @Benchmark
+  public CustomerId customerIdFromString() {
+    return CustomerId.from(accountIdText);
+  }
+
+  @Benchmark
+  public int accountIdHashCode() {
+    return accountId.hashCode();
+  }
+}
@@ -0,0 +1,93 @@
+package com.inter.banking.benchmarks.hold;
+
+import com.inter.banking.banking.application.command.CaptureHoldCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.PlaceHoldCommand;
+import com.inter.banking.banking.application.command.result.HoldResult;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.application.service.FundsHoldService;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de reservar saldo comparado ao de um débito, com Spring e H2 (adapter jpa padrão)
+ * placeHold grava a conta e a reserva e agenda a expiração (a reserva fica ativa, com a validade padrão);
+ * placeAndCapture é o ciclo completo de uma autorização capturada
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FundsHoldBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+  @Param({"1000"})
+  public int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService commandService;
+  private FundsHoldService holdService;
+  private String[] accountIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start();
+    commandService = context.getBean(AccountCommandService.class);
+    holdService = context.getBean(FundsHoldService.class);
+
+    String customerId = UUID.randomUUID().toString();
+    accountIds = new String[accounts];
+    for (int i = 0; i < accounts; i++) {
+      accountIds[i] = commandService.createdAccount(
+          new CreateAccountCommand(customerId, new BigDecimal("1000000.00"))).accountId();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransactionResult debit() {
+    return commandService.debitAccount(new DebitAccountCommand(pick(), AMOUNT, "bench"));
+  }
+
+  @Benchmark
+  public HoldResult placeHold() {
+    return holdService.placeHold(new PlaceHoldCommand(pick(), AMOUNT, "bench", null));
+  }
+
+  @Benchmark
+  public TransactionResult placeAndCapture() {
+    String accountId = pick();
+    HoldResult hold = holdService.placeHold(new PlaceHoldCommand(accountId, AMOUNT, "bench", null));
+    return holdService.captureHold(new CaptureHoldCommand(accountId, hold.holdId(), null));
+  }
+
+  private String pick() {
+    return accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)];
+  }
+}
@@ -0,0 +1,103 @@
+package com.inter.banking.benchmarks.hold;
+
+import com.inter.banking.banking.infrastructure.hold.HierarchicalTimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Milhões de reservas ativas aguardando expiração: HierarchicalTimingWheel (chaves em arrays de long)
+ * vs um ScheduledExecutorService com uma tarefa por reserva (heap de ScheduledFutureTask)
+ * No setup agenda as reservas com prazos espalhados em 7 dias e imprime o heap retido por reserva e a
+ * duração de um GC completo; o benchmark mede o custo de agendar mais uma.
+ * A roda roda sem ticker (só o agendamento é medido); o executor não chega a disparar nenhuma tarefa e
+ * não é desligado: shutdownNow copiaria milhões de tarefas com o heap cheio, e a thread (daemon) morre com o fork
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms4500m", "-Xmx4500m"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HoldExpiryBenchmark {
+  private static final long WINDOW_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+  public enum Structure { WHEEL, SCHEDULED_EXECUTOR }
+
+  @Param({"1000000", "5000000"})
+  public int holds;
+
+  @Param({"WHEEL", "SCHEDULED_EXECUTOR"})
+  public Structure structure;
+
+  private HierarchicalTimingWheel wheel;
+  private ScheduledExecutorService executor;
+  private long start;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    long before = usedHeap();
+    start = System.currentTimeMillis();
+    if (structure == Structure.WHEEL) {
+      wheel = new HierarchicalTimingWheel(100, start);
+    } else {
+      executor = Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("bench-expiry").daemon(true).factory());
+    }
+
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < holds; i++) {
+      schedule(new UUID(random.nextLong(), random.nextLong()), start + 1 + random.nextLong(WINDOW_MILLIS));
+    }
+
+    long after = usedHeap();
+    long gcStart = System.nanoTime();
+    System.gc();
+    long gcMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - gcStart);
+    System.out.printf("%n[%s, %d reservas] heap retido %d bytes/reserva, GC completo %d ms%n",
+        structure, holds, (after - before) / holds, gcMillis);
+  }
+
+  @Benchmark
+  public void schedule() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    schedule(new UUID(random.nextLong(), random.nextLong()), start + 1 + random.nextLong(WINDOW_MILLIS));
+  }
+
+  private void schedule(UUID holdId, long deadlineMillis) {
+    if (structure == Structure.WHEEL) {
+      wheel.schedule(holdId.getMostSignificantBits(), holdId.getLeastSignificantBits(), deadlineMillis);
+    } else {
+      // Como um agendamento por reserva faria: a tarefa captura o id para liberá-la quando vencer
+      executor.schedule(() -> expire(holdId), deadlineMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static void expire(UUID holdId) {
+    throw new IllegalStateException("Hold expired during benchmark: " + holdId);
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
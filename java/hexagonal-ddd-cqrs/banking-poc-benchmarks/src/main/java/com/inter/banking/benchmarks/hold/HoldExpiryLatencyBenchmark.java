@@ -0,0 +1,109 @@
+package com.inter.banking.benchmarks.hold;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.PlaceHoldCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.application.service.FundsHoldService;
+import com.inter.banking.banking.domain.port.HoldExpiryScheduler;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência dos débitos enquanto uma massa de reservas vence ao mesmo tempo
+ * Antes de cada iteração reserva `holds` valores nas mesmas contas debitadas e antecipa o vencimento
+ * de todas para agora: a expiração corre durante a medição.
+ * NONE: reservas ficam ativas (referência); CHUNKED: lotes e teto por tick padrão
+ * (banking.holds.expiry); UNBOUNDED: todas as vencidas numa única transação no primeiro tick
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HoldExpiryLatencyBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+  public enum Expiry { NONE, CHUNKED, UNBOUNDED }
+
+  @Param({"NONE", "CHUNKED", "UNBOUNDED"})
+  public Expiry expiry;
+
+  @Param({"20000"})
+  public int holds;
+
+  @Param({"1000"})
+  public int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService commandService;
+  private FundsHoldService holdService;
+  private HoldExpiryScheduler expiryScheduler;
+  private String[] accountIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = expiry == Expiry.UNBOUNDED
+        ? BankingContext.start("banking.holds.expiry.batch-size=" + holds, "banking.holds.expiry.max-per-tick=1000000")
+        : BankingContext.start();
+    commandService = context.getBean(AccountCommandService.class);
+    holdService = context.getBean(FundsHoldService.class);
+    expiryScheduler = context.getBean(HoldExpiryScheduler.class);
+
+    String customerId = UUID.randomUUID().toString();
+    accountIds = new String[accounts];
+    for (int i = 0; i < accounts; i++) {
+      accountIds[i] = commandService.createdAccount(
+          new CreateAccountCommand(customerId, new BigDecimal("1000000.00"))).accountId();
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void placeHolds() {
+    UUID[] holdIds = new UUID[holds];
+    for (int i = 0; i < holds; i++) {
+      holdIds[i] = UUID.fromString(holdService.placeHold(
+          new PlaceHoldCommand(accountIds[i % accounts], AMOUNT, "bench", Duration.ofDays(1))).holdId());
+    }
+    if (expiry != Expiry.NONE) {
+      // Prazo antecipado: a roda fica com os dois agendamentos e o de um dia encontra a reserva já expirada
+      Instant now = Instant.now();
+      for (UUID holdId : holdIds) {
+        expiryScheduler.schedule(holdId, now);
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransactionResult debit() {
+    return commandService.debitAccount(new DebitAccountCommand(
+        accountIds[ThreadLocalRandom.current().nextInt(accounts)], AMOUNT, "bench"));
+  }
+}
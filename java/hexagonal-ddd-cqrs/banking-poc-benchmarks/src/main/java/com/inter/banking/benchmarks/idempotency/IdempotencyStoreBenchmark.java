@@ -0,0 +1,119 @@
+package com.inter.banking.benchmarks.idempotency;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.domain.port.IdempotencyStore;
+import com.inter.banking.banking.infrastructure.idempotency.IdempotencyStoreStats;
+import com.inter.banking.banking.infrastructure.idempotency.TieredIdempotencyStore;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consulta de chaves de idempotência por camada e repetição de um crédito já executado.
+ * memory: todas as chaves cabem na memória; store: limite de 1KB força quase toda consulta ao banco.
+ * No setup imprime o heap medido por entrada em memória contra a estimativa usada no limite
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IdempotencyStoreBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+  @Param({"memory", "store"})
+  public String tier;
+
+  @Param({"20000"})
+  public int keys;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService service;
+  private TieredIdempotencyStore store;
+  private String accountId;
+  private String[] idempotencyKeys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start(
+        "banking.idempotency.memory-limit=" + ("memory".equals(tier) ? "64MB" : "1KB"));
+    service = context.getBean(AccountCommandService.class);
+    store = context.getBean(TieredIdempotencyStore.class);
+
+    accountId = service.createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), BigDecimal.ZERO))
+        .accountId();
+    idempotencyKeys = new String[keys];
+    for (int i = 0; i < keys; i++) {
+      idempotencyKeys[i] = UUID.randomUUID().toString();
+      service.creditAccount(new CreditAccountCommand(accountId, AMOUNT, "bench", idempotencyKeys[i]));
+    }
+
+    if ("memory".equals(tier)) {
+      printHeapPerEntry();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    IdempotencyStoreStats stats = store.stats();
+    System.out.printf("%n[%s] %s%n", tier, stats);
+    context.close();
+  }
+
+  @Benchmark
+  public Optional<IdempotencyStore.Entry> lookup() {
+    return store.find(randomKey());
+  }
+
+  @Benchmark
+  public TransactionResult repeatedCredit() {
+    return service.creditAccount(new CreditAccountCommand(accountId, AMOUNT, "bench", randomKey()));
+  }
+
+  private String randomKey() {
+    return idempotencyKeys[ThreadLocalRandom.current().nextInt(keys)];
+  }
+
+  // Esvazia a memória, mede o heap e reaquece pelo banco: a diferença é o que as entradas ocupam
+  private void printHeapPerEntry() {
+    store.clearMemory();
+    long before = usedHeap();
+    for (String key : idempotencyKeys) {
+      store.find(key);
+    }
+    long after = usedHeap();
+    IdempotencyStoreStats stats = store.stats();
+    System.out.printf("%nHeap por entrada: medido %d bytes, estimado %d bytes (%d entradas)%n",
+        (after - before) / keys, stats.memoryBytes() / Math.max(1, stats.memoryEntries()), stats.memoryEntries());
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,132 @@
+package com.inter.banking.benchmarks.index;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+import com.inter.banking.banking.infrastructure.index.AccountIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contas em memória: AccountIndex (arrays primitivos) vs HashMap<AccountId, Account> com um
+ * HashMap<String, AccountId> para o número da conta (as mesmas duas chaves do índice)
+ * No setup imprime o heap retido por conta e a duração de um GC completo com as contas carregadas.
+ * O índice remonta o Account a cada leitura (alocação por consulta); o HashMap devolve a instância retida.
+ * 10M contas no HashMap pedem ~4 GB de heap (ajuste -Xmx ou rode só INDEX)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms4500m", "-Xmx4500m"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AccountIndexBenchmark {
+  private static final int SAMPLE = 1 << 16;
+
+  public enum Structure { INDEX, HASH_MAP }
+
+  @Param({"1000000", "10000000"})
+  public int accounts;
+
+  @Param({"INDEX", "HASH_MAP"})
+  public Structure structure;
+
+  private AccountIndex index;
+  private Map<AccountId, Account> map;
+  private Map<String, AccountId> numbers;
+  private AccountId[] sampleIds;
+  private String[] sampleNumbers;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    long before = usedHeap();
+    if (structure == Structure.INDEX) {
+      index = new AccountIndex(64, accounts);
+    } else {
+      map = new HashMap<>();
+      numbers = new HashMap<>();
+    }
+
+    // Datas distintas por conta, como as carregadas do banco (nada compartilhado entre as entradas do HashMap)
+    // Ids reconstruídos a partir de uma semente: a amostra não retém os objetos das demais contas
+    sampleIds = new AccountId[SAMPLE];
+    sampleNumbers = new String[SAMPLE];
+    SplittableRandom random = new SplittableRandom(42);
+    int stride = Math.max(1, accounts / SAMPLE);
+    LocalDateTime now = LocalDateTime.now();
+    for (int i = 0; i < accounts; i++) {
+      Account account = new Account(
+          new AccountId(new UUID(random.nextLong(), random.nextLong())),
+          "%08d-%d".formatted(i, i % 10),
+          new CustomerId(new UUID(random.nextLong(), random.nextLong())),
+          1_000,
+          0,
+          CurrencyCode.BRL,
+          AccountStatus.ACTIVE,
+          now.plusNanos(i),
+          now.plusNanos(accounts + i),
+          1);
+      if (structure == Structure.INDEX) {
+        index.put(account);
+      } else {
+        map.put(account.getId(), account);
+        numbers.put(account.getAccountNumber(), account.getId());
+      }
+      if (i % stride == 0 && i / stride < SAMPLE) {
+        sampleIds[i / stride] = account.getId();
+        sampleNumbers[i / stride] = account.getAccountNumber();
+      }
+    }
+
+    long after = usedHeap();
+    long gcStart = System.nanoTime();
+    System.gc();
+    long gcMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - gcStart);
+    System.out.printf("%n[%s, %d contas] heap retido %d bytes/conta, GC completo %d ms%s%n",
+        structure, accounts, (after - before) / accounts, gcMillis,
+        index == null ? "" : ", arrays do índice " + index.memoryBytes() / accounts + " bytes/conta");
+  }
+
+  @Benchmark
+  public Optional<Account> findById() {
+    AccountId id = sampleIds[ThreadLocalRandom.current().nextInt(SAMPLE)];
+    return structure == Structure.INDEX ? index.find(id) : Optional.ofNullable(map.get(id));
+  }
+
+  @Benchmark
+  public Optional<AccountId> findIdByAccountNumber() {
+    String number = sampleNumbers[ThreadLocalRandom.current().nextInt(SAMPLE)];
+    return structure == Structure.INDEX
+        ? index.findIdByAccountNumber(number)
+        : Optional.ofNullable(numbers.get(number));
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
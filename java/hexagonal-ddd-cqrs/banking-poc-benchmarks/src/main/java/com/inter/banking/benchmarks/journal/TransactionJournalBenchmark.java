@@ -0,0 +1,82 @@
+package com.inter.banking.benchmarks.journal;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.TransactionJournal;
+import com.inter.banking.banking.infrastructure.journal.JournalProperties;
+import com.inter.banking.banking.infrastructure.journal.MappedTransactionJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Vazão do journal mapeado em memória: cada append espera o fsync do seu grupo
+ * Com mais threads, mais registros por fsync; groupCommitDelay troca latência por grupos maiores
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+public class TransactionJournalBenchmark {
+
+  @Param({"0ms", "200us"})
+  public String groupCommitDelay;
+
+  private Path directory;
+  private MappedTransactionJournal journal;
+  private TransactionJournal.Entry entry;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("journal-bench");
+    journal = MappedTransactionJournal.open(
+        new JournalProperties(true, directory, DataSize.ofMegabytes(64), parse(groupCommitDelay), Duration.ZERO),
+        entries -> {});
+    entry = new TransactionJournal.Entry(
+        AccountId.generate(), UUID.randomUUID().toString(), "CREDIT", 100, 10_000, 1, Instant.now());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    System.out.println("\n" + journal.metrics());
+    journal.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public void append() {
+    journal.append(entry);
+  }
+
+  private static Duration parse(String delay) {
+    return delay.endsWith("us")
+        ? Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(Long.parseLong(delay.replace("us", ""))))
+        : Duration.ofMillis(Long.parseLong(delay.replace("ms", "")));
+  }
+}
@@ -0,0 +1,83 @@
+package com.inter.banking.benchmarks.ledger;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.AccountDistribution;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de débito/crédito: caminho atual (read-modify-write via JPA/H2) vs ledger em memória
+ * HOT concentra tudo numa conta quente; UNIFORM espalha a carga
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class LedgerThroughputBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+  @Param({"false", "true"})
+  public boolean ledgerEnabled;
+
+  @Param({"HOT", "UNIFORM"})
+  public AccountDistribution distribution;
+
+  @Param({"1000"})
+  public int uniformAccounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService service;
+  private String[] accountIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start("banking.ledger.enabled=" + ledgerEnabled);
+    service = context.getBean(AccountCommandService.class);
+
+    accountIds = new String[distribution.accounts(uniformAccounts)];
+    for (int i = 0; i < accountIds.length; i++) {
+      accountIds[i] = service.createdAccount(
+          new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("1000000000.00"))).accountId();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransactionResult credit() {
+    return service.creditAccount(new CreditAccountCommand(distribution.pick(accountIds), AMOUNT, "bench"));
+  }
+
+  @Benchmark
+  public TransactionResult debit() {
+    return service.debitAccount(new DebitAccountCommand(distribution.pick(accountIds), AMOUNT, "bench"));
+  }
+}
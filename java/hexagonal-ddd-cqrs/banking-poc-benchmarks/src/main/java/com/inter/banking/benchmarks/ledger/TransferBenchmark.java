@@ -0,0 +1,77 @@
+package com.inter.banking.benchmarks.ledger;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.TransferCommand;
+import com.inter.banking.banking.application.command.result.TransferResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transferências entre pares aleatórios de contas: caminho JPA (locks na ordem canônica) vs ledger
+ * SampleTime dá a distribuição de latência (p99 no relatório); poucas contas aumentam a disputa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class TransferBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+  @Param({"false", "true"})
+  public boolean ledgerEnabled;
+
+  @Param({"10", "1000"})
+  public int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService service;
+  private String[] accountIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start("banking.ledger.enabled=" + ledgerEnabled);
+    service = context.getBean(AccountCommandService.class);
+
+    accountIds = new String[accounts];
+    for (int i = 0; i < accounts; i++) {
+      accountIds[i] = service.createdAccount(
+          new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("1000000000.00"))).accountId();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransferResult transfer() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int source = random.nextInt(accountIds.length);
+    int target = (source + 1 + random.nextInt(accountIds.length - 1)) % accountIds.length;
+    return service.transfer(new TransferCommand(accountIds[source], accountIds[target], AMOUNT, "bench"));
+  }
+}
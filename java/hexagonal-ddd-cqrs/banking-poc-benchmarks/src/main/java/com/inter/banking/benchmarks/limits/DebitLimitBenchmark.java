@@ -0,0 +1,86 @@
+package com.inter.banking.benchmarks.limits;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.AccountDistribution;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débito completo com Spring e H2, com e sem os limites por conta (banking.limits)
+ * Limites altos o bastante para nada ser recusado: mede só o custo da contagem, inclusive com todas as
+ * threads na mesma conta (HOT). O teto por minuto comporta ~8 mil débitos/s na mesma conta
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class DebitLimitBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+  @Param({"HOT", "UNIFORM"})
+  public AccountDistribution distribution;
+
+  @Param({"1000"})
+  public int uniformAccounts;
+
+  @Param({"false", "true"})
+  public boolean limitsEnabled;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService service;
+  private String[] accountIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start(
+        "banking.limits.enabled=" + limitsEnabled,
+        "banking.limits.tiers.standard.daily-amount=1000000000.00",
+        "banking.limits.tiers.standard.debits-per-minute=524287",
+        // HOT: conflitos de versão com 4 threads na mesma linha não podem esgotar as retentativas
+        "banking.retry.max-attempts=100",
+        "banking.retry.budget-ratio=100",
+        "banking.retry.budget-reserve=1000");
+    service = context.getBean(AccountCommandService.class);
+
+    String customerId = UUID.randomUUID().toString();
+    accountIds = new String[distribution.accounts(uniformAccounts)];
+    for (int i = 0; i < accountIds.length; i++) {
+      accountIds[i] = service.createdAccount(
+          new CreateAccountCommand(customerId, new BigDecimal("1000000000.00"))).accountId();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransactionResult debit() {
+    return service.debitAccount(new DebitAccountCommand(distribution.pick(accountIds), AMOUNT, "bench"));
+  }
+}
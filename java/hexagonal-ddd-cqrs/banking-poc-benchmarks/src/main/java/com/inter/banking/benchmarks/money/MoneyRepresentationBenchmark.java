@@ -0,0 +1,93 @@
+package com.inter.banking.benchmarks.money;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money (BigDecimal) vs FixedPointMoney (long de centavos)
+ * Rode com -prof gc para comparar bytes alocados por operação
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MoneyRepresentationBenchmark {
+  private Money bigDecimalBalance;
+  private Money bigDecimalAmount;
+  private FixedPointMoney fixedBalance;
+  private FixedPointMoney fixedAmount;
+  private long balanceCents;
+  private long amountCents;
+  private Account account;
+
+  @Setup
+  public void setUp() {
+    bigDecimalBalance = Money.brl("1000000.00");
+    bigDecimalAmount = Money.brl("12.34");
+    fixedBalance = FixedPointMoney.from(bigDecimalBalance);
+    fixedAmount = FixedPointMoney.from(bigDecimalAmount);
+    balanceCents = fixedBalance.getCents();
+    amountCents = fixedAmount.getCents();
+    account = new Account(AccountId.generate(), "00000001-8", CustomerId.generate(), Money.brl("1000000.00"));
+  }
+
+  @Benchmark
+  public Money bigDecimalDebit() {
+    if (bigDecimalBalance.isLessThan(bigDecimalAmount)) {
+      throw new IllegalStateException();
+    }
+    return bigDecimalBalance.subtract(bigDecimalAmount).add(bigDecimalAmount);
+  }
+
+  @Benchmark
+  public FixedPointMoney fixedPointDebit() {
+    if (fixedBalance.isLessThan(fixedAmount)) {
+      throw new IllegalStateException();
+    }
+    return fixedBalance.subtract(fixedAmount).add(fixedAmount);
+  }
+
+  @Benchmark
+  public long primitiveCentsDebit() {
+    if (balanceCents < amountCents) {
+      throw new IllegalStateException();
+    }
+    return FixedPointMoney.add(FixedPointMoney.subtract(balanceCents, amountCents), amountCents);
+  }
+
+  @Benchmark
+  public long accountDebitCreditWithMoney() {
+    account.debit(bigDecimalAmount);
+    account.credit(bigDecimalAmount);
+    return account.getBalanceCents();
+  }
+
+  @Benchmark
+  public long accountDebitCreditWithFixedPoint() {
+    account.debit(fixedAmount);
+    account.credit(fixedAmount);
+    return account.getBalanceCents();
+  }
+
+  @Benchmark
+  public Money conversionRoundTrip() {
+    return FixedPointMoney.from(bigDecimalAmount).toMoney();
+  }
+}
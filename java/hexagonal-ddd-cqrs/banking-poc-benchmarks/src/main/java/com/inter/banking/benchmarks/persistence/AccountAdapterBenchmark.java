@@ -0,0 +1,118 @@
+package com.inter.banking.benchmarks.persistence;
+
+import com.inter.banking.banking.application.command.BatchTransactionCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.result.BatchTransactionResult;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapter jpa (Hibernate) vs jdbc (JDBC direto) na mesma tabela, com H2 em memória e em arquivo
+ * (FILE grava em target/bench-db, com o custo de escrita em disco do H2 em cada commit)
+ * Crédito completo, leitura por id e liquidação de 100 créditos num processBatch (saveAll em JDBC batch)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AccountAdapterBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+  private static final int BATCH_SIZE = 100;
+
+  public enum Database { MEMORY, FILE }
+
+  @Param({"jpa", "jdbc"})
+  public String adapter;
+
+  @Param({"MEMORY", "FILE"})
+  public Database database;
+
+  @Param({"1000"})
+  public int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService service;
+  private AccountRepository repository;
+  private String[] accountIds;
+  private BatchTransactionCommand settlement;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    String url = database == Database.MEMORY
+        ? "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"
+        : "jdbc:h2:file:./target/bench-db/" + UUID.randomUUID();
+    // schema.sql só roda sozinho em banco em memória
+    context = BankingContext.start(
+        "banking.persistence.adapter=" + adapter,
+        "spring.datasource.url=" + url,
+        "spring.sql.init.mode=always");
+    service = context.getBean(AccountCommandService.class);
+    repository = context.getBean(AccountRepository.class);
+
+    String customerId = UUID.randomUUID().toString();
+    accountIds = new String[accounts];
+    for (int i = 0; i < accounts; i++) {
+      accountIds[i] = service.createdAccount(new CreateAccountCommand(customerId, BigDecimal.ZERO)).accountId();
+    }
+
+    List<BatchTransactionCommand.Item> items = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      items.add(new BatchTransactionCommand.Item(
+          BatchTransactionCommand.Operation.CREDIT, accountIds[i * (accounts / BATCH_SIZE)], AMOUNT, "settlement"));
+    }
+    settlement = new BatchTransactionCommand(items);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransactionResult credit() {
+    return service.creditAccount(new CreditAccountCommand(pick(), AMOUNT, "bench"));
+  }
+
+  @Benchmark
+  public Optional<Account> findById() {
+    return repository.findById(AccountId.from(pick()));
+  }
+
+  @Benchmark
+  public BatchTransactionResult settlementBatch() {
+    return service.processBatch(settlement);
+  }
+
+  private String pick() {
+    return accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)];
+  }
+}
@@ -0,0 +1,63 @@
+package com.inter.banking.benchmarks.persistence;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.result.AccountCreatedResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de abertura de contas: número aleatório + consulta de colisão vs blocos reservados
+ * Rode com -t 1, 2, 4... para ver a escala por thread
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class AccountOnboardingBenchmark {
+
+  @Param({"random", "block"})
+  public String strategy;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService service;
+  private CreateAccountCommand command;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start("banking.account-number.strategy=" + strategy);
+    service = context.getBean(AccountCommandService.class);
+    command = new CreateAccountCommand(UUID.randomUUID().toString(), BigDecimal.ZERO);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public AccountCreatedResult createAccount() {
+    return service.createdAccount(command);
+  }
+}
@@ -0,0 +1,92 @@
+package com.inter.banking.benchmarks.persistence;
+
+import com.inter.banking.banking.application.command.BatchTransactionCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.result.BatchTransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Liquidação de N créditos: N chamadas individuais vs um único processBatch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BatchCommandBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+  @Param({"1000"})
+  public int operations;
+
+  @Param({"100"})
+  public int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService service;
+  private List<CreditAccountCommand> credits;
+  private BatchTransactionCommand batch;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start();
+    service = context.getBean(AccountCommandService.class);
+
+    String customerId = UUID.randomUUID().toString();
+    String[] accountIds = new String[accounts];
+    for (int i = 0; i < accounts; i++) {
+      accountIds[i] = service.createdAccount(new CreateAccountCommand(customerId, BigDecimal.ZERO)).accountId();
+    }
+
+    credits = new ArrayList<>(operations);
+    List<BatchTransactionCommand.Item> items = new ArrayList<>(operations);
+    for (int i = 0; i < operations; i++) {
+      String accountId = accountIds[i % accounts];
+      credits.add(new CreditAccountCommand(accountId, AMOUNT, "settlement"));
+      items.add(new BatchTransactionCommand.Item(
+          BatchTransactionCommand.Operation.CREDIT, accountId, AMOUNT, "settlement"));
+    }
+    batch = new BatchTransactionCommand(items);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void individualCalls(Blackhole blackhole) {
+    for (CreditAccountCommand credit : credits) {
+      blackhole.consume(service.creditAccount(credit));
+    }
+  }
+
+  @Benchmark
+  public BatchTransactionResult singleBatch() {
+    return service.processBatch(batch);
+  }
+}
@@ -0,0 +1,75 @@
+package com.inter.banking.benchmarks.persistence;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.infrastructure.persistence.eventsourced.EventSourcedAccountRepository;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findById no adapter event-sourced para contas com histórico longo:
+ * replay completo (snapshotEvery=0) vs snapshot + cauda
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventReplayBenchmark {
+  private static final FixedPointMoney AMOUNT = FixedPointMoney.brl(100);
+
+  @Param({"1000", "10000"})
+  public int history;
+
+  @Param({"0", "100"})
+  public int snapshotEvery;
+
+  private ConfigurableApplicationContext context;
+  private EventSourcedAccountRepository repository;
+  private AccountId accountId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start(
+        "banking.persistence.adapter=event-sourced",
+        "banking.persistence.event-sourced.snapshot-every=" + snapshotEvery);
+    repository = context.getBean(EventSourcedAccountRepository.class);
+
+    accountId = AccountId.generate();
+    Account account = repository.save(new Account(accountId, "00000001-8", CustomerId.generate(), Money.brl("0.00")));
+    for (int i = 1; i < history; i++) {
+      account.credit(AMOUNT);
+      repository.save(account);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Optional<Account> findById() {
+    return repository.findById(accountId);
+  }
+}
@@ -0,0 +1,80 @@
+package com.inter.banking.benchmarks.service;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.result.AccountCreatedResult;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.AccountDistribution;
+import com.inter.banking.benchmarks.support.InMemoryAccountRepository;
+import com.inter.banking.benchmarks.support.StubPorts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccountCommandService sem Spring, com ports stub em memória
+ * Mede o overhead do caso de uso (conversões, logs, geração de ids) sem banco
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class CommandServiceBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+  @Param({"HOT", "UNIFORM"})
+  public AccountDistribution distribution;
+
+  @Param({"1000"})
+  public int uniformAccounts;
+
+  private AccountCommandService service;
+  private String[] accountIds;
+  private String customerId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    service = StubPorts.commandService(new InMemoryAccountRepository());
+    customerId = UUID.randomUUID().toString();
+
+    accountIds = new String[distribution.accounts(uniformAccounts)];
+    for (int i = 0; i < accountIds.length; i++) {
+      accountIds[i] = service.createdAccount(
+          new CreateAccountCommand(customerId, new BigDecimal("1000000000.00"))).accountId();
+    }
+  }
+
+  @Benchmark
+  public TransactionResult credit() {
+    return service.creditAccount(new CreditAccountCommand(distribution.pick(accountIds), AMOUNT, "bench"));
+  }
+
+  @Benchmark
+  public TransactionResult debit() {
+    return service.debitAccount(new DebitAccountCommand(distribution.pick(accountIds), AMOUNT, "bench"));
+  }
+
+  @Benchmark
+  public AccountCreatedResult createAccount() {
+    return service.createdAccount(new CreateAccountCommand(customerId, BigDecimal.TEN));
+  }
+}
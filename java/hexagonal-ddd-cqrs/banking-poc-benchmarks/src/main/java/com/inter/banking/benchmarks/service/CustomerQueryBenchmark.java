@@ -0,0 +1,96 @@
+package com.inter.banking.benchmarks.service;
+
+import com.inter.banking.banking.application.command.BatchCreateAccountCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.query.GetAccountsByCustomerQuery;
+import com.inter.banking.banking.application.query.GetCustomerSummaryQuery;
+import com.inter.banking.banking.application.query.dto.CustomerAccountsDto;
+import com.inter.banking.banking.application.query.dto.CustomerSummaryDto;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.application.service.AccountQueryService;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente corporativo com muitas contas: custo de manter o índice do cliente a cada crédito,
+ * da página de contas e do resumo (quantidade + saldo total) do cliente
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerQueryBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+  @Param({"10", "5000"})
+  public int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService commandService;
+  private AccountQueryService queryService;
+  private String customerId;
+  private String[] accountIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Ledger: crédito em memória, então o custo da projeção não some atrás do banco
+    context = BankingContext.start("banking.ledger.enabled=true");
+    commandService = context.getBean(AccountCommandService.class);
+    queryService = context.getBean(AccountQueryService.class);
+
+    customerId = UUID.randomUUID().toString();
+    List<CreateAccountCommand> commands = new ArrayList<>(accounts);
+    for (int i = 0; i < accounts; i++) {
+      commands.add(new CreateAccountCommand(customerId, BigDecimal.TEN));
+    }
+    accountIds = commandService.createAccounts(new BatchCreateAccountCommand(commands)).items().stream()
+        .map(item -> item.result().accountId())
+        .toArray(String[]::new);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransactionResult credit() {
+    String accountId = accountIds[ThreadLocalRandom.current().nextInt(accounts)];
+    return commandService.creditAccount(new CreditAccountCommand(accountId, AMOUNT, "bench"));
+  }
+
+  /** Primeira página (DEFAULT_PAGE_SIZE contas) com o total do cliente */
+  @Benchmark
+  public CustomerAccountsDto customerAccounts() {
+    return queryService.getAccountsByCustomer(new GetAccountsByCustomerQuery(customerId));
+  }
+
+  @Benchmark
+  public CustomerSummaryDto customerSummary() {
+    return queryService.getCustomerSummary(new GetCustomerSummaryQuery(customerId));
+  }
+}
@@ -0,0 +1,78 @@
+package com.inter.banking.benchmarks.service;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da instrumentação do caminho quente (banking.metrics.enabled) num crédito completo.
+ * O modo ledger deixa o caso de uso em memória, onde o overhead relativo dos timers é maior
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HotPathMetricsBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+  @Param({"false", "true"})
+  public boolean metricsEnabled;
+
+  @Param({"false", "true"})
+  public boolean ledgerEnabled;
+
+  @Param({"1000"})
+  public int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountCommandService service;
+  private String[] accountIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start(
+        "banking.metrics.enabled=" + metricsEnabled,
+        "banking.ledger.enabled=" + ledgerEnabled);
+    service = context.getBean(AccountCommandService.class);
+
+    String customerId = UUID.randomUUID().toString();
+    accountIds = new String[accounts];
+    for (int i = 0; i < accounts; i++) {
+      accountIds[i] = service.createdAccount(new CreateAccountCommand(customerId, BigDecimal.ZERO)).accountId();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransactionResult credit() {
+    String accountId = accountIds[ThreadLocalRandom.current().nextInt(accounts)];
+    return service.creditAccount(new CreditAccountCommand(accountId, AMOUNT, "bench"));
+  }
+}
@@ -0,0 +1,120 @@
+package com.inter.banking.benchmarks.service;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.query.GetAccountStatementQuery;
+import com.inter.banking.banking.application.query.StreamAccountStatementQuery;
+import com.inter.banking.banking.application.query.dto.AccountStatementDto;
+import com.inter.banking.banking.application.query.dto.StatementEntryDto;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.application.service.AccountQueryService;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Conta com histórico longo: primeira página do extrato, página no fim do histórico (cursor),
+ * o último dia do período e o extrato inteiro em stream
+ * Com -prof gc, o stream deve alocar por lançamento, sem crescer com o tamanho do histórico retido
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StatementQueryBenchmark {
+  private static final int INSERT_BATCH = 10_000;
+  private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+  @Param({"1000", "1000000"})
+  public int entries;
+
+  private ConfigurableApplicationContext context;
+  private AccountQueryService queryService;
+  private String accountId;
+  private String lastPageCursor;
+  private Instant lastDay;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BankingContext.start();
+    queryService = context.getBean(AccountQueryService.class);
+    accountId = context.getBean(AccountCommandService.class)
+        .createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), BigDecimal.ZERO))
+        .accountId();
+
+    // Histórico sintético direto no store: um crédito de R$ 1,00 por minuto
+    AccountStatementStore store = context.getBean(AccountStatementStore.class);
+    AccountId id = AccountId.from(accountId);
+    List<AccountStatementStore.Entry> batch = new ArrayList<>(INSERT_BATCH);
+    for (int i = 0; i < entries; i++) {
+      batch.add(new AccountStatementStore.Entry(
+          0, id, UUID.randomUUID().toString(), "CREDIT", 100, 100L * (i + 1), at(i)));
+      if (batch.size() == INSERT_BATCH || i == entries - 1) {
+        store.append(batch);
+        batch.clear();
+      }
+    }
+
+    lastDay = at(entries).minusSeconds(86_400);
+    lastPageCursor = queryService.getAccountStatement(new GetAccountStatementQuery(
+        accountId, at(entries - 200), null, null, 100)).nextCursor();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public AccountStatementDto firstPage() {
+    return queryService.getAccountStatement(new GetAccountStatementQuery(accountId));
+  }
+
+  /** Mesmo custo da primeira: o cursor vira posição no índice, sem OFFSET */
+  @Benchmark
+  public AccountStatementDto lastPage() {
+    return queryService.getAccountStatement(new GetAccountStatementQuery(
+        accountId, null, null, lastPageCursor, GetAccountStatementQuery.DEFAULT_LIMIT));
+  }
+
+  @Benchmark
+  public AccountStatementDto lastDayPage() {
+    return queryService.getAccountStatement(new GetAccountStatementQuery(
+        accountId, lastDay, null, null, GetAccountStatementQuery.DEFAULT_LIMIT));
+  }
+
+  @Benchmark
+  public BigDecimal streamWholeStatement() {
+    try (Stream<StatementEntryDto> statement =
+             queryService.streamAccountStatement(new StreamAccountStatementQuery(accountId, null, null))) {
+      return statement.map(StatementEntryDto::amount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+  }
+
+  private static Instant at(int minute) {
+    return START.plusSeconds(60L * minute);
+  }
+}
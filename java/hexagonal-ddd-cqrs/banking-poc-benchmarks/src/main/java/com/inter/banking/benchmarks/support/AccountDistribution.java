@@ -0,0 +1,22 @@
+package com.inter.banking.benchmarks.support;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cenários de contenção: todas as threads na mesma conta (HOT) ou espalhadas (UNIFORM)
+ */
+public enum AccountDistribution {
+  HOT,
+  UNIFORM;
+
+  /** Quantidade de contas a criar para o cenário */
+  public int accounts(int uniformAccounts) {
+    return this == HOT ? 1 : uniformAccounts;
+  }
+
+  public String pick(String[] accountIds) {
+    return this == HOT
+        ? accountIds[0]
+        : accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)];
+  }
+}
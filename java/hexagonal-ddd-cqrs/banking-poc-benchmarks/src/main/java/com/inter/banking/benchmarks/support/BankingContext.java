@@ -0,0 +1,72 @@
+package com.inter.banking.benchmarks.support;
+
+import com.inter.banking.banking.BankingPocApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sobe a aplicação sem servidor web, com banco H2 isolado e logs silenciados
+ * para não medir I/O de console junto com o caso de uso.
+ * startWeb sobe também o Tomcat, numa porta livre (local.server.port).
+ * startWithProfile mantém o log do perfil, gravado em arquivo em vez do console
+ */
+public final class BankingContext {
+
+  private BankingContext() {}
+
+  public static ConfigurableApplicationContext start(String... properties) {
+    return run(WebApplicationType.NONE, properties);
+  }
+
+  public static ConfigurableApplicationContext startWeb(String... properties) {
+    List<String> overrides = new ArrayList<>(List.of("server.port=0"));
+    overrides.addAll(List.of(properties));
+    return run(WebApplicationType.SERVLET, overrides.toArray(String[]::new));
+  }
+
+  public static ConfigurableApplicationContext startWithProfile(String profile, String... properties) {
+    List<String> overrides = new ArrayList<>(List.of(
+        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+        "spring.h2.console.enabled=false",
+        "spring.profiles.active=" + profile,
+        "logging.config=classpath:logback-profile-spring.xml",
+        "logging.file.name=target/bench-logs/" + profile + ".log"));
+    overrides.addAll(List.of(properties));
+    return launch(WebApplicationType.NONE, overrides);
+  }
+
+  private static ConfigurableApplicationContext run(WebApplicationType webApplicationType, String... properties) {
+    List<String> overrides = new ArrayList<>(List.of(
+        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.h2.console.enabled=false",
+        "logging.level.root=WARN",
+        "logging.level.com.inter.banking=WARN",
+        "logging.level.org.springframework.transaction=WARN",
+        "logging.level.org.hibernate.SQL=WARN"));
+    overrides.addAll(List.of(properties));
+    return launch(webApplicationType, overrides);
+  }
+
+  private static ConfigurableApplicationContext launch(WebApplicationType webApplicationType, List<String> overrides) {
+    // Propriedade repetida fica com o último valor (ex.: datasource compartilhado entre contextos);
+    // repetida na linha de comando, o Spring juntaria os valores
+    Map<String, String> arguments = new LinkedHashMap<>();
+    for (String property : overrides) {
+      arguments.put(property.substring(0, property.indexOf('=')), property);
+    }
+    // Passadas como argumentos de linha de comando para prevalecer sobre o application.yml
+    return new SpringApplicationBuilder(BankingPocApplication.class)
+        .web(webApplicationType)
+        .logStartupInfo(false)
+        .run(arguments.values().stream().map(property -> "--" + property).toArray(String[]::new));
+  }
+}
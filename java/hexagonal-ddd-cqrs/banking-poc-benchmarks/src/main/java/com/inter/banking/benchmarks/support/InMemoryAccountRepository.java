@@ -0,0 +1,85 @@
+package com.inter.banking.benchmarks.support;
+
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stub do port de persistência: guarda cópias em um ConcurrentHashMap
+ * Mede o custo do caso de uso sem banco, com a mesma checagem de versão do adapter JPA
+ */
+public class InMemoryAccountRepository implements AccountRepository {
+  private final Map<AccountId, Account> accounts = new ConcurrentHashMap<>();
+  private final Map<String, AccountId> accountNumbers = new ConcurrentHashMap<>();
+
+  @Override
+  public Account save(Account account) {
+    long expected = account.getVersion();
+    accounts.compute(account.getId(), (id, current) -> {
+      long stored = current == null ? 0 : current.getVersion();
+      if (stored != expected) {
+        throw new AccountVersionConflictException("Account " + id + " was modified concurrently");
+      }
+      return copyOf(account, expected + 1);
+    });
+    accountNumbers.put(account.getAccountNumber(), account.getId());
+    account.advanceVersion();
+    return account;
+  }
+
+  @Override
+  public Optional<Account> findById(AccountId id) {
+    return Optional.ofNullable(accounts.get(id)).map(InMemoryAccountRepository::copyOf);
+  }
+
+  @Override
+  public Optional<Account> findByAccountNumber(String accountNumber) {
+    return Optional.ofNullable(accountNumbers.get(accountNumber)).flatMap(this::findById);
+  }
+
+  @Override
+  public List<Account> findByCustomerId(CustomerId customerId) {
+    return accounts.values().stream()
+        .filter(account -> account.getCustomerId().equals(customerId))
+        .map(InMemoryAccountRepository::copyOf)
+        .toList();
+  }
+
+  @Override
+  public void delete(AccountId id) {
+    Account removed = accounts.remove(id);
+    if (removed != null) {
+      accountNumbers.remove(removed.getAccountNumber());
+    }
+  }
+
+  @Override
+  public boolean existsByAccountNumber(String accountNumber) {
+    return accountNumbers.containsKey(accountNumber);
+  }
+
+  private static Account copyOf(Account account) {
+    return copyOf(account, account.getVersion());
+  }
+
+  private static Account copyOf(Account account, long version) {
+    return new Account(
+        account.getId(),
+        account.getAccountNumber(),
+        account.getCustomerId(),
+        account.getBalanceCents(),
+        account.getHeldCents(),
+        account.getCurrency(),
+        account.getStatus(),
+        account.getCreatedAt(),
+        account.getUpdatedAt(),
+        version);
+  }
+}
@@ -0,0 +1,87 @@
+package com.inter.banking.benchmarks.support;
+
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.application.service.CommandLog;
+import com.inter.banking.banking.application.service.ConcurrencyRetryPolicy;
+import com.inter.banking.banking.application.service.ConcurrencyRetryProperties;
+import com.inter.banking.banking.application.service.RepositoryAccountOperationExecutor;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountEventPublisher;
+import com.inter.banking.banking.domain.port.AccountNumberGenerator;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.banking.infrastructure.idempotency.NoOpIdempotencyStore;
+import com.inter.banking.banking.infrastructure.journal.NoOpTransactionJournal;
+import com.inter.banking.banking.infrastructure.limits.NoOpDebitLimiter;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Implementações vazias dos ports secundários, para isolar o custo do caso de uso
+ */
+public final class StubPorts {
+
+  private StubPorts() {}
+
+  /** AccountCommandService montado à mão, sem Spring, sobre o repositório informado */
+  public static AccountCommandService commandService(AccountRepository repository) {
+    return new AccountCommandService(
+        repository,
+        new SequentialAccountNumberGenerator(),
+        new NoOpEventPublisher(),
+        new RepositoryAccountOperationExecutor(repository),
+        new ConcurrencyRetryPolicy(new ConcurrencyRetryProperties(
+            10, Duration.ofMillis(2), Duration.ofMillis(100), 0.5, 50)),
+        new NoOpTransactionJournal(),
+        new NoOpStatementStore(),
+        new NoOpIdempotencyStore(),
+        new NoOpDebitLimiter(),
+        TransactionOperations.withoutTransaction(),
+        CommandLog.unsampled());
+  }
+
+  public static final class SequentialAccountNumberGenerator implements AccountNumberGenerator {
+    private final AtomicLong next = new AtomicLong();
+
+    @Override
+    public String generateAccountNumber() {
+      return String.format("%08d-0", next.incrementAndGet());
+    }
+  }
+
+  public static final class NoOpEventPublisher implements AccountEventPublisher {
+    @Override
+    public void publish(AccountEvent event) {}
+  }
+
+  public static final class NoOpStatementStore implements AccountStatementStore {
+    @Override
+    public void append(List<Entry> entries) {}
+
+    @Override
+    public List<Entry> findPage(AccountId accountId, Instant from, Instant to, Position after, int limit) {
+      return List.of();
+    }
+
+    @Override
+    public Stream<Entry> stream(AccountId accountId, Instant from, Instant to) {
+      return Stream.empty();
+    }
+
+    @Override
+    public boolean contains(AccountId accountId, String transactionId) {
+      return false;
+    }
+
+    @Override
+    public List<DebitTotal> debitTotals(Instant from, Instant to) {
+      return List.of();
+    }
+  }
+}
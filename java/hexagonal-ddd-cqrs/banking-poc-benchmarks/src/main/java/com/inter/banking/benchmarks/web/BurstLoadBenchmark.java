@@ -0,0 +1,159 @@
+package com.inter.banking.benchmarks.web;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rajada de `burst` créditos HTTP simultâneos, cada um na própria conexão, contra três montagens:
+ * PLATFORM (Tomcat com threads de plataforma, o padrão), VIRTUAL (virtual threads) e VIRTUAL_ADMISSION
+ * (virtual threads + banking.admission). Configuração de banco e timeouts de produção (application.yml).
+ * O tempo medido é o da rajada inteira; por rajada imprime respostas 200, 503 (recusadas pelo controle
+ * de admissão), erros (500 por timeout de conexão do banco, falhas de conexão), p50/p99 das 200 e o pico
+ * de threads de plataforma da JVM (servidor e cliente)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class BurstLoadBenchmark {
+
+  public enum Stack { PLATFORM, VIRTUAL, VIRTUAL_ADMISSION }
+
+  @Param({"PLATFORM", "VIRTUAL", "VIRTUAL_ADMISSION"})
+  public Stack stack;
+
+  @Param({"2000", "8000"})
+  public int burst;
+
+  @Param({"1000"})
+  public int accounts;
+
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  private ConfigurableApplicationContext context;
+  private ExecutorService clientExecutor;
+  private HttpClient client;
+  private URI[] creditUris;
+  private long[] latencies;
+  private int[] statuses;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Tomcat aceita a rajada inteira: o que se compara é o que o servidor faz com ela, não o backlog do SO
+    context = BankingContext.startWeb(
+        "spring.threads.virtual.enabled=" + (stack != Stack.PLATFORM),
+        "banking.admission.enabled=" + (stack == Stack.VIRTUAL_ADMISSION),
+        "server.tomcat.max-connections=" + (burst + 1000),
+        "server.tomcat.accept-count=" + burst);
+    AccountCommandService service = context.getBean(AccountCommandService.class);
+    int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+    creditUris = new URI[accounts];
+    String customerId = UUID.randomUUID().toString();
+    for (int i = 0; i < accounts; i++) {
+      String accountId = service.createdAccount(new CreateAccountCommand(customerId, BigDecimal.ZERO)).accountId();
+      creditUris[i] = URI.create("http://localhost:" + port + "/api/accounts/" + accountId + "/credits");
+    }
+
+    clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(clientExecutor)
+        .connectTimeout(Duration.ofSeconds(30))
+        .build();
+    latencies = new long[burst];
+    statuses = new int[burst];
+  }
+
+  @Setup(Level.Iteration)
+  public void resetPeak() {
+    threads.resetPeakThreadCount();
+  }
+
+  @TearDown(Level.Iteration)
+  public void report() {
+    int ok = 0;
+    int shed = 0;
+    long[] okLatencies = new long[burst];
+    for (int i = 0; i < burst; i++) {
+      if (statuses[i] == 200) {
+        okLatencies[ok++] = latencies[i];
+      } else if (statuses[i] == 503) {
+        shed++;
+      }
+    }
+    Arrays.sort(okLatencies, 0, ok);
+    System.out.printf("%n[%s, rajada %d] 200: %d, 503: %d, erros: %d, p50/p99 das 200: %d/%d ms, pico de threads: %d%n",
+        stack, burst, ok, shed, burst - ok - shed,
+        millis(okLatencies, ok, 0.50), millis(okLatencies, ok, 0.99), threads.getPeakThreadCount());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    clientExecutor.close();
+    context.close();
+  }
+
+  @Benchmark
+  public int creditBurst() {
+    CompletableFuture<?>[] responses = new CompletableFuture<?>[burst];
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < burst; i++) {
+      int slot = i;
+      HttpRequest request = HttpRequest.newBuilder(creditUris[random.nextInt(accounts)])
+          .header("Content-Type", "application/json")
+          .timeout(Duration.ofSeconds(60))
+          .POST(HttpRequest.BodyPublishers.ofString("{\"amount\": 1.00, \"description\": \"bench\"}"))
+          .build();
+      long start = System.nanoTime();
+      responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .handle((response, error) -> {
+            latencies[slot] = System.nanoTime() - start;
+            statuses[slot] = error == null ? response.statusCode() : -1;
+            return null;
+          });
+    }
+    CompletableFuture.allOf(responses).join();
+    return responses.length;
+  }
+
+  private static long millis(long[] sorted, int count, double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    return TimeUnit.NANOSECONDS.toMillis(sorted[Math.min(count - 1, (int) (count * percentile))]);
+  }
+}
@@ -0,0 +1,110 @@
+package com.inter.banking.benchmarks.web;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.infrastructure.cluster.ClusterMembership;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dois nós locais sobre o mesmo banco: crédito HTTP enviado direto ao nó dono da conta vs enviado
+ * ao outro nó, que encaminha (um salto HTTP a mais). Com o ledger, só o dono mantém a conta em memória
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CommandRoutingBenchmark {
+
+  @Param({"owner", "forwarded"})
+  public String route;
+
+  @Param({"false", "true"})
+  public boolean ledgerEnabled;
+
+  @Param({"1000"})
+  public int accounts;
+
+  private ConfigurableApplicationContext owner;
+  private ConfigurableApplicationContext other;
+  private HttpClient client;
+  private URI[] creditUris;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    String database = "spring.datasource.url=jdbc:h2:mem:routing-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    owner = BankingContext.startWeb(database, "spring.jpa.hibernate.ddl-auto=update",
+        "banking.cluster.enabled=true", "banking.cluster.node-id=node-1", "banking.ledger.enabled=" + ledgerEnabled);
+    other = BankingContext.startWeb(database, "spring.jpa.hibernate.ddl-auto=update",
+        "banking.cluster.enabled=true", "banking.cluster.node-id=node-2", "banking.ledger.enabled=" + ledgerEnabled);
+    ClusterMembership ownerMembership = owner.getBean(ClusterMembership.class);
+    ownerMembership.join("node-2", address(other));
+    other.getBean(ClusterMembership.class).join("node-1", address(owner));
+
+    // Só contas do node-1; a requisição vai a ele (owner) ou ao node-2 (forwarded)
+    AccountCommandService service = owner.getBean(AccountCommandService.class);
+    URI target = address("owner".equals(route) ? owner : other);
+    List<URI> uris = new ArrayList<>(accounts);
+    String customerId = UUID.randomUUID().toString();
+    while (uris.size() < accounts) {
+      String accountId = service.createdAccount(new CreateAccountCommand(customerId, BigDecimal.ZERO)).accountId();
+      if (ownerMembership.owns(AccountId.from(accountId))) {
+        uris.add(target.resolve("/api/accounts/" + accountId + "/credits"));
+      }
+    }
+    creditUris = uris.toArray(URI[]::new);
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    other.close();
+    owner.close();
+  }
+
+  @Benchmark
+  public int credit() throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(creditUris[ThreadLocalRandom.current().nextInt(accounts)])
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString("{\"amount\": 1.00, \"description\": \"bench\"}"))
+        .build();
+    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Unexpected status " + response.statusCode());
+    }
+    return response.statusCode();
+  }
+
+  private static URI address(ConfigurableApplicationContext node) {
+    return URI.create("http://localhost:" + node.getEnvironment().getRequiredProperty("local.server.port"));
+  }
+}
@@ -0,0 +1,117 @@
+package com.inter.banking.benchmarks.web;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.benchmarks.support.BankingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga HTTP nos endpoints de crédito: Tomcat com threads de plataforma vs virtual threads
+ * (spring.threads.virtual.enabled). Cada invocação dispara uma onda de `concurrency` requisições
+ * simultâneas e espera todas; vazão em requisições/s = concurrency / tempo médio da onda.
+ * Com threads de plataforma a onda é limitada por server.tomcat.threads.max; no modo virtual,
+ * pelo pool do Hikari (spring.datasource.hikari.maximum-pool-size)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RequestHandlingBenchmark {
+
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  @Param({"200", "1000"})
+  public int concurrency;
+
+  @Param({"1000"})
+  public int accounts;
+
+  private ConfigurableApplicationContext context;
+  private ExecutorService clientExecutor;
+  private HttpClient client;
+  private URI[] creditUris;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Backlog e keep-alive do Tomcat acima da onda: sem isso o que se mede é o reenvio de SYN e o reconnect.
+    // No modo virtual a fila passa a ser a espera por conexão, então o timeout do pool acompanha a onda
+    context = BankingContext.startWeb(
+        "spring.threads.virtual.enabled=" + virtualThreads,
+        "server.tomcat.accept-count=" + concurrency,
+        "server.tomcat.max-keep-alive-requests=-1",
+        "spring.datasource.hikari.connection-timeout=30000");
+    AccountCommandService service = context.getBean(AccountCommandService.class);
+    int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+    creditUris = new URI[accounts];
+    String customerId = UUID.randomUUID().toString();
+    for (int i = 0; i < accounts; i++) {
+      String accountId = service.createdAccount(new CreateAccountCommand(customerId, BigDecimal.ZERO)).accountId();
+      creditUris[i] = URI.create("http://localhost:" + port + "/api/accounts/" + accountId + "/credits");
+    }
+
+    // O cliente usa virtual threads nos dois modos, para o gargalo medido ser o do servidor
+    clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(clientExecutor)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    clientExecutor.close();
+    context.close();
+  }
+
+  @Benchmark
+  public int creditWave() {
+    CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < concurrency; i++) {
+      HttpRequest request = HttpRequest.newBuilder(creditUris[random.nextInt(accounts)])
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString("{\"amount\": 1.00, \"description\": \"bench\"}"))
+          .build();
+      responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .thenAccept(response -> {
+            if (response.statusCode() != 200) {
+              throw new IllegalStateException("Unexpected status " + response.statusCode());
+            }
+          });
+    }
+    CompletableFuture.allOf(responses).join();
+    return responses.length;
+  }
+}
@@ -0,0 +1,9 @@
+package com.inter.banking.banking.application.command;
+
+import java.util.List;
+
+/**
+ * Command para abrir várias contas de uma vez (migração/importação em massa)
+ * Cada item segue as mesmas regras da abertura individual
+ */
+public record BatchCreateAccountCommand(List<CreateAccountCommand> accounts) {}
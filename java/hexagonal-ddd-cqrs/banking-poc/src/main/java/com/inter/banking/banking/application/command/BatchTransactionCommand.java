@@ -0,0 +1,23 @@
+package com.inter.banking.banking.application.command;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Command para processar vários débitos/créditos em uma única transação
+ * Os itens são aplicados na ordem da lista
+ */
+public record BatchTransactionCommand(List<Item> items) {
+
+    public enum Operation {
+        DEBIT,
+        CREDIT
+    }
+
+    public record Item(
+            Operation operation,
+            String accountId,
+            BigDecimal amount,
+            String description
+    ) {}
+}
@@ -0,0 +1,13 @@
+package com.inter.banking.banking.application.command;
+
+import java.math.BigDecimal;
+
+/**
+ * @param amount valor capturado, até o reservado; nulo captura a reserva inteira.
+ *               O que sobrar da reserva volta ao saldo disponível
+ */
+public record CaptureHoldCommand(
+        String accountId,
+        String holdId,
+        BigDecimal amount
+) {}
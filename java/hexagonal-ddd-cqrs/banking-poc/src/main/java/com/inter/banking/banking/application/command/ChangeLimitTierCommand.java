@@ -0,0 +1,3 @@
+package com.inter.banking.banking.application.command;
+
+public record ChangeLimitTierCommand(String accountId, String tier) {}
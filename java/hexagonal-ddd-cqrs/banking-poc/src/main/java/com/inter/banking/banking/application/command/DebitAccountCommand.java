@@ -2,8 +2,17 @@ package com.inter.banking.banking.application.command;
 
 import java.math.BigDecimal;
 
+/**
+ * @param idempotencyKey opcional; repetir o comando com a mesma chave devolve o resultado original
+ *                       em vez de executar de novo (retentativa do cliente após timeout)
+ */
 public record DebitAccountCommand(
         String accountId,
         BigDecimal amount,
-        String description
-) {}
+        String description,
+        String idempotencyKey
+) {
+    public DebitAccountCommand(String accountId, BigDecimal amount, String description) {
+        this(accountId, amount, description, null);
+    }
+}
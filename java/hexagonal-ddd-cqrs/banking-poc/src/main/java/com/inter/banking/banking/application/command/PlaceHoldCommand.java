@@ -0,0 +1,14 @@
+package com.inter.banking.banking.application.command;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * @param expiresIn validade da reserva; nula usa a validade padrão (banking.holds.default-ttl)
+ */
+public record PlaceHoldCommand(
+        String accountId,
+        BigDecimal amount,
+        String description,
+        Duration expiresIn
+) {}
@@ -0,0 +1,6 @@
+package com.inter.banking.banking.application.command;
+
+public record ReleaseHoldCommand(
+        String accountId,
+        String holdId
+) {}
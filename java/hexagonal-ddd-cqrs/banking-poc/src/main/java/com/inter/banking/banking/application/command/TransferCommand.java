@@ -0,0 +1,13 @@
+package com.inter.banking.banking.application.command;
+
+import java.math.BigDecimal;
+
+/**
+ * Command para transferência entre duas contas (débito na origem e crédito no destino, atômicos)
+ */
+public record TransferCommand(
+        String sourceAccountId,
+        String targetAccountId,
+        BigDecimal amount,
+        String description
+) {}
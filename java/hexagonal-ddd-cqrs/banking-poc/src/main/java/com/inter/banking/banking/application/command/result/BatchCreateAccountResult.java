@@ -0,0 +1,24 @@
+package com.inter.banking.banking.application.command.result;
+
+import java.util.List;
+
+/**
+ * Resultado da abertura em lote: um item por conta, na ordem do command, mais os totais
+ */
+public record BatchCreateAccountResult(
+        List<Item> items,
+        int created,
+        int failed
+) {
+
+    /**
+     * @param index  posição da conta no command
+     * @param result conta criada, nulo quando o item falhou
+     * @param error  motivo da falha, nulo quando a conta foi criada
+     */
+    public record Item(
+            int index,
+            AccountCreatedResult result,
+            String error
+    ) {}
+}
@@ -0,0 +1,24 @@
+package com.inter.banking.banking.application.command.result;
+
+import java.util.List;
+
+/**
+ * Resultado do lote: um item por operação, na ordem do command, mais os totais
+ */
+public record BatchTransactionResult(
+        List<Item> items,
+        int completed,
+        int failed
+) {
+
+    /**
+     * @param index  posição da operação no command
+     * @param result resultado da transação (status COMPLETED ou FAILED)
+     * @param error  motivo da falha, nulo quando a operação foi concluída
+     */
+    public record Item(
+            int index,
+            TransactionResult result,
+            String error
+    ) {}
+}
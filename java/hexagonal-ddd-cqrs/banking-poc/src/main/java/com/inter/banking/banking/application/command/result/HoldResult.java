@@ -0,0 +1,13 @@
+package com.inter.banking.banking.application.command.result;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record HoldResult(
+        String accountId,
+        String holdId,
+        BigDecimal amount,
+        BigDecimal availableBalance,
+        String status,
+        Instant expiresAt
+) {}
@@ -0,0 +1,10 @@
+package com.inter.banking.banking.application.command.result;
+
+import java.math.BigDecimal;
+
+public record LimitTierResult(
+        String accountId,
+        String tier,
+        BigDecimal dailyLimit,
+        int debitsPerMinute
+) {}
@@ -0,0 +1,15 @@
+package com.inter.banking.banking.application.command.result;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado da transferência com o saldo das duas contas logo após a operação
+ */
+public record TransferResult(
+        String transferId,
+        String sourceAccountId,
+        BigDecimal sourceBalance,
+        String targetAccountId,
+        BigDecimal targetBalance,
+        String status
+) {}
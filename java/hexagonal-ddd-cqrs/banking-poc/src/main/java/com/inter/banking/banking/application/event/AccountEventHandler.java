@@ -0,0 +1,14 @@
+package com.inter.banking.banking.application.event;
+
+import com.inter.banking.banking.domain.event.AccountEvent;
+
+import java.util.List;
+
+/**
+ * Consumidor dos eventos de conta já confirmados (após o commit)
+ * Recebe lotes na ordem de publicação; a entrega é at-least-once, então o handler
+ * deve tolerar reentrega do mesmo lote
+ */
+public interface AccountEventHandler {
+  void handle(List<AccountEvent> events);
+}
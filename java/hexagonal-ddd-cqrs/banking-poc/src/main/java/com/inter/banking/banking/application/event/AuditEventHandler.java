@@ -0,0 +1,26 @@
+package com.inter.banking.banking.application.event;
+
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.port.AuditService;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Entrega os eventos ao port de auditoria
+ */
+@Component
+@Order(100)
+public class AuditEventHandler implements AccountEventHandler {
+  private final AuditService auditService;
+
+  public AuditEventHandler(AuditService auditService) {
+    this.auditService = auditService;
+  }
+
+  @Override
+  public void handle(List<AccountEvent> events) {
+    auditService.logEvents(events);
+  }
+}
@@ -0,0 +1,26 @@
+package com.inter.banking.banking.application.event;
+
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.port.NotificationService;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Entrega os eventos ao port de notificação
+ */
+@Component
+@Order(200)
+public class NotificationEventHandler implements AccountEventHandler {
+  private final NotificationService notificationService;
+
+  public NotificationEventHandler(NotificationService notificationService) {
+    this.notificationService = notificationService;
+  }
+
+  @Override
+  public void handle(List<AccountEvent> events) {
+    notificationService.notifyEvents(events);
+  }
+}
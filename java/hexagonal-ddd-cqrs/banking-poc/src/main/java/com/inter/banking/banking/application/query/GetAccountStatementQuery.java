@@ -0,0 +1,27 @@
+package com.inter.banking.banking.application.query;
+
+import java.time.Instant;
+
+/**
+ * @param from   início do período, inclusivo (null = desde o primeiro lançamento)
+ * @param to     fim do período, exclusivo (null = até o último lançamento)
+ * @param cursor nextCursor da página anterior (null = primeira página)
+ * @param limit  lançamentos por página, até MAX_LIMIT
+ */
+public record GetAccountStatementQuery(String accountId, Instant from, Instant to, String cursor, int limit) {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public GetAccountStatementQuery {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Statement period start must be before its end");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Statement limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    public GetAccountStatementQuery(String accountId) {
+        this(accountId, null, null, null, DEFAULT_LIMIT);
+    }
+}
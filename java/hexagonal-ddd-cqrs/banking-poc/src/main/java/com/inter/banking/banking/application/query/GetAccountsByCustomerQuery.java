@@ -1,3 +1,23 @@
 package com.inter.banking.banking.application.query;
 
-public record GetAccountsByCustomerQuery(String customerId) {}
+/**
+ * @param page página a partir de 0
+ * @param size contas por página, até MAX_PAGE_SIZE
+ */
+public record GetAccountsByCustomerQuery(String customerId, int page, int size) {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public GetAccountsByCustomerQuery {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    public GetAccountsByCustomerQuery(String customerId) {
+        this(customerId, 0, DEFAULT_PAGE_SIZE);
+    }
+}
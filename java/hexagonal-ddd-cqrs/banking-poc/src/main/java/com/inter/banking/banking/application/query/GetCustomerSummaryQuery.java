@@ -0,0 +1,3 @@
+package com.inter.banking.banking.application.query;
+
+public record GetCustomerSummaryQuery(String customerId) {}
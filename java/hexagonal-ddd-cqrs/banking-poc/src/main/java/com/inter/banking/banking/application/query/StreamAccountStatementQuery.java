@@ -0,0 +1,17 @@
+package com.inter.banking.banking.application.query;
+
+import java.time.Instant;
+
+/**
+ * Extrato inteiro do período, entregue lançamento a lançamento (exportação de contas com histórico longo)
+ *
+ * @param from início do período, inclusivo (null = desde o primeiro lançamento)
+ * @param to   fim do período, exclusivo (null = até o último lançamento)
+ */
+public record StreamAccountStatementQuery(String accountId, Instant from, Instant to) {
+    public StreamAccountStatementQuery {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Statement period start must be before its end");
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.inter.banking.banking.application.query;
+
+/**
+ * Todas as contas do cliente, entregues uma a uma (exportação de clientes com muitas contas)
+ */
+public record StreamAccountsByCustomerQuery(String customerId) {}
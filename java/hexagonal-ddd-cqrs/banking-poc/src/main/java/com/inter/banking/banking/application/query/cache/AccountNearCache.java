@@ -0,0 +1,146 @@
+package com.inter.banking.banking.application.query.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.inter.banking.banking.application.event.AccountEventHandler;
+import com.inter.banking.banking.application.query.dto.AccountBalanceDto;
+import com.inter.banking.banking.application.query.dto.AccountDto;
+import com.inter.banking.banking.domain.event.AccountCreatedEvent;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.event.AccountStatusChangedEvent;
+import com.inter.banking.banking.domain.event.FundsHoldChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
+import com.inter.banking.banking.domain.model.AccountId;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Near cache dos DTOs de consulta, por AccountId e por número da conta
+ * Roda depois da projeção (@Order): quando a entrada é invalidada a projeção já tem o estado
+ * novo, e o carregamento concorrente da mesma chave é serializado pelo Caffeine, então uma
+ * leitura antiga não volta para o cache depois da invalidação.
+ * No write-through o saldo só é sobrescrito por evento de versão não anterior à do cache:
+ * evento atrasado (reentrega do outbox) não volta o saldo
+ */
+@Component
+@Order(20)
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class AccountNearCache implements AccountEventHandler {
+  private final Cache<AccountId, AccountBalanceDto> balances;
+  private final Cache<AccountId, AccountDto> accounts;
+  // Número -> id nunca muda, então não precisa de invalidação
+  private final Cache<String, AccountId> accountNumbers;
+  private final boolean balanceEnabled;
+  private final boolean accountEnabled;
+  private final boolean writeThrough;
+
+  public AccountNearCache(NearCacheProperties properties) {
+    this.balances = build(properties.maximumSize(), properties.balanceTtl());
+    this.accounts = build(properties.maximumSize(), properties.accountTtl());
+    this.accountNumbers = Caffeine.newBuilder().maximumSize(properties.maximumSize()).build();
+    this.balanceEnabled = !properties.balanceTtl().isZero();
+    this.accountEnabled = !properties.accountTtl().isZero();
+    this.writeThrough = properties.writeThrough();
+  }
+
+  public AccountBalanceDto balance(AccountId accountId, Function<AccountId, AccountBalanceDto> loader) {
+    return balanceEnabled ? balances.get(accountId, loader) : loader.apply(accountId);
+  }
+
+  public AccountDto account(AccountId accountId, Function<AccountId, AccountDto> loader) {
+    return accountEnabled ? accounts.get(accountId, loader) : loader.apply(accountId);
+  }
+
+  public AccountDto accountByNumber(String accountNumber, Supplier<AccountDto> loader) {
+    if (!accountEnabled) {
+      return loader.get();
+    }
+    AccountId accountId = accountNumbers.getIfPresent(accountNumber);
+    if (accountId != null) {
+      return accounts.get(accountId, id -> loader.get());
+    }
+    AccountDto account = loader.get();
+    accountNumbers.put(accountNumber, AccountId.from(account.id()));
+    return account;
+  }
+
+  /** Descarta as entradas das contas selecionadas (ex.: contas que passaram para outro nó) */
+  public void evictIf(Predicate<AccountId> evicted) {
+    balances.asMap().keySet().removeIf(evicted);
+    accounts.asMap().keySet().removeIf(evicted);
+  }
+
+  public NearCacheStats balanceStats() {
+    return toStats(balances);
+  }
+
+  public NearCacheStats accountStats() {
+    return toStats(accounts);
+  }
+
+  @Override
+  public void handle(List<AccountEvent> events) {
+    for (AccountEvent event : events) {
+      switch (event) {
+        case AccountCreatedEvent created -> {
+          // Nada em cache ainda: falhas de leitura não são cacheadas
+        }
+        case TransactionCompletedEvent transaction -> {
+          accounts.invalidate(transaction.accountId());
+          // Débito/crédito não mexe nas reservas: o disponível anda junto com o contábil
+          BigDecimal balance = transaction.balance().getAmount();
+          writeBalance(transaction, balance,
+              cached -> balance.subtract(cached.balance().subtract(cached.availableBalance())));
+        }
+        case FundsHoldChangedEvent hold -> {
+          accounts.invalidate(hold.accountId());
+          writeBalance(hold, hold.balance().getAmount(), cached -> hold.availableBalance().getAmount());
+        }
+        case AccountStatusChangedEvent status -> {
+          accounts.invalidate(status.accountId());
+          balances.invalidate(status.accountId());
+        }
+      }
+    }
+  }
+
+  private void writeBalance(AccountEvent event, BigDecimal balance, Function<AccountBalanceDto, BigDecimal> available) {
+    if (!writeThrough) {
+      balances.invalidate(event.accountId());
+      return;
+    }
+    balances.asMap().computeIfPresent(event.accountId(), (id, cached) ->
+        cached.version() > event.version() ? cached : new AccountBalanceDto(
+            cached.accountId(),
+            cached.accountNumber(),
+            balance,
+            available.apply(cached),
+            cached.currency(),
+            LocalDateTime.ofInstant(event.occurredAt(), ZoneId.systemDefault()),
+            event.version()));
+  }
+
+  private static <K, V> Cache<K, V> build(long maximumSize, Duration ttl) {
+    return Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+  }
+
+  private static NearCacheStats toStats(Cache<?, ?> cache) {
+    CacheStats stats = cache.stats();
+    return new NearCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+  }
+}
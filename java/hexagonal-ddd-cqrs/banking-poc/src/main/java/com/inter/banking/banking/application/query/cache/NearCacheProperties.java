@@ -0,0 +1,27 @@
+package com.inter.banking.banking.application.query.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do near cache das consultas (banking.cache.*)
+ *
+ * Garantia de staleness: toda escrita confirmada invalida (ou atualiza) a entrada quando o
+ * evento é entregue, então uma leitura em cache fica atrasada no máximo o lag de entrega dos
+ * eventos (zero com banking.outbox.enabled=false). O TTL é o teto caso um evento se perca
+ * (ex.: dead-letter do outbox). TTL zero desliga o cache daquela consulta.
+ *
+ * @param maximumSize  máximo de entradas por cache (evicção por tamanho)
+ * @param balanceTtl   staleness máxima de GetAccountBalanceQuery
+ * @param accountTtl   staleness máxima de GetAccountByIdQuery/GetAccountByNumberQuery
+ * @param writeThrough débito/crédito e reservas atualizam o saldo em cache em vez de só invalidar
+ *                     (evento com versão anterior à do cache é ignorado)
+ */
+@ConfigurationProperties(prefix = "banking.cache")
+public record NearCacheProperties(
+    @DefaultValue("100000") long maximumSize,
+    @DefaultValue("1s") Duration balanceTtl,
+    @DefaultValue("5s") Duration accountTtl,
+    @DefaultValue("true") boolean writeThrough) {}
@@ -0,0 +1,6 @@
+package com.inter.banking.banking.application.query.cache;
+
+/**
+ * Métricas de um cache de consulta
+ */
+public record NearCacheStats(long hits, long misses, long evictions, long size) {}
@@ -7,6 +7,8 @@ public record AccountBalanceDto(
         String accountId,
         String accountNumber,
         BigDecimal balance,
+        BigDecimal availableBalance,
         String currency,
-        LocalDateTime lastUpdated
+        LocalDateTime lastUpdated,
+        long version
 ) {}
@@ -0,0 +1,17 @@
+package com.inter.banking.banking.application.query.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Uma página do extrato, em ordem cronológica
+ *
+ * @param nextCursor cursor da próxima página; null quando não há mais lançamentos no período
+ */
+public record AccountStatementDto(
+        String accountId,
+        Instant from,
+        Instant to,
+        List<StatementEntryDto> entries,
+        String nextCursor
+) {}
@@ -3,8 +3,14 @@ package com.inter.banking.banking.application.query.dto;
 import java.math.BigDecimal;
 import java.util.List;
 
+/**
+ * Uma página das contas do cliente; accountCount e totalBalance consideram todas as contas
+ */
 public record CustomerAccountsDto(
         String customerId,
         List<AccountDto> accounts,
-        BigDecimal totalBalance
+        BigDecimal totalBalance,
+        int accountCount,
+        int page,
+        int size
 ) {}
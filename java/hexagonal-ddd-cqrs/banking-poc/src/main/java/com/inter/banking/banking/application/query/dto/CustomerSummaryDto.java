@@ -0,0 +1,9 @@
+package com.inter.banking.banking.application.query.dto;
+
+import java.math.BigDecimal;
+
+public record CustomerSummaryDto(
+        String customerId,
+        int accountCount,
+        BigDecimal totalBalance
+) {}
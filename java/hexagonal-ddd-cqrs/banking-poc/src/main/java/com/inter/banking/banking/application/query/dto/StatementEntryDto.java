@@ -0,0 +1,18 @@
+package com.inter.banking.banking.application.query.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Lançamento do extrato
+ *
+ * @param type         DEBIT ou CREDIT
+ * @param balanceAfter saldo corrente da conta logo após o lançamento
+ */
+public record StatementEntryDto(
+        String transactionId,
+        String type,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        Instant occurredAt
+) {}
@@ -0,0 +1,145 @@
+package com.inter.banking.banking.application.query.projection;
+
+import com.inter.banking.banking.application.event.AccountEventHandler;
+import com.inter.banking.banking.domain.event.AccountCreatedEvent;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.event.AccountStatusChangedEvent;
+import com.inter.banking.banking.domain.event.FundsHoldChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Read model em memória, alimentado pelos eventos do lado de comando
+ * As leituras não tocam o write model: só consultam mapas com views imutáveis.
+ * Toda escrita passa pelo compute do cliente, que serializa as alterações de um mesmo
+ * cliente e mantém o saldo total atualizado pela diferença de cada operação, em O(1) mesmo
+ * para clientes com milhares de contas. A entrega dos eventos pode vir fora de ordem (reentrega
+ * de pendentes, lotes concorrentes): evento com versão da conta menor que a projetada é descartado
+ */
+@Component
+@Order(10)
+public class AccountProjection implements AccountEventHandler {
+  private final ConcurrentMap<AccountId, AccountView> accounts = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, AccountId> accountNumbers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<CustomerId, CustomerView> customers = new ConcurrentHashMap<>();
+
+  @Override
+  public void handle(List<AccountEvent> events) {
+    for (AccountEvent event : events) {
+      switch (event) {
+        case AccountCreatedEvent created -> upsert(AccountView.of(created.account()));
+        case AccountStatusChangedEvent status -> upsert(AccountView.of(status.account()));
+        case TransactionCompletedEvent transaction -> applyBalance(transaction);
+        case FundsHoldChangedEvent hold -> applyHold(hold);
+      }
+    }
+  }
+
+  public Optional<AccountView> findById(AccountId accountId) {
+    return Optional.ofNullable(accounts.get(accountId));
+  }
+
+  public Optional<AccountView> findByAccountNumber(String accountNumber) {
+    AccountId accountId = accountNumbers.get(accountNumber);
+    return accountId == null ? Optional.empty() : findById(accountId);
+  }
+
+  public Optional<CustomerView> findCustomer(CustomerId customerId) {
+    return Optional.ofNullable(customers.get(customerId));
+  }
+
+  /**
+   * Página de contas do cliente, no estado atual de cada conta
+   */
+  public List<AccountView> findAccounts(CustomerView customer, long offset, int limit) {
+    return customer.accountIds(offset, limit).stream().map(accounts::get).toList();
+  }
+
+  /**
+   * Contas do cliente resolvidas sob demanda, sem materializar a lista
+   */
+  public Stream<AccountView> streamAccounts(CustomerView customer) {
+    return customer.accountIds().map(accounts::get);
+  }
+
+  /**
+   * Carrega contas lidas do repositório (leitura de fallback)
+   * Conta já projetada não é sobrescrita: o evento é sempre mais recente que a leitura
+   */
+  public void load(Collection<Account> loaded) {
+    for (Account account : loaded) {
+      AccountView view = AccountView.of(account);
+      customers.compute(view.customerId(), (customerId, customer) -> {
+        if (accounts.putIfAbsent(view.accountId(), view) != null) {
+          return customer;
+        }
+        accountNumbers.put(view.accountNumber(), view.accountId());
+        return (customer == null ? CustomerView.empty(customerId) : customer)
+            .withAccount(view.accountId(), view.balanceCents());
+      });
+    }
+  }
+
+  private void upsert(AccountView view) {
+    customers.compute(view.customerId(), (customerId, customer) -> {
+      CustomerView current = customer == null ? CustomerView.empty(customerId) : customer;
+      AccountView previous = accounts.get(view.accountId());
+      if (previous != null && previous.version() > view.version()) {
+        return current;
+      }
+      accounts.put(view.accountId(), view);
+      accountNumbers.put(view.accountNumber(), view.accountId());
+      return previous == null
+          ? current.withAccount(view.accountId(), view.balanceCents())
+          : current.withBalanceChange(view.balanceCents() - previous.balanceCents());
+    });
+  }
+
+  // Débito/crédito não mexe nas reservas
+  private void applyBalance(TransactionCompletedEvent transaction) {
+    long balanceCents = FixedPointMoney.toCents(transaction.balance().getAmount());
+    LocalDateTime updatedAt = LocalDateTime.ofInstant(transaction.occurredAt(), ZoneId.systemDefault());
+    apply(transaction, previous ->
+        previous.withBalance(balanceCents, previous.heldCents(), transaction.version(), updatedAt));
+  }
+
+  private void applyHold(FundsHoldChangedEvent hold) {
+    long balanceCents = FixedPointMoney.toCents(hold.balance().getAmount());
+    long heldCents = balanceCents - FixedPointMoney.toCents(hold.availableBalance().getAmount());
+    LocalDateTime updatedAt = LocalDateTime.ofInstant(hold.occurredAt(), ZoneId.systemDefault());
+    apply(hold, previous -> previous.withBalance(balanceCents, heldCents, hold.version(), updatedAt));
+  }
+
+  private void apply(AccountEvent event, UnaryOperator<AccountView> change) {
+    AccountView known = accounts.get(event.accountId());
+    if (known == null) {
+      // Conta ainda não projetada: a próxima leitura busca o estado completo no repositório
+      return;
+    }
+    customers.compute(known.customerId(), (customerId, customer) -> {
+      AccountView previous = accounts.get(event.accountId());
+      if (previous.version() > event.version()) {
+        // Já projetado um estado mais novo da conta: o evento atrasado não volta o saldo
+        return customer;
+      }
+      AccountView next = change.apply(previous);
+      accounts.put(next.accountId(), next);
+      return customer.withBalanceChange(next.balanceCents() - previous.balanceCents());
+    });
+  }
+}
@@ -0,0 +1,52 @@
+package com.inter.banking.banking.application.query.projection;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha imutável do read model: estado da conta já pronto para leitura
+ *
+ * @param heldCents total das reservas ativas; o disponível é balanceCents - heldCents
+ * @param version   versão da conta refletida na linha; evento com versão menor já foi superado
+ */
+public record AccountView(
+        AccountId accountId,
+        String accountNumber,
+        CustomerId customerId,
+        long balanceCents,
+        long heldCents,
+        CurrencyCode currency,
+        String status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long version
+) {
+
+    public static AccountView of(Account account) {
+        return new AccountView(
+                account.getId(),
+                account.getAccountNumber(),
+                account.getCustomerId(),
+                account.getBalanceCents(),
+                account.getHeldCents(),
+                account.getCurrency(),
+                account.getStatus().toString(),
+                account.getCreatedAt(),
+                account.getUpdatedAt(),
+                account.getVersion()
+        );
+    }
+
+    public AccountView withBalance(long balanceCents, long heldCents, long version, LocalDateTime updatedAt) {
+        return new AccountView(accountId, accountNumber, customerId, balanceCents, heldCents, currency, status,
+                createdAt, updatedAt, version);
+    }
+
+    public long availableCents() {
+        return balanceCents - heldCents;
+    }
+}
@@ -0,0 +1,91 @@
+package com.inter.banking.banking.application.query.projection;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Índice desnormalizado do cliente: contas (na ordem em que entraram na projeção) e saldo total
+ * mantido de forma incremental
+ * Imutável para o leitor; cada alteração gera uma nova instância em O(1), independente do número de contas:
+ * o saldo muda só o total, e a conta nova é anexada ao array compartilhado, copiado apenas quando cresce.
+ * Instâncias anteriores continuam coerentes porque nunca leem além do próprio accountCount
+ */
+public final class CustomerView {
+    private static final AccountId[] NO_ACCOUNTS = new AccountId[0];
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final CustomerId customerId;
+    private final AccountId[] accountIds;
+    private final int accountCount;
+    private final long totalBalanceCents;
+
+    private CustomerView(CustomerId customerId, AccountId[] accountIds, int accountCount, long totalBalanceCents) {
+        this.customerId = customerId;
+        this.accountIds = accountIds;
+        this.accountCount = accountCount;
+        this.totalBalanceCents = totalBalanceCents;
+    }
+
+    public static CustomerView empty(CustomerId customerId) {
+        return new CustomerView(customerId, NO_ACCOUNTS, 0, 0L);
+    }
+
+    public CustomerId customerId() {
+        return customerId;
+    }
+
+    public int accountCount() {
+        return accountCount;
+    }
+
+    public long totalBalanceCents() {
+        return totalBalanceCents;
+    }
+
+    /**
+     * Anexa uma conta nova ao cliente
+     * Escreve no array compartilhado: só pode ser chamado a partir da instância mais recente,
+     * pelo escritor serializado do cliente (compute da projeção)
+     */
+    public CustomerView withAccount(AccountId accountId, long balanceCents) {
+        AccountId[] target = accountIds;
+        if (accountCount == target.length) {
+            target = Arrays.copyOf(accountIds, Math.max(INITIAL_CAPACITY, accountCount * 2));
+        }
+        target[accountCount] = accountId;
+        return new CustomerView(customerId, target, accountCount + 1, totalBalanceCents + balanceCents);
+    }
+
+    /**
+     * Ajusta o total pela diferença de saldo de uma conta já indexada
+     */
+    public CustomerView withBalanceChange(long deltaCents) {
+        if (deltaCents == 0) {
+            return this;
+        }
+        return new CustomerView(customerId, accountIds, accountCount, totalBalanceCents + deltaCents);
+    }
+
+    /**
+     * Página de contas a partir da posição offset; vazia além do fim
+     */
+    public List<AccountId> accountIds(long offset, int limit) {
+        if (offset >= accountCount) {
+            return List.of();
+        }
+        int from = (int) offset;
+        int to = (int) Math.min(accountCount, offset + limit);
+        return List.of(Arrays.copyOfRange(accountIds, from, to));
+    }
+
+    /**
+     * Todas as contas desta instância, sem copiar o índice
+     */
+    public Stream<AccountId> accountIds() {
+        return Arrays.stream(accountIds, 0, accountCount);
+    }
+}
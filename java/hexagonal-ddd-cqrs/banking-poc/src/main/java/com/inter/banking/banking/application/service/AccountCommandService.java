@@ -3,21 +3,45 @@ package com.inter.banking.banking.application.service;
 import com.inter.banking.banking.application.command.*;
 import com.inter.banking.banking.application.command.result.AccountCreatedResult;
 import com.inter.banking.banking.application.command.result.AccountStatusResult;
+import com.inter.banking.banking.application.command.result.BatchCreateAccountResult;
+import com.inter.banking.banking.application.command.result.BatchTransactionResult;
+import com.inter.banking.banking.application.command.result.LimitTierResult;
 import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.command.result.TransferResult;
+import com.inter.banking.banking.domain.event.AccountCreatedEvent;
+import com.inter.banking.banking.domain.event.AccountStatusChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
 import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.exception.DuplicateIdempotencyKeyException;
+import com.inter.banking.banking.domain.exception.InvalidTransferException;
 import com.inter.banking.banking.domain.model.Account;
 import com.inter.banking.banking.domain.model.AccountId;
 import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
 import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.domain.port.AccountEventPublisher;
 import com.inter.banking.banking.domain.port.AccountNumberGenerator;
 import com.inter.banking.banking.domain.port.AccountRepository;
-import com.inter.banking.banking.domain.port.AuditService;
-import com.inter.banking.banking.domain.port.NotificationService;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.banking.domain.port.DebitLimiter;
+import com.inter.banking.banking.domain.port.IdempotencyStore;
+import com.inter.banking.banking.domain.port.TransactionJournal;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -25,25 +49,46 @@ import java.util.UUID;
 public class AccountCommandService {
   private final AccountRepository accountRepository;
   private final AccountNumberGenerator accountNumberGenerator;
-  private final NotificationService notificationService;
-  private final AuditService auditService;
+  private final AccountEventPublisher eventPublisher;
+  private final AccountOperationExecutor accountOperationExecutor;
+  private final ConcurrencyRetryPolicy retryPolicy;
+  private final TransactionJournal transactionJournal;
+  private final AccountStatementStore statementStore;
+  private final IdempotencyStore idempotencyStore;
+  private final DebitLimiter debitLimiter;
+  private final TransactionOperations transactions;
+  private final CommandLog commandLog;
 
   public AccountCommandService(
       AccountRepository accountRepository,
       AccountNumberGenerator accountNumberGenerator,
-      NotificationService notificationService,
-      AuditService auditService) {
+      AccountEventPublisher eventPublisher,
+      AccountOperationExecutor accountOperationExecutor,
+      ConcurrencyRetryPolicy retryPolicy,
+      TransactionJournal transactionJournal,
+      AccountStatementStore statementStore,
+      IdempotencyStore idempotencyStore,
+      DebitLimiter debitLimiter,
+      TransactionOperations transactions,
+      CommandLog commandLog) {
     this.accountRepository = accountRepository;
     this.accountNumberGenerator = accountNumberGenerator;
-    this.notificationService = notificationService;
-    this.auditService = auditService;
+    this.eventPublisher = eventPublisher;
+    this.accountOperationExecutor = accountOperationExecutor;
+    this.retryPolicy = retryPolicy;
+    this.transactionJournal = transactionJournal;
+    this.statementStore = statementStore;
+    this.idempotencyStore = idempotencyStore;
+    this.debitLimiter = debitLimiter;
+    this.transactions = transactions;
+    this.commandLog = commandLog;
   }
 
   /**
    * Use Case: Criar nova conta
    */
   public AccountCreatedResult createdAccount(CreateAccountCommand command) {
-    log.info("Criando nova conta para cliente: " + command.customerId());
+    log.debug("Criando nova conta para cliente: {}", command.customerId());
 
     // 1. Gerar dados necessários
     AccountId accountId = AccountId.generate();
@@ -57,11 +102,12 @@ public class AccountCommandService {
     // 3. Persistir
     Account savedAccount = accountRepository.save(account);
 
-    // 4. Efeitos colaterais (notificações, auditoria)
-    auditService.logAccountCreation(savedAccount);
-    notificationService.notifyAccountCreated(savedAccount);
+    // 4. Efeitos colaterais (notificações, auditoria) são entregues a partir do evento
+    eventPublisher.publish(new AccountCreatedEvent(savedAccount, Instant.now()));
 
-    log.info("Conta criada com sucesso: " + savedAccount.getAccountNumber());
+    commandLog.completed(log)
+            .addKeyValue(CommandLog.ACCOUNT_ID, savedAccount.getId())
+            .log("Conta criada com sucesso: {}", savedAccount.getAccountNumber());
 
     return new AccountCreatedResult(
             savedAccount.getId().toString(),
@@ -71,99 +117,375 @@ public class AccountCommandService {
   }
 
   /**
-   * Use Case: Debitar conta
+   * Use Case: Abrir contas em lote (migração de clientes)
+   * As contas são montadas em paralelo pelo mesmo construtor da abertura individual (mesmas regras),
+   * gravadas com um único saveAll e os eventos de criação seguem em lote para auditoria/notificação.
+   * A falha de um item não impede os demais
    */
-
-  public TransactionResult debitAccount(DebitAccountCommand command) {
-    log.info("Debitando R$ " + command.amount() + " da conta: " + command.accountId());
-
-    // 1. Buscar conta
-    Account account = findAccountById(command.accountId());
-
-    // 2. Executar operação de domínio (regras são aplicadas na entity)
-    Money amount = Money.brl(command.amount());
-    account.debit(amount);
-
-    // 3. Persistir
-    Account savedAccount = accountRepository.save(account);
+  public BatchCreateAccountResult createAccounts(BatchCreateAccountCommand command) {
+    List<CreateAccountCommand> commands = command.accounts();
+    log.info("Abrindo {} contas em lote", commands.size());
+
+    // 1. Gerar os números na thread da transação (a checagem de colisão, se houver, usa o repositório)
+    List<String> accountNumbers = generateUniqueAccountNumbers(commands.size());
+
+    // 2. Criar as contas usando o domínio, em paralelo; entrada inválida falha só o item
+    Account[] accounts = new Account[commands.size()];
+    RuntimeException[] failures = new RuntimeException[commands.size()];
+    IntStream.range(0, commands.size()).parallel().forEach(i -> {
+      CreateAccountCommand item = commands.get(i);
+      try {
+        accounts[i] = new Account(
+                AccountId.generate(),
+                accountNumbers.get(i),
+                CustomerId.from(item.customerId()),
+                Money.brl(item.initialBalance()));
+      } catch (RuntimeException e) {
+        failures[i] = e;
+      }
+    });
+
+    // 3. Persistir em lote
+    List<Account> valid = new ArrayList<>(commands.size());
+    for (Account account : accounts) {
+      if (account != null) {
+        valid.add(account);
+      }
+    }
+    accountRepository.saveAll(valid);
 
     // 4. Efeitos colaterais
-    String transactionId = generateTransactionId();
-    auditService.logTransaction(account.getId(), "DEBIT", amount.toString(), "SUCCESS");
-    notificationService.notifyTransactionCompleted(account.getId(), "DEBIT", amount.toString());
+    Instant now = Instant.now();
+    List<BatchCreateAccountResult.Item> results = new ArrayList<>(commands.size());
+    for (int i = 0; i < commands.size(); i++) {
+      Account account = accounts[i];
+      if (account == null) {
+        results.add(new BatchCreateAccountResult.Item(i, null, String.valueOf(failures[i].getMessage())));
+        continue;
+      }
+      eventPublisher.publish(new AccountCreatedEvent(account, now));
+      results.add(new BatchCreateAccountResult.Item(
+              i,
+              new AccountCreatedResult(
+                      account.getId().toString(),
+                      account.getAccountNumber(),
+                      account.getStatus().toString()
+              ),
+              null
+      ));
+    }
+
+    log.info("Lote de abertura processado: {} criadas, {} com falha", valid.size(), commands.size() - valid.size());
+
+    return new BatchCreateAccountResult(results, valid.size(), commands.size() - valid.size());
+  }
 
-    log.info("Débito realizado. Novo saldo: R$ " + savedAccount.getBalance().getAmount());
+  /**
+   * Use Case: Debitar conta
+   * Os limites da conta (valor diário e débitos por minuto) são checados em memória antes de carregá-la.
+   * Cada tentativa roda numa transação própria (conflito de versão repete o caso de uso inteiro)
+   */
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public TransactionResult debitAccount(DebitAccountCommand command) {
+    Optional<TransactionResult> replayed = replay(command.idempotencyKey(), "DEBIT", command.accountId(), command.amount());
+    if (replayed.isPresent()) {
+      return replayed.get();
+    }
 
-    return new TransactionResult(
-            savedAccount.getId().toString(),
-            transactionId,
-            savedAccount.getBalance().getAmount(),
-            "COMPLETED"
-    );
+    String transactionId = generateTransactionId();
+    try (MDC.MDCCloseable correlation = CommandLog.correlate(transactionId);
+         MDC.MDCCloseable accountScope = CommandLog.account(command.accountId())) {
+      log.debug("Debitando R$ {} da conta: {}", command.amount(), command.accountId());
+
+      FixedPointMoney amount = FixedPointMoney.brl(command.amount());
+      AccountId accountId = AccountId.from(command.accountId());
+      Account savedAccount = retryPolicy.executeInTransaction(transactions, () -> {
+        // 1. Limites da conta; recusa ou rollback devolvem o débito à contagem
+        debitLimiter.acquire(accountId, amount);
+
+        // 2, 3 e 4. Buscar conta, executar operação de domínio (regras são aplicadas na entity) e persistir
+        Account account = accountOperationExecutor.execute(accountId, current -> current.debit(amount));
+
+        // 5. Registrar a chave de idempotência e o lançamento no extrato (mesma transação) e gravar no journal
+        remember(command.idempotencyKey(), "DEBIT", command.amount(), account, transactionId);
+        recordTransactions(List.of(journalEntry(
+                account.getId(), transactionId, "DEBIT", amount, account.getBalance(), account.getVersion())));
+
+        // 6. Efeitos colaterais
+        publishTransaction(account.getId(), transactionId, "DEBIT", amount, account.getBalance(), account.getVersion());
+        return account;
+      });
+
+      commandLog.completed(log)
+              .addKeyValue("operation", "DEBIT")
+              .addKeyValue("amount", command.amount())
+              .log("Débito realizado. Novo saldo: R$ {}", savedAccount.getBalance().getAmount());
+
+      return new TransactionResult(
+              savedAccount.getId().toString(),
+              transactionId,
+              savedAccount.getBalance().getAmount(),
+              "COMPLETED"
+      );
+    }
   }
 
   /**
    * Use Case: Creditar conta
    */
+  @Transactional(Transactional.TxType.SUPPORTS)
   public TransactionResult creditAccount(CreditAccountCommand command) {
-    log.info("💰 Creditando R$ " + command.amount() + " na conta: " + command.accountId());
+    Optional<TransactionResult> replayed = replay(command.idempotencyKey(), "CREDIT", command.accountId(), command.amount());
+    if (replayed.isPresent()) {
+      return replayed.get();
+    }
 
-    // 1. Buscar conta
-    Account account = findAccountById(command.accountId());
-
-    // 2. Executar operação de domínio
-    Money amount = Money.brl(command.amount());
-    account.credit(amount);
-
-    // 3. Persistir
-    Account savedAccount = accountRepository.save(account);
-
-    // 4. Efeitos colaterais
     String transactionId = generateTransactionId();
-    auditService.logTransaction(
-            account.getId(),
-            "CREDIT",
-            amount.toString(),
-            "SUCCESS"
-    );
-    notificationService.notifyTransactionCompleted(
-            account.getId(),
-            "CREDIT",
-            amount.toString()
-    );
+    try (MDC.MDCCloseable correlation = CommandLog.correlate(transactionId);
+         MDC.MDCCloseable accountScope = CommandLog.account(command.accountId())) {
+      log.debug("Creditando R$ {} na conta: {}", command.amount(), command.accountId());
+
+      FixedPointMoney amount = FixedPointMoney.brl(command.amount());
+      AccountId accountId = AccountId.from(command.accountId());
+      Account savedAccount = retryPolicy.executeInTransaction(transactions, () -> {
+        // 1, 2 e 3. Buscar conta, executar operação de domínio e persistir
+        Account account = accountOperationExecutor.execute(accountId, current -> current.credit(amount));
+
+        // 4. Registrar a chave de idempotência e o lançamento no extrato (mesma transação) e gravar no journal
+        remember(command.idempotencyKey(), "CREDIT", command.amount(), account, transactionId);
+        recordTransactions(List.of(journalEntry(
+                account.getId(), transactionId, "CREDIT", amount, account.getBalance(), account.getVersion())));
+
+        // 5. Efeitos colaterais
+        publishTransaction(account.getId(), transactionId, "CREDIT", amount, account.getBalance(), account.getVersion());
+        return account;
+      });
+
+      commandLog.completed(log)
+              .addKeyValue("operation", "CREDIT")
+              .addKeyValue("amount", command.amount())
+              .log("Crédito realizado. Novo saldo: R$ {}", savedAccount.getBalance().getAmount());
+
+      return new TransactionResult(
+              savedAccount.getId().toString(),
+              transactionId,
+              savedAccount.getBalance().getAmount(),
+              "COMPLETED"
+      );
+    }
+  }
 
-    log.info("Crédito realizado. Novo saldo: R$ " + savedAccount.getBalance().getAmount());
+  /**
+   * Use Case: Transferir entre contas
+   * Débito na origem e crédito no destino numa única operação atômica sobre as duas contas;
+   * conflito de versão em qualquer uma repete a transferência inteira, numa transação nova.
+   * O débito da origem passa pelos limites da conta, como um débito avulso
+   */
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public TransferResult transfer(TransferCommand command) {
+    String transferId = generateTransactionId();
+    try (MDC.MDCCloseable correlation = CommandLog.correlate(transferId)) {
+      return transfer(command, transferId);
+    }
+  }
 
-    return new TransactionResult(
-            savedAccount.getId().toString(),
-            transactionId,
-            savedAccount.getBalance().getAmount(),
+  private TransferResult transfer(TransferCommand command, String transferId) {
+    log.debug("Transferindo R$ {} da conta {} para a conta {}",
+            command.amount(), command.sourceAccountId(), command.targetAccountId());
+
+    AccountId sourceId = AccountId.from(command.sourceAccountId());
+    AccountId targetId = AccountId.from(command.targetAccountId());
+    if (sourceId.equals(targetId)) {
+      throw new InvalidTransferException("Source and target accounts must be different");
+    }
+
+    FixedPointMoney amount = FixedPointMoney.brl(command.amount());
+    AccountOperationExecutor.Pair accounts = retryPolicy.executeInTransaction(transactions, () -> {
+      // 1. Limites da conta de origem; recusa ou rollback devolvem o débito à contagem
+      debitLimiter.acquire(sourceId, amount);
+
+      // 2, 3 e 4. Buscar as duas contas, executar as operações de domínio e persistir
+      AccountOperationExecutor.Pair pair = accountOperationExecutor.executePair(
+              sourceId,
+              targetId,
+              (source, target) -> {
+                source.debit(amount);
+                target.credit(amount);
+              }
+      );
+      Account source = pair.first();
+      Account target = pair.second();
+
+      // 5. Gravar as duas pernas no extrato e no journal antes de confirmar ao chamador
+      recordTransactions(List.of(
+              journalEntry(source.getId(), transferId, "DEBIT", amount, source.getBalance(), source.getVersion()),
+              journalEntry(target.getId(), transferId, "CREDIT", amount, target.getBalance(), target.getVersion())
+      ));
+
+      // 6. Efeitos colaterais
+      publishTransaction(source.getId(), transferId, "DEBIT", amount, source.getBalance(), source.getVersion());
+      publishTransaction(target.getId(), transferId, "CREDIT", amount, target.getBalance(), target.getVersion());
+      return pair;
+    });
+    Account source = accounts.first();
+    Account target = accounts.second();
+
+    commandLog.completed(log)
+            .addKeyValue("sourceAccountId", command.sourceAccountId())
+            .addKeyValue("targetAccountId", command.targetAccountId())
+            .addKeyValue("amount", command.amount())
+            .log("Transferência realizada: {}", transferId);
+
+    return new TransferResult(
+            transferId,
+            source.getId().toString(),
+            source.getBalance().getAmount(),
+            target.getId().toString(),
+            target.getBalance().getAmount(),
             "COMPLETED"
     );
   }
 
-  public AccountStatusResult blockAccount(BlockAccountCommand command) {
-    log.info("Bloqueando conta: " + command.accountId() + " - Motivo: " + command.reason());
-
-    // 1. Buscar conta
-    Account account = findAccountById(command.accountId());
-    String oldStatus = account.getStatus().toString();
-
-    // 2. Executar operação de domínio
-    account.block();
-
-    // 3. Persistir
-    Account savedAccount = accountRepository.save(account);
+  /**
+   * Use Case: Processar lote de débitos/créditos
+   * As contas são carregadas e gravadas em lote; cada item reporta o próprio resultado
+   * e a falha de um item não impede os demais. Itens de débito passam pelos limites da conta;
+   * recusa falha só o item. Conflito de versão ao gravar o lote não é retentado: o lote
+   * inteiro volta e o conflito sobe para o chamador
+   */
+  public BatchTransactionResult processBatch(BatchTransactionCommand command) {
+    log.info("Processando lote com {} operações", command.items().size());
+
+    // 1. Converter os itens em operações de domínio e contar os débitos nos limites
+    //    (entrada inválida ou limite estourado falha só o item)
+    List<BatchTransactionCommand.Item> items = command.items();
+    List<AccountOperationExecutor.Operation> operations = new ArrayList<>(items.size());
+    List<Integer> operationIndexes = new ArrayList<>(items.size());
+    List<DebitLimiter.Permit> permits = new ArrayList<>(items.size());
+    BatchTransactionResult.Item[] results = new BatchTransactionResult.Item[items.size()];
+    for (int i = 0; i < items.size(); i++) {
+      BatchTransactionCommand.Item item = items.get(i);
+      try {
+        AccountOperationExecutor.Operation operation = toOperation(item);
+        permits.add(item.operation() == BatchTransactionCommand.Operation.DEBIT
+                ? debitLimiter.acquire(operation.accountId(), FixedPointMoney.brl(item.amount()))
+                : DebitLimiter.Permit.NONE);
+        operations.add(operation);
+        operationIndexes.add(i);
+      } catch (RuntimeException e) {
+        results[i] = failedItem(i, item.accountId(), e);
+      }
+    }
+
+    // 2 e 3. Executar operações de domínio e persistir em lote
+    List<AccountOperationExecutor.Outcome> outcomes = accountOperationExecutor.executeAll(operations);
+
+    // 4. Gravar os itens concluídos no extrato e no journal (um único fsync) e 5. efeitos colaterais por item
+    String[] transactionIds = new String[outcomes.size()];
+    List<TransactionJournal.Entry> journalEntries = new ArrayList<>(outcomes.size());
+    for (int i = 0; i < outcomes.size(); i++) {
+      AccountOperationExecutor.Outcome outcome = outcomes.get(i);
+      if (outcome.succeeded()) {
+        BatchTransactionCommand.Item item = items.get(operationIndexes.get(i));
+        transactionIds[i] = generateTransactionId();
+        journalEntries.add(journalEntry(
+                outcome.accountId(),
+                transactionIds[i],
+                item.operation().name(),
+                FixedPointMoney.brl(item.amount()),
+                outcome.balance(),
+                outcome.version()));
+      }
+    }
+    recordTransactions(journalEntries);
+
+    int completed = 0;
+    for (int i = 0; i < outcomes.size(); i++) {
+      int index = operationIndexes.get(i);
+      BatchTransactionCommand.Item item = items.get(index);
+      AccountOperationExecutor.Outcome outcome = outcomes.get(i);
+      if (!outcome.succeeded()) {
+        // A transação do lote segue; o débito que não foi aplicado sai da contagem aqui
+        permits.get(i).release();
+        results[index] = failedItem(index, item.accountId(), outcome.failure());
+        continue;
+      }
+
+      String transactionId = transactionIds[i];
+      publishTransaction(
+              outcome.accountId(),
+              transactionId,
+              item.operation().name(),
+              FixedPointMoney.brl(item.amount()),
+              outcome.balance(),
+              outcome.version()
+      );
+
+      results[index] = new BatchTransactionResult.Item(
+              index,
+              new TransactionResult(
+                      outcome.accountId().toString(),
+                      transactionId,
+                      outcome.balance().getAmount(),
+                      "COMPLETED"
+              ),
+              null
+      );
+      completed++;
+    }
+
+    log.info("Lote processado: {} concluídas, {} com falha", completed, items.size() - completed);
+
+    return new BatchTransactionResult(List.of(results), completed, items.size() - completed);
+  }
 
-    // 4. Efeitos colaterais
-    auditService.logAccountStatusChange(
-            account.getId(),
-            oldStatus,
-            savedAccount.getStatus().toString()
+  /**
+   * Use Case: Trocar a faixa de limites de débito da conta
+   */
+  public LimitTierResult changeLimitTier(ChangeLimitTierCommand command) {
+    log.debug("Trocando a faixa de limites da conta {} para {}", command.accountId(), command.tier());
+
+    AccountId accountId = AccountId.from(command.accountId());
+    if (accountRepository.findById(accountId).isEmpty()) {
+      throw new AccountNotFoundException("Account not found: " + accountId);
+    }
+    DebitLimiter.Limits limits = debitLimiter.assignTier(accountId, command.tier());
+
+    commandLog.completed(log)
+            .addKeyValue(CommandLog.ACCOUNT_ID, accountId)
+            .log("Faixa de limites alterada para {}", limits.tier());
+
+    return new LimitTierResult(
+            accountId.toString(),
+            limits.tier(),
+            FixedPointMoney.toBigDecimal(limits.dailyAmountCents()),
+            limits.debitsPerMinute()
     );
-    notificationService.notifyAccountBlocked(savedAccount);
+  }
 
-    log.info("Conta bloqueada com sucesso: " + savedAccount.getBalance().getAmount());
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public AccountStatusResult blockAccount(BlockAccountCommand command) {
+    log.debug("Bloqueando conta: {} - Motivo: {}", command.accountId(), command.reason());
+
+    AtomicReference<String> oldStatus = new AtomicReference<>();
+    Account savedAccount = retryPolicy.executeInTransaction(transactions, () -> {
+      // 1, 2 e 3. Buscar conta, executar operação de domínio e persistir
+      Account account = accountOperationExecutor.execute(
+              AccountId.from(command.accountId()),
+              current -> {
+                oldStatus.set(current.getStatus().toString());
+                current.block();
+              }
+      );
+
+      // 4. Efeitos colaterais
+      eventPublisher.publish(new AccountStatusChangedEvent(account, oldStatus.get(), Instant.now()));
+      return account;
+    });
+
+    commandLog.completed(log)
+            .addKeyValue(CommandLog.ACCOUNT_ID, savedAccount.getId())
+            .log("Conta bloqueada com sucesso. Motivo: {}", command.reason());
 
     return new AccountStatusResult(
             savedAccount.getId().toString(),
@@ -175,27 +497,29 @@ public class AccountCommandService {
   /**
    * Use Case: Desbloquear conta
    */
+  @Transactional(Transactional.TxType.SUPPORTS)
   public AccountStatusResult unblockAccount(UnblockAccountCommand command) {
-    log.info("Desbloqueando conta: " + command.accountId());
-
-    // 1. Buscar conta
-    Account account = findAccountById(command.accountId());
-    String oldStatus = account.getStatus().toString();
-
-    // 2. Executar operação de domínio
-    account.unblock();
-
-    // 3. Persistir
-    Account savedAccount = accountRepository.save(account);
-
-    // 4. Efeitos colaterais
-    auditService.logAccountStatusChange(
-            account.getId(),
-            oldStatus,
-            savedAccount.getStatus().toString()
-    );
-
-    log.info("✅ Conta desbloqueada com sucesso");
+    log.debug("Desbloqueando conta: {}", command.accountId());
+
+    AtomicReference<String> oldStatus = new AtomicReference<>();
+    Account savedAccount = retryPolicy.executeInTransaction(transactions, () -> {
+      // 1, 2 e 3. Buscar conta, executar operação de domínio e persistir
+      Account account = accountOperationExecutor.execute(
+              AccountId.from(command.accountId()),
+              current -> {
+                oldStatus.set(current.getStatus().toString());
+                current.unblock();
+              }
+      );
+
+      // 4. Efeitos colaterais
+      eventPublisher.publish(new AccountStatusChangedEvent(account, oldStatus.get(), Instant.now()));
+      return account;
+    });
+
+    commandLog.completed(log)
+            .addKeyValue(CommandLog.ACCOUNT_ID, savedAccount.getId())
+            .log("Conta desbloqueada com sucesso");
 
     return new AccountStatusResult(
             savedAccount.getId().toString(),
@@ -203,12 +527,42 @@ public class AccountCommandService {
     );
   }
 
-  private Account findAccountById(String accountId) {
-    return accountRepository.findById(AccountId.from(accountId))
-            .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountId));
+  /**
+   * Resultado original de um comando já executado com a mesma chave
+   * A chave reaproveitada num comando diferente (outra operação, conta ou valor) é recusada
+   */
+  private Optional<TransactionResult> replay(String idempotencyKey, String operation, String accountId, BigDecimal amount) {
+    if (idempotencyKey == null) {
+      return Optional.empty();
+    }
+    return idempotencyStore.find(idempotencyKey).map(entry -> {
+      if (!entry.sameRequest(operation, AccountId.from(accountId), amount)) {
+        throw new DuplicateIdempotencyKeyException("Idempotency key already used by a different command: " + idempotencyKey);
+      }
+      log.debug("Comando repetido com a chave {}, devolvendo a transação {}", idempotencyKey, entry.transactionId());
+      return new TransactionResult(
+              entry.accountId().toString(),
+              entry.transactionId(),
+              entry.newBalance(),
+              "COMPLETED"
+      );
+    });
+  }
+
+  private void remember(String idempotencyKey, String operation, BigDecimal amount, Account account, String transactionId) {
+    if (idempotencyKey == null) {
+      return;
+    }
+    idempotencyStore.save(idempotencyKey, new IdempotencyStore.Entry(
+            operation, account.getId(), amount, transactionId, account.getBalance().getAmount(), Instant.now()));
   }
 
   private String generateUniqueAccountNumber() {
+    // Gerador sem repetição dispensa a consulta de colisão
+    if (accountNumberGenerator.guaranteesUniqueness()) {
+      return accountNumberGenerator.generateAccountNumber();
+    }
+
     String accountNumber;
 
     do {
@@ -218,6 +572,83 @@ public class AccountCommandService {
     return accountNumber;
   }
 
+  private List<String> generateUniqueAccountNumbers(int count) {
+    List<String> accountNumbers = new ArrayList<>(count);
+    if (accountNumberGenerator.guaranteesUniqueness()) {
+      for (int i = 0; i < count; i++) {
+        accountNumbers.add(accountNumberGenerator.generateAccountNumber());
+      }
+      return accountNumbers;
+    }
+
+    // Além do repositório, o número não pode repetir dentro do próprio lote (ainda não gravado)
+    Set<String> generated = new HashSet<>();
+    for (int i = 0; i < count; i++) {
+      String accountNumber;
+      do {
+        accountNumber = accountNumberGenerator.generateAccountNumber();
+      } while (generated.contains(accountNumber) || accountRepository.existsByAccountNumber(accountNumber));
+      generated.add(accountNumber);
+      accountNumbers.add(accountNumber);
+    }
+    return accountNumbers;
+  }
+
+  private void publishTransaction(
+          AccountId accountId,
+          String transactionId,
+          String operation,
+          FixedPointMoney amount,
+          Money balance,
+          long version) {
+    eventPublisher.publish(new TransactionCompletedEvent(
+            accountId, transactionId, operation, amount, balance, version, Instant.now()));
+  }
+
+  /**
+   * Grava os lançamentos no extrato, na transação do comando, e no journal antes de confirmar ao chamador
+   * O extrato fica visível junto com o commit, na ordem em que a sequência foi atribuída, e é a marca de
+   * commit do journal: na recuperação, registro sem lançamento é de uma transação desfeita
+   */
+  private void recordTransactions(List<TransactionJournal.Entry> entries) {
+    statementStore.append(entries.stream().map(AccountStatementStore.Entry::from).toList());
+    transactionJournal.appendAll(entries);
+  }
+
+  private TransactionJournal.Entry journalEntry(
+          AccountId accountId,
+          String transactionId,
+          String operation,
+          FixedPointMoney amount,
+          Money balance,
+          long version) {
+    return new TransactionJournal.Entry(
+            accountId,
+            transactionId,
+            operation,
+            amount.getCents(),
+            FixedPointMoney.from(balance).getCents(),
+            version,
+            Instant.now());
+  }
+
+  private AccountOperationExecutor.Operation toOperation(BatchTransactionCommand.Item item) {
+    AccountId accountId = AccountId.from(item.accountId());
+    FixedPointMoney amount = FixedPointMoney.brl(item.amount());
+    return switch (item.operation()) {
+      case DEBIT -> new AccountOperationExecutor.Operation(accountId, account -> account.debit(amount));
+      case CREDIT -> new AccountOperationExecutor.Operation(accountId, account -> account.credit(amount));
+    };
+  }
+
+  private BatchTransactionResult.Item failedItem(int index, String accountId, RuntimeException failure) {
+    return new BatchTransactionResult.Item(
+            index,
+            new TransactionResult(accountId, null, null, "FAILED"),
+            failure.getMessage()
+    );
+  }
+
   private String generateTransactionId() {
     return UUID.randomUUID().toString();
   }
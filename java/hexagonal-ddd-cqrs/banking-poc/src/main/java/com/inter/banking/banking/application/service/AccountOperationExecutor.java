@@ -0,0 +1,61 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.Money;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Estratégia de execução das operações de escrita sobre uma conta
+ * A implementação padrão busca, aplica a regra de domínio e persiste;
+ * o ledger em memória serializa as operações por partição, sem locks
+ */
+public interface AccountOperationExecutor {
+
+  /**
+   * Aplica a operação na conta e devolve o estado logo após a operação
+   * A regra de negócio continua na entity, a operação só chama o método de domínio
+   */
+  Account execute(AccountId accountId, Consumer<Account> operation);
+
+  /**
+   * Aplica várias operações na ordem recebida, carregando e persistindo as contas em lote
+   * Cada operação é independente: a falha de uma não desfaz as demais
+   *
+   * @return um resultado por operação, na mesma ordem
+   */
+  List<Outcome> executeAll(List<Operation> operations);
+
+  /**
+   * Aplica uma operação sobre duas contas de forma atômica: ou as duas mudam, ou nenhuma
+   * As contas são travadas/gravadas sempre na mesma ordem canônica, então operações opostas
+   * (A→B e B→A) não entram em deadlock
+   *
+   * @return o estado das duas contas logo após a operação, na ordem recebida
+   */
+  Pair executePair(AccountId first, AccountId second, BiConsumer<Account, Account> operation);
+
+  /** Estado das duas contas de uma operação em par */
+  record Pair(Account first, Account second) {}
+
+  /** Operação de domínio a ser aplicada em uma conta */
+  record Operation(AccountId accountId, Consumer<Account> action) {}
+
+  /** Resultado de uma operação do lote: saldo e versão logo após aplicá-la ou a falha */
+  record Outcome(AccountId accountId, Money balance, Money availableBalance, long version, RuntimeException failure) {
+    public static Outcome success(Account account) {
+      return new Outcome(account.getId(), account.getBalance(), account.getAvailableBalance(), account.getVersion(), null);
+    }
+
+    public static Outcome failure(AccountId accountId, RuntimeException failure) {
+      return new Outcome(accountId, null, null, 0, failure);
+    }
+
+    public boolean succeeded() {
+      return failure == null;
+    }
+  }
+}
@@ -0,0 +1,229 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.query.GetAccountBalanceQuery;
+import com.inter.banking.banking.application.query.GetAccountByIdQuery;
+import com.inter.banking.banking.application.query.GetAccountByNumberQuery;
+import com.inter.banking.banking.application.query.GetAccountStatementQuery;
+import com.inter.banking.banking.application.query.GetAccountsByCustomerQuery;
+import com.inter.banking.banking.application.query.GetCustomerSummaryQuery;
+import com.inter.banking.banking.application.query.StreamAccountStatementQuery;
+import com.inter.banking.banking.application.query.StreamAccountsByCustomerQuery;
+import com.inter.banking.banking.application.query.cache.AccountNearCache;
+import com.inter.banking.banking.application.query.dto.AccountBalanceDto;
+import com.inter.banking.banking.application.query.dto.AccountDto;
+import com.inter.banking.banking.application.query.dto.AccountStatementDto;
+import com.inter.banking.banking.application.query.dto.CustomerAccountsDto;
+import com.inter.banking.banking.application.query.dto.CustomerSummaryDto;
+import com.inter.banking.banking.application.query.dto.StatementEntryDto;
+import com.inter.banking.banking.application.query.projection.AccountProjection;
+import com.inter.banking.banking.application.query.projection.AccountView;
+import com.inter.banking.banking.application.query.projection.CustomerView;
+import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Lado de consulta (CQRS)
+ * Responde a partir da projeção desnormalizada; o repositório só é lido quando a
+ * projeção ainda não conhece a conta/cliente, e o resultado passa a alimentar a projeção.
+ * Consultas por conta passam antes pelo near cache (staleness em NearCacheProperties).
+ * O extrato vem do AccountStatementStore, gravado na transação de cada comando
+ */
+@Slf4j
+@Service
+public class AccountQueryService {
+  private final AccountProjection projection;
+  private final AccountRepository accountRepository;
+  private final AccountNearCache nearCache;
+  private final AccountStatementStore statementStore;
+
+  public AccountQueryService(
+      AccountProjection projection,
+      AccountRepository accountRepository,
+      AccountNearCache nearCache,
+      AccountStatementStore statementStore) {
+    this.projection = projection;
+    this.accountRepository = accountRepository;
+    this.nearCache = nearCache;
+    this.statementStore = statementStore;
+  }
+
+  /**
+   * Query: Buscar conta por id
+   */
+  public AccountDto getAccountById(GetAccountByIdQuery query) {
+    return nearCache.account(AccountId.from(query.accountId()), accountId -> toDto(findView(accountId)));
+  }
+
+  /**
+   * Query: Buscar conta pelo número
+   */
+  public AccountDto getAccountByNumber(GetAccountByNumberQuery query) {
+    return nearCache.accountByNumber(query.accountNumber(), () -> loadByNumber(query));
+  }
+
+  /**
+   * Query: Consultar saldo
+   */
+  public AccountBalanceDto getAccountBalance(GetAccountBalanceQuery query) {
+    return nearCache.balance(AccountId.from(query.accountId()), this::loadBalance);
+  }
+
+  /**
+   * Query: Página das contas do cliente com o saldo total já consolidado pela projeção
+   */
+  public CustomerAccountsDto getAccountsByCustomer(GetAccountsByCustomerQuery query) {
+    CustomerView customer = findCustomer(CustomerId.from(query.customerId()));
+    long offset = (long) query.page() * query.size();
+
+    return new CustomerAccountsDto(
+        customer.customerId().toString(),
+        projection.findAccounts(customer, offset, query.size()).stream().map(AccountQueryService::toDto).toList(),
+        FixedPointMoney.toBigDecimal(customer.totalBalanceCents()),
+        customer.accountCount(),
+        query.page(),
+        query.size());
+  }
+
+  /**
+   * Query: Quantidade de contas e saldo total do cliente, sem percorrer as contas
+   */
+  public CustomerSummaryDto getCustomerSummary(GetCustomerSummaryQuery query) {
+    CustomerView customer = findCustomer(CustomerId.from(query.customerId()));
+    return new CustomerSummaryDto(
+        customer.customerId().toString(),
+        customer.accountCount(),
+        FixedPointMoney.toBigDecimal(customer.totalBalanceCents()));
+  }
+
+  /**
+   * Query: Todas as contas do cliente, resolvidas uma a uma enquanto o stream é consumido
+   * O conjunto de contas é o do momento da chamada; o saldo de cada uma é o do momento em que é lida
+   */
+  public Stream<AccountDto> streamAccountsByCustomer(StreamAccountsByCustomerQuery query) {
+    return projection.streamAccounts(findCustomer(CustomerId.from(query.customerId())))
+        .map(AccountQueryService::toDto);
+  }
+
+  /**
+   * Query: Página do extrato no período, com o saldo corrente após cada lançamento
+   * Paginação por cursor: a próxima página continua depois do último lançamento entregue,
+   * sem pular nem repetir lançamentos mesmo que novos cheguem entre as páginas
+   */
+  public AccountStatementDto getAccountStatement(GetAccountStatementQuery query) {
+    AccountId accountId = findView(AccountId.from(query.accountId())).accountId();
+    AccountStatementStore.Position after = query.cursor() == null ? null : decodeCursor(query.cursor());
+
+    // Um lançamento a mais só para saber se existe próxima página
+    List<AccountStatementStore.Entry> entries =
+        statementStore.findPage(accountId, query.from(), query.to(), after, query.limit() + 1);
+    boolean hasMore = entries.size() > query.limit();
+    List<AccountStatementStore.Entry> page = hasMore ? entries.subList(0, query.limit()) : entries;
+
+    return new AccountStatementDto(
+        accountId.toString(),
+        query.from(),
+        query.to(),
+        page.stream().map(AccountQueryService::toDto).toList(),
+        hasMore ? encodeCursor(page.getLast().position()) : null);
+  }
+
+  /**
+   * Query: Extrato inteiro do período, lido em blocos enquanto o stream é consumido
+   */
+  public Stream<StatementEntryDto> streamAccountStatement(StreamAccountStatementQuery query) {
+    AccountId accountId = findView(AccountId.from(query.accountId())).accountId();
+    return statementStore.stream(accountId, query.from(), query.to()).map(AccountQueryService::toDto);
+  }
+
+  private CustomerView findCustomer(CustomerId customerId) {
+    return projection.findCustomer(customerId)
+        .or(() -> {
+          projection.load(accountRepository.findByCustomerId(customerId));
+          return projection.findCustomer(customerId);
+        })
+        .orElseGet(() -> CustomerView.empty(customerId));
+  }
+
+  private AccountDto loadByNumber(GetAccountByNumberQuery query) {
+    AccountView view = projection.findByAccountNumber(query.accountNumber())
+        .or(() -> {
+          accountRepository.findByAccountNumber(query.accountNumber())
+              .ifPresent(account -> projection.load(List.of(account)));
+          return projection.findByAccountNumber(query.accountNumber());
+        })
+        .orElseThrow(() -> new AccountNotFoundException("Account not found: " + query.accountNumber()));
+    return toDto(view);
+  }
+
+  private AccountBalanceDto loadBalance(AccountId accountId) {
+    AccountView view = findView(accountId);
+    return new AccountBalanceDto(
+        view.accountId().toString(),
+        view.accountNumber(),
+        FixedPointMoney.toBigDecimal(view.balanceCents()),
+        FixedPointMoney.toBigDecimal(view.availableCents()),
+        view.currency().name(),
+        view.updatedAt(),
+        view.version());
+  }
+
+  private AccountView findView(AccountId accountId) {
+    return projection.findById(accountId)
+        .or(() -> {
+          log.debug("Conta {} fora da projeção, lendo do repositório", accountId);
+          accountRepository.findById(accountId).ifPresent(account -> projection.load(List.of(account)));
+          return projection.findById(accountId);
+        })
+        .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountId));
+  }
+
+  private static StatementEntryDto toDto(AccountStatementStore.Entry entry) {
+    return new StatementEntryDto(
+        entry.transactionId(),
+        entry.operation(),
+        FixedPointMoney.toBigDecimal(entry.amountCents()),
+        FixedPointMoney.toBigDecimal(entry.balanceAfterCents()),
+        entry.occurredAt());
+  }
+
+  // Cursor opaco para o cliente: sequência do último lançamento entregue
+  private static String encodeCursor(AccountStatementStore.Position position) {
+    String value = Long.toString(position.sequence());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private static AccountStatementStore.Position decodeCursor(String cursor) {
+    try {
+      long sequence = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+      if (sequence < 0) {
+        throw new IllegalArgumentException("Invalid statement cursor");
+      }
+      return new AccountStatementStore.Position(sequence);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid statement cursor", e);
+    }
+  }
+
+  private static AccountDto toDto(AccountView view) {
+    return new AccountDto(
+        view.accountId().toString(),
+        view.accountNumber(),
+        view.customerId().toString(),
+        FixedPointMoney.toBigDecimal(view.balanceCents()),
+        view.currency().name(),
+        view.status(),
+        view.createdAt(),
+        view.updatedAt());
+  }
+}
@@ -0,0 +1,54 @@
+package com.inter.banking.banking.application.service;
+
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Log de execução dos comandos
+ * Mensagens parametrizadas (só formatadas se o nível estiver ativo), conclusão amostrada em INFO
+ * e correlação pelo MDC: o id da transação gerado pelo comando acompanha todos os logs da thread
+ * durante a execução, inclusive os dos adapters
+ */
+@Component
+@EnableConfigurationProperties(CommandLoggingProperties.class)
+public class CommandLog {
+  public static final String TRANSACTION_ID = "transactionId";
+  public static final String ACCOUNT_ID = "accountId";
+
+  private final double sampleRate;
+
+  public CommandLog(CommandLoggingProperties properties) {
+    this.sampleRate = properties.sampleRate();
+  }
+
+  /** Sem amostragem: todo comando concluído vai para INFO */
+  public static CommandLog unsampled() {
+    return new CommandLog(new CommandLoggingProperties(1.0));
+  }
+
+  /**
+   * Evento de conclusão: INFO quando amostrado, DEBUG caso contrário
+   * Com o nível desligado o builder é um no-op e os argumentos não são formatados
+   */
+  LoggingEventBuilder completed(Logger log) {
+    return sampled() ? log.atInfo() : log.atDebug();
+  }
+
+  /** Correlaciona os logs da thread com a transação até o close */
+  static MDC.MDCCloseable correlate(String transactionId) {
+    return MDC.putCloseable(TRANSACTION_ID, transactionId);
+  }
+
+  static MDC.MDCCloseable account(String accountId) {
+    return MDC.putCloseable(ACCOUNT_ID, accountId);
+  }
+
+  private boolean sampled() {
+    return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+}
@@ -0,0 +1,15 @@
+package com.inter.banking.banking.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Log dos casos de uso
+ *
+ * @param sampleRate fração dos comandos concluídos logados em INFO (1.0 = todos); os demais
+ *                   descem para DEBUG, então continuam visíveis quando o nível é reduzido
+ */
+@ConfigurationProperties(prefix = "banking.logging")
+public record CommandLoggingProperties(
+        @DefaultValue("1.0") double sampleRate
+) {}
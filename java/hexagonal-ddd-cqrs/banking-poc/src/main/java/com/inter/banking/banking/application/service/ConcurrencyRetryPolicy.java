@@ -0,0 +1,119 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Política de retentativa para conflitos de versão (optimistic locking)
+ * Espera com backoff exponencial e full jitter, para que escritores concorrentes na mesma conta
+ * não colidam de novo em sincronia. Um orçamento global limita as retentativas: sob contenção
+ * generalizada o conflito sobe para o chamador em vez de multiplicar a carga no banco
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ConcurrencyRetryProperties.class)
+public class ConcurrencyRetryPolicy {
+  // Saldo do orçamento em milésimos de retentativa
+  private static final long TOKEN = 1000;
+
+  private final ConcurrencyRetryProperties properties;
+  private final long depositPerCall;
+  private final long maxBalance;
+  private final AtomicLong balance;
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder exhausted = new LongAdder();
+
+  public ConcurrencyRetryPolicy(ConcurrencyRetryProperties properties) {
+    this.properties = properties;
+    this.depositPerCall = Math.round(properties.budgetRatio() * TOKEN);
+    this.maxBalance = properties.budgetReserve() * TOKEN;
+    this.balance = new AtomicLong(maxBalance);
+  }
+
+  /**
+   * Executa a ação, repetindo-a enquanto houver conflito de versão, tentativas e orçamento
+   * A ação precisa reler o estado a cada tentativa
+   */
+  public <T> T execute(Supplier<T> action) {
+    deposit();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return action.get();
+      } catch (AccountVersionConflictException e) {
+        if (attempt >= properties.maxAttempts() || !withdraw()) {
+          exhausted.increment();
+          throw e;
+        }
+        retries.increment();
+        log.debug("Conflito de versão (tentativa {}), repetindo: {}", attempt, e.getMessage());
+        if (!sleep(backoffNanos(attempt))) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Executa a ação numa transação por tentativa: o conflito desfaz só aquela tentativa e a seguinte
+   * começa numa transação nova, relendo tudo. Dentro de uma transação já aberta pelo chamador a ação
+   * participa dela e não é repetida: o conflito já marcou a transação dele para rollback
+   */
+  public <T> T executeInTransaction(TransactionOperations transactions, Supplier<T> action) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return action.get();
+    }
+    return execute(() -> transactions.execute(status -> action.get()));
+  }
+
+  /** Retentativas feitas desde o início */
+  public long retryCount() {
+    return retries.sum();
+  }
+
+  /** Comandos que desistiram por falta de tentativas ou de orçamento */
+  public long exhaustedCount() {
+    return exhausted.sum();
+  }
+
+  private void deposit() {
+    balance.accumulateAndGet(depositPerCall, (current, deposit) -> Math.min(maxBalance, current + deposit));
+  }
+
+  private boolean withdraw() {
+    long current;
+    do {
+      current = balance.get();
+      if (current < TOKEN) {
+        return false;
+      }
+    } while (!balance.compareAndSet(current, current - TOKEN));
+    return true;
+  }
+
+  private long backoffNanos(int attempt) {
+    long cap = Math.min(
+        properties.maxBackoff().toNanos(),
+        properties.initialBackoff().toNanos() << Math.min(attempt - 1, 30));
+    return ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+
+  private static boolean sleep(long nanos) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
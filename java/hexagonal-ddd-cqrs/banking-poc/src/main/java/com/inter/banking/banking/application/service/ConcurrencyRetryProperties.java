@@ -0,0 +1,23 @@
+package com.inter.banking.banking.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Retentativa de comandos em conflito de versão (banking.retry.*)
+ *
+ * @param maxAttempts    tentativas por comando, incluindo a primeira
+ * @param initialBackoff teto da espera antes da primeira retentativa (dobra a cada tentativa)
+ * @param maxBackoff     teto da espera entre retentativas; a espera é sorteada entre 0 e o teto (full jitter)
+ * @param budgetRatio    retentativas ganhas por comando executado (0.5 = uma a cada dois comandos)
+ * @param budgetReserve  saldo máximo de retentativas acumuladas; também é o saldo inicial
+ */
+@ConfigurationProperties(prefix = "banking.retry")
+public record ConcurrencyRetryProperties(
+    @DefaultValue("10") int maxAttempts,
+    @DefaultValue("2ms") Duration initialBackoff,
+    @DefaultValue("100ms") Duration maxBackoff,
+    @DefaultValue("0.5") double budgetRatio,
+    @DefaultValue("50") int budgetReserve) {}
@@ -0,0 +1,19 @@
+package com.inter.banking.banking.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Reservas de saldo (banking.holds.*)
+ *
+ * @param defaultTtl       validade da reserva quando o pedido não informa uma
+ * @param maxTtl           validade máxima aceita
+ * @param expiryRetryDelay espera até a nova tentativa de expirar uma reserva cuja liberação falhou
+ */
+@ConfigurationProperties(prefix = "banking.holds")
+public record FundsHoldProperties(
+    @DefaultValue("7d") Duration defaultTtl,
+    @DefaultValue("30d") Duration maxTtl,
+    @DefaultValue("1m") Duration expiryRetryDelay) {}
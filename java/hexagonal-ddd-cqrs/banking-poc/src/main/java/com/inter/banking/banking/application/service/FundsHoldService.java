@@ -0,0 +1,308 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.command.CaptureHoldCommand;
+import com.inter.banking.banking.application.command.PlaceHoldCommand;
+import com.inter.banking.banking.application.command.ReleaseHoldCommand;
+import com.inter.banking.banking.application.command.result.HoldResult;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.domain.event.FundsHoldChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
+import com.inter.banking.banking.domain.exception.HoldNotFoundException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.domain.model.enums.HoldStatus;
+import com.inter.banking.banking.domain.port.AccountEventPublisher;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.banking.domain.port.DebitLimiter;
+import com.inter.banking.banking.domain.port.FundsHoldStore;
+import com.inter.banking.banking.domain.port.FundsHoldStore.Hold;
+import com.inter.banking.banking.domain.port.HoldExpiryScheduler;
+import com.inter.banking.banking.domain.port.TransactionJournal;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Casos de uso das reservas de saldo (autorizações): reservar, capturar, liberar e expirar
+ * A reserva tira o valor do saldo disponível sem mexer no contábil; a captura debita até o valor
+ * reservado e devolve o resto. Reservar custa o mesmo que um débito (uma gravação da conta) mais
+ * o INSERT da reserva; a expiração não consulta o banco à procura de vencidas: cada reserva é
+ * agendada no HoldExpiryScheduler e só volta a este serviço quando vence.
+ * Toda mudança de reserva publica FundsHoldChangedEvent: a projeção e o near cache acompanham o disponível
+ */
+@Slf4j
+@Service
+@Transactional
+@EnableConfigurationProperties(FundsHoldProperties.class)
+public class FundsHoldService {
+  private final AccountOperationExecutor accountOperationExecutor;
+  private final ConcurrencyRetryPolicy retryPolicy;
+  private final FundsHoldStore holdStore;
+  private final HoldExpiryScheduler expiryScheduler;
+  private final AccountEventPublisher eventPublisher;
+  private final TransactionJournal transactionJournal;
+  private final AccountStatementStore statementStore;
+  private final DebitLimiter debitLimiter;
+  private final TransactionOperations transactions;
+  private final CommandLog commandLog;
+  private final FundsHoldProperties properties;
+
+  public FundsHoldService(
+      AccountOperationExecutor accountOperationExecutor,
+      ConcurrencyRetryPolicy retryPolicy,
+      FundsHoldStore holdStore,
+      HoldExpiryScheduler expiryScheduler,
+      AccountEventPublisher eventPublisher,
+      TransactionJournal transactionJournal,
+      AccountStatementStore statementStore,
+      DebitLimiter debitLimiter,
+      TransactionOperations transactions,
+      CommandLog commandLog,
+      FundsHoldProperties properties) {
+    this.accountOperationExecutor = accountOperationExecutor;
+    this.retryPolicy = retryPolicy;
+    this.holdStore = holdStore;
+    this.expiryScheduler = expiryScheduler;
+    this.eventPublisher = eventPublisher;
+    this.transactionJournal = transactionJournal;
+    this.statementStore = statementStore;
+    this.debitLimiter = debitLimiter;
+    this.transactions = transactions;
+    this.commandLog = commandLog;
+    this.properties = properties;
+  }
+
+  /**
+   * Use Case: Reservar saldo
+   * Cada tentativa roda numa transação própria; a expiração só é agendada depois da que deu certo
+   */
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public HoldResult placeHold(PlaceHoldCommand command) {
+    UUID holdId = UUID.randomUUID();
+    try (MDC.MDCCloseable correlation = CommandLog.correlate(holdId.toString());
+         MDC.MDCCloseable accountScope = CommandLog.account(command.accountId())) {
+      log.debug("Reservando R$ {} da conta: {}", command.amount(), command.accountId());
+
+      Duration ttl = ttl(command.expiresIn());
+      FixedPointMoney amount = FixedPointMoney.brl(command.amount());
+
+      AccountId accountId = AccountId.from(command.accountId());
+      Instant now = Instant.now();
+      Hold hold = new Hold(holdId, accountId, amount.getCents(), command.description(), now, now.plus(ttl));
+      Account savedAccount = retryPolicy.executeInTransaction(transactions, () -> {
+        // 1, 2 e 3. Buscar conta, executar operação de domínio e persistir
+        Account account = accountOperationExecutor.execute(accountId, current -> current.placeHold(amount));
+
+        // 4. Gravar a reserva (mesma transação)
+        holdStore.insert(hold);
+
+        // 5. Efeitos colaterais: a projeção passa a mostrar o disponível menor
+        eventPublisher.publish(holdChanged(hold, HoldStatus.ACTIVE, account));
+        return account;
+      });
+
+      // 6. Agendar a expiração
+      expiryScheduler.schedule(holdId, hold.expiresAt());
+
+      commandLog.completed(log)
+              .addKeyValue(CommandLog.ACCOUNT_ID, savedAccount.getId())
+              .log("Reserva de R$ {} registrada, expira em {}", command.amount(), hold.expiresAt());
+
+      return holdResult(savedAccount, hold, HoldStatus.ACTIVE);
+    }
+  }
+
+  /**
+   * Use Case: Capturar reserva
+   * O valor capturado é um débito como outro qualquer: passa pelos limites de débito, vai para o journal
+   * e gera TransactionCompletedEvent
+   */
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public TransactionResult captureHold(CaptureHoldCommand command) {
+    String transactionId = generateTransactionId();
+    try (MDC.MDCCloseable correlation = CommandLog.correlate(transactionId);
+         MDC.MDCCloseable accountScope = CommandLog.account(command.accountId())) {
+      log.debug("Capturando a reserva {} da conta: {}", command.holdId(), command.accountId());
+
+      AtomicReference<FixedPointMoney> captured = new AtomicReference<>();
+      Account savedAccount = retryPolicy.executeInTransaction(transactions, () -> {
+        // 1. Tirar a reserva de ACTIVE; quem perder a corrida (liberação, expiração) não a encontra mais
+        Hold hold = resolve(command.accountId(), command.holdId(), HoldStatus.CAPTURED);
+        FixedPointMoney held = FixedPointMoney.brl(hold.amountCents());
+        captured.set(command.amount() != null ? FixedPointMoney.brl(command.amount()) : held);
+
+        // 2. O valor capturado é o débito da conta: passa pelos limites; recusa ou rollback devolvem à contagem
+        debitLimiter.acquire(hold.accountId(), captured.get());
+
+        // 3 e 4. Executar operação de domínio e persistir; valor acima do reservado desfaz a transação inteira
+        Account account = accountOperationExecutor.execute(hold.accountId(), current -> current.captureHold(held, captured.get()));
+
+        // 5. Gravar no extrato (mesma transação) e no journal antes de confirmar ao chamador
+        TransactionJournal.Entry entry = new TransactionJournal.Entry(
+                account.getId(),
+                transactionId,
+                "DEBIT",
+                captured.get().getCents(),
+                account.getBalanceCents(),
+                account.getVersion(),
+                Instant.now());
+        statementStore.append(List.of(AccountStatementStore.Entry.from(entry)));
+        transactionJournal.append(entry);
+
+        // 6. Efeitos colaterais
+        eventPublisher.publish(new TransactionCompletedEvent(
+                account.getId(), transactionId, "DEBIT", captured.get(), account.getBalance(), account.getVersion(),
+                Instant.now()));
+        eventPublisher.publish(holdChanged(hold, HoldStatus.CAPTURED, account));
+        return account;
+      });
+
+      commandLog.completed(log)
+              .addKeyValue(CommandLog.ACCOUNT_ID, savedAccount.getId())
+              .log("Reserva {} capturada: R$ {}", command.holdId(), captured.get().toBigDecimal());
+
+      return new TransactionResult(
+              savedAccount.getId().toString(),
+              transactionId,
+              savedAccount.getBalance().getAmount(),
+              "COMPLETED"
+      );
+    }
+  }
+
+  /**
+   * Use Case: Liberar reserva (cancelamento da autorização)
+   */
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public HoldResult releaseHold(ReleaseHoldCommand command) {
+    log.debug("Liberando a reserva {} da conta: {}", command.holdId(), command.accountId());
+
+    AtomicReference<Hold> resolved = new AtomicReference<>();
+    Account savedAccount = retryPolicy.executeInTransaction(transactions, () -> {
+      Hold hold = resolve(command.accountId(), command.holdId(), HoldStatus.RELEASED);
+      resolved.set(hold);
+      Account account = accountOperationExecutor.execute(hold.accountId(), current -> current.releaseHold(
+              FixedPointMoney.of(hold.amountCents(), current.getCurrency())));
+      eventPublisher.publish(holdChanged(hold, HoldStatus.RELEASED, account));
+      return account;
+    });
+
+    commandLog.completed(log)
+            .addKeyValue(CommandLog.ACCOUNT_ID, savedAccount.getId())
+            .log("Reserva {} liberada", command.holdId());
+
+    return holdResult(savedAccount, resolved.get(), HoldStatus.RELEASED);
+  }
+
+  /**
+   * Use Case: Expirar reservas vencidas, chamado pelo HoldExpiryScheduler
+   * Reservas já capturadas ou liberadas são ignoradas; as demais voltam ao saldo disponível numa
+   * única transação, com as contas carregadas e gravadas em lote. A reserva sai de ACTIVE antes da
+   * liberação (quem perder a corrida com uma captura não a encontra mais); se a liberação dela falhar,
+   * ela volta a ACTIVE na mesma transação e é reagendada, então nunca fica EXPIRED sem ter sido liberada
+   *
+   * @return quantas reservas foram liberadas
+   */
+  public int expireHolds(List<UUID> holdIds) {
+    List<Hold> holds = holdStore.findActive(holdIds);
+    boolean[] resolved = holdStore.resolve(holds.stream().map(Hold::holdId).toList(), HoldStatus.EXPIRED, Instant.now());
+
+    List<Hold> expiring = new ArrayList<>(holds.size());
+    List<AccountOperationExecutor.Operation> operations = new ArrayList<>(holds.size());
+    for (int i = 0; i < holds.size(); i++) {
+      if (resolved[i]) {
+        Hold hold = holds.get(i);
+        expiring.add(hold);
+        operations.add(new AccountOperationExecutor.Operation(hold.accountId(), account -> account.releaseHold(
+                FixedPointMoney.of(hold.amountCents(), account.getCurrency()))));
+      }
+    }
+
+    List<AccountOperationExecutor.Outcome> outcomes = accountOperationExecutor.executeAll(operations);
+    List<UUID> failed = new ArrayList<>();
+    for (int i = 0; i < outcomes.size(); i++) {
+      AccountOperationExecutor.Outcome outcome = outcomes.get(i);
+      Hold hold = expiring.get(i);
+      if (outcome.succeeded()) {
+        eventPublisher.publish(holdChanged(
+                hold, HoldStatus.EXPIRED, outcome.balance(), outcome.availableBalance(), outcome.version()));
+      } else {
+        log.warn("Falha ao liberar a reserva expirada {} da conta {}, nova tentativa em {}: {}",
+                hold.holdId(), outcome.accountId(), properties.expiryRetryDelay(), outcome.failure().getMessage());
+        failed.add(hold.holdId());
+      }
+    }
+    holdStore.reopen(failed, HoldStatus.EXPIRED);
+    Instant retryAt = Instant.now().plus(properties.expiryRetryDelay());
+    failed.forEach(holdId -> expiryScheduler.schedule(holdId, retryAt));
+
+    int released = outcomes.size() - failed.size();
+    log.debug("{} reservas expiradas liberadas", released);
+    return released;
+  }
+
+  private Hold resolve(String accountId, String holdId, HoldStatus status) {
+    UUID id = UUID.fromString(holdId);
+    Hold hold = holdStore.findActive(id)
+            .filter(active -> active.accountId().equals(AccountId.from(accountId)))
+            .orElseThrow(() -> new HoldNotFoundException("Active hold not found: " + holdId));
+    if (!holdStore.resolve(List.of(id), status, Instant.now())[0]) {
+      throw new HoldNotFoundException("Active hold not found: " + holdId);
+    }
+    return hold;
+  }
+
+  private Duration ttl(Duration expiresIn) {
+    if (expiresIn == null) {
+      return properties.defaultTtl();
+    }
+    if (expiresIn.isNegative() || expiresIn.isZero() || expiresIn.compareTo(properties.maxTtl()) > 0) {
+      throw new IllegalArgumentException("Hold expiry must be positive and at most " + properties.maxTtl());
+    }
+    return expiresIn;
+  }
+
+  private static FundsHoldChangedEvent holdChanged(Hold hold, HoldStatus status, Account account) {
+    return holdChanged(hold, status, account.getBalance(), account.getAvailableBalance(), account.getVersion());
+  }
+
+  private static FundsHoldChangedEvent holdChanged(
+          Hold hold, HoldStatus status, Money balance, Money availableBalance, long version) {
+    return new FundsHoldChangedEvent(
+            hold.accountId(),
+            hold.holdId().toString(),
+            status.name(),
+            FixedPointMoney.brl(hold.amountCents()),
+            balance,
+            availableBalance,
+            version,
+            Instant.now());
+  }
+
+  private static HoldResult holdResult(Account account, Hold hold, HoldStatus status) {
+    return new HoldResult(
+            account.getId().toString(),
+            hold.holdId().toString(),
+            FixedPointMoney.toBigDecimal(hold.amountCents()),
+            account.getAvailableBalance().getAmount(),
+            status.name(),
+            hold.expiresAt()
+    );
+  }
+
+  private static String generateTransactionId() {
+    return UUID.randomUUID().toString();
+  }
+}
@@ -0,0 +1,102 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Execução padrão: read-modify-write no repositório dentro da transação do caso de uso
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.ledger", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class RepositoryAccountOperationExecutor implements AccountOperationExecutor {
+  private final AccountRepository accountRepository;
+
+  public RepositoryAccountOperationExecutor(AccountRepository accountRepository) {
+    this.accountRepository = accountRepository;
+  }
+
+  @Override
+  public Account execute(AccountId accountId, Consumer<Account> operation) {
+    Account account = accountRepository.findById(accountId)
+        .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountId));
+
+    operation.accept(account);
+
+    return accountRepository.save(account);
+  }
+
+  /**
+   * Trava as duas contas na ordem canônica antes de aplicar a operação: com as linhas travadas
+   * as duas gravações não entram em conflito, então nunca sobra uma gravada e a outra não
+   */
+  @Override
+  public Pair executePair(AccountId first, AccountId second, BiConsumer<Account, Account> operation) {
+    boolean inOrder = first.compareTo(second) <= 0;
+    Account lower = lockAccount(inOrder ? first : second);
+    Account higher = lockAccount(inOrder ? second : first);
+    Account firstAccount = inOrder ? lower : higher;
+    Account secondAccount = inOrder ? higher : lower;
+
+    // Falha na operação derruba a transação inteira, nada é gravado
+    operation.accept(firstAccount, secondAccount);
+
+    accountRepository.save(firstAccount);
+    accountRepository.save(secondAccount);
+    return new Pair(firstAccount, secondAccount);
+  }
+
+  private Account lockAccount(AccountId accountId) {
+    return accountRepository.findByIdForUpdate(accountId)
+        .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountId));
+  }
+
+  @Override
+  public List<Outcome> executeAll(List<Operation> operations) {
+    // 1. Uma consulta para todas as contas envolvidas
+    Set<AccountId> ids = new LinkedHashSet<>();
+    operations.forEach(operation -> ids.add(operation.accountId()));
+
+    Map<AccountId, Account> accounts = new LinkedHashMap<>();
+    accountRepository.findAllById(ids).forEach(account -> accounts.put(account.getId(), account));
+
+    // 2. Aplica na ordem; a entity valida antes de alterar, então uma falha não deixa estado parcial
+    List<Outcome> outcomes = new ArrayList<>(operations.size());
+    // Chave pelo id: equals/hashCode da entity mudam junto com o saldo
+    // Gravadas na ordem canônica dos ids, a mesma das transferências, para não haver deadlock entre elas
+    Map<AccountId, Account> changed = new TreeMap<>();
+    for (Operation operation : operations) {
+      Account account = accounts.get(operation.accountId());
+      if (account == null) {
+        outcomes.add(Outcome.failure(operation.accountId(),
+            new AccountNotFoundException("Account not found: " + operation.accountId())));
+        continue;
+      }
+      try {
+        operation.action().accept(account);
+        changed.put(account.getId(), account);
+        outcomes.add(Outcome.success(account));
+      } catch (RuntimeException e) {
+        outcomes.add(Outcome.failure(operation.accountId(), e));
+      }
+    }
+
+    // 3. Grava cada conta alterada uma única vez
+    accountRepository.saveAll(changed.values());
+
+    return outcomes;
+  }
+}
@@ -0,0 +1,22 @@
+package com.inter.banking.banking.domain.event;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.time.Instant;
+
+/**
+ * Conta criada; carrega o estado da conta logo após a criação
+ */
+public record AccountCreatedEvent(Account account, Instant occurredAt) implements AccountEvent {
+
+    @Override
+    public AccountId accountId() {
+        return account.getId();
+    }
+
+    @Override
+    public long version() {
+        return account.getVersion();
+    }
+}
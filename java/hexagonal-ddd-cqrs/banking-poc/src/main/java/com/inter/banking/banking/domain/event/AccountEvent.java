@@ -0,0 +1,23 @@
+package com.inter.banking.banking.domain.event;
+
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.time.Instant;
+
+/**
+ * Evento de domínio da conta
+ * Registrado pelos casos de uso e entregue aos efeitos colaterais (auditoria, notificação)
+ */
+public sealed interface AccountEvent
+        permits AccountCreatedEvent, TransactionCompletedEvent, AccountStatusChangedEvent, FundsHoldChangedEvent {
+
+    AccountId accountId();
+
+    /**
+     * Versão da conta logo após o evento
+     * A entrega pode chegar fora de ordem; quem guarda estado da conta descarta evento mais antigo que o já aplicado
+     */
+    long version();
+
+    Instant occurredAt();
+}
@@ -0,0 +1,26 @@
+package com.inter.banking.banking.domain.event;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.time.Instant;
+
+/**
+ * Conta bloqueada/desbloqueada; carrega o estado da conta após a mudança
+ */
+public record AccountStatusChangedEvent(Account account, String oldStatus, Instant occurredAt) implements AccountEvent {
+
+    @Override
+    public AccountId accountId() {
+        return account.getId();
+    }
+
+    @Override
+    public long version() {
+        return account.getVersion();
+    }
+
+    public String newStatus() {
+        return account.getStatus().toString();
+    }
+}
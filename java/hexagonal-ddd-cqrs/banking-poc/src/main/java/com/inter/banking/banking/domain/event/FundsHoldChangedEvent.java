@@ -0,0 +1,28 @@
+package com.inter.banking.banking.domain.event;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+
+import java.time.Instant;
+
+/**
+ * Reserva de saldo criada ou resolvida: muda o disponível da conta
+ * A captura também debita e gera TransactionCompletedEvent, publicado antes deste
+ *
+ * @param status           HoldStatus da reserva após o evento (ACTIVE na criação)
+ * @param amount           valor reservado
+ * @param balance          saldo contábil da conta logo após o evento
+ * @param availableBalance saldo disponível (contábil menos as reservas ativas) logo após o evento
+ * @param version          versão da conta logo após o evento
+ */
+public record FundsHoldChangedEvent(
+        AccountId accountId,
+        String holdId,
+        String status,
+        FixedPointMoney amount,
+        Money balance,
+        Money availableBalance,
+        long version,
+        Instant occurredAt
+) implements AccountEvent {}
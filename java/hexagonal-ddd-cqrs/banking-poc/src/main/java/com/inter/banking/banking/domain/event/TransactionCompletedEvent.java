@@ -0,0 +1,24 @@
+package com.inter.banking.banking.domain.event;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+
+import java.time.Instant;
+
+/**
+ * Débito ou crédito concluído
+ *
+ * @param operation DEBIT ou CREDIT
+ * @param balance   saldo da conta logo após a operação
+ * @param version   versão da conta que contém a operação
+ */
+public record TransactionCompletedEvent(
+        AccountId accountId,
+        String transactionId,
+        String operation,
+        FixedPointMoney amount,
+        Money balance,
+        long version,
+        Instant occurredAt
+) implements AccountEvent {}
@@ -0,0 +1,11 @@
+package com.inter.banking.banking.domain.exception;
+
+/**
+ * Operação em conta bloqueada/encerrada
+ * Estende IllegalStateException para manter compatíveis os tratamentos já existentes
+ */
+public class AccountNotActiveException extends IllegalStateException {
+    public AccountNotActiveException(String message) {
+        super(message);
+    }
+}
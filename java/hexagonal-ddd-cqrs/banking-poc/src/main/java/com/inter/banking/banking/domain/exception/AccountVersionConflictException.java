@@ -0,0 +1,10 @@
+package com.inter.banking.banking.domain.exception;
+
+/**
+ * A conta foi alterada por outra transação entre a leitura e a gravação
+ */
+public class AccountVersionConflictException extends RuntimeException {
+    public AccountVersionConflictException(String message) {
+        super(message);
+    }
+}
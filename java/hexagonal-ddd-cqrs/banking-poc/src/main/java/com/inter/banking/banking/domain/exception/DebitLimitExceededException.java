@@ -0,0 +1,7 @@
+package com.inter.banking.banking.domain.exception;
+
+public class DebitLimitExceededException extends RuntimeException {
+    public DebitLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.inter.banking.banking.domain.exception;
+
+/**
+ * Chave de idempotência usada por outro comando, ou por um comando concorrente ainda não concluído
+ */
+public class DuplicateIdempotencyKeyException extends RuntimeException {
+    public DuplicateIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.inter.banking.banking.domain.exception;
+
+public class HoldNotFoundException extends RuntimeException {
+    public HoldNotFoundException(String message) {
+        super(message);
+    }
+}
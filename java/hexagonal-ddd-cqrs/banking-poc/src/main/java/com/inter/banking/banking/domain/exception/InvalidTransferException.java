@@ -0,0 +1,7 @@
+package com.inter.banking.banking.domain.exception;
+
+public class InvalidTransferException extends RuntimeException {
+    public InvalidTransferException(String message) {
+        super(message);
+    }
+}
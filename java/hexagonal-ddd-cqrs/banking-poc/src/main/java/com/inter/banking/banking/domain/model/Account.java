@@ -1,8 +1,10 @@
 package com.inter.banking.banking.domain.model;
 
+import com.inter.banking.banking.domain.exception.AccountNotActiveException;
 import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
 import com.inter.banking.banking.domain.exception.InvalidAmountException;
 import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -15,17 +17,25 @@ public class Account {
   private final AccountId id;
   private final String accountNumber;
   private final CustomerId customerId;
-  private Money balance;
+  // Saldo em centavos: débito/crédito operam sobre long, sem alocar Money/BigDecimal
+  private long balanceCents;
+  // Reservas ativas (autorizações) em centavos: continuam no saldo contábil, mas não estão disponíveis
+  private long heldCents;
+  private final CurrencyCode currency;
   private AccountStatus status;
   private final LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  // Versão gravada no repositório (0 = nunca gravada); detecta escrita concorrente
+  private long version;
 
   // Construtor principal
   public Account(AccountId id, String accountNumber, CustomerId customerId, Money initialBalance) {
     this.id = Objects.requireNonNull(id, "Account ID cannot be null");
     this.accountNumber = Objects.requireNonNull(accountNumber, "Account number cannot be null");
     this.customerId = Objects.requireNonNull(customerId, "Customer ID cannot be null");
-    this.balance = Objects.requireNonNull(initialBalance, "Initial balance cannot be null");
+    Objects.requireNonNull(initialBalance, "Initial balance cannot be null");
+    this.balanceCents = FixedPointMoney.toCents(initialBalance.getAmount());
+    this.currency = CurrencyCode.of(initialBalance.getCurrency());
     this.status = AccountStatus.ACTIVE;
     this.createdAt = LocalDateTime.now();
     this.updatedAt = LocalDateTime.now();
@@ -33,7 +43,7 @@ public class Account {
     validateInitialBalance(initialBalance);
   }
 
-  // Construtor para reconstruir do banco (usado pelo Repository)
+  // Construtor para reconstruir do banco (usado pelo Repository); conta sem reservas
   public Account(
       AccountId id,
       String accountNumber,
@@ -41,15 +51,43 @@ public class Account {
       Money balance,
       AccountStatus status,
       LocalDateTime createdAt,
-      LocalDateTime updatedAt) {
+      LocalDateTime updatedAt,
+      long version) {
 
     this.id = id;
     this.accountNumber = accountNumber;
     this.customerId = customerId;
-    this.balance = balance;
+    this.balanceCents = FixedPointMoney.toCents(balance.getAmount());
+    this.currency = CurrencyCode.of(balance.getCurrency());
     this.status = status;
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
+    this.version = version;
+  }
+
+  /** Reconstrução a partir dos centavos, sem passar por Money/BigDecimal (adapters em memória) */
+  public Account(
+      AccountId id,
+      String accountNumber,
+      CustomerId customerId,
+      long balanceCents,
+      long heldCents,
+      CurrencyCode currency,
+      AccountStatus status,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      long version) {
+
+    this.id = id;
+    this.accountNumber = accountNumber;
+    this.customerId = customerId;
+    this.balanceCents = balanceCents;
+    this.heldCents = heldCents;
+    this.currency = currency;
+    this.status = status;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+    this.version = version;
   }
 
   /**
@@ -57,23 +95,94 @@ public class Account {
    * deve ser suficiente
    */
   public void debit(Money amount) {
-    validateAmount(amount);
+    debitCents(toCents(amount));
+  }
+
+  /** Mesmo débito, sem conversão de BigDecimal (caminho de transação) */
+  public void debit(FixedPointMoney amount) {
+    amount.validateCurrency(currency);
+    debitCents(amount.getCents());
+  }
+
+  /** Credita um valor na conta Regras: - Conta deve estar ativa - Valor deve ser positivo */
+  public void credit(Money amount) {
+    creditCents(toCents(amount));
+  }
+
+  /** Mesmo crédito, sem conversão de BigDecimal (caminho de transação) */
+  public void credit(FixedPointMoney amount) {
+    amount.validateCurrency(currency);
+    creditCents(amount.getCents());
+  }
+
+  private void debitCents(long amountCents) {
+    validateAmount(amountCents);
     validateAccountIsActive();
 
-    if (balance.isLessThan(amount)) {
+    if (availableCents() < amountCents) {
       throw new InsufficientBalanceException("Insufficient balance for debit operation");
     }
 
-    this.balance = this.balance.subtract(amount);
+    this.balanceCents = FixedPointMoney.subtract(balanceCents, amountCents);
     this.updatedAt = LocalDateTime.now();
   }
 
-  /** Credita um valor na conta Regras: - Conta deve estar ativa - Valor deve ser positivo */
-  public void credit(Money amount) {
-    validateAmount(amount);
+  private void creditCents(long amountCents) {
+    validateAmount(amountCents);
+    validateAccountIsActive();
+
+    this.balanceCents = FixedPointMoney.add(balanceCents, amountCents);
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  /**
+   * Reserva um valor (autorização): sai do saldo disponível, o saldo contábil não muda
+   * Regras: - Conta deve estar ativa - Valor deve ser positivo - Saldo disponível deve ser suficiente
+   */
+  public void placeHold(FixedPointMoney amount) {
+    amount.validateCurrency(currency);
+    long amountCents = amount.getCents();
+    validateAmount(amountCents);
     validateAccountIsActive();
 
-    this.balance = this.balance.add(amount);
+    if (availableCents() < amountCents) {
+      throw new InsufficientBalanceException("Insufficient available balance for hold");
+    }
+
+    this.heldCents = FixedPointMoney.add(heldCents, amountCents);
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  /**
+   * Captura uma reserva: libera o valor reservado e debita o capturado, que não pode passar dele
+   * Vale também para conta bloqueada depois da autorização (o valor já estava comprometido)
+   */
+  public void captureHold(FixedPointMoney held, FixedPointMoney captured) {
+    captured.validateCurrency(currency);
+    long capturedCents = captured.getCents();
+    validateAmount(capturedCents);
+    if (capturedCents > held.getCents()) {
+      throw new InvalidAmountException("Capture amount exceeds held amount");
+    }
+
+    releaseHeldCents(held);
+    this.balanceCents = FixedPointMoney.subtract(balanceCents, capturedCents);
+  }
+
+  /** Libera uma reserva sem débito (cancelamento ou expiração) */
+  public void releaseHold(FixedPointMoney held) {
+    releaseHeldCents(held);
+  }
+
+  private void releaseHeldCents(FixedPointMoney held) {
+    held.validateCurrency(currency);
+    long amountCents = held.getCents();
+    validateAmount(amountCents);
+    if (amountCents > heldCents) {
+      throw new InvalidAmountException("Release amount exceeds held balance");
+    }
+
+    this.heldCents = FixedPointMoney.subtract(heldCents, amountCents);
     this.updatedAt = LocalDateTime.now();
   }
 
@@ -89,11 +198,33 @@ public class Account {
     this.updatedAt = LocalDateTime.now();
   }
 
+  /**
+   * Chamado pelo repositório depois de gravar: a gravação só acontece se a versão no banco
+   * ainda for a que a conta carregou, e passa a valer a próxima
+   */
+  public void advanceVersion() {
+    this.version++;
+  }
+
   // Métodos de consulta (queries)
 
   /** Verifica se a conta pode debitar um valor Não altera estado - pure function */
   public boolean canDebit(Money amount) {
-    return status == AccountStatus.ACTIVE && balance.isGreaterThanOrEqual(amount);
+    return status == AccountStatus.ACTIVE && availableCents() >= toCents(amount);
+  }
+
+  /** Saldo como Money (conversão sem perda a partir dos centavos) */
+  public Money getBalance() {
+    return FixedPointMoney.toMoney(balanceCents, currency);
+  }
+
+  /** Saldo disponível: o contábil menos as reservas ativas */
+  public Money getAvailableBalance() {
+    return FixedPointMoney.toMoney(availableCents(), currency);
+  }
+
+  private long availableCents() {
+    return balanceCents - heldCents;
   }
 
   /** Verifica se a conta está ativa */
@@ -103,15 +234,22 @@ public class Account {
 
   // Validações privadas (invariantes do domínio)
 
-  private void validateAmount(Money amount) {
-    if (amount.isZeroOrNegative()) {
+  private void validateAmount(long amountCents) {
+    if (amountCents <= 0) {
       throw new InvalidAmountException("Amount must be positive");
     }
   }
 
+  private long toCents(Money amount) {
+    if (CurrencyCode.of(amount.getCurrency()) != currency) {
+      throw new IllegalArgumentException("Cannot operate with different currencies");
+    }
+    return FixedPointMoney.toCents(amount.getAmount());
+  }
+
   private void validateAccountIsActive() {
     if (status != AccountStatus.ACTIVE) {
-      throw new IllegalStateException("Account is not active");
+      throw new AccountNotActiveException("Account is not active");
     }
   }
 
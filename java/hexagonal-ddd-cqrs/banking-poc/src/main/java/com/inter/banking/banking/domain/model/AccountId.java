@@ -6,8 +6,9 @@ import java.util.UUID;
 /**
  * Value Object para ID da conta
  * Evita primitive obsession e adiciona type safety
+ * A ordem natural é a ordem canônica usada para travar várias contas sem deadlock
  */
-public class AccountId {
+public class AccountId implements Comparable<AccountId> {
     private final UUID value;
 
     public AccountId(UUID value) {
@@ -24,6 +25,11 @@ public class AccountId {
 
     public UUID getValue() {return value;}
 
+    @Override
+    public int compareTo(AccountId other) {
+        return value.compareTo(other.value);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -0,0 +1,148 @@
+package com.inter.banking.banking.domain.model;
+
+import com.inter.banking.banking.domain.exception.InvalidAmountException;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Value Object de dinheiro em ponto fixo: quantidade de centavos em um long
+ * Usado no caminho de transação; as operações estáticas sobre long não alocam.
+ * A conversão de/para Money (BigDecimal com 2 casas) é sem perda
+ */
+public final class FixedPointMoney {
+    private static final int SCALE = 2;
+
+    private final long cents;
+    private final CurrencyCode currency;
+
+    private FixedPointMoney(long cents, CurrencyCode currency) {
+        this.cents = cents;
+        this.currency = Objects.requireNonNull(currency, "Currency cannot be null");
+    }
+
+    // Factory Methods
+    public static FixedPointMoney of(long cents, CurrencyCode currency) {
+        return new FixedPointMoney(cents, currency);
+    }
+
+    public static FixedPointMoney brl(long cents) {
+        return new FixedPointMoney(cents, CurrencyCode.BRL);
+    }
+
+    public static FixedPointMoney brl(BigDecimal amount) {
+        return new FixedPointMoney(toCents(amount), CurrencyCode.BRL);
+    }
+
+    public static FixedPointMoney from(Money money) {
+        return new FixedPointMoney(toCents(money.getAmount()), CurrencyCode.of(money.getCurrency()));
+    }
+
+    // Conversões
+    public Money toMoney() {
+        return toMoney(cents, currency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(cents);
+    }
+
+    public static Money toMoney(long cents, CurrencyCode currency) {
+        return new Money(toBigDecimal(cents), currency.name());
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /** Converte para centavos com o mesmo arredondamento de Money (HALF_UP em 2 casas) */
+    public static long toCents(BigDecimal amount) {
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new InvalidAmountException("Amount out of range: " + amount);
+        }
+    }
+
+    // Aritmética sobre long com checagem de overflow (sem alocação)
+    public static long add(long cents, long otherCents) {
+        try {
+            return Math.addExact(cents, otherCents);
+        } catch (ArithmeticException e) {
+            throw new InvalidAmountException("Amount overflow");
+        }
+    }
+
+    public static long subtract(long cents, long otherCents) {
+        try {
+            return Math.subtractExact(cents, otherCents);
+        } catch (ArithmeticException e) {
+            throw new InvalidAmountException("Amount overflow");
+        }
+    }
+
+    // Operações matemáticas
+    public FixedPointMoney add(FixedPointMoney other) {
+        validateSameCurrency(other);
+        return new FixedPointMoney(add(cents, other.cents), currency);
+    }
+
+    public FixedPointMoney subtract(FixedPointMoney other) {
+        validateSameCurrency(other);
+        return new FixedPointMoney(subtract(cents, other.cents), currency);
+    }
+
+    // Comparações
+    public boolean isLessThan(FixedPointMoney other) {
+        validateSameCurrency(other);
+        return cents < other.cents;
+    }
+
+    public boolean isGreaterThanOrEqual(FixedPointMoney other) {
+        validateSameCurrency(other);
+        return cents >= other.cents;
+    }
+
+    public boolean isZeroOrNegative() {
+        return cents <= 0;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    void validateCurrency(CurrencyCode expected) {
+        if (currency != expected) {
+            throw new IllegalArgumentException("Cannot operate with different currencies");
+        }
+    }
+
+    private void validateSameCurrency(FixedPointMoney other) {
+        validateCurrency(other.currency);
+    }
+
+    // Getters
+    public long getCents() { return cents; }
+    public CurrencyCode getCurrency() { return currency; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        FixedPointMoney money = (FixedPointMoney) obj;
+        return cents == money.cents && currency == money.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(cents) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return currency + " " + toBigDecimal();
+    }
+}
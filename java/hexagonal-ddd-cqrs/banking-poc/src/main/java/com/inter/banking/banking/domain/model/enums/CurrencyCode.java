@@ -0,0 +1,21 @@
+package com.inter.banking.banking.domain.model.enums;
+
+/**
+ * Moedas suportadas; todas com 2 casas decimais (centavos)
+ * Enum evita comparar Strings a cada operação
+ */
+public enum CurrencyCode {
+    BRL,
+    USD,
+    EUR;
+
+    public static CurrencyCode of(String code) {
+        // Caminho rápido para a moeda padrão, sem percorrer values()
+        if ("BRL".equals(code)) return BRL;
+        try {
+            return valueOf(code);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unsupported currency: " + code);
+        }
+    }
+}
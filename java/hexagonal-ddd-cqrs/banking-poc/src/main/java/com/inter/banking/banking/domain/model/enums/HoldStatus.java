@@ -0,0 +1,8 @@
+package com.inter.banking.banking.domain.model.enums;
+
+public enum HoldStatus {
+    ACTIVE,
+    CAPTURED,
+    RELEASED,
+    EXPIRED
+}
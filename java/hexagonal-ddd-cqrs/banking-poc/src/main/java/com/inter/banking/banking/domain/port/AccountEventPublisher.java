@@ -0,0 +1,11 @@
+package com.inter.banking.banking.domain.port;
+
+import com.inter.banking.banking.domain.event.AccountEvent;
+
+/**
+ * Port para publicação de eventos de domínio (Secondary/Driven Port)
+ * A implementação decide quando e como os efeitos colaterais são entregues
+ */
+public interface AccountEventPublisher {
+    void publish(AccountEvent event);
+}
@@ -6,4 +6,9 @@ package com.inter.banking.banking.domain.port;
  */
 public interface AccountNumberGenerator {
     String generateAccountNumber();
+
+    /** true se a implementação nunca repete um número, dispensando a checagem de colisão no repositório */
+    default boolean guaranteesUniqueness() {
+        return false;
+    }
 }
@@ -4,6 +4,7 @@ import com.inter.banking.banking.domain.model.Account;
 import com.inter.banking.banking.domain.model.AccountId;
 import com.inter.banking.banking.domain.model.CustomerId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,10 +13,25 @@ import java.util.Optional;
  * para persistência Implementação fica na camada de infraestrutura
  */
 public interface AccountRepository {
+  /**
+   * Grava a conta se a versão no repositório ainda for account.getVersion() (conta nova,
+   * versão 0, é inserida) e avança a versão da conta
+   *
+   * @throws com.inter.banking.banking.domain.exception.AccountVersionConflictException se outra
+   *     transação gravou a conta depois da leitura
+   */
   Account save(Account acount);
 
   Optional<Account> findById(AccountId id);
 
+  /**
+   * Busca a conta travando-a até o fim da transação (SELECT ... FOR UPDATE), sempre lendo do banco
+   * Quem trava várias contas deve fazê-lo na ordem canônica dos AccountId
+   */
+  default Optional<Account> findByIdForUpdate(AccountId id) {
+    return findById(id);
+  }
+
   Optional<Account> findByAccountNumber(String accountNumber);
 
   List<Account> findByCustomerId(CustomerId customerId);
@@ -23,4 +39,14 @@ public interface AccountRepository {
   void delete(AccountId id);
 
   boolean existsByAccountNumber(String accountNumber);
+
+  /** Busca várias contas de uma vez; ids inexistentes são ignorados */
+  default List<Account> findAllById(Collection<AccountId> ids) {
+    return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+  }
+
+  /** Persiste várias contas de uma vez (adapters podem usar JDBC batch), com a mesma checagem de versão do save */
+  default List<Account> saveAll(Collection<Account> accounts) {
+    return accounts.stream().map(this::save).toList();
+  }
 }
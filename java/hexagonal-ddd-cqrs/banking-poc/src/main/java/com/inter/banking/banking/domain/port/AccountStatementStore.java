@@ -0,0 +1,76 @@
+package com.inter.banking.banking.domain.port;
+
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Port para o extrato das contas (Secondary/Driven Port)
+ * Histórico append-only de débitos/créditos, gravado na transação do comando e ordenado pela sequência
+ * atribuída na gravação dentro de cada conta.
+ * Nas consultas, from é inclusivo, to é exclusivo e null significa sem limite
+ */
+public interface AccountStatementStore {
+  /** Grava os lançamentos na transação corrente; lançamento já gravado (mesma conta e transação) é ignorado */
+  void append(List<Entry> entries);
+
+  /** Até limit lançamentos do período, a partir do primeiro depois de after (null = do início) */
+  List<Entry> findPage(AccountId accountId, Instant from, Instant to, Position after, int limit);
+
+  /**
+   * Todos os lançamentos do período, lidos em blocos conforme o stream é consumido
+   * Memória constante, independente do número de lançamentos; nenhuma conexão fica presa entre os blocos
+   */
+  Stream<Entry> stream(AccountId accountId, Instant from, Instant to);
+
+  /**
+   * Se a transação tem lançamento na conta; como o lançamento é gravado na transação do comando,
+   * só as confirmadas têm (marca de commit para quem gravou a operação antes do commit)
+   */
+  boolean contains(AccountId accountId, String transactionId);
+
+  /** Soma dos débitos confirmados de cada conta no período, em uma consulta (recarga de limites diários) */
+  List<DebitTotal> debitTotals(Instant from, Instant to);
+
+  /**
+   * Lançamento do extrato
+   *
+   * @param sequence          atribuída pelo store na gravação (ignorada no append), crescente na ordem
+   *                          de gravação; é a ordem do extrato e a chave do cursor
+   * @param operation         DEBIT ou CREDIT
+   * @param balanceAfterCents saldo da conta logo após o lançamento
+   */
+  record Entry(
+      long sequence,
+      AccountId accountId,
+      String transactionId,
+      String operation,
+      long amountCents,
+      long balanceAfterCents,
+      Instant occurredAt) {
+
+    /** Lançamento de uma transação já gravada no journal */
+    public static Entry from(TransactionJournal.Entry entry) {
+      return new Entry(
+          0,
+          entry.accountId(),
+          entry.transactionId(),
+          entry.operation(),
+          entry.amountCents(),
+          entry.balanceAfterCents(),
+          entry.occurredAt());
+    }
+
+    public Position position() {
+      return new Position(sequence);
+    }
+  }
+
+  /** Débitos de uma conta num período */
+  record DebitTotal(AccountId accountId, long amountCents) {}
+
+  /** Posição de um lançamento na ordem do extrato (chave do cursor) */
+  record Position(long sequence) {}
+}
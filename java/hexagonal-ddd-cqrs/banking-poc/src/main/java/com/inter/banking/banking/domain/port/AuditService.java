@@ -1,8 +1,15 @@
 package com.inter.banking.banking.domain.port;
 
+import com.inter.banking.banking.domain.event.AccountCreatedEvent;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.event.AccountStatusChangedEvent;
+import com.inter.banking.banking.domain.event.FundsHoldChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
 import com.inter.banking.banking.domain.model.Account;
 import com.inter.banking.banking.domain.model.AccountId;
 
+import java.util.List;
+
 /**
  * Port para auditoria (Secondary/Driven Port)
  * Registra eventos importantes do sistema
@@ -11,4 +18,21 @@ public interface AuditService {
     void logAccountCreation(Account account);
     void logTransaction(AccountId accountId, String operation, String amount, String result);
     void logAccountStatusChange(AccountId accountId, String oldStatus, String newStatus);
+
+    /**
+     * Registra um lote de eventos; adapters com escrita em lote devem sobrescrever
+     */
+    default void logEvents(List<AccountEvent> events) {
+        for (AccountEvent event : events) {
+            switch (event) {
+                case AccountCreatedEvent created -> logAccountCreation(created.account());
+                case TransactionCompletedEvent transaction -> logTransaction(
+                        transaction.accountId(), transaction.operation(), transaction.amount().toString(), "SUCCESS");
+                case AccountStatusChangedEvent status -> logAccountStatusChange(
+                        status.accountId(), status.oldStatus(), status.newStatus());
+                case FundsHoldChangedEvent hold -> logTransaction(
+                        hold.accountId(), "HOLD_" + hold.status(), hold.amount().toString(), "SUCCESS");
+            }
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package com.inter.banking.banking.domain.port;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+
+/**
+ * Port para os limites de débito por conta (Secondary/Driven Port)
+ * Valor debitado no dia e quantidade de débitos por minuto, conforme a faixa (tier) da conta.
+ * Consultado antes de cada débito, sem acesso ao banco: a contagem vive no processo que atende a conta
+ */
+public interface DebitLimiter {
+  /**
+   * Conta o débito nas janelas da conta, ou o recusa com DebitLimitExceededException (limite diário)
+   * ou VelocityLimitExceededException (débitos por minuto)
+   * Se a transação corrente for desfeita, o débito sai da contagem
+   *
+   * @return o débito contado, para devolvê-lo quando a operação falhar sem desfazer a transação (item de lote)
+   */
+  Permit acquire(AccountId accountId, FixedPointMoney amount);
+
+  /** Troca a faixa da conta; faixa desconhecida lança IllegalArgumentException */
+  Limits assignTier(AccountId accountId, String tier);
+
+  /** Débito já contado nas janelas da conta */
+  interface Permit {
+    Permit NONE = () -> {};
+
+    /** Tira o débito da contagem; só a primeira chamada (ou o rollback, o que vier antes) desconta */
+    void release();
+  }
+
+  /**
+   * Limites de uma faixa
+   *
+   * @param dailyAmountCents  valor máximo debitado por dia (calendário no fuso configurado)
+   * @param debitsPerMinute   débitos por minuto, em janela deslizante
+   */
+  record Limits(String tier, long dailyAmountCents, int debitsPerMinute) {}
+}
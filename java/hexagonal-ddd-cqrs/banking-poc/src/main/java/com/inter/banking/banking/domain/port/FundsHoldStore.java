@@ -0,0 +1,45 @@
+package com.inter.banking.banking.domain.port;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.enums.HoldStatus;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Port para as reservas de saldo (Secondary/Driven Port)
+ * A soma das reservas ACTIVE de uma conta é o heldCents dela; cada reserva sai de ACTIVE uma única vez
+ * (captura, liberação ou expiração), e é essa transição condicional que decide quem vence uma corrida
+ * entre, por exemplo, a captura e a expiração da mesma reserva
+ */
+public interface FundsHoldStore {
+  /** Grava a reserva como ACTIVE */
+  void insert(Hold hold);
+
+  /** A reserva, se ainda estiver ativa */
+  Optional<Hold> findActive(UUID holdId);
+
+  /** As reservas ainda ativas entre as informadas (as demais são ignoradas) */
+  List<Hold> findActive(Collection<UUID> holdIds);
+
+  /**
+   * Tira as reservas de ACTIVE para o status informado
+   *
+   * @return por reserva, na mesma ordem, true se a transição foi desta chamada; false se ela já não estava ativa
+   */
+  boolean[] resolve(List<UUID> holdIds, HoldStatus status, Instant resolvedAt);
+
+  /** Devolve a ACTIVE reservas que a transação corrente tirou para o status informado e não conseguiu aplicar */
+  void reopen(List<UUID> holdIds, HoldStatus status);
+
+  /** Percorre as reservas ativas em blocos, sem carregar todas de uma vez (recarga da expiração no início) */
+  void forEachActive(Consumer<Hold> consumer);
+
+  /** Reserva ativa de uma conta */
+  record Hold(UUID holdId, AccountId accountId, long amountCents, String description, Instant createdAt,
+      Instant expiresAt) {}
+}
@@ -0,0 +1,13 @@
+package com.inter.banking.banking.domain.port;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Port para a expiração das reservas de saldo (Secondary/Driven Port)
+ * Só agenda: quando o prazo chega, a implementação entrega a reserva ao caso de uso de expiração,
+ * que a libera se ela ainda estiver ativa. Agendar uma reserva que não chegou a ser gravada é inofensivo
+ */
+public interface HoldExpiryScheduler {
+  void schedule(UUID holdId, Instant expiresAt);
+}
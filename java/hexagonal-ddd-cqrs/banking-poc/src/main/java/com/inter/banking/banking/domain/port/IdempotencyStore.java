@@ -0,0 +1,40 @@
+package com.inter.banking.banking.domain.port;
+
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Port para o registro de chaves de idempotência (Secondary/Driven Port)
+ * Guarda o resultado de cada comando com chave durante a janela de retenção
+ */
+public interface IdempotencyStore {
+  Optional<Entry> find(String key);
+
+  /**
+   * Registra o resultado na transação corrente
+   * Chave já registrada (ou gravada por um comando concorrente) lança DuplicateIdempotencyKeyException
+   */
+  void save(String key, Entry entry);
+
+  /**
+   * Resultado original do comando, com o que identifica a requisição (operação, conta, valor)
+   * para recusar a mesma chave reaproveitada num comando diferente
+   */
+  record Entry(
+      String operation,
+      AccountId accountId,
+      BigDecimal amount,
+      String transactionId,
+      BigDecimal newBalance,
+      Instant createdAt) {
+
+    public boolean sameRequest(String operation, AccountId accountId, BigDecimal amount) {
+      return this.operation.equals(operation)
+          && this.accountId.equals(accountId)
+          && this.amount.compareTo(amount) == 0;
+    }
+  }
+}
@@ -1,7 +1,15 @@
 package com.inter.banking.banking.domain.port;
 
+import com.inter.banking.banking.domain.event.AccountCreatedEvent;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.event.AccountStatusChangedEvent;
+import com.inter.banking.banking.domain.event.FundsHoldChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
 import com.inter.banking.banking.domain.model.Account;
 import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+
+import java.util.List;
 
 /**
  * Port para serviços de notificação (Secondary/Driven Port)
@@ -11,4 +19,25 @@ public interface NotificationService {
     void notifyAccountCreated(Account account);
     void notifyTransactionCompleted(AccountId accountId, String transactionType, String amount);
     void notifyAccountBlocked(Account account);
+
+    /**
+     * Notifica um lote de eventos; adapters com envio em lote devem sobrescrever
+     * Desbloqueio e reservas não geram notificação (a captura notifica pelo débito)
+     */
+    default void notifyEvents(List<AccountEvent> events) {
+        for (AccountEvent event : events) {
+            switch (event) {
+                case AccountCreatedEvent created -> notifyAccountCreated(created.account());
+                case TransactionCompletedEvent transaction -> notifyTransactionCompleted(
+                        transaction.accountId(), transaction.operation(), transaction.amount().toString());
+                case AccountStatusChangedEvent status -> {
+                    if (status.account().getStatus() == AccountStatus.BLOCKED) {
+                        notifyAccountBlocked(status.account());
+                    }
+                }
+                case FundsHoldChangedEvent hold -> {
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.inter.banking.banking.domain.port;
+
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Port para o journal de transações (Secondary/Driven Port)
+ * Log append-only dos débitos/créditos, gravado antes de confirmar a transação ao chamador
+ */
+public interface TransactionJournal {
+  /** Grava a operação e só retorna quando ela estiver durável */
+  void append(Entry entry);
+
+  /** Grava várias operações esperando a durabilidade uma única vez */
+  default void appendAll(List<Entry> entries) {
+    entries.forEach(this::append);
+  }
+
+  /**
+   * Entrega, em ordem de gravação, os registros de execuções anteriores ainda retidos com occurredAt a partir de since
+   * Journal que não guarda nada em disco não tem o que entregar
+   */
+  default void replay(Instant since, Consumer<Entry> consumer) {}
+
+  /** Se os registros de execuções anteriores desde since ainda estão retidos para o replay */
+  default boolean retains(Instant since) {
+    return false;
+  }
+
+  /**
+   * Operação de débito/crédito já aplicada na conta
+   *
+   * @param operation        DEBIT ou CREDIT
+   * @param balanceAfterCents saldo da conta logo após a operação
+   * @param version          versão da conta que contém a operação (ordena operações da mesma conta)
+   */
+  record Entry(
+      AccountId accountId,
+      String transactionId,
+      String operation,
+      long amountCents,
+      long balanceAfterCents,
+      long version,
+      Instant occurredAt) {}
+}
@@ -0,0 +1,16 @@
+package com.inter.banking.banking.infrastructure.adapter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração da geração de números de conta (banking.account-number.*)
+ *
+ * @param strategy  block (blocos reservados no banco, sem checagem de colisão) ou random
+ * @param blockSize quantidade de números reservados por ida ao banco; números de um bloco não usado
+ *                  até o desligamento são perdidos (a sequência fica com lacunas, nunca com repetição)
+ */
+@ConfigurationProperties(prefix = "banking.account-number")
+public record AccountNumberProperties(
+    @DefaultValue("block") String strategy,
+    @DefaultValue("1000") int blockSize) {}
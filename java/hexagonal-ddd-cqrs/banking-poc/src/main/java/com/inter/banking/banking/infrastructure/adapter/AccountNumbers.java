@@ -0,0 +1,30 @@
+package com.inter.banking.banking.infrastructure.adapter;
+
+/**
+ * Formato dos números de conta: 00000000-D (D = dígito verificador)
+ */
+final class AccountNumbers {
+  static final long MAX_NUMBER = 99_999_999;
+
+  private AccountNumbers() {}
+
+  static String format(long number) {
+    return String.format("%08d-%d", number, checkDigit(number));
+  }
+
+  // Dígito verificador módulo 10 (Luhn)
+  static int checkDigit(long number) {
+    int sum = 0;
+    boolean doubleDigit = true;
+    for (long n = number; n > 0; n /= 10) {
+      int digit = (int) (n % 10);
+      if (doubleDigit) {
+        digit *= 2;
+        if (digit > 9) digit -= 9;
+      }
+      sum += digit;
+      doubleDigit = !doubleDigit;
+    }
+    return (10 - sum % 10) % 10;
+  }
+}
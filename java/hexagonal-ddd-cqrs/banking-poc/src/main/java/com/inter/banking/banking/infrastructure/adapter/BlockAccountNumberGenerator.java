@@ -0,0 +1,95 @@
+package com.inter.banking.banking.infrastructure.adapter;
+
+import com.inter.banking.banking.domain.port.AccountNumberGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gera números de conta sequenciais a partir de blocos reservados no banco
+ * Cada reserva avança account_number_allocations em blockSize numa transação própria, então um
+ * número nunca é entregue duas vezes (nem entre instâncias, nem após rollback de quem o usou).
+ * Dentro do bloco, os números saem de um AtomicLong sem lock; só a troca de bloco é serializada
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(AccountNumberProperties.class)
+@ConditionalOnProperty(prefix = "banking.account-number", name = "strategy", havingValue = "block", matchIfMissing = true)
+public class BlockAccountNumberGenerator implements AccountNumberGenerator {
+  private static final String RESERVE_SQL =
+      "UPDATE account_number_allocations SET next_value = next_value + ? WHERE name = 'account'";
+  private static final String SELECT_NEXT_SQL =
+      "SELECT next_value FROM account_number_allocations WHERE name = 'account'";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate reserveTransaction;
+  private final int blockSize;
+  private final AtomicReference<Block> current = new AtomicReference<>(Block.EMPTY);
+  private final ReentrantLock refillLock = new ReentrantLock();
+
+  /** Faixa [next, end) reservada; next avança sem lock */
+  private record Block(AtomicLong next, long end) {
+    static final Block EMPTY = new Block(new AtomicLong(), 0);
+  }
+
+  public BlockAccountNumberGenerator(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      AccountNumberProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.reserveTransaction = new TransactionTemplate(transactionManager);
+    this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.blockSize = properties.blockSize();
+  }
+
+  @Override
+  public String generateAccountNumber() {
+    while (true) {
+      Block block = current.get();
+      long number = block.next().getAndIncrement();
+      if (number < block.end()) {
+        return AccountNumbers.format(number);
+      }
+      refill(block);
+    }
+  }
+
+  @Override
+  public boolean guaranteesUniqueness() {
+    return true;
+  }
+
+  private void refill(Block exhausted) {
+    refillLock.lock();
+    try {
+      // Outra thread pode ter trocado o bloco enquanto esta esperava
+      if (current.get() == exhausted) {
+        current.set(reserve());
+      }
+    } finally {
+      refillLock.unlock();
+    }
+  }
+
+  private Block reserve() {
+    Long end = reserveTransaction.execute(status -> {
+      jdbcTemplate.update(RESERVE_SQL, blockSize);
+      return jdbcTemplate.queryForObject(SELECT_NEXT_SQL, Long.class);
+    });
+    long start = end - blockSize;
+    if (start > AccountNumbers.MAX_NUMBER) {
+      throw new IllegalStateException("Account number space exhausted");
+    }
+    log.debug("Reservado bloco de números de conta [{}, {})", start, end);
+    return new Block(new AtomicLong(start), Math.min(end, AccountNumbers.MAX_NUMBER + 1));
+  }
+}
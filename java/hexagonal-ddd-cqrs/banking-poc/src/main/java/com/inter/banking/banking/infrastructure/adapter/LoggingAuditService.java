@@ -0,0 +1,30 @@
+package com.inter.banking.banking.infrastructure.adapter;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AuditService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter de auditoria que registra os eventos no log da aplicação
+ */
+@Slf4j
+@Component
+public class LoggingAuditService implements AuditService {
+
+  @Override
+  public void logAccountCreation(Account account) {
+    log.info("[AUDIT] Conta criada: {} ({})", account.getId(), account.getAccountNumber());
+  }
+
+  @Override
+  public void logTransaction(AccountId accountId, String operation, String amount, String result) {
+    log.info("[AUDIT] {} de {} na conta {}: {}", operation, amount, accountId, result);
+  }
+
+  @Override
+  public void logAccountStatusChange(AccountId accountId, String oldStatus, String newStatus) {
+    log.info("[AUDIT] Conta {} mudou de {} para {}", accountId, oldStatus, newStatus);
+  }
+}
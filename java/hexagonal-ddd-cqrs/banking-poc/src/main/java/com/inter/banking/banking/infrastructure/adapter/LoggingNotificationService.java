@@ -0,0 +1,30 @@
+package com.inter.banking.banking.infrastructure.adapter;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter de notificação que apenas registra no log (sem envio real)
+ */
+@Slf4j
+@Component
+public class LoggingNotificationService implements NotificationService {
+
+  @Override
+  public void notifyAccountCreated(Account account) {
+    log.info("[NOTIFY] Conta {} criada para o cliente {}", account.getAccountNumber(), account.getCustomerId());
+  }
+
+  @Override
+  public void notifyTransactionCompleted(AccountId accountId, String transactionType, String amount) {
+    log.info("[NOTIFY] {} de {} concluído na conta {}", transactionType, amount, accountId);
+  }
+
+  @Override
+  public void notifyAccountBlocked(Account account) {
+    log.info("[NOTIFY] Conta {} bloqueada", account.getAccountNumber());
+  }
+}
@@ -0,0 +1,22 @@
+package com.inter.banking.banking.infrastructure.adapter;
+
+import com.inter.banking.banking.domain.port.AccountNumberGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Gera números de conta aleatórios no formato 00000000-D (D = dígito verificador)
+ * Não garante unicidade, o serviço verifica colisões no repositório
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.account-number", name = "strategy", havingValue = "random")
+public class RandomAccountNumberGenerator implements AccountNumberGenerator {
+
+  @Override
+  public String generateAccountNumber() {
+    int number = ThreadLocalRandom.current().nextInt(1, (int) AccountNumbers.MAX_NUMBER + 1);
+    return AccountNumbers.format(number);
+  }
+}
@@ -0,0 +1,66 @@
+package com.inter.banking.banking.infrastructure.admission;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Vagas de execução de um tipo de requisição, com uma fila de espera curta e limitada
+ * Quem não consegue vaga nem lugar na fila é recusado na hora: a fila não cresce com a rajada
+ * e a memória presa em requisições esperando fica limitada a permits + maxWaiting
+ */
+final class AdmissionBulkhead {
+  private final Semaphore permits;
+  private final int totalPermits;
+  private final int maxWaiting;
+  private final long maxWaitNanos;
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final LongAdder admitted = new LongAdder();
+  private final LongAdder shed = new LongAdder();
+
+  AdmissionBulkhead(int permits, int maxWaiting, Duration maxWait) {
+    if (permits < 1 || maxWaiting < 0) {
+      throw new IllegalArgumentException("Admission permits must be positive and max waiting not negative");
+    }
+    this.permits = new Semaphore(permits);
+    this.totalPermits = permits;
+    this.maxWaiting = maxWaiting;
+    this.maxWaitNanos = maxWait.toNanos();
+  }
+
+  /** @return true se a requisição pode executar; nesse caso o chamador deve chamar release() no fim */
+  boolean tryAcquire() {
+    if (permits.tryAcquire()) {
+      admitted.increment();
+      return true;
+    }
+    if (waiting.incrementAndGet() > maxWaiting) {
+      waiting.decrementAndGet();
+      shed.increment();
+      return false;
+    }
+    try {
+      if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+        admitted.increment();
+        return true;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      waiting.decrementAndGet();
+    }
+    shed.increment();
+    return false;
+  }
+
+  void release() {
+    permits.release();
+  }
+
+  AdmissionStats stats() {
+    return new AdmissionStats(
+        totalPermits - permits.availablePermits(), waiting.get(), admitted.sum(), shed.sum());
+  }
+}
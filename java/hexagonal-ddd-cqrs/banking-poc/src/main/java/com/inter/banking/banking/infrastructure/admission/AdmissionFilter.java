@@ -0,0 +1,159 @@
+package com.inter.banking.banking.infrastructure.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Controle de admissão na entrada da API: vagas separadas para comandos e consultas
+ * Sem ele, uma rajada acima da capacidade vira fila implícita — threads do Tomcat ou virtual threads
+ * esperando conexão do Hikari —, que cresce com a rajada e estoura em 500 depois do connection-timeout.
+ * Com ele, o excedente recebe 503 + Retry-After em poucos milissegundos e a latência de quem entrou
+ * fica limitada pelas vagas, não pelo tamanho da rajada (backpressure até o cliente).
+ * Respostas em stream (NDJSON) seguram a vaga até o fim da escrita, não só até o controller retornar
+ */
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(prefix = "banking.admission", name = "enabled", havingValue = "true")
+public class AdmissionFilter extends OncePerRequestFilter implements MeterBinder {
+  private static final String API_PREFIX = "/api/";
+  // Operação do cluster não disputa vaga com o tráfego de clientes
+  private static final String CLUSTER_PREFIX = "/api/cluster";
+
+  private final AdmissionBulkhead commands;
+  private final AdmissionBulkhead queries;
+  private final ObjectMapper objectMapper;
+  private final String retryAfterSeconds;
+
+  public AdmissionFilter(AdmissionProperties properties, ObjectMapper objectMapper) {
+    this.commands = new AdmissionBulkhead(properties.commandPermits(), properties.maxWaiting(), properties.maxWait());
+    this.queries = new AdmissionBulkhead(properties.queryPermits(), properties.maxWaiting(), properties.maxWait());
+    this.objectMapper = objectMapper;
+    this.retryAfterSeconds = String.valueOf(Math.max(1, properties.retryAfter().toSeconds()));
+  }
+
+  public AdmissionStats commandStats() {
+    return commands.stats();
+  }
+
+  public AdmissionStats queryStats() {
+    return queries.stats();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !path.startsWith(API_PREFIX) || path.startsWith(CLUSTER_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    AdmissionBulkhead bulkhead = HttpMethod.GET.matches(request.getMethod()) ? queries : commands;
+    if (!bulkhead.tryAcquire()) {
+      reject(response);
+      return;
+    }
+
+    Release release = new Release(bulkhead);
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(release);
+      } else {
+        release.run();
+      }
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    bind(registry, "command", commands);
+    bind(registry, "query", queries);
+  }
+
+  private void reject(HttpServletResponse response) throws IOException {
+    ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+        HttpStatus.SERVICE_UNAVAILABLE, "Server is at capacity, retry later");
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), problem);
+  }
+
+  private static void bind(MeterRegistry registry, String type, AdmissionBulkhead bulkhead) {
+    Gauge.builder("banking.admission.in-flight", bulkhead, b -> b.stats().inFlight())
+        .tag("type", type)
+        .register(registry);
+    Gauge.builder("banking.admission.waiting", bulkhead, b -> b.stats().waiting())
+        .tag("type", type)
+        .register(registry);
+    FunctionCounter.builder("banking.admission.requests", bulkhead, b -> b.stats().admitted())
+        .tag("type", type)
+        .tag("result", "admitted")
+        .register(registry);
+    FunctionCounter.builder("banking.admission.requests", bulkhead, b -> b.stats().shed())
+        .tag("type", type)
+        .tag("result", "shed")
+        .register(registry);
+  }
+
+  /** Devolve a vaga uma única vez, seja no retorno síncrono ou no fim da resposta assíncrona */
+  private static final class Release implements AsyncListener, Runnable {
+    private final AdmissionBulkhead bulkhead;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    Release(AdmissionBulkhead bulkhead) {
+      this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public void run() {
+      if (released.compareAndSet(false, true)) {
+        bulkhead.release();
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      run();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      run();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      run();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // Reinício do processamento assíncrono: a vaga continua com a mesma requisição
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
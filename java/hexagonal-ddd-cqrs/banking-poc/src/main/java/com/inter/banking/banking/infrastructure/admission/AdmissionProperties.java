@@ -0,0 +1,25 @@
+package com.inter.banking.banking.infrastructure.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Controle de admissão da API (banking.admission.*)
+ *
+ * @param enabled        desligado, toda requisição entra direto (fila implícita no pool do banco)
+ * @param commandPermits requisições de escrita (POST/PUT/DELETE) em execução ao mesmo tempo
+ * @param queryPermits   consultas (GET) em execução ao mesmo tempo
+ * @param maxWaiting     requisições esperando vaga, por tipo; acima disso a resposta é 503 na hora
+ * @param maxWait        espera máxima por uma vaga antes do 503
+ * @param retryAfter     sugestão de espera devolvida no Retry-After das recusas
+ */
+@ConfigurationProperties(prefix = "banking.admission")
+public record AdmissionProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("20") int commandPermits,
+    @DefaultValue("40") int queryPermits,
+    @DefaultValue("200") int maxWaiting,
+    @DefaultValue("50ms") Duration maxWait,
+    @DefaultValue("1s") Duration retryAfter) {}
@@ -0,0 +1,15 @@
+package com.inter.banking.banking.infrastructure.admission;
+
+/**
+ * Estado de um tipo de requisição (comandos ou consultas) no controle de admissão
+ *
+ * @param inFlight em execução agora
+ * @param waiting  esperando vaga agora
+ * @param admitted admitidas desde a subida
+ * @param shed     recusadas com 503 desde a subida (fila cheia ou espera esgotada)
+ */
+public record AdmissionStats(
+    int inFlight,
+    int waiting,
+    long admitted,
+    long shed) {}
@@ -0,0 +1,45 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+/**
+ * Administração da visão deste nó sobre o cluster (entrada e saída de nós)
+ * Cada alteração precisa ser aplicada em todos os nós
+ */
+@RestController
+@RequestMapping("/api/cluster")
+@ConditionalOnProperty(prefix = "banking.cluster", name = "enabled", havingValue = "true")
+public class ClusterController {
+  private final ClusterMembership membership;
+
+  public ClusterController(ClusterMembership membership) {
+    this.membership = membership;
+  }
+
+  /** Corpo da entrada de um nó */
+  public record NodeRequest(URI url) {}
+
+  @GetMapping
+  public ClusterStatus status() {
+    return membership.status();
+  }
+
+  @PutMapping("/nodes/{nodeId}")
+  public ClusterStatus join(@PathVariable String nodeId, @RequestBody NodeRequest request) {
+    return membership.join(nodeId, request.url());
+  }
+
+  @DeleteMapping("/nodes/{nodeId}")
+  public ClusterStatus leave(@PathVariable String nodeId) {
+    return membership.leave(nodeId);
+  }
+}
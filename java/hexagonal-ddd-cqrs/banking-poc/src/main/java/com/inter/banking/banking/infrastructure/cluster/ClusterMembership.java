@@ -0,0 +1,129 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import com.inter.banking.banking.application.query.cache.AccountNearCache;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.infrastructure.ledger.LedgerEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Membros do cluster e o anel de hash que define o dono de cada conta
+ * Cada instância mantém a própria visão, alterada por join/leave (ClusterController); as instâncias
+ * precisam receber a mesma alteração para concordar sobre os donos. Enquanto discordam, uma requisição
+ * encaminhada é executada por quem a recebe (sem novo encaminhamento) e o optimistic locking do banco
+ * continua valendo; no modo ledger cada nó confia no próprio estado, então as visões devem convergir
+ * antes de voltar a carga.
+ * Ao perder contas num rebalanceamento, o nó solta o estado local delas (ledger e near cache) para que
+ * o novo dono leia do banco
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ClusterProperties.class)
+@ConditionalOnProperty(prefix = "banking.cluster", name = "enabled", havingValue = "true")
+public class ClusterMembership {
+  private static final int MOVED_SAMPLE = 10_000;
+
+  private final ClusterProperties properties;
+  private final ObjectProvider<LedgerEngine> ledger;
+  private final AccountNearCache nearCache;
+  private volatile View view;
+
+  /** Anel e endereços publicados juntos, para nunca haver dono sem endereço */
+  private record View(HashRing ring, Map<String, URI> nodes) {}
+
+  public ClusterMembership(
+      ClusterProperties properties,
+      ObjectProvider<LedgerEngine> ledger,
+      AccountNearCache nearCache) {
+    this.properties = properties;
+    this.ledger = ledger;
+    this.nearCache = nearCache;
+    this.view = new View(ring(List.copyOf(properties.nodes().keySet())), properties.nodes());
+    log.info("Nó {} no cluster com {}", properties.nodeId(), view.ring().nodeIds());
+  }
+
+  public String nodeId() {
+    return properties.nodeId();
+  }
+
+  public boolean owns(AccountId accountId) {
+    return properties.nodeId().equals(view.ring().ownerOf(accountId));
+  }
+
+  public String ownerOf(AccountId accountId) {
+    return view.ring().ownerOf(accountId);
+  }
+
+  public Optional<URI> addressOf(String nodeId) {
+    return Optional.ofNullable(view.nodes().get(nodeId));
+  }
+
+  public ClusterStatus status() {
+    View current = view;
+    return new ClusterStatus(properties.nodeId(), current.nodes(), current.ring().virtualNodes(), current.ring().shares());
+  }
+
+  /** Nó entra (ou muda de endereço); as contas que passam para ele são soltas aqui */
+  public synchronized ClusterStatus join(String nodeId, URI address) {
+    Map<String, URI> nodes = new LinkedHashMap<>(view.nodes());
+    nodes.put(nodeId, address);
+    rebalance(new View(ring(List.copyOf(nodes.keySet())), Map.copyOf(nodes)));
+    return status();
+  }
+
+  /** Nó sai; as contas dele se espalham pelos demais */
+  public synchronized ClusterStatus leave(String nodeId) {
+    if (properties.nodeId().equals(nodeId)) {
+      throw new IllegalArgumentException("Node " + nodeId + " cannot remove itself from its own view");
+    }
+    Map<String, URI> nodes = new LinkedHashMap<>(view.nodes());
+    nodes.remove(nodeId);
+    rebalance(new View(ring(List.copyOf(nodes.keySet())), Map.copyOf(nodes)));
+    return status();
+  }
+
+  // O novo anel vale antes de soltar o estado: comandos novos das contas movidas já são encaminhados
+  private void rebalance(View next) {
+    HashRing previous = view.ring();
+    view = next;
+    Predicate<AccountId> notOwned = accountId -> !owns(accountId);
+    int released = ledger.stream()
+        .mapToInt(engine -> engine.release(notOwned, properties.releaseTimeout()))
+        .sum();
+    nearCache.evictIf(notOwned);
+    log.info("Cluster rebalanceado para {}: ~{}% das contas mudaram de dono, {} contas soltas do ledger",
+        next.ring().nodeIds(), Math.round(movedFraction(previous, next.ring()) * 100), released);
+  }
+
+  private HashRing ring(List<String> nodeIds) {
+    List<String> members = new ArrayList<>(nodeIds);
+    if (!members.contains(properties.nodeId())) {
+      members.add(properties.nodeId());
+    }
+    return HashRing.of(members, properties.virtualNodes());
+  }
+
+  // Estimativa por amostragem: fração de ids aleatórios cujo dono mudou
+  private static double movedFraction(HashRing before, HashRing after) {
+    int moved = 0;
+    for (int i = 0; i < MOVED_SAMPLE; i++) {
+      AccountId sample = new AccountId(UUID.randomUUID());
+      if (!before.ownerOf(sample).equals(after.ownerOf(sample))) {
+        moved++;
+      }
+    }
+    return (double) moved / MOVED_SAMPLE;
+  }
+}
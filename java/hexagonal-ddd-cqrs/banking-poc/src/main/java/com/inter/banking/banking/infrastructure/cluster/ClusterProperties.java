@@ -0,0 +1,34 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuração do roteamento entre nós (banking.cluster.*)
+ *
+ * @param enabled        desligado, toda instância executa todo comando localmente
+ * @param nodeId         id desta instância no anel
+ * @param nodes          membros iniciais (id → URL base); esta instância entra mesmo sem estar na lista
+ * @param virtualNodes   pontos de cada nó no anel; mais pontos, divisão mais uniforme
+ * @param connectTimeout conexão com o nó dono ao encaminhar
+ * @param readTimeout    resposta do nó dono ao encaminhar
+ * @param releaseTimeout espera pela gravação das contas soltas do ledger num rebalanceamento
+ */
+@ConfigurationProperties(prefix = "banking.cluster")
+public record ClusterProperties(
+    boolean enabled,
+    @DefaultValue("node-1") String nodeId,
+    Map<String, URI> nodes,
+    @DefaultValue("128") int virtualNodes,
+    @DefaultValue("1s") Duration connectTimeout,
+    @DefaultValue("5s") Duration readTimeout,
+    @DefaultValue("30s") Duration releaseTimeout) {
+
+  public ClusterProperties {
+    nodes = nodes == null ? Map.of() : Map.copyOf(nodes);
+  }
+}
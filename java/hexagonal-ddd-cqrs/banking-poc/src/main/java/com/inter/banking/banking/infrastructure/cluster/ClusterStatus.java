@@ -0,0 +1,15 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Visão de um nó sobre o cluster
+ *
+ * @param shares fração do espaço de hash de cada nó
+ */
+public record ClusterStatus(
+    String nodeId,
+    Map<String, URI> nodes,
+    int virtualNodes,
+    Map<String, Double> shares) {}
@@ -0,0 +1,17 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import java.util.function.Supplier;
+
+/**
+ * Decide onde roda uma requisição de uma conta: aqui, ou no nó dono da conta
+ */
+public interface CommandRouter {
+
+  /**
+   * Executa local quando esta instância é dona da conta; senão repete a requisição HTTP atual
+   * (método, caminho, query e corpo) no nó dono e devolve a resposta dele
+   *
+   * @param body corpo já lido da requisição, nulo quando não há
+   */
+  <T> T route(String accountId, Object body, Class<T> responseType, Supplier<T> local);
+}
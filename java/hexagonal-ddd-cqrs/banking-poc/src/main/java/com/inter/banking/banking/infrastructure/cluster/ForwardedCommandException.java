@@ -0,0 +1,19 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import org.springframework.http.ProblemDetail;
+
+/**
+ * Erro devolvido pelo nó dono da conta; carrega a resposta original para ser repassada ao cliente
+ */
+public class ForwardedCommandException extends RuntimeException {
+  private final ProblemDetail problem;
+
+  public ForwardedCommandException(ProblemDetail problem) {
+    super(problem.getDetail());
+    this.problem = problem;
+  }
+
+  public ProblemDetail getProblem() {
+    return problem;
+  }
+}
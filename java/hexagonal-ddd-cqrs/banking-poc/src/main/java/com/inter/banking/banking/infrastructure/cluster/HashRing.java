@@ -0,0 +1,117 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Anel de hash consistente: cada nó ocupa virtualNodes pontos do anel e a conta pertence ao
+ * primeiro ponto no sentido horário a partir do hash do AccountId
+ * Entrar ou sair um nó move só as contas dos pontos dele (~1/N), as demais continuam com o mesmo dono.
+ * Imutável: mudança de membros gera outro anel
+ */
+public final class HashRing {
+  private static final double RING_SIZE = 0x1p64;
+
+  private final List<String> nodeIds;
+  private final int virtualNodes;
+  private final long[] points;
+  private final int[] owners;
+
+  private HashRing(List<String> nodeIds, int virtualNodes) {
+    this.nodeIds = nodeIds;
+    this.virtualNodes = virtualNodes;
+    TreeMap<Long, Integer> ring = new TreeMap<>();
+    for (int node = 0; node < nodeIds.size(); node++) {
+      for (int replica = 0; replica < virtualNodes; replica++) {
+        // Colisão entre pontos é improvável; se ocorrer, o nó de menor índice fica com o ponto
+        ring.putIfAbsent(hash(nodeIds.get(node) + "#" + replica), node);
+      }
+    }
+    this.points = new long[ring.size()];
+    this.owners = new int[ring.size()];
+    int i = 0;
+    for (Map.Entry<Long, Integer> point : ring.entrySet()) {
+      points[i] = point.getKey();
+      owners[i++] = point.getValue();
+    }
+  }
+
+  /** Nós ordenados pelo id, para que todos os nós montem o mesmo anel com os mesmos membros */
+  public static HashRing of(Collection<String> nodeIds, int virtualNodes) {
+    if (nodeIds.isEmpty()) {
+      throw new IllegalArgumentException("Hash ring needs at least one node");
+    }
+    if (virtualNodes < 1) {
+      throw new IllegalArgumentException("Virtual nodes must be positive");
+    }
+    return new HashRing(nodeIds.stream().sorted().distinct().toList(), virtualNodes);
+  }
+
+  public String ownerOf(AccountId accountId) {
+    int index = Arrays.binarySearch(points, hash(accountId.getValue()));
+    if (index < 0) {
+      index = -index - 1;
+    }
+    return nodeIds.get(owners[index == points.length ? 0 : index]);
+  }
+
+  public List<String> nodeIds() {
+    return nodeIds;
+  }
+
+  public int virtualNodes() {
+    return virtualNodes;
+  }
+
+  public boolean contains(String nodeId) {
+    return nodeIds.contains(nodeId);
+  }
+
+  /** Fração do espaço de hash de cada nó */
+  public Map<String, Double> shares() {
+    double[] arcs = new double[nodeIds.size()];
+    if (points.length == 1) {
+      arcs[owners[0]] = RING_SIZE;
+    }
+    for (int i = 0; points.length > 1 && i < points.length; i++) {
+      // Arco (ponto anterior, ponto atual] pertence ao dono do ponto atual; o primeiro dá a volta no anel
+      long arc = points[i] - points[i == 0 ? points.length - 1 : i - 1];
+      arcs[owners[i]] += arc >= 0 ? arc : arc + RING_SIZE;
+    }
+    Map<String, Double> shares = new TreeMap<>();
+    for (int node = 0; node < arcs.length; node++) {
+      shares.put(nodeIds.get(node), arcs[node] / RING_SIZE);
+    }
+    return shares;
+  }
+
+  static long hash(UUID value) {
+    return mix(value.getMostSignificantBits() ^ mix(value.getLeastSignificantBits()));
+  }
+
+  // FNV-1a seguido do finalizador do MurmurHash3 para espalhar os bits
+  static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
@@ -0,0 +1,19 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Instância única (banking.cluster.enabled=false): tudo roda localmente
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.cluster", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class LocalCommandRouter implements CommandRouter {
+
+  @Override
+  public <T> T route(String accountId, Object body, Class<T> responseType, Supplier<T> local) {
+    return local.get();
+  }
+}
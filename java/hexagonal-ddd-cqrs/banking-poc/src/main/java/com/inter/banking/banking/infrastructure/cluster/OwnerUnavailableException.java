@@ -0,0 +1,11 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+/**
+ * Nó dono da conta não respondeu; o comando pode ter sido aplicado ou não
+ */
+public class OwnerUnavailableException extends RuntimeException {
+
+  public OwnerUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
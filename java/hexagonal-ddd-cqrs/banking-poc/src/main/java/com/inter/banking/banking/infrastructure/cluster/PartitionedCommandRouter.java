@@ -0,0 +1,141 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Roteamento por dono da conta (banking.cluster.enabled=true)
+ * O nó dono executa e serializa localmente os comandos das suas contas, mantendo-as quentes no
+ * ledger/near cache; os demais só repassam a requisição. Encaminhamento é de um salto só: a
+ * requisição encaminhada carrega FORWARDED_BY e é executada por quem a recebe, mesmo que a visão
+ * dele do anel aponte outro dono
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "banking.cluster", name = "enabled", havingValue = "true")
+public class PartitionedCommandRouter implements CommandRouter, MeterBinder {
+  public static final String FORWARDED_BY = "X-Banking-Forwarded-By";
+  // Headers do cliente que fazem parte do comando e precisam chegar ao dono
+  private static final List<String> FORWARDED_HEADERS = List.of("Idempotency-Key", HttpHeaders.ACCEPT);
+
+  private final ClusterMembership membership;
+  private final RestClient.Builder restClientBuilder;
+  private final Map<URI, RestClient> clients = new ConcurrentHashMap<>();
+
+  private final LongAdder local = new LongAdder();
+  private final LongAdder forwarded = new LongAdder();
+  private final LongAdder received = new LongAdder();
+
+  public PartitionedCommandRouter(
+      ClusterMembership membership,
+      RestClient.Builder restClientBuilder,
+      ClusterProperties properties) {
+    this.membership = membership;
+    this.restClientBuilder = restClientBuilder.requestFactory(ClientHttpRequestFactoryBuilder.detect().build(
+        ClientHttpRequestFactorySettings.defaults()
+            .withConnectTimeout(properties.connectTimeout())
+            .withReadTimeout(properties.readTimeout())));
+  }
+
+  @Override
+  public <T> T route(String accountId, Object body, Class<T> responseType, Supplier<T> local) {
+    HttpServletRequest request = currentRequest();
+    if (request.getHeader(FORWARDED_BY) != null) {
+      received.increment();
+      return local.get();
+    }
+    String owner = membership.ownerOf(AccountId.from(accountId));
+    if (owner.equals(membership.nodeId())) {
+      this.local.increment();
+      return local.get();
+    }
+    URI address = membership.addressOf(owner)
+        .orElseThrow(() -> new IllegalStateException("No address for cluster node " + owner));
+    forwarded.increment();
+    return forward(owner, address, request, body, responseType);
+  }
+
+  /** Requisições executadas aqui como dono, encaminhadas a outro nó e recebidas de outro nó */
+  public RoutingStats stats() {
+    return new RoutingStats(local.sum(), forwarded.sum(), received.sum());
+  }
+
+  public record RoutingStats(long local, long forwarded, long received) {}
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("banking.cluster.routes", local, LongAdder::sum).tag("route", "local").register(registry);
+    FunctionCounter.builder("banking.cluster.routes", forwarded, LongAdder::sum).tag("route", "forwarded").register(registry);
+    FunctionCounter.builder("banking.cluster.routes", received, LongAdder::sum).tag("route", "received").register(registry);
+  }
+
+  private <T> T forward(String owner, URI address, HttpServletRequest request, Object body, Class<T> responseType) {
+    // Pelo padrão do endpoint e não pelo caminho concreto: a tag uri das métricas do cliente fica com uma série por endpoint
+    String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    @SuppressWarnings("unchecked")
+    Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    String path = pattern + (request.getQueryString() == null ? "" : "?" + request.getQueryString());
+    RestClient.RequestBodySpec spec = clients.computeIfAbsent(address, this::client)
+        .method(HttpMethod.valueOf(request.getMethod()))
+        .uri(path, variables)
+        .headers(headers -> FORWARDED_HEADERS.forEach(name -> {
+          String value = request.getHeader(name);
+          if (value != null) {
+            headers.set(name, value);
+          }
+        }));
+    if (body != null) {
+      spec.contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+    try {
+      return spec.retrieve().body(responseType);
+    } catch (RestClientResponseException e) {
+      // Erro de negócio do dono: repassado com o mesmo status e corpo
+      ProblemDetail problem = e.getResponseBodyAs(ProblemDetail.class);
+      throw new ForwardedCommandException(
+          problem != null ? problem : ProblemDetail.forStatusAndDetail(e.getStatusCode(), e.getMessage()));
+    } catch (ResourceAccessException e) {
+      log.warn("Nó {} ({}) não respondeu ao encaminhar {} {}", owner, address, request.getMethod(), request.getRequestURI());
+      throw new OwnerUnavailableException("Owner node " + owner + " unavailable", e);
+    }
+  }
+
+  private RestClient client(URI address) {
+    return restClientBuilder.clone()
+        .baseUrl(address.toString())
+        .defaultHeader(FORWARDED_BY, membership.nodeId())
+        .build();
+  }
+
+  private static HttpServletRequest currentRequest() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+      return attributes.getRequest();
+    }
+    throw new IllegalStateException("Command routing requires an HTTP request in progress");
+  }
+}
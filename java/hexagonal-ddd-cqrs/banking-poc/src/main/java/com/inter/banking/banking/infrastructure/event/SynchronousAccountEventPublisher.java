@@ -0,0 +1,47 @@
+package com.inter.banking.banking.infrastructure.event;
+
+import com.inter.banking.banking.application.event.AccountEventHandler;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.port.AccountEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Entrega cada evento na thread de quem publicou, logo após o commit
+ * (na hora, se não houver transação). Rollback descarta o evento, então a projeção
+ * nunca enxerga estado não confirmado. Usado com banking.outbox.enabled=false
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.outbox", name = "enabled", havingValue = "false")
+public class SynchronousAccountEventPublisher implements AccountEventPublisher {
+  private final List<AccountEventHandler> handlers;
+
+  public SynchronousAccountEventPublisher(List<AccountEventHandler> handlers) {
+    this.handlers = handlers;
+  }
+
+  @Override
+  public void publish(AccountEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      deliver(event);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        deliver(event);
+      }
+    });
+  }
+
+  private void deliver(AccountEvent event) {
+    List<AccountEvent> events = List.of(event);
+    for (AccountEventHandler handler : handlers) {
+      handler.handle(events);
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package com.inter.banking.banking.infrastructure.hold;
+
+import java.util.Arrays;
+
+/**
+ * Roda de tempo hierárquica (no formato dos timers do kernel Linux) para chaves de 128 bits
+ * Nível 0 com 256 posições de um tick; cada nível acima tem 64 posições de 64x a largura de uma posição
+ * do nível abaixo, então 4 níveis cobrem 2^26 ticks (~77 dias com tick de 100 ms). Prazo além disso fica
+ * na última posição e é reposicionado quando ela desce. Agendar é O(1); avançar um tick esvazia uma
+ * posição do nível 0 e, a cada 256 ticks, redistribui uma posição do nível de cima.
+ * Cada posição é um long[] com triplas (metade alta, metade baixa, tick do prazo), sem objeto por
+ * entrada: milhões de entradas são algumas centenas de arrays para o GC.
+ * As entradas vencidas vão para uma fila, também primitiva, que o dono drena no ritmo que quiser.
+ * Não é thread-safe: uma única thread agenda, avança e drena
+ */
+public final class HierarchicalTimingWheel {
+  private static final int ROOT_BITS = 8;
+  private static final int LEVEL_BITS = 6;
+  private static final int LEVELS = 4;
+  private static final long MAX_DELAY_TICKS = (1L << (ROOT_BITS + LEVEL_BITS * (LEVELS - 1))) - 1;
+  private static final int ENTRY = 3;
+  private static final int INITIAL_BUCKET = 4 * ENTRY;
+  // Posição que cresceu além disso volta ao tamanho inicial depois de esvaziada
+  private static final int RETAINED_BUCKET = 1024 * ENTRY;
+  private static final int INITIAL_DUE = 2 * 1024;
+
+  private final long tickMillis;
+  private final long[][][] buckets = new long[LEVELS][][];
+  private final int[][] sizes = new int[LEVELS][];
+  private long currentTick;
+  private long scheduled;
+
+  // Vencidas, em pares (alta, baixa), numa fila circular que dobra quando enche e volta ao tamanho
+  // inicial quando esvazia
+  private long[] due = new long[INITIAL_DUE];
+  private int dueHead;
+  private int dueSize;
+
+  public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+    this.tickMillis = tickMillis;
+    this.currentTick = startMillis / tickMillis;
+    for (int level = 0; level < LEVELS; level++) {
+      int slots = 1 << (level == 0 ? ROOT_BITS : LEVEL_BITS);
+      buckets[level] = new long[slots][];
+      sizes[level] = new int[slots];
+      for (int slot = 0; slot < slots; slot++) {
+        buckets[level][slot] = new long[INITIAL_BUCKET];
+      }
+    }
+  }
+
+  /** Agenda a chave; prazo já vencido vence no próximo tick */
+  public void schedule(long high, long low, long deadlineMillis) {
+    // Arredonda para cima: nunca vence antes do prazo
+    long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+    add(high, low, deadlineTick);
+    scheduled++;
+  }
+
+  /** Avança até o instante, movendo para a fila de vencidas tudo com prazo até ele */
+  public void advance(long nowMillis) {
+    long target = nowMillis / tickMillis;
+    while (currentTick < target) {
+      currentTick++;
+      int index = (int) (currentTick & ((1 << ROOT_BITS) - 1));
+      // Virada do nível 0: a posição correspondente do nível 1 desce (e assim por diante)
+      if (index == 0) {
+        for (int level = 1; level < LEVELS && cascade(level) == 0; level++) {
+          // segue enquanto o nível também virou
+        }
+      }
+      expire(index);
+    }
+  }
+
+  /**
+   * Entrega até max chaves vencidas, na ordem em que venceram
+   *
+   * @return quantas foram entregues
+   */
+  public int drainDue(int max, KeyConsumer consumer) {
+    int count = Math.min(max, dueSize);
+    for (int i = 0; i < count; i++) {
+      int at = (dueHead + 2 * i) % due.length;
+      consumer.accept(due[at], due[at + 1]);
+    }
+    dueHead = (dueHead + 2 * count) % due.length;
+    dueSize -= count;
+    if (dueSize == 0 && due.length > INITIAL_DUE) {
+      due = new long[INITIAL_DUE];
+      dueHead = 0;
+    }
+    return count;
+  }
+
+  /** Chaves agendadas que ainda não venceram */
+  public long scheduled() {
+    return scheduled;
+  }
+
+  /** Chaves vencidas ainda não drenadas */
+  public int due() {
+    return dueSize;
+  }
+
+  // Redistribui a posição do nível pelo tick atual; devolve o índice, 0 quando o nível também virou
+  private int cascade(int level) {
+    int shift = ROOT_BITS + LEVEL_BITS * (level - 1);
+    int index = (int) ((currentTick >>> shift) & ((1 << LEVEL_BITS) - 1));
+    long[] bucket = buckets[level][index];
+    int size = sizes[level][index];
+    // Array novo: uma entrada além do alcance do nível 3 volta para esta mesma posição
+    buckets[level][index] = new long[INITIAL_BUCKET];
+    sizes[level][index] = 0;
+    for (int i = 0; i < size; i += ENTRY) {
+      add(bucket[i], bucket[i + 1], bucket[i + 2]);
+    }
+    return index;
+  }
+
+  private void expire(int index) {
+    long[] bucket = buckets[0][index];
+    int size = sizes[0][index];
+    for (int i = 0; i < size; i += ENTRY) {
+      enqueueDue(bucket[i], bucket[i + 1]);
+    }
+    scheduled -= size / ENTRY;
+    sizes[0][index] = 0;
+    if (size > RETAINED_BUCKET) {
+      buckets[0][index] = new long[INITIAL_BUCKET];
+    }
+  }
+
+  private void add(long high, long low, long deadlineTick) {
+    long delay = deadlineTick - currentTick;
+    int level;
+    long slotTick = deadlineTick;
+    if (delay < 1L << ROOT_BITS) {
+      level = 0;
+    } else if (delay < 1L << (ROOT_BITS + LEVEL_BITS)) {
+      level = 1;
+    } else if (delay < 1L << (ROOT_BITS + 2 * LEVEL_BITS)) {
+      level = 2;
+    } else {
+      level = 3;
+      // Além do alcance: a posição mais distante, reposicionada (com o prazo real) quando descer
+      slotTick = currentTick + Math.min(delay, MAX_DELAY_TICKS);
+    }
+    int shift = level == 0 ? 0 : ROOT_BITS + LEVEL_BITS * (level - 1);
+    int mask = (1 << (level == 0 ? ROOT_BITS : LEVEL_BITS)) - 1;
+    int index = (int) ((slotTick >>> shift) & mask);
+
+    long[] bucket = buckets[level][index];
+    int size = sizes[level][index];
+    if (size == bucket.length) {
+      bucket = Arrays.copyOf(bucket, bucket.length * 2);
+      buckets[level][index] = bucket;
+    }
+    bucket[size] = high;
+    bucket[size + 1] = low;
+    bucket[size + 2] = deadlineTick;
+    sizes[level][index] = size + ENTRY;
+  }
+
+  private void enqueueDue(long high, long low) {
+    if (2 * dueSize == due.length) {
+      long[] grown = new long[due.length * 2];
+      for (int i = 0; i < dueSize; i++) {
+        int at = (dueHead + 2 * i) % due.length;
+        grown[2 * i] = due[at];
+        grown[2 * i + 1] = due[at + 1];
+      }
+      due = grown;
+      dueHead = 0;
+    }
+    int at = (dueHead + 2 * dueSize) % due.length;
+    due[at] = high;
+    due[at + 1] = low;
+    dueSize++;
+  }
+
+  /** Recebe as duas metades de uma chave */
+  @FunctionalInterface
+  public interface KeyConsumer {
+    void accept(long high, long low);
+  }
+}
@@ -0,0 +1,20 @@
+package com.inter.banking.banking.infrastructure.hold;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração da expiração das reservas (banking.holds.expiry.*)
+ *
+ * @param tick       resolução da roda de tempo: a reserva é liberada até um tick depois do prazo
+ * @param batchSize  reservas liberadas por transação
+ * @param maxPerTick teto de reservas liberadas por tick; o excedente de um pico de vencimentos fica
+ *                   para os ticks seguintes, em vez de disputar o banco com os comandos
+ */
+@ConfigurationProperties(prefix = "banking.holds.expiry")
+public record HoldExpiryProperties(
+    @DefaultValue("100ms") Duration tick,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("2000") int maxPerTick) {}
@@ -0,0 +1,15 @@
+package com.inter.banking.banking.infrastructure.hold;
+
+/**
+ * Estado da expiração das reservas
+ *
+ * @param scheduled     reservas na roda, ainda não vencidas
+ * @param due           vencidas aguardando liberação (excedente do teto por tick)
+ * @param expired       reservas liberadas por expiração desde o início
+ * @param failedBatches lotes desfeitos e reagendados para o tick seguinte
+ */
+public record HoldExpiryStats(
+    long scheduled,
+    long due,
+    long expired,
+    long failedBatches) {}
@@ -0,0 +1,130 @@
+package com.inter.banking.banking.infrastructure.hold;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.enums.HoldStatus;
+import com.inter.banking.banking.domain.port.FundsHoldStore;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Adapter JDBC para o port FundsHoldStore (Secondary/Driven Adapter)
+ * Tabela funds_holds; a saída de ACTIVE é um UPDATE condicional pelo status, então entre a captura
+ * e a expiração da mesma reserva só uma encontra a linha ativa. As transições de várias reservas
+ * vão num único JDBC batch
+ */
+@Repository
+public class JdbcFundsHoldStore implements FundsHoldStore {
+  private static final String COLUMNS = "hold_id, account_id, amount_cents, description, created_at, expires_at";
+  private static final String INSERT_SQL =
+      "INSERT INTO funds_holds (" + COLUMNS + ", status) VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE')";
+  private static final String SELECT_ACTIVE_SQL =
+      "SELECT " + COLUMNS + " FROM funds_holds WHERE hold_id = ? AND status = 'ACTIVE'";
+  private static final String SELECT_ACTIVE_BY_IDS_SQL =
+      "SELECT " + COLUMNS + " FROM funds_holds WHERE hold_id = ANY(?) AND status = 'ACTIVE'";
+  private static final String RESOLVE_SQL =
+      "UPDATE funds_holds SET status = ?, resolved_at = ? WHERE hold_id = ? AND status = 'ACTIVE'";
+  private static final String REOPEN_SQL =
+      "UPDATE funds_holds SET status = 'ACTIVE', resolved_at = NULL WHERE hold_id = ? AND status = ?";
+  // Keyset por hold_id sobre o índice (status, hold_id): cada página é uma faixa contínua do índice
+  private static final String SELECT_ACTIVE_PAGE_SQL =
+      "SELECT " + COLUMNS + " FROM funds_holds WHERE status = 'ACTIVE' AND hold_id > ? "
+          + "ORDER BY status, hold_id LIMIT ?";
+  private static final int PAGE_SIZE = 10_000;
+  // Menor UUID na ordem do banco (comparação sem sinal)
+  private static final UUID FIRST_ID = new UUID(0, 0);
+
+  private static final RowMapper<Hold> HOLD_MAPPER = (rs, rowNum) -> new Hold(
+      rs.getObject("hold_id", UUID.class),
+      new AccountId(rs.getObject("account_id", UUID.class)),
+      rs.getLong("amount_cents"),
+      rs.getString("description"),
+      rs.getTimestamp("created_at").toInstant(),
+      rs.getTimestamp("expires_at").toInstant());
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcFundsHoldStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void insert(Hold hold) {
+    jdbcTemplate.update(INSERT_SQL,
+        hold.holdId(),
+        hold.accountId().getValue(),
+        hold.amountCents(),
+        hold.description(),
+        timestamp(hold.createdAt()),
+        timestamp(hold.expiresAt()));
+  }
+
+  @Override
+  public Optional<Hold> findActive(UUID holdId) {
+    return jdbcTemplate.query(SELECT_ACTIVE_SQL, HOLD_MAPPER, holdId).stream().findFirst();
+  }
+
+  @Override
+  public List<Hold> findActive(Collection<UUID> holdIds) {
+    if (holdIds.isEmpty()) {
+      return List.of();
+    }
+    Object[] values = holdIds.toArray();
+    return jdbcTemplate.query(SELECT_ACTIVE_BY_IDS_SQL,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("UUID", values)),
+        HOLD_MAPPER);
+  }
+
+  @Override
+  public boolean[] resolve(List<UUID> holdIds, HoldStatus status, Instant resolvedAt) {
+    boolean[] resolved = new boolean[holdIds.size()];
+    if (holdIds.isEmpty()) {
+      return resolved;
+    }
+    Timestamp at = timestamp(resolvedAt);
+    int[][] counts = jdbcTemplate.batchUpdate(RESOLVE_SQL, holdIds, holdIds.size(), (ps, holdId) -> {
+      ps.setString(1, status.name());
+      ps.setTimestamp(2, at);
+      ps.setObject(3, holdId);
+    });
+    for (int i = 0; i < resolved.length; i++) {
+      resolved[i] = counts[0][i] > 0;
+    }
+    return resolved;
+  }
+
+  @Override
+  public void reopen(List<UUID> holdIds, HoldStatus status) {
+    if (holdIds.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(REOPEN_SQL, holdIds, holdIds.size(), (ps, holdId) -> {
+      ps.setObject(1, holdId);
+      ps.setString(2, status.name());
+    });
+  }
+
+  @Override
+  public void forEachActive(Consumer<Hold> consumer) {
+    UUID after = FIRST_ID;
+    List<Hold> page;
+    do {
+      page = jdbcTemplate.query(SELECT_ACTIVE_PAGE_SQL, HOLD_MAPPER, after, PAGE_SIZE);
+      page.forEach(consumer);
+      after = page.isEmpty() ? after : page.getLast().holdId();
+    } while (page.size() == PAGE_SIZE);
+  }
+
+  private static Timestamp timestamp(Instant instant) {
+    return Timestamp.from(instant.truncatedTo(ChronoUnit.MICROS));
+  }
+}
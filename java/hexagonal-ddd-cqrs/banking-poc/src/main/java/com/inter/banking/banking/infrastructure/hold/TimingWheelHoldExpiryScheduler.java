@@ -0,0 +1,151 @@
+package com.inter.banking.banking.infrastructure.hold;
+
+import com.inter.banking.banking.application.service.FundsHoldService;
+import com.inter.banking.banking.domain.port.FundsHoldStore;
+import com.inter.banking.banking.domain.port.HoldExpiryScheduler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Expiração das reservas numa roda de tempo hierárquica em memória
+ * Uma única thread é dona da roda: quem reserva só publica o prazo numa fila sem lock, e a thread,
+ * a cada tick, passa a fila para a roda, avança o relógio e libera as vencidas em lotes (uma transação
+ * por lote) até o teto do tick. Agendar não toca no banco nem disputa lock com outras reservas, e um
+ * pico de vencimentos vira alguns ticks de lotes em vez de uma rajada de transações.
+ * Nada é procurado no banco enquanto roda: a roda é reconstruída das reservas ativas quando a
+ * aplicação sobe, e uma reserva perdida entre a gravação e uma queda volta na próxima subida
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(HoldExpiryProperties.class)
+public class TimingWheelHoldExpiryScheduler implements HoldExpiryScheduler, MeterBinder, AutoCloseable {
+  private final HoldExpiryProperties properties;
+  private final FundsHoldStore holdStore;
+  // O serviço também depende deste scheduler: resolvido só no primeiro vencimento
+  private final ObjectProvider<FundsHoldService> holdService;
+  private final Queue<Pending> incoming = new ConcurrentLinkedQueue<>();
+  private final HierarchicalTimingWheel wheel;
+  private final ScheduledExecutorService ticker;
+
+  private final LongAdder expired = new LongAdder();
+  private final LongAdder failedBatches = new LongAdder();
+  // Lidos fora da thread da roda (métricas): atualizados no fim de cada tick
+  private volatile long scheduledSnapshot;
+  private volatile long dueSnapshot;
+
+  /** Prazo publicado por quem reservou, ainda fora da roda */
+  private record Pending(long high, long low, long deadlineMillis) {}
+
+  public TimingWheelHoldExpiryScheduler(
+      HoldExpiryProperties properties,
+      FundsHoldStore holdStore,
+      ObjectProvider<FundsHoldService> holdService) {
+    this.properties = properties;
+    this.holdStore = holdStore;
+    this.holdService = holdService;
+    long tickMillis = Math.max(1, properties.tick().toMillis());
+    this.wheel = new HierarchicalTimingWheel(tickMillis, System.currentTimeMillis());
+    this.ticker = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("hold-expiry").daemon(true).factory());
+    this.ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void schedule(UUID holdId, Instant expiresAt) {
+    incoming.offer(new Pending(holdId.getMostSignificantBits(), holdId.getLeastSignificantBits(), expiresAt.toEpochMilli()));
+  }
+
+  /**
+   * Recarrega na roda as reservas ativas gravadas (inclusive as já vencidas, liberadas no próximo tick)
+   * Roda na thread da roda, depois que o schema do banco já está pronto
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void recover() {
+    ticker.execute(() -> {
+      long[] count = {0};
+      holdStore.forEachActive(hold -> {
+        wheel.schedule(
+            hold.holdId().getMostSignificantBits(),
+            hold.holdId().getLeastSignificantBits(),
+            hold.expiresAt().toEpochMilli());
+        count[0]++;
+      });
+      log.info("Expiração de reservas: {} reservas ativas recarregadas", count[0]);
+    });
+  }
+
+  public HoldExpiryStats stats() {
+    return new HoldExpiryStats(scheduledSnapshot, dueSnapshot, expired.sum(), failedBatches.sum());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("banking.holds.expiry.scheduled", this, s -> s.stats().scheduled())
+        .register(registry);
+    Gauge.builder("banking.holds.expiry.due", this, s -> s.stats().due())
+        .register(registry);
+    FunctionCounter.builder("banking.holds.expired", expired, LongAdder::sum)
+        .register(registry);
+    FunctionCounter.builder("banking.holds.expiry.failures", failedBatches, LongAdder::sum)
+        .register(registry);
+  }
+
+  @Override
+  public void close() {
+    ticker.shutdownNow();
+  }
+
+  private void tick() {
+    try {
+      Pending pending;
+      while ((pending = incoming.poll()) != null) {
+        wheel.schedule(pending.high(), pending.low(), pending.deadlineMillis());
+      }
+      wheel.advance(System.currentTimeMillis());
+      expireDue();
+    } catch (RuntimeException e) {
+      // Exceção não pode cancelar o agendamento do ticker
+      log.error("Falha no tick da expiração de reservas", e);
+    } finally {
+      scheduledSnapshot = wheel.scheduled();
+      dueSnapshot = wheel.due();
+    }
+  }
+
+  private void expireDue() {
+    int budget = properties.maxPerTick();
+    while (budget > 0 && wheel.due() > 0) {
+      List<UUID> batch = new ArrayList<>(Math.min(properties.batchSize(), budget));
+      wheel.drainDue(Math.min(properties.batchSize(), budget), (high, low) -> batch.add(new UUID(high, low)));
+      budget -= batch.size();
+      try {
+        expired.add(holdService.getObject().expireHolds(batch));
+      } catch (RuntimeException e) {
+        // Lote desfeito (conflito de versão, banco indisponível): volta para a roda e vence no próximo tick
+        failedBatches.increment();
+        log.warn("Falha ao expirar {} reservas, nova tentativa no próximo tick: {}", batch.size(), e.getMessage());
+        batch.forEach(id -> wheel.schedule(id.getMostSignificantBits(), id.getLeastSignificantBits(), 0));
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.inter.banking.banking.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuração das chaves de idempotência (banking.idempotency.*)
+ *
+ * @param enabled       desligado, a chave dos comandos é ignorada
+ * @param retention     janela em que uma repetição devolve o resultado original
+ * @param memoryLimit   teto da camada em memória, pelo tamanho estimado das entradas; o excedente
+ *                      continua no banco até o fim da retenção
+ * @param purgeInterval intervalo da remoção das chaves vencidas no banco
+ */
+@ConfigurationProperties(prefix = "banking.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("24h") Duration retention,
+    @DefaultValue("64MB") DataSize memoryLimit,
+    @DefaultValue("10m") Duration purgeInterval) {}
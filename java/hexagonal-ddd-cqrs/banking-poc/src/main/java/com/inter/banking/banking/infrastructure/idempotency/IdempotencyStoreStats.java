@@ -0,0 +1,17 @@
+package com.inter.banking.banking.infrastructure.idempotency;
+
+/**
+ * Estado do registro de idempotência
+ *
+ * @param memoryEntries chaves na camada em memória
+ * @param memoryBytes   tamanho estimado da camada em memória (limitado por memoryLimit)
+ * @param memoryHits    repetições respondidas pela memória
+ * @param storeHits     repetições respondidas pelo banco (chave já despejada da memória)
+ * @param misses        consultas sem chave registrada
+ */
+public record IdempotencyStoreStats(
+    long memoryEntries,
+    long memoryBytes,
+    long memoryHits,
+    long storeHits,
+    long misses) {}
@@ -0,0 +1,23 @@
+package com.inter.banking.banking.infrastructure.idempotency;
+
+import com.inter.banking.banking.domain.port.IdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Idempotência desligada (banking.idempotency.enabled=false): toda repetição executa de novo
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.idempotency", name = "enabled", havingValue = "false")
+public class NoOpIdempotencyStore implements IdempotencyStore {
+
+  @Override
+  public Optional<Entry> find(String key) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void save(String key, Entry entry) {}
+}
@@ -0,0 +1,53 @@
+package com.inter.banking.banking.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+
+/**
+ * Formatos aceitos na importação, escolhidos pela extensão do arquivo
+ * CSV: customerId,initialBalance (cabeçalho opcional). NDJSON: {"customerId": ..., "initialBalance": ...} por linha
+ */
+public enum AccountImportFormat {
+    CSV {
+        @Override
+        CreateAccountCommand parse(String line, ObjectMapper objectMapper) {
+            String[] fields = line.split(",", -1);
+            if (fields.length != 2) {
+                throw new IllegalArgumentException("Expected 2 fields (customerId,initialBalance) but got " + fields.length);
+            }
+            return new CreateAccountCommand(fields[0].trim(), new BigDecimal(fields[1].trim()));
+        }
+
+        @Override
+        boolean isHeader(String line) {
+            return line.startsWith("customerId");
+        }
+    },
+    NDJSON {
+        @Override
+        CreateAccountCommand parse(String line, ObjectMapper objectMapper) throws IOException {
+            return objectMapper.readValue(line, CreateAccountCommand.class);
+        }
+    };
+
+    abstract CreateAccountCommand parse(String line, ObjectMapper objectMapper) throws IOException;
+
+    boolean isHeader(String line) {
+        return false;
+    }
+
+    public static AccountImportFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import file: " + file);
+    }
+}
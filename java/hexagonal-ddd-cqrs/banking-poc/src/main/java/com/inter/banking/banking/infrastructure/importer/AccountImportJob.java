@@ -0,0 +1,212 @@
+package com.inter.banking.banking.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inter.banking.banking.application.command.BatchCreateAccountCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.result.BatchCreateAccountResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Importação em massa de contas a partir de arquivo (Primary/Driving Adapter)
+ * Lê o arquivo em streaming, agrupa as linhas em lotes e abre cada lote com createAccounts.
+ * O checkpoint (última linha do lote) é gravado na mesma transação das contas, então uma
+ * execução interrompida retoma do último lote confirmado sem duplicar contas. O checkpoint é da
+ * importação, não do caminho: a chave é o importId informado ou o SHA-256 do conteúdo, então o
+ * mesmo arquivo copiado ou movido retoma de onde parou e um arquivo novo no mesmo caminho começa do zero.
+ * Linhas rejeitadas vão para o arquivo <origem>.rejects com o número da linha e o motivo, gravadas
+ * antes do commit do lote: uma queda entre as duas repete as rejeições do lote, mas não as perde
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(AccountImportProperties.class)
+public class AccountImportJob {
+  private static final String SELECT_CHECKPOINT_SQL =
+      "SELECT last_line FROM account_import_checkpoints WHERE source = ?";
+  private static final String UPDATE_CHECKPOINT_SQL =
+      "UPDATE account_import_checkpoints SET last_line = ?, updated_at = ? WHERE source = ?";
+  private static final String INSERT_CHECKPOINT_SQL =
+      "INSERT INTO account_import_checkpoints (last_line, updated_at, source) VALUES (?, ?, ?)";
+
+  private final AccountCommandService commandService;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final int batchSize;
+
+  public AccountImportJob(
+      AccountCommandService commandService,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      AccountImportProperties properties) {
+    this.commandService = commandService;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.objectMapper = objectMapper;
+    this.batchSize = properties.batchSize();
+  }
+
+  /** Linhas lidas e ainda não confirmadas */
+  private static final class Chunk {
+    final List<CreateAccountCommand> commands = new ArrayList<>();
+    final List<Long> commandLines = new ArrayList<>();
+    final List<String> rejects = new ArrayList<>();
+    long lastLine;
+
+    int size() {
+      return commands.size() + rejects.size();
+    }
+  }
+
+  public AccountImportReport run(Path file) {
+    return run(file, null);
+  }
+
+  /**
+   * @param importId chave do checkpoint; null usa o SHA-256 do conteúdo (um arquivo que ainda
+   *                 recebe linhas precisa de um importId fixo para retomar)
+   */
+  public AccountImportReport run(Path file, String importId) {
+    Path source = file.toAbsolutePath().normalize();
+    String key = importId != null ? importId : contentKey(source);
+    AccountImportFormat format = AccountImportFormat.of(source);
+    long checkpoint = readCheckpoint(key);
+    Path rejectsFile = source.resolveSibling(source.getFileName() + ".rejects");
+    log.info("Importando contas de {} ({}, importação {}), retomando após a linha {}", source, format, key, checkpoint);
+
+    long startedAt = System.nanoTime();
+    long[] totals = new long[3]; // skipped, created, failed
+    try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+        BufferedWriter rejects = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      Chunk chunk = new Chunk();
+      long lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (lineNumber <= checkpoint) {
+          totals[0]++;
+          continue;
+        }
+        chunk.lastLine = lineNumber;
+        if (line.isBlank() || (lineNumber == 1 && format.isHeader(line))) {
+          continue;
+        }
+        try {
+          chunk.commands.add(format.parse(line, objectMapper));
+          chunk.commandLines.add(lineNumber);
+        } catch (IOException | RuntimeException e) {
+          chunk.rejects.add(lineNumber + "\t" + e.getMessage());
+        }
+        if (chunk.size() >= batchSize) {
+          commit(key, chunk, rejects, totals, startedAt);
+          chunk = new Chunk();
+        }
+      }
+      if (chunk.lastLine > checkpoint) {
+        commit(key, chunk, rejects, totals, startedAt);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not import accounts from " + source, e);
+    }
+
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+    AccountImportReport report = new AccountImportReport(
+        source, totals[0], totals[1], totals[2], elapsed, rate(totals[1], elapsed));
+    log.info("Importação concluída: {} contas criadas, {} linhas rejeitadas, {} já importadas, {} contas/s",
+        report.created(), report.failed(), report.skipped(), String.format("%.0f", report.accountsPerSecond()));
+    return report;
+  }
+
+  private void commit(String key, Chunk chunk, BufferedWriter rejects, long[] totals, long startedAt) {
+    BatchCreateAccountResult result = transactionTemplate.execute(status -> {
+      BatchCreateAccountResult created = chunk.commands.isEmpty()
+          ? new BatchCreateAccountResult(List.of(), 0, 0)
+          : commandService.createAccounts(new BatchCreateAccountCommand(chunk.commands));
+      for (BatchCreateAccountResult.Item item : created.items()) {
+        if (item.error() != null) {
+          chunk.rejects.add(chunk.commandLines.get(item.index()) + "\t" + item.error());
+        }
+      }
+      // Rejeições no disco antes do checkpoint: falha na gravação desfaz o lote inteiro
+      writeRejects(rejects, chunk.rejects);
+      saveCheckpoint(key, chunk.lastLine);
+      return created;
+    });
+
+    totals[1] += result.created();
+    totals[2] += chunk.rejects.size();
+    log.info("Importação até a linha {}: {} contas criadas, {} rejeitadas ({} contas/s)",
+        chunk.lastLine, totals[1], totals[2],
+        String.format("%.0f", rate(totals[1], Duration.ofNanos(System.nanoTime() - startedAt))));
+  }
+
+  private static void writeRejects(BufferedWriter rejects, List<String> lines) {
+    try {
+      for (String reject : lines) {
+        rejects.write(reject);
+        rejects.newLine();
+      }
+      rejects.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write import rejects", e);
+    }
+  }
+
+  /** SHA-256 do conteúdo: identifica a importação independente do caminho do arquivo */
+  private static String contentKey(Path source) {
+    try (InputStream in = Files.newInputStream(source)) {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] buffer = new byte[64 * 1024];
+      for (int read; (read = in.read(buffer)) != -1; ) {
+        digest.update(buffer, 0, read);
+      }
+      return "sha256:" + HexFormat.of().formatHex(digest.digest());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read " + source, e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private long readCheckpoint(String key) {
+    List<Long> lines = jdbcTemplate.queryForList(SELECT_CHECKPOINT_SQL, Long.class, key);
+    return lines.isEmpty() ? 0 : lines.getFirst();
+  }
+
+  private void saveCheckpoint(String key, long lastLine) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    if (jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, lastLine, now, key) == 0) {
+      jdbcTemplate.update(INSERT_CHECKPOINT_SQL, lastLine, now, key);
+    }
+  }
+
+  private static double rate(long count, Duration elapsed) {
+    double seconds = elapsed.toNanos() / 1_000_000_000.0;
+    return seconds > 0 ? count / seconds : 0;
+  }
+}
@@ -0,0 +1,19 @@
+package com.inter.banking.banking.infrastructure.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuração da importação em massa de contas (banking.import.*)
+ *
+ * @param file      arquivo a importar na subida da aplicação (.csv ou .ndjson); vazio não importa nada
+ * @param importId  chave do checkpoint da importação; vazio usa o SHA-256 do conteúdo do arquivo
+ * @param batchSize contas por transação; o checkpoint avança a cada lote confirmado
+ */
+@ConfigurationProperties(prefix = "banking.import")
+public record AccountImportProperties(
+    Path file,
+    String importId,
+    @DefaultValue("1000") int batchSize) {}
@@ -0,0 +1,19 @@
+package com.inter.banking.banking.infrastructure.importer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Resumo de uma execução da importação
+ *
+ * @param skipped           linhas já importadas em execuções anteriores (até o checkpoint)
+ * @param failed            linhas rejeitadas (formato inválido ou regra de domínio), listadas no arquivo .rejects
+ * @param accountsPerSecond contas criadas por segundo nesta execução
+ */
+public record AccountImportReport(
+    Path source,
+    long skipped,
+    long created,
+    long failed,
+    Duration elapsed,
+    double accountsPerSecond) {}
@@ -0,0 +1,27 @@
+package com.inter.banking.banking.infrastructure.importer;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Importa o arquivo de banking.import.file na subida da aplicação
+ * Ex.: java -jar banking-poc.jar --banking.import.file=clientes.csv
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.import", name = "file")
+public class AccountImportRunner implements ApplicationRunner {
+  private final AccountImportJob importJob;
+  private final AccountImportProperties properties;
+
+  public AccountImportRunner(AccountImportJob importJob, AccountImportProperties properties) {
+    this.importJob = importJob;
+    this.properties = properties;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    importJob.run(properties.file(), properties.importId());
+  }
+}
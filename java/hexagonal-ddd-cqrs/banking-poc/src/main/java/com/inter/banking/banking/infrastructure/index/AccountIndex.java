@@ -0,0 +1,540 @@
+package com.inter.banking.banking.infrastructure.index;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Índice de contas em arrays primitivos, endereçamento aberto com sondagem linear
+ * A chave são as duas metades (long) do UUID do AccountId; cada conta ocupa uma linha contígua de longs
+ * num único long[] por segmento (id, cliente, saldo, reservas, versão, datas, número, status e moeda),
+ * sem nenhum objeto por conta: o GC enxerga um array grande por segmento em vez de vários objetos por entrada,
+ * e uma busca lê uma ou duas linhas de cache em vez de uma por coluna.
+ * Um segundo índice, do mesmo tipo, leva do número da conta ao AccountId.
+ * Dividido em segmentos pelo hash, cada um com o próprio StampedLock: escrita exclusiva no segmento,
+ * leitura otimista sem lock (repetida com lock de leitura se uma escrita intercalar).
+ * Só indexa números de conta no formato 00000000-D; put devolve false para as demais contas
+ */
+public final class AccountIndex {
+  private static final double MAX_LOAD = 0.75;
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE / AccountTable.STRIDE;
+  private static final AccountStatus[] STATUSES = AccountStatus.values();
+  private static final CurrencyCode[] CURRENCIES = CurrencyCode.values();
+
+  private final AccountSegment[] accounts;
+  private final NumberSegment[] numbers;
+  private final int segmentShift;
+
+  /**
+   * @param segments         quantidade de segmentos (potência de 2)
+   * @param expectedAccounts contas esperadas; dimensiona os arrays para não redimensionar até esse volume
+   */
+  public AccountIndex(int segments, long expectedAccounts) {
+    if (segments < 1 || Integer.bitCount(segments) != 1) {
+      throw new IllegalArgumentException("Segments must be a positive power of 2");
+    }
+    // Folga de 4 desvios padrão: o hash não divide as contas exatamente por igual entre os segmentos
+    long perSegment = Math.max(1, expectedAccounts / segments);
+    int capacity = capacityFor(perSegment + (long) Math.ceil(4 * Math.sqrt(perSegment)));
+    this.accounts = new AccountSegment[segments];
+    this.numbers = new NumberSegment[segments];
+    for (int i = 0; i < segments; i++) {
+      accounts[i] = new AccountSegment(capacity);
+      numbers[i] = new NumberSegment(capacity);
+    }
+    this.segmentShift = 64 - Integer.numberOfTrailingZeros(segments);
+  }
+
+  public Optional<Account> find(AccountId accountId) {
+    UUID id = accountId.getValue();
+    long high = id.getMostSignificantBits();
+    long low = id.getLeastSignificantBits();
+    long hash = hash(high, low);
+    AccountSegment segment = accounts[segmentOf(hash)];
+
+    long stamp = segment.lock.tryOptimisticRead();
+    Row row = segment.table.read(high, low, hash);
+    if (!segment.lock.validate(stamp)) {
+      stamp = segment.lock.readLock();
+      try {
+        row = segment.table.read(high, low, hash);
+      } finally {
+        segment.lock.unlockRead(stamp);
+      }
+    }
+    return row == null ? Optional.empty() : Optional.of(row.toAccount(accountId));
+  }
+
+  public Optional<AccountId> findIdByAccountNumber(String accountNumber) {
+    long key = encodeNumber(accountNumber);
+    if (key == 0) {
+      return Optional.empty();
+    }
+    long hash = mix(key);
+    NumberSegment segment = numbers[segmentOf(hash)];
+
+    long stamp = segment.lock.tryOptimisticRead();
+    UUID id = segment.table.read(key, hash);
+    if (!segment.lock.validate(stamp)) {
+      stamp = segment.lock.readLock();
+      try {
+        id = segment.table.read(key, hash);
+      } finally {
+        segment.lock.unlockRead(stamp);
+      }
+    }
+    return id == null ? Optional.empty() : Optional.of(new AccountId(id));
+  }
+
+  /**
+   * Indexa a conta, a menos que o índice já tenha uma versão igual ou mais nova dela
+   * (gravações confirmadas fora de ordem não fazem o índice voltar no tempo)
+   *
+   * @return false se a conta não pode ser indexada (número de conta fora do formato)
+   */
+  public boolean put(Account account) {
+    long number = encodeNumber(account.getAccountNumber());
+    if (number == 0) {
+      return false;
+    }
+    UUID id = account.getId().getValue();
+    long high = id.getMostSignificantBits();
+    long low = id.getLeastSignificantBits();
+    long hash = hash(high, low);
+
+    AccountSegment segment = accounts[segmentOf(hash)];
+    long stamp = segment.lock.writeLock();
+    boolean inserted;
+    try {
+      inserted = segment.put(high, low, hash, number, account);
+    } finally {
+      segment.lock.unlockWrite(stamp);
+    }
+
+    if (inserted) {
+      long numberHash = mix(number);
+      NumberSegment numberSegment = numbers[segmentOf(numberHash)];
+      stamp = numberSegment.lock.writeLock();
+      try {
+        numberSegment.put(number, numberHash, high, low);
+      } finally {
+        numberSegment.lock.unlockWrite(stamp);
+      }
+    }
+    return true;
+  }
+
+  public void remove(AccountId accountId) {
+    UUID id = accountId.getValue();
+    long high = id.getMostSignificantBits();
+    long low = id.getLeastSignificantBits();
+    long hash = hash(high, low);
+
+    AccountSegment segment = accounts[segmentOf(hash)];
+    long stamp = segment.lock.writeLock();
+    long number;
+    try {
+      number = segment.table.remove(high, low, hash);
+    } finally {
+      segment.lock.unlockWrite(stamp);
+    }
+
+    if (number != 0) {
+      long numberHash = mix(number);
+      NumberSegment numberSegment = numbers[segmentOf(numberHash)];
+      stamp = numberSegment.lock.writeLock();
+      try {
+        numberSegment.table.remove(number, numberHash);
+      } finally {
+        numberSegment.lock.unlockWrite(stamp);
+      }
+    }
+  }
+
+  /** Contas indexadas (aproximado se houver escritas em andamento) */
+  public long size() {
+    long size = 0;
+    for (AccountSegment segment : accounts) {
+      size += segment.table.size;
+    }
+    return size;
+  }
+
+  /** Bytes ocupados pelos arrays dos dois índices, incluindo as posições vazias */
+  public long memoryBytes() {
+    long bytes = 0;
+    for (int i = 0; i < accounts.length; i++) {
+      bytes += (long) accounts[i].table.capacity * AccountTable.BYTES_PER_SLOT;
+      bytes += (long) numbers[i].table.capacity * NumberTable.BYTES_PER_SLOT;
+    }
+    return bytes;
+  }
+
+  private int segmentOf(long hash) {
+    // Bits altos escolhem o segmento, os baixos a posição: as duas escolhas não se correlacionam
+    return segmentShift == 64 ? 0 : (int) (hash >>> segmentShift);
+  }
+
+  // Capacidade exata (não potência de 2): a posição inicial sai de home(), sem máscara
+  private static int capacityFor(long entries) {
+    long capacity = Math.max(MIN_CAPACITY, (long) Math.ceil(entries / MAX_LOAD));
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalStateException("Account index segment cannot hold " + entries + " accounts");
+    }
+    return (int) capacity;
+  }
+
+  /** Posição inicial em [0, capacity): 32 bits baixos do hash escalados pela capacidade (sem divisão) */
+  static int home(long hash, int capacity) {
+    return (int) (((hash & 0xFFFFFFFFL) * capacity) >>> 32);
+  }
+
+  // Crescimento de 50%: mantém a ocupação entre 0,5 e 0,75 depois do primeiro redimensionamento
+  private static int grownCapacity(int capacity) {
+    if (capacity >= MAX_CAPACITY) {
+      throw new IllegalStateException("Account index segment is full");
+    }
+    return (int) Math.min(MAX_CAPACITY, (long) capacity + capacity / 2);
+  }
+
+  static long hash(long high, long low) {
+    return mix(high ^ mix(low));
+  }
+
+  // Finalizador do MurmurHash3: espalha os bits para a sondagem linear não formar sequências longas
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  /** 00000000-D vira numero * 10 + D + 1 (0 fica reservado para posição vazia / fora do formato) */
+  static long encodeNumber(String accountNumber) {
+    if (accountNumber == null || accountNumber.length() != 10 || accountNumber.charAt(8) != '-') {
+      return 0;
+    }
+    long value = 0;
+    for (int i = 0; i < 10; i++) {
+      if (i == 8) {
+        continue;
+      }
+      char c = accountNumber.charAt(i);
+      if (c < '0' || c > '9') {
+        return 0;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value + 1;
+  }
+
+  static String decodeNumber(long encoded) {
+    long value = encoded - 1;
+    char[] chars = new char[10];
+    chars[9] = (char) ('0' + value % 10);
+    chars[8] = '-';
+    value /= 10;
+    for (int i = 7; i >= 0; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    return new String(chars);
+  }
+
+  // Data sem fuso gravada como nanos desde a época em UTC (cobre 1677..2262 sem perda)
+  private static long encodeTime(LocalDateTime time) {
+    return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+  }
+
+  private static LocalDateTime decodeTime(long nanos) {
+    return LocalDateTime.ofEpochSecond(
+        Math.floorDiv(nanos, 1_000_000_000L), (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+  }
+
+  /** Cópia de uma linha, lida antes de validar a leitura otimista */
+  private record Row(
+      long customerHigh,
+      long customerLow,
+      long balanceCents,
+      long heldCents,
+      long version,
+      long createdAt,
+      long updatedAt,
+      long number,
+      long meta) {
+
+    Account toAccount(AccountId accountId) {
+      return new Account(
+          accountId,
+          decodeNumber(number),
+          new CustomerId(new UUID(customerHigh, customerLow)),
+          balanceCents,
+          heldCents,
+          CURRENCIES[(int) (meta >>> 8)],
+          STATUSES[(int) (meta & 0xFF) - 1],
+          decodeTime(createdAt),
+          decodeTime(updatedAt),
+          version);
+    }
+  }
+
+  private static final class AccountSegment {
+    final StampedLock lock = new StampedLock();
+    // Trocada só sob o lock de escrita; o leitor otimista lê a referência uma vez e valida no fim
+    AccountTable table;
+
+    AccountSegment(int capacity) {
+      this.table = new AccountTable(capacity);
+    }
+
+    /** @return true se a conta não estava no índice */
+    boolean put(long high, long low, long hash, long number, Account account) {
+      int slot = table.slotOf(high, low, hash);
+      if (slot >= 0) {
+        if (table.rows[slot * AccountTable.STRIDE + AccountTable.VERSION] < account.getVersion()) {
+          table.write(slot, high, low, number, account);
+        }
+        return false;
+      }
+      if (table.size + 1 > table.capacity * MAX_LOAD) {
+        table = table.grow();
+      }
+      table.write(table.freeSlot(hash), high, low, number, account);
+      table.size++;
+      return true;
+    }
+  }
+
+  /** Uma linha de STRIDE longs por posição; META 0 marca posição vazia */
+  private static final class AccountTable {
+    static final int HIGH = 0;
+    static final int LOW = 1;
+    static final int CUSTOMER_HIGH = 2;
+    static final int CUSTOMER_LOW = 3;
+    static final int BALANCE = 4;
+    static final int VERSION = 5;
+    static final int CREATED_AT = 6;
+    static final int UPDATED_AT = 7;
+    static final int NUMBER = 8;
+    static final int HELD = 9;
+    // status (ordinal + 1) no byte baixo, moeda (ordinal) no seguinte
+    static final int META = 10;
+    static final int STRIDE = 11;
+    static final int BYTES_PER_SLOT = STRIDE * Long.BYTES;
+
+    final long[] rows;
+    final int capacity;
+    int size;
+
+    AccountTable(int capacity) {
+      this.rows = new long[capacity * STRIDE];
+      this.capacity = capacity;
+    }
+
+    // Sem lock pode ler campos de escritas diferentes, mas a posição fica sempre dentro do array
+    // e a sondagem termina em no máximo capacity passos; a validação do stamp descarta o resultado
+    Row read(long high, long low, long hash) {
+      int slot = slotOf(high, low, hash);
+      if (slot < 0) {
+        return null;
+      }
+      int row = slot * STRIDE;
+      return new Row(rows[row + CUSTOMER_HIGH], rows[row + CUSTOMER_LOW], rows[row + BALANCE],
+          rows[row + HELD], rows[row + VERSION], rows[row + CREATED_AT], rows[row + UPDATED_AT],
+          rows[row + NUMBER], rows[row + META]);
+    }
+
+    int slotOf(long high, long low, long hash) {
+      for (int i = home(hash, capacity), probes = 0; probes < capacity; i = next(i), probes++) {
+        int row = i * STRIDE;
+        if (rows[row + META] == 0) {
+          return -1;
+        }
+        if (rows[row + HIGH] == high && rows[row + LOW] == low) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    int freeSlot(long hash) {
+      int i = home(hash, capacity);
+      while (rows[i * STRIDE + META] != 0) {
+        i = next(i);
+      }
+      return i;
+    }
+
+    void write(int slot, long high, long low, long number, Account account) {
+      UUID customer = account.getCustomerId().getValue();
+      int row = slot * STRIDE;
+      rows[row + HIGH] = high;
+      rows[row + LOW] = low;
+      rows[row + CUSTOMER_HIGH] = customer.getMostSignificantBits();
+      rows[row + CUSTOMER_LOW] = customer.getLeastSignificantBits();
+      rows[row + BALANCE] = account.getBalanceCents();
+      rows[row + HELD] = account.getHeldCents();
+      rows[row + VERSION] = account.getVersion();
+      rows[row + CREATED_AT] = encodeTime(account.getCreatedAt());
+      rows[row + UPDATED_AT] = encodeTime(account.getUpdatedAt());
+      rows[row + NUMBER] = number;
+      rows[row + META] = (account.getStatus().ordinal() + 1) | ((long) account.getCurrency().ordinal() << 8);
+    }
+
+    /** @return número codificado da conta removida, 0 se não estava no índice */
+    long remove(long high, long low, long hash) {
+      int slot = slotOf(high, low, hash);
+      if (slot < 0) {
+        return 0;
+      }
+      long removed = rows[slot * STRIDE + NUMBER];
+      // Deleção por deslocamento: puxa para trás as entradas cuja sondagem passava pela posição liberada,
+      // sem lápides que alongariam as sondagens seguintes
+      int free = slot;
+      for (int i = next(free); rows[i * STRIDE + META] != 0; i = next(i)) {
+        int home = home(hash(rows[i * STRIDE + HIGH], rows[i * STRIDE + LOW]), capacity);
+        if (distance(home, i) >= distance(free, i)) {
+          System.arraycopy(rows, i * STRIDE, rows, free * STRIDE, STRIDE);
+          free = i;
+        }
+      }
+      rows[free * STRIDE + META] = 0;
+      size--;
+      return removed;
+    }
+
+    AccountTable grow() {
+      AccountTable grown = new AccountTable(grownCapacity(capacity));
+      for (int i = 0; i < capacity; i++) {
+        int row = i * STRIDE;
+        if (rows[row + META] != 0) {
+          int slot = grown.freeSlot(hash(rows[row + HIGH], rows[row + LOW]));
+          System.arraycopy(rows, row, grown.rows, slot * STRIDE, STRIDE);
+        }
+      }
+      grown.size = size;
+      return grown;
+    }
+
+    private int next(int slot) {
+      return slot + 1 == capacity ? 0 : slot + 1;
+    }
+
+    private int distance(int from, int to) {
+      return to >= from ? to - from : to - from + capacity;
+    }
+  }
+
+  private static final class NumberSegment {
+    final StampedLock lock = new StampedLock();
+    NumberTable table;
+
+    NumberSegment(int capacity) {
+      this.table = new NumberTable(capacity);
+    }
+
+    void put(long key, long hash, long high, long low) {
+      if (table.size + 1 > table.capacity * MAX_LOAD) {
+        table = table.grow();
+      }
+      table.put(key, hash, high, low);
+    }
+  }
+
+  /** Número da conta codificado -> metades do AccountId, em linhas de 3 longs; chave 0 marca posição vazia */
+  private static final class NumberTable {
+    static final int KEY = 0;
+    static final int HIGH = 1;
+    static final int LOW = 2;
+    static final int STRIDE = 3;
+    static final int BYTES_PER_SLOT = STRIDE * Long.BYTES;
+
+    final long[] rows;
+    final int capacity;
+    int size;
+
+    NumberTable(int capacity) {
+      this.rows = new long[capacity * STRIDE];
+      this.capacity = capacity;
+    }
+
+    UUID read(long key, long hash) {
+      int slot = slotOf(key, hash);
+      return slot < 0 ? null : new UUID(rows[slot * STRIDE + HIGH], rows[slot * STRIDE + LOW]);
+    }
+
+    int slotOf(long key, long hash) {
+      for (int i = home(hash, capacity), probes = 0; probes < capacity; i = next(i), probes++) {
+        long current = rows[i * STRIDE + KEY];
+        if (current == 0) {
+          return -1;
+        }
+        if (current == key) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    void put(long key, long hash, long high, long low) {
+      int i = home(hash, capacity);
+      while (rows[i * STRIDE + KEY] != 0 && rows[i * STRIDE + KEY] != key) {
+        i = next(i);
+      }
+      int row = i * STRIDE;
+      if (rows[row + KEY] == 0) {
+        size++;
+      }
+      rows[row + KEY] = key;
+      rows[row + HIGH] = high;
+      rows[row + LOW] = low;
+    }
+
+    void remove(long key, long hash) {
+      int slot = slotOf(key, hash);
+      if (slot < 0) {
+        return;
+      }
+      int free = slot;
+      for (int i = next(free); rows[i * STRIDE + KEY] != 0; i = next(i)) {
+        int home = home(mix(rows[i * STRIDE + KEY]), capacity);
+        if (distance(home, i) >= distance(free, i)) {
+          System.arraycopy(rows, i * STRIDE, rows, free * STRIDE, STRIDE);
+          free = i;
+        }
+      }
+      rows[free * STRIDE + KEY] = 0;
+      size--;
+    }
+
+    NumberTable grow() {
+      NumberTable grown = new NumberTable(grownCapacity(capacity));
+      for (int i = 0; i < capacity; i++) {
+        int row = i * STRIDE;
+        if (rows[row + KEY] != 0) {
+          grown.put(rows[row + KEY], mix(rows[row + KEY]), rows[row + HIGH], rows[row + LOW]);
+        }
+      }
+      return grown;
+    }
+
+    private int next(int slot) {
+      return slot + 1 == capacity ? 0 : slot + 1;
+    }
+
+    private int distance(int from, int to) {
+      return to >= from ? to - from : to - from + capacity;
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.inter.banking.banking.infrastructure.index;
+
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Liga o índice de contas (banking.account-index.enabled=true)
+ * O índice vira o AccountRepository principal na frente do repositório persistente.
+ * Não vale no modo ledger, que já mantém as contas em memória nas partições
+ */
+@Configuration
+@EnableConfigurationProperties(AccountIndexProperties.class)
+@ConditionalOnProperty(prefix = "banking.account-index", name = "enabled", havingValue = "true")
+@ConditionalOnProperty(prefix = "banking.ledger", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class AccountIndexConfiguration {
+
+  @Bean
+  @Primary
+  public IndexedAccountRepository indexedAccountRepository(
+      @Qualifier("accountStore") AccountRepository store,
+      AccountIndexProperties properties) {
+    return new IndexedAccountRepository(new AccountIndex(properties.segments(), properties.expectedAccounts()), store);
+  }
+}
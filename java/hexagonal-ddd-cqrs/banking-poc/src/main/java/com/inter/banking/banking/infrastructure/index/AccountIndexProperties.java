@@ -0,0 +1,17 @@
+package com.inter.banking.banking.infrastructure.index;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do índice de contas em memória (banking.account-index.*)
+ *
+ * @param enabled          AccountRepository principal passa a consultar o índice antes do repositório persistente
+ * @param segments         segmentos com lock próprio (potência de 2)
+ * @param expectedAccounts contas até as quais o índice não redimensiona (arrays alocados na partida)
+ */
+@ConfigurationProperties(prefix = "banking.account-index")
+public record AccountIndexProperties(
+    boolean enabled,
+    @DefaultValue("64") int segments,
+    @DefaultValue("100000") long expectedAccounts) {}
@@ -0,0 +1,12 @@
+package com.inter.banking.banking.infrastructure.index;
+
+/**
+ * Fotografia do índice de contas
+ *
+ * @param accounts    contas indexadas
+ * @param memoryBytes bytes dos arrays do índice, incluindo posições vazias
+ * @param hits        leituras respondidas pelo índice
+ * @param misses      leituras que foram ao repositório persistente
+ * @param evictions   contas retiradas do índice por conflito de versão ou remoção
+ */
+public record AccountIndexStats(long accounts, long memoryBytes, long hits, long misses, long evictions) {}
@@ -0,0 +1,190 @@
+package com.inter.banking.banking.infrastructure.index;
+
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AccountRepository com o AccountIndex na frente do repositório persistente
+ * Leituras por id e por número vêm do índice; na falta, do repositório, e a conta lida entra no índice.
+ * O repositório continua sendo a fonte da verdade: gravações vão para ele (com a checagem de versão)
+ * e o índice só recebe o estado depois do commit, então rollback não deixa estado fantasma.
+ * Conta que o índice tem desatualizada (outra instância gravou) aparece como conflito de versão no save:
+ * ela sai do índice e a nova tentativa do comando relê do repositório
+ */
+public class IndexedAccountRepository implements AccountRepository, MeterBinder {
+  private final AccountIndex index;
+  private final AccountRepository store;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public IndexedAccountRepository(AccountIndex index, AccountRepository store) {
+    this.index = index;
+    this.store = store;
+  }
+
+  @Override
+  public Account save(Account account) {
+    Account saved;
+    try {
+      saved = store.save(account);
+    } catch (AccountVersionConflictException e) {
+      evict(account.getId());
+      throw e;
+    }
+    afterCommit(() -> index.put(saved));
+    return saved;
+  }
+
+  @Override
+  public Optional<Account> findById(AccountId id) {
+    Optional<Account> indexed = index.find(id);
+    if (indexed.isPresent()) {
+      hits.increment();
+      return indexed;
+    }
+    misses.increment();
+    Optional<Account> loaded = store.findById(id);
+    loaded.ifPresent(this::load);
+    return loaded;
+  }
+
+  // Trava no banco e lê de lá: o estado travado é o que vale até o fim da transação
+  @Override
+  public Optional<Account> findByIdForUpdate(AccountId id) {
+    return store.findByIdForUpdate(id);
+  }
+
+  @Override
+  public Optional<Account> findByAccountNumber(String accountNumber) {
+    Optional<Account> indexed = index.findIdByAccountNumber(accountNumber).flatMap(index::find);
+    if (indexed.isPresent()) {
+      hits.increment();
+      return indexed;
+    }
+    misses.increment();
+    Optional<Account> loaded = store.findByAccountNumber(accountNumber);
+    loaded.ifPresent(this::load);
+    return loaded;
+  }
+
+  @Override
+  public List<Account> findByCustomerId(CustomerId customerId) {
+    return store.findByCustomerId(customerId);
+  }
+
+  @Override
+  public void delete(AccountId id) {
+    store.delete(id);
+    evict(id);
+    afterCommit(() -> index.remove(id));
+  }
+
+  @Override
+  public boolean existsByAccountNumber(String accountNumber) {
+    return index.findIdByAccountNumber(accountNumber).isPresent() || store.existsByAccountNumber(accountNumber);
+  }
+
+  @Override
+  public List<Account> findAllById(Collection<AccountId> ids) {
+    List<Account> found = new ArrayList<>(ids.size());
+    List<AccountId> missing = new ArrayList<>();
+    for (AccountId id : ids) {
+      index.find(id).ifPresentOrElse(found::add, () -> missing.add(id));
+    }
+    hits.add(found.size());
+    if (!missing.isEmpty()) {
+      misses.add(missing.size());
+      List<Account> loaded = store.findAllById(missing);
+      loaded.forEach(this::load);
+      found.addAll(loaded);
+    }
+    return found;
+  }
+
+  @Override
+  public List<Account> saveAll(Collection<Account> accounts) {
+    List<Account> saved;
+    try {
+      saved = store.saveAll(accounts);
+    } catch (AccountVersionConflictException e) {
+      accounts.forEach(account -> evict(account.getId()));
+      throw e;
+    }
+    afterCommit(() -> saved.forEach(index::put));
+    return saved;
+  }
+
+  public AccountIndexStats stats() {
+    return new AccountIndexStats(index.size(), index.memoryBytes(), hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("banking.account.index.size", index, AccountIndex::size)
+        .description("Contas no índice em memória")
+        .register(registry);
+    Gauge.builder("banking.account.index.memory", index, AccountIndex::memoryBytes)
+        .description("Bytes dos arrays do índice de contas")
+        .baseUnit("bytes")
+        .register(registry);
+    FunctionCounter.builder("banking.account.index.lookups", hits, LongAdder::sum)
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("banking.account.index.lookups", misses, LongAdder::sum)
+        .tag("result", "miss")
+        .register(registry);
+  }
+
+  // A leitura pode ser de dentro de uma transação que ainda vai gravar a conta; o índice recebe
+  // a versão lida depois do commit e a descarta se já tiver uma mais nova
+  private void load(Account account) {
+    // Cópia: a instância devolvida ao chamador ainda pode ser alterada antes do commit
+    Account snapshot = new Account(
+        account.getId(),
+        account.getAccountNumber(),
+        account.getCustomerId(),
+        account.getBalanceCents(),
+        account.getHeldCents(),
+        account.getCurrency(),
+        account.getStatus(),
+        account.getCreatedAt(),
+        account.getUpdatedAt(),
+        account.getVersion());
+    afterCommit(() -> index.put(snapshot));
+  }
+
+  private void evict(AccountId id) {
+    index.remove(id);
+    evictions.increment();
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
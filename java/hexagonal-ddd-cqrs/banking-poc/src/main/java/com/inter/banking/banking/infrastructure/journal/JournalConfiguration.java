@@ -0,0 +1,35 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Liga o journal de transações (banking.journal.enabled=true)
+ * Na abertura o journal é reaplicado direto no repositório persistente (também no modo ledger,
+ * que carrega as contas do repositório sob demanda), conferindo cada registro com o extrato:
+ * por isso só abre depois do schema.sql
+ */
+@Configuration
+@EnableConfigurationProperties(JournalProperties.class)
+@ConditionalOnProperty(prefix = "banking.journal", name = "enabled", havingValue = "true")
+public class JournalConfiguration {
+
+  @Bean(destroyMethod = "close")
+  @DependsOnDatabaseInitialization
+  public MappedTransactionJournal transactionJournal(
+      JournalProperties properties,
+      @Qualifier("accountStore") AccountRepository store,
+      AccountStatementStore statementStore,
+      PlatformTransactionManager transactionManager) {
+    return MappedTransactionJournal.open(
+        properties, new JournalRecovery(store, statementStore, new TransactionTemplate(transactionManager)));
+  }
+}
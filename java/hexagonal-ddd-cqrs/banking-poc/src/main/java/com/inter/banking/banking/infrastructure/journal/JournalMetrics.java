@@ -0,0 +1,23 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+/**
+ * Fotografia das métricas do journal
+ *
+ * @param records         registros gravados desde a abertura
+ * @param bytes           bytes gravados desde a abertura
+ * @param bytesPerSecond  vazão média de gravação desde a abertura
+ * @param fsyncs          quantidade de fsyncs (cada um confirma um grupo de registros)
+ * @param recordsPerFsync média de registros confirmados por fsync
+ * @param lastFsyncMicros duração do último fsync
+ * @param maxFsyncMicros  maior duração de fsync observada
+ * @param avgFsyncMicros  duração média dos fsyncs
+ */
+public record JournalMetrics(
+    long records,
+    long bytes,
+    double bytesPerSecond,
+    long fsyncs,
+    double recordsPerFsync,
+    long lastFsyncMicros,
+    long maxFsyncMicros,
+    double avgFsyncMicros) {}
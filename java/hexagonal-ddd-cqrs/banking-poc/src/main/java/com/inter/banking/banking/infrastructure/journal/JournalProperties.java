@@ -0,0 +1,26 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração do journal de transações (banking.journal.*)
+ *
+ * @param enabled          grava débitos/créditos no journal antes de confirmar ao chamador
+ * @param directory        diretório dos segmentos
+ * @param segmentSize      tamanho fixo de cada segmento mapeado em memória
+ * @param groupCommitDelay espera antes de cada fsync para juntar mais gravações (0 faz o fsync assim que houver dado)
+ * @param retention        por quanto tempo os segmentos de execuções anteriores ficam no disco depois de reaplicados
+ *                         (com banking.limits.recover-from-journal, a recarga dos limites lê deles os débitos do dia)
+ */
+@ConfigurationProperties(prefix = "banking.journal")
+public record JournalProperties(
+    boolean enabled,
+    @DefaultValue("data/journal") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("0ms") Duration groupCommitDelay,
+    @DefaultValue("2d") Duration retention) {}
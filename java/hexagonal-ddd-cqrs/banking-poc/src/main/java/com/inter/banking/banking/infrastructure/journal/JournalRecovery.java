@@ -0,0 +1,106 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.banking.domain.port.TransactionJournal.Entry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reaplica o journal no repositório após uma queda
+ * Toda operação confirmada ao chamador está no journal, mas ele é gravado antes do commit: uma
+ * transação desfeita depois do fsync (commit, outbox) deixa no journal uma operação que não aconteceu.
+ * O lançamento do extrato, gravado na mesma transação, é a marca de commit: para cada conta vale o
+ * último registro com lançamento (maior versão; no empate, o gravado por último) e o repositório
+ * que não tiver esse saldo é corrigido. Registros mais novos sem lançamento são descartados
+ */
+@Slf4j
+final class JournalRecovery implements Consumer<List<Entry>> {
+  private final AccountRepository store;
+  private final AccountStatementStore statementStore;
+  private final TransactionTemplate transactionTemplate;
+
+  JournalRecovery(AccountRepository store, AccountStatementStore statementStore, TransactionTemplate transactionTemplate) {
+    this.store = store;
+    this.statementStore = statementStore;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @Override
+  public void accept(List<Entry> entries) {
+    Map<AccountId, List<Entry>> byAccount = new LinkedHashMap<>();
+    for (Entry entry : entries) {
+      byAccount.computeIfAbsent(entry.accountId(), id -> new ArrayList<>()).add(entry);
+    }
+
+    // Do mais novo para o mais antigo: quase sempre o primeiro já está confirmado (uma consulta por conta)
+    Map<AccountId, Entry> latest = new LinkedHashMap<>();
+    int discarded = 0;
+    for (List<Entry> accountEntries : byAccount.values()) {
+      for (Entry entry : newestFirst(accountEntries)) {
+        if (statementStore.contains(entry.accountId(), entry.transactionId())) {
+          latest.put(entry.accountId(), entry);
+          break;
+        }
+        discarded++;
+      }
+    }
+    if (discarded > 0) {
+      log.warn("{} registros do journal sem lançamento no extrato (transação desfeita) ignorados", discarded);
+    }
+
+    Integer repaired = transactionTemplate.execute(status -> {
+      int count = 0;
+      for (Entry entry : latest.values()) {
+        Account account = store.findById(entry.accountId()).orElse(null);
+        if (account == null) {
+          log.warn("Conta {} do journal não existe no repositório, registro ignorado", entry.accountId());
+          continue;
+        }
+        if (FixedPointMoney.from(account.getBalance()).getCents() != entry.balanceAfterCents()) {
+          store.save(withBalance(account, entry));
+          count++;
+        }
+      }
+      return count;
+    });
+
+    log.info("Journal reaplicado: {} registros, {} contas, {} saldos corrigidos",
+        entries.size(), latest.size(), repaired);
+  }
+
+  private static List<Entry> newestFirst(List<Entry> entries) {
+    List<Entry> ordered = new ArrayList<>(entries);
+    // Ordenação estável sobre a lista invertida: no empate de versão, o gravado por último vem antes
+    Collections.reverse(ordered);
+    ordered.sort(Comparator.comparingLong(Entry::version).reversed());
+    return ordered;
+  }
+
+  private static Account withBalance(Account account, Entry entry) {
+    return new Account(
+        account.getId(),
+        account.getAccountNumber(),
+        account.getCustomerId(),
+        entry.balanceAfterCents(),
+        account.getHeldCents(),
+        account.getCurrency(),
+        account.getStatus(),
+        account.getCreatedAt(),
+        LocalDateTime.ofInstant(entry.occurredAt(), ZoneId.systemDefault()),
+        account.getVersion());
+  }
+}
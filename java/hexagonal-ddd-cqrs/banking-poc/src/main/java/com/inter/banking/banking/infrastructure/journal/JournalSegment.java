@@ -0,0 +1,204 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.TransactionJournal.Entry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Segmento do journal: arquivo de tamanho fixo mapeado em memória
+ * Cada registro é [tamanho][crc32c][payload]; tamanho zero marca o fim do que foi gravado.
+ * Na leitura, um registro incompleto ou com CRC inválido encerra o segmento (escrita interrompida pela queda)
+ */
+final class JournalSegment implements AutoCloseable {
+  static final int HEADER_SIZE = Integer.BYTES * 2;
+  static final int PAYLOAD_SIZE = Long.BYTES * 4 + 1 + Long.BYTES * 4;
+  static final int RECORD_SIZE = HEADER_SIZE + PAYLOAD_SIZE;
+
+  private static final String PREFIX = "segment-";
+  private static final String SUFFIX = ".journal";
+  private static final byte DEBIT = 'D';
+  private static final byte CREDIT = 'C';
+
+  private final Path path;
+  private final long index;
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+
+  private JournalSegment(Path path, long index, FileChannel channel, MappedByteBuffer buffer) {
+    this.path = path;
+    this.index = index;
+    this.channel = channel;
+    this.buffer = buffer;
+  }
+
+  /** Cria um segmento novo, já com o tamanho final (o arquivo nasce zerado) */
+  static JournalSegment create(Path directory, long index, int size) {
+    Path path = directory.resolve(fileName(index));
+    try {
+      FileChannel channel = FileChannel.open(path,
+          StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      return new JournalSegment(path, index, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create journal segment " + path, e);
+    }
+  }
+
+  /** Abre um segmento existente para leitura */
+  static JournalSegment open(Path path) {
+    try {
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+      return new JournalSegment(path, indexOf(path), channel,
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open journal segment " + path, e);
+    }
+  }
+
+  /**
+   * Grava o marcador de fim logo depois dos registros íntegros, descartando o registro interrompido
+   * Um segmento retido pode ter sucessores de outra execução; sem isso, a próxima leitura pararia nele
+   */
+  static void truncate(Path path, int records) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(Integer.BYTES), (long) records * RECORD_SIZE);
+      channel.force(false);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not truncate journal segment " + path, e);
+    }
+  }
+
+  static boolean isSegment(Path path) {
+    String name = path.getFileName().toString();
+    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+  }
+
+  static long indexOf(Path path) {
+    String name = path.getFileName().toString();
+    return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+  }
+
+  private static String fileName(long index) {
+    return String.format("%s%020d%s", PREFIX, index, SUFFIX);
+  }
+
+  Path path() {
+    return path;
+  }
+
+  long index() {
+    return index;
+  }
+
+  int position() {
+    return buffer.position();
+  }
+
+  /** Copia o registro para o segmento; false se não couber (o segmento precisa rolar) */
+  boolean append(byte[] record) {
+    // Sobra espaço para o marcador de fim (tamanho zero), que já vem do arquivo zerado
+    if (buffer.remaining() < record.length + Integer.BYTES) {
+      return false;
+    }
+    buffer.put(record);
+    return true;
+  }
+
+  /** Força para o disco a faixa [from, to) do segmento */
+  void force(int from, int to) {
+    if (to > from) {
+      buffer.force(from, to - from);
+    }
+  }
+
+  /**
+   * Lê os registros válidos a partir do início
+   *
+   * @return true se o segmento terminou no marcador de fim; false se parou em um registro corrompido
+   */
+  boolean readInto(List<Entry> entries) {
+    ByteBuffer view = buffer.duplicate().position(0);
+    byte[] payload = new byte[PAYLOAD_SIZE];
+    CRC32C crc = new CRC32C();
+    while (view.remaining() >= Integer.BYTES) {
+      int length = view.getInt();
+      if (length == 0) {
+        return true;
+      }
+      if (length != PAYLOAD_SIZE || view.remaining() < Integer.BYTES + PAYLOAD_SIZE) {
+        return false;
+      }
+      int checksum = view.getInt();
+      view.get(payload);
+      crc.reset();
+      crc.update(payload);
+      if ((int) crc.getValue() != checksum) {
+        return false;
+      }
+      entries.add(decode(ByteBuffer.wrap(payload)));
+    }
+    return true;
+  }
+
+  static byte[] encode(Entry entry) {
+    byte[] record = new byte[RECORD_SIZE];
+    UUID accountId = entry.accountId().getValue();
+    UUID transactionId = UUID.fromString(entry.transactionId());
+    ByteBuffer.wrap(record, HEADER_SIZE, PAYLOAD_SIZE)
+        .putLong(accountId.getMostSignificantBits())
+        .putLong(accountId.getLeastSignificantBits())
+        .putLong(transactionId.getMostSignificantBits())
+        .putLong(transactionId.getLeastSignificantBits())
+        .put(operationCode(entry.operation()))
+        .putLong(entry.amountCents())
+        .putLong(entry.balanceAfterCents())
+        .putLong(entry.version())
+        .putLong(entry.occurredAt().toEpochMilli());
+
+    CRC32C crc = new CRC32C();
+    crc.update(record, HEADER_SIZE, PAYLOAD_SIZE);
+    ByteBuffer.wrap(record, 0, HEADER_SIZE).putInt(PAYLOAD_SIZE).putInt((int) crc.getValue());
+    return record;
+  }
+
+  private static Entry decode(ByteBuffer payload) {
+    AccountId accountId = new AccountId(new UUID(payload.getLong(), payload.getLong()));
+    String transactionId = new UUID(payload.getLong(), payload.getLong()).toString();
+    String operation = payload.get() == DEBIT ? "DEBIT" : "CREDIT";
+    return new Entry(
+        accountId,
+        transactionId,
+        operation,
+        payload.getLong(),
+        payload.getLong(),
+        payload.getLong(),
+        Instant.ofEpochMilli(payload.getLong()));
+  }
+
+  private static byte operationCode(String operation) {
+    return switch (operation) {
+      case "DEBIT" -> DEBIT;
+      case "CREDIT" -> CREDIT;
+      default -> throw new IllegalArgumentException("Unsupported journal operation: " + operation);
+    };
+  }
+
+  @Override
+  public void close() {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not close journal segment " + path, e);
+    }
+  }
+}
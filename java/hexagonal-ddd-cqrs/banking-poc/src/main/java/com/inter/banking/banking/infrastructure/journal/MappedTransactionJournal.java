@@ -0,0 +1,319 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+import com.inter.banking.banking.domain.port.TransactionJournal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Journal append-only em segmentos mapeados em memória, com group commit
+ * Quem grava copia o registro para o segmento ativo e espera o próximo fsync; uma thread faz o
+ * fsync de tudo que foi gravado até ali e libera o grupo inteiro de uma vez.
+ * Ao abrir, os segmentos existentes são lidos e entregues à recuperação; os gravados dentro da
+ * retenção continuam no disco, só para leitura (replay), e os demais são descartados
+ */
+@Slf4j
+public class MappedTransactionJournal implements TransactionJournal, AutoCloseable {
+  private final Path directory;
+  // Segmentos de execuções anteriores, já reaplicados e retidos; não recebem mais gravações
+  private final List<Path> retained;
+  private final int segmentSize;
+  private final Duration groupCommitDelay;
+  private final Duration retention;
+  private final Thread flusher;
+  private final long openedAtNanos = System.nanoTime();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition pending = lock.newCondition();
+  private final Condition flushed = lock.newCondition();
+
+  // Protegidos pelo lock
+  private JournalSegment active;
+  private long written;
+  private long durable;
+  private RuntimeException failure;
+  private boolean running = true;
+  private long fsyncs;
+  private long lastFsyncNanos;
+  private long maxFsyncNanos;
+  private long totalFsyncNanos;
+
+  private MappedTransactionJournal(
+      Path directory, List<Path> retained, JournalSegment active, JournalProperties properties) {
+    this.directory = directory;
+    this.retained = retained;
+    this.active = active;
+    this.segmentSize = Math.toIntExact(properties.segmentSize().toBytes());
+    this.groupCommitDelay = properties.groupCommitDelay();
+    this.retention = properties.retention();
+    this.flusher = new Thread(this::run, "journal-flusher");
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  /**
+   * Abre o journal: reaplica os registros dos segmentos existentes pela recuperação informada,
+   * descarta os que passaram da retenção e começa um novo. Se a recuperação falhar, os segmentos ficam intactos
+   */
+  public static MappedTransactionJournal open(JournalProperties properties, Consumer<List<Entry>> recovery) {
+    Path directory = properties.directory();
+    int segmentSize = Math.toIntExact(properties.segmentSize().toBytes());
+    if (segmentSize < JournalSegment.RECORD_SIZE + Integer.BYTES) {
+      throw new IllegalArgumentException("Journal segment size too small: " + properties.segmentSize());
+    }
+    try {
+      Files.createDirectories(directory);
+      List<Path> segments = listSegments(directory);
+
+      List<Entry> entries = new ArrayList<>();
+      int readable = segments.size();
+      int tornRecords = -1;
+      for (int i = 0; i < segments.size(); i++) {
+        int before = entries.size();
+        try (JournalSegment segment = JournalSegment.open(segments.get(i))) {
+          if (!segment.readInto(entries)) {
+            log.warn("Registro inválido no segmento {}, journal considerado até o último registro íntegro",
+                segment.path().getFileName());
+            if (i < segments.size() - 1) {
+              log.warn("{} segmento(s) posteriores ignorados", segments.size() - 1 - i);
+            }
+            readable = i + 1;
+            tornRecords = entries.size() - before;
+            break;
+          }
+        }
+      }
+      if (!entries.isEmpty()) {
+        log.info("Recuperando {} registros de {} segmento(s) do journal", entries.size(), segments.size());
+        recovery.accept(entries);
+      }
+
+      long nextIndex = segments.isEmpty() ? 0 : JournalSegment.indexOf(segments.getLast()) + 1;
+      for (Path ignored : segments.subList(readable, segments.size())) {
+        Files.delete(ignored);
+      }
+      List<Path> retained = retain(segments.subList(0, readable), tornRecords, properties.retention());
+      return new MappedTransactionJournal(
+          directory, retained, JournalSegment.create(directory, nextIndex, segmentSize), properties);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open transaction journal at " + directory, e);
+    }
+  }
+
+  // O segmento interrompido é fechado no último registro íntegro; os expirados saem do mais antigo
+  // para o mais novo, então os retidos continuam contíguos
+  private static List<Path> retain(List<Path> segments, int tornRecords, Duration retention) throws IOException {
+    if (tornRecords >= 0) {
+      JournalSegment.truncate(segments.getLast(), tornRecords);
+    }
+    FileTime cutoff = FileTime.from(Instant.now().minus(retention));
+    int expired = 0;
+    while (expired < segments.size() && Files.getLastModifiedTime(segments.get(expired)).compareTo(cutoff) <= 0) {
+      Files.delete(segments.get(expired++));
+    }
+    return List.copyOf(segments.subList(expired, segments.size()));
+  }
+
+  private static List<Path> listSegments(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(JournalSegment::isSegment)
+          .sorted(Comparator.comparingLong(JournalSegment::indexOf))
+          .toList();
+    }
+  }
+
+  @Override
+  public void append(Entry entry) {
+    appendAll(List.of(entry));
+  }
+
+  @Override
+  public void appendAll(List<Entry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    List<byte[]> records = new ArrayList<>(entries.size());
+    entries.forEach(entry -> records.add(JournalSegment.encode(entry)));
+
+    lock.lock();
+    try {
+      ensureWritable();
+      for (byte[] record : records) {
+        if (!active.append(record)) {
+          roll();
+          active.append(record);
+        }
+      }
+      written += records.size();
+      long sequence = written;
+      pending.signal();
+
+      // Fechar o journal não impede o último fsync: só a falha interrompe a espera
+      while (durable < sequence) {
+        if (failure != null) {
+          throw new IllegalStateException("Transaction journal is unavailable", failure);
+        }
+        flushed.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for journal fsync", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Lê de novo os segmentos retidos na abertura; o que foi gravado nesta execução não entra */
+  @Override
+  public void replay(Instant since, Consumer<Entry> consumer) {
+    List<Entry> entries = new ArrayList<>();
+    for (Path path : retained) {
+      entries.clear();
+      try (JournalSegment segment = JournalSegment.open(path)) {
+        segment.readInto(entries);
+      }
+      for (Entry entry : entries) {
+        if (!entry.occurredAt().isBefore(since)) {
+          consumer.accept(entry);
+        }
+      }
+    }
+  }
+
+  /** Só a janela da retenção; não sabe se a execução anterior gravava no journal durante toda ela */
+  @Override
+  public boolean retains(Instant since) {
+    return !since.isBefore(Instant.now().minus(retention));
+  }
+
+  public JournalMetrics metrics() {
+    lock.lock();
+    try {
+      long bytes = written * JournalSegment.RECORD_SIZE;
+      double seconds = (System.nanoTime() - openedAtNanos) / 1_000_000_000.0;
+      return new JournalMetrics(
+          written,
+          bytes,
+          seconds > 0 ? bytes / seconds : 0,
+          fsyncs,
+          fsyncs > 0 ? (double) durable / fsyncs : 0,
+          TimeUnit.NANOSECONDS.toMicros(lastFsyncNanos),
+          TimeUnit.NANOSECONDS.toMicros(maxFsyncNanos),
+          fsyncs > 0 ? totalFsyncNanos / 1_000.0 / fsyncs : 0);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Chamado com o lock: o segmento cheio vai inteiro para o disco antes de abrir o próximo
+  private void roll() {
+    JournalSegment full = active;
+    full.force(0, full.position());
+    full.close();
+    active = JournalSegment.create(directory, full.index() + 1, segmentSize);
+    log.debug("Journal rolou para o segmento {}", active.path().getFileName());
+  }
+
+  private void ensureWritable() {
+    if (failure != null) {
+      throw new IllegalStateException("Transaction journal is unavailable", failure);
+    }
+    if (!running) {
+      throw new IllegalStateException("Transaction journal is closed");
+    }
+  }
+
+  private void run() {
+    JournalSegment forcedSegment = null;
+    int forcedPosition = 0;
+    while (true) {
+      JournalSegment segment;
+      int position;
+      long target;
+      lock.lock();
+      try {
+        while (running && written == durable) {
+          pending.await();
+        }
+        if (written == durable) {
+          return;
+        }
+        if (running && !groupCommitDelay.isZero()) {
+          // Segura um pouco para mais gravações entrarem no mesmo fsync
+          pending.awaitNanos(groupCommitDelay.toNanos());
+        }
+        segment = active;
+        position = segment.position();
+        target = written;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      long startedAt = System.nanoTime();
+      try {
+        // Segmentos anteriores já foram forçados ao rolar
+        int from = segment == forcedSegment ? forcedPosition : 0;
+        segment.force(from, position);
+        forcedSegment = segment;
+        forcedPosition = position;
+      } catch (RuntimeException e) {
+        log.error("Falha no fsync do journal, novas gravações serão recusadas", e);
+        lock.lock();
+        try {
+          failure = e;
+          flushed.signalAll();
+        } finally {
+          lock.unlock();
+        }
+        return;
+      }
+      long elapsed = System.nanoTime() - startedAt;
+
+      lock.lock();
+      try {
+        durable = target;
+        fsyncs++;
+        lastFsyncNanos = elapsed;
+        maxFsyncNanos = Math.max(maxFsyncNanos, elapsed);
+        totalFsyncNanos += elapsed;
+        flushed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      running = false;
+      pending.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      flusher.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    active.close();
+  }
+}
@@ -0,0 +1,21 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+import com.inter.banking.banking.domain.port.TransactionJournal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Journal desligado (banking.journal.enabled=false): a durabilidade fica só com o repositório
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.journal", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpTransactionJournal implements TransactionJournal {
+
+  @Override
+  public void append(Entry entry) {}
+
+  @Override
+  public void appendAll(List<Entry> entries) {}
+}
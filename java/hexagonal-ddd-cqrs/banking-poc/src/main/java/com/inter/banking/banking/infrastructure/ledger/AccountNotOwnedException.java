@@ -0,0 +1,12 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+/**
+ * Operação sobre uma conta de outro nó do cluster; no modo ledger só o dono pode alterá-la,
+ * porque o estado em memória dele é a fonte da verdade até o write-behind chegar ao banco
+ */
+public class AccountNotOwnedException extends RuntimeException {
+
+  public AccountNotOwnedException(String message) {
+    super(message);
+  }
+}
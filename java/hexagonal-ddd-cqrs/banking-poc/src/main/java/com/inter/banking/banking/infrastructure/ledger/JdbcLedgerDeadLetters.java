@@ -0,0 +1,39 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import com.inter.banking.banking.domain.model.Account;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Mensagens mortas do write-behind na tabela ledger_dead_letters
+ * Guarda o snapshot que não pôde ser gravado (ou a remoção, com as colunas de estado nulas) e o erro,
+ * para reprocessamento manual; o ledger em memória continua com o estado correto
+ */
+final class JdbcLedgerDeadLetters implements WriteBehindJournal.DeadLetters {
+  private static final String INSERT_SQL =
+      "INSERT INTO ledger_dead_letters (account_id, balance_cents, held_cents, status, ledger_version, error, failed_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  JdbcLedgerDeadLetters(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void record(WriteBehindJournal.Entry entry, RuntimeException failure) {
+    Account snapshot = entry.snapshot();
+    String error = String.valueOf(failure);
+    jdbcTemplate.update(INSERT_SQL,
+        entry.accountId().getValue(),
+        snapshot == null ? null : snapshot.getBalanceCents(),
+        snapshot == null ? null : snapshot.getHeldCents(),
+        snapshot == null ? null : snapshot.getStatus().name(),
+        snapshot == null ? null : snapshot.getVersion(),
+        error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+        Timestamp.from(Instant.now()));
+  }
+}
@@ -0,0 +1,83 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import com.inter.banking.banking.application.service.AccountOperationExecutor;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Executa as operações de conta na partição dona do AccountId (sem locks, sem ida ao banco)
+ * No cluster, conta de outro nó é recusada antes de qualquer mudança: o write-behind daqui
+ * sobrescreveria no banco o que o dono dela aplicou no ledger dele. Uma transferência entre
+ * contas de donos diferentes não é atômica entre dois ledgers e por isso também é recusada
+ */
+public class LedgerAccountOperationExecutor implements AccountOperationExecutor {
+  private final LedgerEngine engine;
+  private final Predicate<AccountId> owned;
+
+  public LedgerAccountOperationExecutor(LedgerEngine engine) {
+    this(engine, accountId -> true);
+  }
+
+  /**
+   * @param owned se a conta é deste nó; fora do cluster, todas são
+   */
+  public LedgerAccountOperationExecutor(LedgerEngine engine, Predicate<AccountId> owned) {
+    this.engine = engine;
+    this.owned = owned;
+  }
+
+  @Override
+  public Account execute(AccountId accountId, Consumer<Account> operation) {
+    requireOwned(accountId);
+    return engine.execute(accountId, operation);
+  }
+
+  @Override
+  public List<Outcome> executeAll(List<Operation> operations) {
+    // Dono checado uma vez por operação: um rebalanceamento no meio não desalinha os resultados
+    boolean[] local = new boolean[operations.size()];
+    List<Operation> ownedOperations = new ArrayList<>(operations.size());
+    for (int i = 0; i < operations.size(); i++) {
+      local[i] = owned.test(operations.get(i).accountId());
+      if (local[i]) {
+        ownedOperations.add(operations.get(i));
+      }
+    }
+    if (ownedOperations.size() == operations.size()) {
+      return engine.executeAll(operations);
+    }
+
+    // Só as operações das contas deste nó vão ao ledger; as demais falham sem tocar na conta
+    List<Outcome> executed = engine.executeAll(ownedOperations);
+    List<Outcome> outcomes = new ArrayList<>(operations.size());
+    int next = 0;
+    for (int i = 0; i < operations.size(); i++) {
+      AccountId accountId = operations.get(i).accountId();
+      outcomes.add(local[i] ? executed.get(next++) : Outcome.failure(accountId, notOwned(accountId)));
+    }
+    return outcomes;
+  }
+
+  @Override
+  public Pair executePair(AccountId first, AccountId second, BiConsumer<Account, Account> operation) {
+    requireOwned(first);
+    requireOwned(second);
+    return engine.executePair(first, second, operation);
+  }
+
+  private void requireOwned(AccountId accountId) {
+    if (!owned.test(accountId)) {
+      throw notOwned(accountId);
+    }
+  }
+
+  private static AccountNotOwnedException notOwned(AccountId accountId) {
+    return new AccountNotOwnedException("Account " + accountId + " is owned by another cluster node");
+  }
+}
@@ -0,0 +1,59 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AccountRepository servido pelo ledger em memória
+ * Leituras por id vêm das partições (estado autoritativo); consultas secundárias usam o
+ * repositório persistente e podem não enxergar contas ainda pendentes no write-behind
+ */
+public class LedgerAccountRepository implements AccountRepository {
+  private final LedgerEngine engine;
+  private final AccountRepository store;
+
+  public LedgerAccountRepository(LedgerEngine engine, AccountRepository store) {
+    this.engine = engine;
+    this.store = store;
+  }
+
+  @Override
+  public Account save(Account account) {
+    return engine.store(account);
+  }
+
+  @Override
+  public Optional<Account> findById(AccountId id) {
+    return engine.find(id);
+  }
+
+  @Override
+  public Optional<Account> findByAccountNumber(String accountNumber) {
+    return engine.findIdByAccountNumber(accountNumber)
+        .or(() -> store.findByAccountNumber(accountNumber).map(Account::getId))
+        .flatMap(engine::find);
+  }
+
+  @Override
+  public List<Account> findByCustomerId(CustomerId customerId) {
+    return store.findByCustomerId(customerId).stream()
+        .map(account -> engine.find(account.getId()).orElse(account))
+        .toList();
+  }
+
+  @Override
+  public void delete(AccountId id) {
+    engine.delete(id);
+  }
+
+  @Override
+  public boolean existsByAccountNumber(String accountNumber) {
+    return engine.findIdByAccountNumber(accountNumber).isPresent()
+        || store.existsByAccountNumber(accountNumber);
+  }
+}
@@ -0,0 +1,61 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.infrastructure.cluster.ClusterMembership;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Liga o modo ledger (banking.ledger.enabled=true)
+ * O ledger vira o AccountRepository principal e o repositório persistente passa a ser
+ * apenas o destino do write-behind
+ */
+@Configuration
+@EnableConfigurationProperties(LedgerProperties.class)
+@ConditionalOnProperty(prefix = "banking.ledger", name = "enabled", havingValue = "true")
+public class LedgerConfiguration {
+
+  @Bean(destroyMethod = "close")
+  public LedgerEngine ledgerEngine(
+      @Qualifier("accountStore") AccountRepository store,
+      PlatformTransactionManager transactionManager,
+      JdbcTemplate jdbcTemplate,
+      LedgerProperties properties) {
+    WriteBehindJournal journal = new WriteBehindJournal(
+        store,
+        new TransactionTemplate(transactionManager),
+        properties.journalCapacity(),
+        properties.flushBatchSize(),
+        properties.flushInterval(),
+        properties.flushMaxAttempts(),
+        new JdbcLedgerDeadLetters(jdbcTemplate));
+    return new LedgerEngine(properties.partitions(), store, journal);
+  }
+
+  @Bean
+  @Primary
+  public LedgerAccountRepository ledgerAccountRepository(
+      LedgerEngine engine, @Qualifier("accountStore") AccountRepository store) {
+    return new LedgerAccountRepository(engine, store);
+  }
+
+  /**
+   * No cluster, só as contas deste nó são alteradas aqui (ver LedgerAccountOperationExecutor)
+   */
+  @Bean
+  public LedgerAccountOperationExecutor ledgerAccountOperationExecutor(
+      LedgerEngine engine, ObjectProvider<ClusterMembership> membership) {
+    ClusterMembership cluster = membership.getIfAvailable();
+    return cluster == null
+        ? new LedgerAccountOperationExecutor(engine)
+        : new LedgerAccountOperationExecutor(engine, cluster::owns);
+  }
+}
@@ -0,0 +1,430 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import com.inter.banking.banking.application.service.AccountOperationExecutor.Operation;
+import com.inter.banking.banking.application.service.AccountOperationExecutor.Outcome;
+import com.inter.banking.banking.application.service.AccountOperationExecutor.Pair;
+import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Ledger single-writer em memória
+ * Cada conta pertence a uma partição (hash do AccountId); a partição mantém o saldo autoritativo
+ * e aplica os comandos em sequência. A persistência acontece depois, pelo journal write-behind.
+ * A versão da conta no ledger avança a cada operação; a versão no repositório avança a cada
+ * gravação do write-behind (que agrupa operações), então as duas não coincidem.
+ * Dentro de uma transação do chamador a operação só entra no estado confirmado (e no write-behind)
+ * depois do commit; até lá o que ela debita ou reserva fica retido, e um rollback devolve a retenção.
+ * O estado devolvido ao chamador é o confirmado mais a diferença da própria operação: as retenções de
+ * outras transações em aberto limitam o que a operação pode gastar, mas não aparecem no saldo informado
+ */
+public class LedgerEngine implements AutoCloseable {
+  private final LedgerPartition[] partitions;
+  private final AccountRepository store;
+  private final WriteBehindJournal journal;
+  private final Map<String, AccountId> accountNumbers = new ConcurrentHashMap<>();
+
+  LedgerEngine(int partitionCount, AccountRepository store, WriteBehindJournal journal) {
+    if (partitionCount < 1) {
+      throw new IllegalArgumentException("Ledger needs at least one partition");
+    }
+    this.partitions = new LedgerPartition[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      partitions[i] = new LedgerPartition(i);
+    }
+    this.store = store;
+    this.journal = journal;
+  }
+
+  /** Aplica a operação na thread dona da conta e devolve o estado resultante (ver reported) */
+  public Account execute(AccountId accountId, Consumer<Account> operation) {
+    LedgerPartition partition = partitionFor(accountId);
+    boolean transactional = TransactionSynchronizationManager.isSynchronizationActive();
+    Change change = partition.call(() -> {
+      Account before = view(partition, accountId);
+      Account after = copyOf(before);
+      operation.accept(after);
+      after.advanceVersion();
+      return apply(change(partition, before, after), transactional);
+    });
+    completeWithTransaction(List.of(change), transactional);
+    return copyOf(change.reported());
+  }
+
+  /**
+   * Aplica um lote agrupando as operações por partição: cada partição recebe uma única tarefa
+   * com as suas operações (na ordem original) e partições diferentes trabalham em paralelo
+   */
+  public List<Outcome> executeAll(List<Operation> operations) {
+    Map<LedgerPartition, List<Integer>> byPartition = new LinkedHashMap<>();
+    for (int i = 0; i < operations.size(); i++) {
+      byPartition.computeIfAbsent(partitionFor(operations.get(i).accountId()), p -> new ArrayList<>()).add(i);
+    }
+
+    boolean transactional = TransactionSynchronizationManager.isSynchronizationActive();
+    Outcome[] outcomes = new Outcome[operations.size()];
+    List<Future<List<Change>>> pending = new ArrayList<>(byPartition.size());
+    byPartition.forEach((partition, indexes) -> pending.add(partition.submit(() -> {
+      // Operações da mesma conta no lote se enxergam: cada uma parte do resultado da anterior
+      Map<AccountId, Change> changed = new LinkedHashMap<>();
+      for (int index : indexes) {
+        Operation operation = operations.get(index);
+        try {
+          Change previous = changed.get(operation.accountId());
+          Account before = previous != null ? previous.before() : view(partition, operation.accountId());
+          Account after = copyOf(previous != null ? previous.after() : before);
+          operation.action().accept(after);
+          after.advanceVersion();
+          Change change = change(partition, before, after);
+          changed.put(operation.accountId(), change);
+          outcomes[index] = Outcome.success(change.reported());
+        } catch (RuntimeException e) {
+          outcomes[index] = Outcome.failure(operation.accountId(), e);
+        }
+      }
+      List<Change> changes = new ArrayList<>(changed.size());
+      changed.values().forEach(change -> changes.add(apply(change, transactional)));
+      return changes;
+    })));
+
+    List<Change> changes = new ArrayList<>();
+    pending.forEach(future -> changes.addAll(LedgerPartition.await(future)));
+    completeWithTransaction(changes, transactional);
+    return Arrays.asList(outcomes);
+  }
+
+  /**
+   * Aplica uma operação sobre duas contas de forma atômica
+   * Mesma partição: uma única tarefa na thread dona (caminho rápido). Partições diferentes: a
+   * partição de menor índice ocupa a sua thread e espera a de maior índice executar a operação;
+   * como a espera é sempre da menor para a maior, não há ciclo (deadlock)
+   */
+  public Pair executePair(AccountId first, AccountId second, BiConsumer<Account, Account> operation) {
+    LedgerPartition firstPartition = partitionFor(first);
+    LedgerPartition secondPartition = partitionFor(second);
+    boolean transactional = TransactionSynchronizationManager.isSynchronizationActive();
+    List<Change> changes;
+    if (firstPartition == secondPartition) {
+      changes = firstPartition.call(
+          () -> applyPair(firstPartition, first, secondPartition, second, operation, transactional));
+    } else {
+      LedgerPartition lower = firstPartition.index() < secondPartition.index() ? firstPartition : secondPartition;
+      LedgerPartition higher = lower == firstPartition ? secondPartition : firstPartition;
+      // Enquanto a tarefa da maior roda, a thread da menor está parada no call: acessar as duas é seguro
+      changes = lower.call(() -> higher.call(
+          () -> applyPair(firstPartition, first, secondPartition, second, operation, transactional)));
+    }
+    completeWithTransaction(changes, transactional);
+    return new Pair(copyOf(changes.get(0).reported()), copyOf(changes.get(1).reported()));
+  }
+
+  // A operação roda sobre cópias: se falhar no meio, nenhuma das contas do ledger muda
+  private List<Change> applyPair(
+      LedgerPartition firstPartition,
+      AccountId first,
+      LedgerPartition secondPartition,
+      AccountId second,
+      BiConsumer<Account, Account> operation,
+      boolean transactional) {
+    Account firstBefore = view(firstPartition, first);
+    Account secondBefore = view(secondPartition, second);
+    Account firstAccount = copyOf(firstBefore);
+    Account secondAccount = copyOf(secondBefore);
+
+    operation.accept(firstAccount, secondAccount);
+    firstAccount.advanceVersion();
+    secondAccount.advanceVersion();
+
+    return List.of(
+        apply(change(firstPartition, firstBefore, firstAccount), transactional),
+        apply(change(secondPartition, secondBefore, secondAccount), transactional));
+  }
+
+  /**
+   * Registra (ou sobrescreve) o estado da conta no ledger, avançando a versão como um save
+   * Dentro de uma transação o registro só acontece no commit
+   */
+  public Account store(Account account) {
+    LedgerPartition partition = partitionFor(account.getId());
+    account.advanceVersion();
+    Account owned = copyOf(account);
+    Runnable register = () -> {
+      partition.call(() -> {
+        partition.accounts.put(owned.getId(), owned);
+        journal.append(copyOf(owned));
+        return null;
+      });
+      accountNumbers.put(owned.getAccountNumber(), owned.getId());
+    };
+    afterCommit(register);
+    return copyOf(account);
+  }
+
+  public Optional<Account> find(AccountId accountId) {
+    LedgerPartition partition = partitionFor(accountId);
+    return partition.call(() -> load(partition, accountId).map(LedgerEngine::copyOf));
+  }
+
+  /** Remove a conta do ledger; dentro de uma transação, só no commit */
+  public void delete(AccountId accountId) {
+    LedgerPartition partition = partitionFor(accountId);
+    afterCommit(() -> {
+      Account removed = partition.call(() -> {
+        Account account = partition.accounts.remove(accountId);
+        journal.appendDelete(accountId);
+        return account;
+      });
+      if (removed != null) {
+        accountNumbers.remove(removed.getAccountNumber());
+      }
+    });
+  }
+
+  /** Número de conta registrado no ledger e possivelmente ainda não gravado no repositório */
+  public Optional<AccountId> findIdByAccountNumber(String accountNumber) {
+    return Optional.ofNullable(accountNumbers.get(accountNumber));
+  }
+
+  public int pendingWrites() {
+    return journal.pending();
+  }
+
+  /** Gravações descartadas para a fila de mensagens mortas do write-behind */
+  public long deadLetteredWrites() {
+    return journal.deadLettered();
+  }
+
+  /**
+   * Solta as contas que passaram a pertencer a outro nó (rebalanceamento do cluster)
+   * A remoção entra na fila de cada partição depois dos comandos já aceitos, e o retorno espera o
+   * write-behind gravar tudo, para o novo dono carregar do repositório o estado final
+   *
+   * @return quantidade de contas soltas
+   */
+  public int release(Predicate<AccountId> released, Duration timeout) {
+    List<Future<List<Account>>> removals = new ArrayList<>(partitions.length);
+    for (LedgerPartition partition : partitions) {
+      removals.add(partition.submit(() -> {
+        List<Account> removed = new ArrayList<>();
+        partition.accounts.values().removeIf(account -> released.test(account.getId()) && removed.add(account));
+        return removed;
+      }));
+    }
+    int count = 0;
+    for (Future<List<Account>> removal : removals) {
+      for (Account account : LedgerPartition.await(removal)) {
+        accountNumbers.remove(account.getAccountNumber());
+        count++;
+      }
+    }
+    if (!journal.awaitFlushed(timeout)) {
+      throw new IllegalStateException("Ledger journal not flushed within " + timeout + " after releasing accounts");
+    }
+    return count;
+  }
+
+  /** Espera o write-behind gravar tudo o que já foi confirmado no ledger */
+  boolean awaitFlushed(Duration timeout) {
+    return journal.awaitFlushed(timeout);
+  }
+
+  int partitionCount() {
+    return partitions.length;
+  }
+
+  LedgerPartition partitionFor(AccountId accountId) {
+    return partitions[Math.floorMod(accountId.hashCode(), partitions.length)];
+  }
+
+  /**
+   * Estado visível para uma nova operação (na thread da partição): o confirmado menos o que transações
+   * em aberto já reservaram. Créditos e liberações de reserva não confirmados não entram, então
+   * nenhuma operação gasta um valor que um rollback pode tirar
+   */
+  private Account view(LedgerPartition partition, AccountId accountId) {
+    Account account = load(partition, accountId)
+        .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountId));
+    LedgerPartition.Reservation reservation = partition.reservations.get(accountId);
+    if (reservation == null) {
+      return copyOf(account);
+    }
+    return new Account(
+        account.getId(),
+        account.getAccountNumber(),
+        account.getCustomerId(),
+        account.getBalanceCents() - reservation.debitedCents,
+        account.getHeldCents() + reservation.heldCents,
+        account.getCurrency(),
+        account.getStatus(),
+        account.getCreatedAt(),
+        account.getUpdatedAt(),
+        account.getVersion());
+  }
+
+  /**
+   * Alteração com o estado a informar (na thread da partição, antes do commit): o confirmado mais a
+   * diferença entre after e before, na versão que o commit grava (uma por conta, mesmo com várias
+   * operações dela no lote). Com transação, outra que confirme antes leva a versão gravada adiante
+   */
+  private Change change(LedgerPartition partition, Account before, Account after) {
+    Account committed = load(partition, after.getId())
+        .orElseThrow(() -> new AccountNotFoundException("Account not found: " + after.getId()));
+    Account reported = new Account(
+        committed.getId(),
+        committed.getAccountNumber(),
+        committed.getCustomerId(),
+        committed.getBalanceCents() + after.getBalanceCents() - before.getBalanceCents(),
+        committed.getHeldCents() + after.getHeldCents() - before.getHeldCents(),
+        committed.getCurrency(),
+        after.getStatus() != before.getStatus() ? after.getStatus() : committed.getStatus(),
+        committed.getCreatedAt(),
+        after.getUpdatedAt(),
+        committed.getVersion() + 1);
+    return new Change(partition, before, after, reported);
+  }
+
+  /**
+   * Sem transação a alteração vale na hora. Com transação, só o que ela tira do disponível (débito,
+   * nova reserva) fica retido na partição; o restante espera o commit (completeWithTransaction)
+   */
+  private Change apply(Change change, boolean transactional) {
+    if (transactional) {
+      change.partition().reserve(change.accountId(), change.debitedCents(), change.heldCents());
+    } else {
+      commit(change);
+    }
+    return change;
+  }
+
+  /** Leva a diferença da alteração ao estado confirmado e enfileira o snapshot no write-behind */
+  private void commit(Change change) {
+    LedgerPartition partition = change.partition();
+    Account account = load(partition, change.accountId())
+        .orElseThrow(() -> new AccountNotFoundException("Account not found: " + change.accountId()));
+    Account before = change.before();
+    Account after = change.after();
+    Account committed = new Account(
+        account.getId(),
+        account.getAccountNumber(),
+        account.getCustomerId(),
+        account.getBalanceCents() + after.getBalanceCents() - before.getBalanceCents(),
+        account.getHeldCents() + after.getHeldCents() - before.getHeldCents(),
+        account.getCurrency(),
+        after.getStatus() != before.getStatus() ? after.getStatus() : account.getStatus(),
+        account.getCreatedAt(),
+        after.getUpdatedAt(),
+        account.getVersion() + 1);
+    partition.accounts.put(committed.getId(), committed);
+    journal.append(copyOf(committed));
+  }
+
+  /**
+   * Fim da transação do chamador: a reserva é devolvida e, no commit, a alteração inteira entra no
+   * estado confirmado. Roda na fila de cada partição, à frente de qualquer comando seguinte do chamador
+   */
+  private void completeWithTransaction(List<Change> changes, boolean transactional) {
+    if (!transactional || changes.isEmpty()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        Map<LedgerPartition, List<Change>> byPartition = new LinkedHashMap<>();
+        changes.forEach(change -> byPartition.computeIfAbsent(change.partition(), p -> new ArrayList<>()).add(change));
+        byPartition.forEach((partition, partitionChanges) -> partition.submit(() -> {
+          for (Change change : partitionChanges) {
+            partition.unreserve(change.accountId(), change.debitedCents(), change.heldCents());
+            if (status == STATUS_COMMITTED) {
+              commit(change);
+            }
+          }
+          return null;
+        }));
+      }
+    });
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  // Executa na thread da partição: primeiro acesso carrega do repositório
+  private Optional<Account> load(LedgerPartition partition, AccountId accountId) {
+    Account account = partition.accounts.get(accountId);
+    if (account == null) {
+      account = store.findById(accountId).orElse(null);
+      if (account == null) {
+        return Optional.empty();
+      }
+      partition.accounts.put(accountId, account);
+      accountNumbers.put(account.getAccountNumber(), accountId);
+    }
+    return Optional.of(account);
+  }
+
+  /** Alteração de uma conta: o estado de onde a operação partiu, o resultado e o que é informado ao chamador */
+  private record Change(LedgerPartition partition, Account before, Account after, Account reported) {
+    AccountId accountId() {
+      return after.getId();
+    }
+
+    long debitedCents() {
+      return Math.max(0, before.getBalanceCents() - after.getBalanceCents());
+    }
+
+    long heldCents() {
+      return Math.max(0, after.getHeldCents() - before.getHeldCents());
+    }
+  }
+
+  static Account copyOf(Account account) {
+    return copyOf(account, account.getVersion());
+  }
+
+  static Account copyOf(Account account, long version) {
+    return new Account(
+        account.getId(),
+        account.getAccountNumber(),
+        account.getCustomerId(),
+        account.getBalanceCents(),
+        account.getHeldCents(),
+        account.getCurrency(),
+        account.getStatus(),
+        account.getCreatedAt(),
+        account.getUpdatedAt(),
+        version);
+  }
+
+  @Override
+  public void close() {
+    for (LedgerPartition partition : partitions) {
+      partition.close();
+    }
+    journal.close();
+  }
+}
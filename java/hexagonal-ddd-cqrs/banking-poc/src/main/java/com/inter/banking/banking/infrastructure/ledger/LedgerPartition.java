@@ -0,0 +1,104 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Partição do ledger: uma única thread é dona das contas da partição
+ * Todo acesso ao mapa acontece nessa thread, por isso não há locks
+ */
+final class LedgerPartition implements AutoCloseable {
+  private final int index;
+  private final ExecutorService writer;
+
+  // Confinados à thread da partição: estado confirmado e, por conta, o que transações em aberto já reservaram
+  final Map<AccountId, Account> accounts = new HashMap<>();
+  final Map<AccountId, Reservation> reservations = new HashMap<>();
+
+  /** Débitos e novas reservas de saldo de transações ainda não confirmadas, em centavos */
+  static final class Reservation {
+    long debitedCents;
+    long heldCents;
+  }
+
+  LedgerPartition(int index) {
+    this.index = index;
+    this.writer = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ledger-partition-" + index);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  int index() {
+    return index;
+  }
+
+  /** Executa a tarefa na thread da partição e espera o resultado, propagando exceções de domínio */
+  <T> T call(Callable<T> task) {
+    return await(submit(task));
+  }
+
+  /** Retém o que a alteração tira do disponível até a transação terminar */
+  void reserve(AccountId accountId, long debitedCents, long heldCents) {
+    if (debitedCents == 0 && heldCents == 0) {
+      return;
+    }
+    Reservation reservation = reservations.computeIfAbsent(accountId, id -> new Reservation());
+    reservation.debitedCents += debitedCents;
+    reservation.heldCents += heldCents;
+  }
+
+  void unreserve(AccountId accountId, long debitedCents, long heldCents) {
+    Reservation reservation = reservations.get(accountId);
+    if (reservation == null) {
+      return;
+    }
+    reservation.debitedCents -= debitedCents;
+    reservation.heldCents -= heldCents;
+    if (reservation.debitedCents == 0 && reservation.heldCents == 0) {
+      reservations.remove(accountId);
+    }
+  }
+
+  <T> Future<T> submit(Callable<T> task) {
+    return writer.submit(task);
+  }
+
+  /** Espera uma tarefa submetida, propagando exceções de domínio */
+  static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Ledger partition task failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for ledger partition", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+        writer.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      writer.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do ledger em memória (banking.ledger.*)
+ *
+ * @param enabled        liga o modo ledger no lugar do read-modify-write no banco
+ * @param partitions     quantidade de partições (uma thread escritora por partição)
+ * @param journalCapacity capacidade da fila write-behind; cheia, a partição espera (backpressure)
+ * @param flushBatchSize máximo de contas gravadas por transação de flush
+ * @param flushInterval  espera máxima antes de gravar um lote incompleto (e entre tentativas de um lote que falhou)
+ * @param flushMaxAttempts tentativas de gravar um lote (e depois cada conta dele) antes da fila de mensagens mortas
+ */
+@ConfigurationProperties(prefix = "banking.ledger")
+public record LedgerProperties(
+    boolean enabled,
+    @DefaultValue("4") int partitions,
+    @DefaultValue("10000") int journalCapacity,
+    @DefaultValue("500") int flushBatchSize,
+    @DefaultValue("50ms") Duration flushInterval,
+    @DefaultValue("5") int flushMaxAttempts) {}
@@ -0,0 +1,236 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Journal write-behind do ledger
+ * As partições enfileiram snapshots das contas alteradas e uma thread grava em lote no repositório,
+ * mantendo só o último estado de cada conta dentro do lote.
+ * O ledger é o único escritor, então o journal acompanha a versão já gravada de cada conta
+ * (a versão do snapshot é a do ledger, que avança por operação e não por gravação).
+ * Um lote que falha maxAttempts vezes é regravado conta a conta, e a conta que ainda falha vai para
+ * a fila de mensagens mortas: uma entrada envenenada não segura o flusher (nem, com a fila cheia, as partições)
+ */
+@Slf4j
+final class WriteBehindJournal implements AutoCloseable {
+  private final AccountRepository store;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<Entry> queue;
+  private final int batchSize;
+  private final Duration flushInterval;
+  private final int maxAttempts;
+  private final DeadLetters deadLetters;
+  private final Thread flusher;
+  // Acessado só pela thread do flusher
+  private final Map<AccountId, Long> persistedVersions = new HashMap<>();
+  // Entradas aceitas e entradas já gravadas (o escritor é só o flusher), para esperar o journal esvaziar
+  private final AtomicLong appended = new AtomicLong();
+  private volatile long written;
+  private final AtomicLong deadLettered = new AtomicLong();
+  private volatile boolean running = true;
+
+  /** Snapshot pendente de gravação; snapshot nulo representa remoção */
+  record Entry(AccountId accountId, Account snapshot) {}
+
+  /** Destino das entradas que esgotaram as tentativas de gravação */
+  @FunctionalInterface
+  interface DeadLetters {
+    void record(Entry entry, RuntimeException failure);
+  }
+
+  WriteBehindJournal(
+      AccountRepository store,
+      TransactionTemplate transactionTemplate,
+      int capacity,
+      int batchSize,
+      Duration flushInterval,
+      int maxAttempts,
+      DeadLetters deadLetters) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("Ledger journal needs at least one flush attempt");
+    }
+    this.store = store;
+    this.transactionTemplate = transactionTemplate;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.flushInterval = flushInterval;
+    this.maxAttempts = maxAttempts;
+    this.deadLetters = deadLetters;
+    this.flusher = new Thread(this::run, "ledger-write-behind");
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  void append(Account snapshot) {
+    enqueue(new Entry(snapshot.getId(), snapshot));
+  }
+
+  void appendDelete(AccountId accountId) {
+    enqueue(new Entry(accountId, null));
+  }
+
+  /** Quantidade de alterações ainda não gravadas */
+  int pending() {
+    return queue.size();
+  }
+
+  /** Entradas descartadas para a fila de mensagens mortas desde a subida */
+  long deadLettered() {
+    return deadLettered.get();
+  }
+
+  /**
+   * Espera tudo o que foi aceito até agora estar gravado no repositório
+   *
+   * @return false se o prazo acabou antes
+   */
+  boolean awaitFlushed(Duration timeout) {
+    long target = appended.get();
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (written < target) {
+      if (System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void enqueue(Entry entry) {
+    try {
+      queue.put(entry);
+      appended.incrementAndGet();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while appending to ledger journal", e);
+    }
+  }
+
+  private void run() {
+    List<Entry> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        Entry first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        flush(batch);
+        written += batch.size();
+        batch.clear();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private void flush(List<Entry> batch) throws InterruptedException {
+    Map<AccountId, Entry> latest = new LinkedHashMap<>();
+    for (Entry entry : batch) {
+      latest.put(entry.accountId(), entry);
+    }
+
+    RuntimeException failure = write(latest.values());
+    if (failure == null) {
+      return;
+    }
+    // Lote esgotou as tentativas: isola a conta com problema gravando uma a uma
+    log.error("Lote do ledger ({} contas) falhou {} vezes, gravando conta a conta", latest.size(), maxAttempts, failure);
+    for (Entry entry : latest.values()) {
+      RuntimeException entryFailure = write(List.of(entry));
+      if (entryFailure != null) {
+        deadLetter(entry, entryFailure);
+      }
+    }
+  }
+
+  /** Grava as entradas numa transação, com até maxAttempts tentativas; devolve a última falha */
+  private RuntimeException write(Collection<Entry> entries) throws InterruptedException {
+    RuntimeException failure = null;
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      Map<AccountId, Long> written = new HashMap<>();
+      try {
+        transactionTemplate.executeWithoutResult(status -> entries.forEach(entry -> write(entry, written)));
+        // Só depois do commit as novas versões passam a valer
+        written.forEach((accountId, version) -> {
+          if (version == null) {
+            persistedVersions.remove(accountId);
+          } else {
+            persistedVersions.put(accountId, version);
+          }
+        });
+        return null;
+      } catch (AccountVersionConflictException e) {
+        // Alguém gravou fora do ledger: o ledger é autoritativo, relê as versões e sobrescreve
+        log.warn("Conflito de versão ao gravar lote do ledger, relendo versões: {}", e.getMessage());
+        failure = e;
+        entries.forEach(entry -> persistedVersions.remove(entry.accountId()));
+      } catch (RuntimeException e) {
+        log.warn("Falha ao gravar lote do ledger ({} contas, tentativa {} de {})", entries.size(), attempt, maxAttempts, e);
+        failure = e;
+        entries.forEach(entry -> persistedVersions.remove(entry.accountId()));
+        if (attempt < maxAttempts) {
+          Thread.sleep(flushInterval.toMillis());
+        }
+      }
+    }
+    return failure;
+  }
+
+  private void deadLetter(Entry entry, RuntimeException failure) {
+    deadLettered.incrementAndGet();
+    persistedVersions.remove(entry.accountId());
+    try {
+      deadLetters.record(entry, failure);
+    } catch (RuntimeException e) {
+      // Último recurso: o snapshot fica no log para reprocessamento manual
+      log.error("Falha ao registrar mensagem morta do ledger: conta {} snapshot {}", entry.accountId(), entry.snapshot(), e);
+    }
+  }
+
+  private void write(Entry entry, Map<AccountId, Long> written) {
+    if (entry.snapshot() == null) {
+      store.delete(entry.accountId());
+      written.put(entry.accountId(), null);
+      return;
+    }
+    long expected = persistedVersions.computeIfAbsent(entry.accountId(),
+        accountId -> store.findById(accountId).map(Account::getVersion).orElse(0L));
+    Account saved = store.save(LedgerEngine.copyOf(entry.snapshot(), expected));
+    written.put(entry.accountId(), saved.getVersion());
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    try {
+      flusher.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.inter.banking.banking.infrastructure.limits;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Janelas de débito de uma conta, cada uma num único long atualizado por CAS (sem lock)
+ * Diária: (dia << 47) | centavos debitados no dia. Por minuto: (minuto << 38) | (anterior << 19) | atual,
+ * as contagens do minuto corrente e do anterior; a estimativa deslizante soma ao minuto corrente a parte
+ * do anterior que ainda cai nos últimos 60 s. Threads na mesma conta disputam só esses dois longs,
+ * contas diferentes não compartilham nada.
+ * Dias e minutos são contados da época Unix; o dia é o do calendário no fuso configurado (calculado fora)
+ */
+final class DebitCounters {
+  static final int MAX_DEBITS_PER_MINUTE = (1 << 19) - 1;
+  static final long MAX_DAILY_CENTS = (1L << 47) - 1;
+
+  private static final long MINUTE_MILLIS = 60_000;
+  private static final int COUNT_BITS = 19;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+  private static final int MINUTE_SHIFT = 2 * COUNT_BITS;
+  private static final int CENTS_BITS = 47;
+  private static final long CENTS_MASK = (1L << CENTS_BITS) - 1;
+  // Contadores removidos pela compactação: quem os encontra pega uma nova entrada no mapa
+  private static final long RETIRED = -1;
+
+  enum Outcome { ACCEPTED, DAILY_EXCEEDED, VELOCITY_EXCEEDED, RETIRED }
+
+  private final AtomicLong daily = new AtomicLong();
+  private final AtomicLong velocity = new AtomicLong();
+
+  static long minuteOf(long epochMillis) {
+    return epochMillis / MINUTE_MILLIS;
+  }
+
+  /**
+   * Conta um débito nas duas janelas, ou nenhuma: recusado pelo limite diário, sai também da contagem por minuto
+   */
+  Outcome tryAcquire(long nowMillis, long day, long amountCents, long dailyLimitCents, int debitsPerMinute) {
+    long minute = minuteOf(nowMillis);
+    long state;
+    long next;
+    do {
+      state = velocity.get();
+      if (state == RETIRED) {
+        return Outcome.RETIRED;
+      }
+      long previous = previousCount(state, minute);
+      long current = currentCount(state, minute);
+      long estimate = current + previous * (MINUTE_MILLIS - nowMillis % MINUTE_MILLIS) / MINUTE_MILLIS;
+      if (estimate >= debitsPerMinute) {
+        return Outcome.VELOCITY_EXCEEDED;
+      }
+      next = (minute << MINUTE_SHIFT) | (previous << COUNT_BITS) | (current + 1);
+    } while (!velocity.compareAndSet(state, next));
+
+    do {
+      state = daily.get();
+      long spent = spentOn(state, day);
+      if (amountCents > dailyLimitCents - spent) {
+        releaseDebit(minute);
+        return Outcome.DAILY_EXCEEDED;
+      }
+      next = (day << CENTS_BITS) | (spent + amountCents);
+    } while (!daily.compareAndSet(state, next));
+    return Outcome.ACCEPTED;
+  }
+
+  /** Desfaz um débito aceito em acquiredAtMillis (transação desfeita); janelas que já fecharam não mudam */
+  void release(long acquiredAtMillis, long day, long amountCents) {
+    releaseDebit(minuteOf(acquiredAtMillis));
+    long state;
+    long spent;
+    do {
+      state = daily.get();
+      spent = spentOn(state, day);
+      if (spent == 0) {
+        return;
+      }
+    } while (!daily.compareAndSet(state, (day << CENTS_BITS) | Math.max(0, spent - amountCents)));
+  }
+
+  /** Soma ao dia débitos feitos antes da subida da aplicação (recarga a partir do extrato ou do journal) */
+  void restoreDaily(long day, long amountCents) {
+    long state;
+    long spent;
+    do {
+      state = daily.get();
+      spent = spentOn(state, day);
+    } while (!daily.compareAndSet(state, (day << CENTS_BITS) | Math.min(MAX_DAILY_CENTS, spent + amountCents)));
+  }
+
+  long spentOn(long day) {
+    return spentOn(daily.get(), day);
+  }
+
+  /**
+   * Aposenta os contadores sem débitos no dia nem em janela por minuto ainda aberta
+   * Depois de aposentados nenhuma contagem entra aqui: tryAcquire devolve RETIRED antes de tocar no diário
+   */
+  boolean retireIfIdle(long nowMillis, long day) {
+    long state = velocity.get();
+    if (state == RETIRED) {
+      return true;
+    }
+    if ((state >>> MINUTE_SHIFT) >= minuteOf(nowMillis) - 1 || spentOn(day) > 0) {
+      return false;
+    }
+    return velocity.compareAndSet(state, RETIRED);
+  }
+
+  private void releaseDebit(long minute) {
+    long state;
+    long next;
+    do {
+      state = velocity.get();
+      long stateMinute = state >>> MINUTE_SHIFT;
+      if (state == RETIRED) {
+        return;
+      } else if (stateMinute == minute && (state & COUNT_MASK) > 0) {
+        next = state - 1;
+      } else if (stateMinute == minute + 1 && ((state >>> COUNT_BITS) & COUNT_MASK) > 0) {
+        next = state - (1L << COUNT_BITS);
+      } else {
+        return;
+      }
+    } while (!velocity.compareAndSet(state, next));
+  }
+
+  private static long previousCount(long state, long minute) {
+    long stateMinute = state >>> MINUTE_SHIFT;
+    if (stateMinute == minute) {
+      return (state >>> COUNT_BITS) & COUNT_MASK;
+    }
+    return stateMinute == minute - 1 ? state & COUNT_MASK : 0;
+  }
+
+  private static long currentCount(long state, long minute) {
+    return (state >>> MINUTE_SHIFT) == minute ? state & COUNT_MASK : 0;
+  }
+
+  private static long spentOn(long state, long day) {
+    return (state >>> CENTS_BITS) == day ? state & CENTS_MASK : 0;
+  }
+}
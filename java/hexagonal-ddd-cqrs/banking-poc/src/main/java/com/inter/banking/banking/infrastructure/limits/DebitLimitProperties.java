@@ -0,0 +1,37 @@
+package com.inter.banking.banking.infrastructure.limits;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+
+/**
+ * Limites de débito por conta (banking.limits.*)
+ *
+ * @param enabled            desligado, nenhum débito é limitado
+ * @param zone               fuso do dia calendário do limite diário
+ * @param defaultTier        faixa das contas sem faixa atribuída
+ * @param compactionInterval intervalo da remoção dos contadores de contas sem débitos no dia nem no último minuto
+ * @param recoverFromJournal na subida, soma os débitos do dia pelo journal (leitura sequencial local) em vez do
+ *                           extrato, quando o journal ainda retém o dia inteiro; débito que voltou depois do fsync
+ *                           conta, o que só antecipa o limite daquele dia
+ * @param tiers              limites de cada faixa, pelo nome
+ */
+@ConfigurationProperties(prefix = "banking.limits")
+public record DebitLimitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("America/Sao_Paulo") ZoneId zone,
+    @DefaultValue("standard") String defaultTier,
+    @DefaultValue("5m") Duration compactionInterval,
+    @DefaultValue("false") boolean recoverFromJournal,
+    Map<String, Tier> tiers) {
+
+  /**
+   * @param dailyAmount     valor máximo debitado por dia
+   * @param debitsPerMinute débitos por minuto, em janela deslizante
+   */
+  public record Tier(BigDecimal dailyAmount, int debitsPerMinute) {}
+}
@@ -0,0 +1,15 @@
+package com.inter.banking.banking.infrastructure.limits;
+
+/**
+ * Estado dos limites de débito
+ *
+ * @param trackedAccounts  contas com contadores em memória
+ * @param rejectedDaily    débitos recusados pelo limite diário
+ * @param rejectedVelocity débitos recusados pelo limite por minuto
+ * @param compacted        contadores removidos por inatividade
+ */
+public record DebitLimitStats(
+    long trackedAccounts,
+    long rejectedDaily,
+    long rejectedVelocity,
+    long compacted) {}
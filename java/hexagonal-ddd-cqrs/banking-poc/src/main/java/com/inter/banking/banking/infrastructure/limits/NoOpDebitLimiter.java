@@ -0,0 +1,25 @@
+package com.inter.banking.banking.infrastructure.limits;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.port.DebitLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limites de débito desligados (banking.limits.enabled=false): todo débito segue direto para a conta
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.limits", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpDebitLimiter implements DebitLimiter {
+
+  @Override
+  public Permit acquire(AccountId accountId, FixedPointMoney amount) {
+    return Permit.NONE;
+  }
+
+  @Override
+  public Limits assignTier(AccountId accountId, String tier) {
+    throw new IllegalArgumentException("Debit limits are disabled");
+  }
+}
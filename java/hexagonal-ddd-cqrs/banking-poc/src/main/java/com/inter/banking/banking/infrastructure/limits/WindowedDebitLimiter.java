@@ -0,0 +1,329 @@
+package com.inter.banking.banking.infrastructure.limits;
+
+import com.inter.banking.banking.domain.exception.DebitLimitExceededException;
+import com.inter.banking.banking.domain.exception.VelocityLimitExceededException;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.banking.domain.port.DebitLimiter;
+import com.inter.banking.banking.domain.port.TransactionJournal;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limites de débito em memória, por conta: valor diário (dia calendário) e débitos por minuto (janela deslizante)
+ * Os contadores ficam num ConcurrentHashMap por AccountId, dois longs por conta atualizados por CAS
+ * (DebitCounters): débitos simultâneos na mesma conta disputam só os contadores dela, e a leitura de uma
+ * conta já conhecida não trava o mapa. Contas sem débitos no dia são removidas periodicamente.
+ * Faixas fora da padrão ficam na tabela account_limit_tiers e numa cópia em memória; nada é lido do
+ * banco por débito. Na subida, a faixa de cada conta e o total debitado no dia são recarregados; a janela
+ * por minuto recomeça vazia. O total vem dos lançamentos do extrato, gravados na transação de todo débito
+ * (capturas, transferências e lotes também), então só os confirmados contam. Com recoverFromJournal, o
+ * journal que ainda retém o dia inteiro evita a varredura do extrato.
+ * A contagem vale para o processo que atende a conta (no cluster, o nó dono)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(DebitLimitProperties.class)
+@ConditionalOnProperty(prefix = "banking.limits", name = "enabled", havingValue = "true")
+public class WindowedDebitLimiter implements DebitLimiter, MeterBinder, AutoCloseable {
+  private static final String SELECT_TIERS_SQL = "SELECT account_id, tier FROM account_limit_tiers";
+  private static final String MERGE_TIER_SQL =
+      "MERGE INTO account_limit_tiers t USING (VALUES (CAST(? AS UUID), CAST(? AS VARCHAR(40)), CAST(? AS TIMESTAMP))) "
+          + "s (account_id, tier, updated_at) ON t.account_id = s.account_id "
+          + "WHEN MATCHED THEN UPDATE SET tier = s.tier, updated_at = s.updated_at "
+          + "WHEN NOT MATCHED THEN INSERT (account_id, tier, updated_at) VALUES (s.account_id, s.tier, s.updated_at)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final AccountStatementStore statementStore;
+  private final TransactionJournal journal;
+  private final boolean recoverFromJournal;
+  private final ZoneId zone;
+  private final Map<String, Limits> tiers;
+  private final Limits defaultLimits;
+  private final Map<AccountId, DebitCounters> counters = new ConcurrentHashMap<>();
+  // Só as contas fora da faixa padrão
+  private final Map<AccountId, Limits> accountTiers = new ConcurrentHashMap<>();
+  // Débitos a partir daqui já estão na memória; a recarga pega só os anteriores
+  private final Instant startedAt = Instant.now();
+  private final ScheduledExecutorService compactor;
+
+  private final LongAdder rejectedDaily = new LongAdder();
+  private final LongAdder rejectedVelocity = new LongAdder();
+  private final LongAdder compacted = new LongAdder();
+  private volatile Day today;
+
+  /** Dia calendário no fuso configurado, com os limites em epoch millis (fim exclusivo) */
+  private record Day(long epochDay, long startMillis, long endMillis) {}
+
+  public WindowedDebitLimiter(
+      JdbcTemplate jdbcTemplate,
+      AccountStatementStore statementStore,
+      TransactionJournal journal,
+      DebitLimitProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.statementStore = statementStore;
+    this.journal = journal;
+    this.recoverFromJournal = properties.recoverFromJournal();
+    this.zone = properties.zone();
+    this.tiers = limits(properties.tiers());
+    this.defaultLimits = tiers.get(properties.defaultTier());
+    if (defaultLimits == null) {
+      throw new IllegalArgumentException("Default limit tier not configured: " + properties.defaultTier());
+    }
+    this.today = day(System.currentTimeMillis());
+    this.compactor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("debit-limits-compaction").daemon(true).factory());
+    long interval = properties.compactionInterval().toMillis();
+    this.compactor.scheduleWithFixedDelay(this::compact, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Permit acquire(AccountId accountId, FixedPointMoney amount) {
+    long now = System.currentTimeMillis();
+    long day = dayOf(now);
+    Limits limits = accountTiers.getOrDefault(accountId, defaultLimits);
+
+    DebitCounters accountCounters;
+    DebitCounters.Outcome outcome;
+    do {
+      accountCounters = counters(accountId);
+      outcome = accountCounters.tryAcquire(now, day, amount.getCents(), limits.dailyAmountCents(), limits.debitsPerMinute());
+    } while (outcome == DebitCounters.Outcome.RETIRED);
+
+    switch (outcome) {
+      case DAILY_EXCEEDED -> {
+        rejectedDaily.increment();
+        throw new DebitLimitExceededException("Daily debit limit of "
+            + FixedPointMoney.toBigDecimal(limits.dailyAmountCents()) + " exceeded for account " + accountId);
+      }
+      case VELOCITY_EXCEEDED -> {
+        rejectedVelocity.increment();
+        throw new VelocityLimitExceededException("Debit rate limit of "
+            + limits.debitsPerMinute() + " per minute exceeded for account " + accountId);
+      }
+    }
+
+    Permit permit = new CountedDebit(accountCounters, now, day, amount.getCents());
+    releaseOnRollback(permit);
+    return permit;
+  }
+
+  @Override
+  public Limits assignTier(AccountId accountId, String tier) {
+    Limits limits = tiers.get(tier);
+    if (limits == null) {
+      throw new IllegalArgumentException("Unknown limit tier: " + tier);
+    }
+    jdbcTemplate.update(MERGE_TIER_SQL, accountId.getValue(), tier, Timestamp.from(Instant.now()));
+
+    // Memória só depois do commit: um rollback não deixa a conta com a faixa nova
+    Runnable apply = () -> {
+      if (limits == defaultLimits) {
+        accountTiers.remove(accountId);
+      } else {
+        accountTiers.put(accountId, limits);
+      }
+    };
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply.run();
+      return limits;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        apply.run();
+      }
+    });
+    return limits;
+  }
+
+  /**
+   * Recarrega as faixas atribuídas e o total debitado hoje antes da subida
+   * Depois que o schema do banco está pronto; até lá as contas usam a faixa padrão
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void recover() {
+    int[] assigned = {0};
+    jdbcTemplate.query(SELECT_TIERS_SQL, rs -> {
+      String tier = rs.getString("tier");
+      Limits limits = tiers.get(tier);
+      if (limits == null) {
+        log.warn("Faixa de limites {} não configurada, conta {} fica na faixa padrão", tier, rs.getObject("account_id"));
+      } else if (limits != defaultLimits) {
+        accountTiers.putIfAbsent(new AccountId(rs.getObject("account_id", UUID.class)), limits);
+        assigned[0]++;
+      }
+    });
+
+    Day day = today;
+    Instant dayStart = Instant.ofEpochMilli(day.startMillis());
+    boolean fromJournal = recoverFromJournal && journal.retains(dayStart);
+    Map<AccountId, Long> debited = fromJournal ? journalDebits(dayStart) : statementDebits(dayStart);
+    debited.forEach((accountId, cents) -> counters(accountId).restoreDaily(day.epochDay(), cents));
+    log.info("Limites de débito: {} contas fora da faixa padrão, débitos do dia recarregados do {} para {} contas",
+        assigned[0], fromJournal ? "journal" : "extrato", debited.size());
+  }
+
+  /** Débitos confirmados do dia: cada um tem lançamento no extrato, gravado na transação do comando */
+  private Map<AccountId, Long> statementDebits(Instant dayStart) {
+    Map<AccountId, Long> debited = new HashMap<>();
+    statementStore.debitTotals(dayStart, startedAt)
+        .forEach(total -> debited.put(total.accountId(), total.amountCents()));
+    return debited;
+  }
+
+  /** Débitos do dia retidos no journal, inclusive os de transações que voltaram depois do fsync */
+  private Map<AccountId, Long> journalDebits(Instant dayStart) {
+    Map<AccountId, Long> debited = new HashMap<>();
+    journal.replay(dayStart, entry -> {
+      if ("DEBIT".equals(entry.operation()) && entry.occurredAt().isBefore(startedAt)) {
+        debited.merge(entry.accountId(), entry.amountCents(), Long::sum);
+      }
+    });
+    return debited;
+  }
+
+  public DebitLimitStats stats() {
+    return new DebitLimitStats(counters.size(), rejectedDaily.sum(), rejectedVelocity.sum(), compacted.sum());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("banking.limits.accounts", counters, Map::size)
+        .register(registry);
+    FunctionCounter.builder("banking.limits.rejected", rejectedDaily, LongAdder::sum)
+        .tag("limit", "daily")
+        .register(registry);
+    FunctionCounter.builder("banking.limits.rejected", rejectedVelocity, LongAdder::sum)
+        .tag("limit", "velocity")
+        .register(registry);
+    FunctionCounter.builder("banking.limits.compacted", compacted, LongAdder::sum)
+        .register(registry);
+  }
+
+  @Override
+  public void close() {
+    compactor.shutdownNow();
+  }
+
+  private DebitCounters counters(AccountId accountId) {
+    // get antes do computeIfAbsent: conta já conhecida não passa pelo lock do bin
+    DebitCounters existing = counters.get(accountId);
+    return existing != null ? existing : counters.computeIfAbsent(accountId, id -> new DebitCounters());
+  }
+
+  private static void releaseOnRollback(Permit permit) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_ROLLED_BACK) {
+          permit.release();
+        }
+      }
+    });
+  }
+
+  // Devolvido uma única vez: o item de lote que falhou e o rollback da mesma transação não descontam duas vezes
+  private static final class CountedDebit implements Permit {
+    private final DebitCounters accountCounters;
+    private final long acquiredAt;
+    private final long day;
+    private final long amountCents;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    CountedDebit(DebitCounters accountCounters, long acquiredAt, long day, long amountCents) {
+      this.accountCounters = accountCounters;
+      this.acquiredAt = acquiredAt;
+      this.day = day;
+      this.amountCents = amountCents;
+    }
+
+    @Override
+    public void release() {
+      if (released.compareAndSet(false, true)) {
+        accountCounters.release(acquiredAt, day, amountCents);
+      }
+    }
+  }
+
+  private void compact() {
+    try {
+      long now = System.currentTimeMillis();
+      long day = dayOf(now);
+      long removed = 0;
+      for (Map.Entry<AccountId, DebitCounters> entry : counters.entrySet()) {
+        if (entry.getValue().retireIfIdle(now, day) && counters.remove(entry.getKey(), entry.getValue())) {
+          removed++;
+        }
+      }
+      compacted.add(removed);
+    } catch (RuntimeException e) {
+      // Exceção não pode cancelar o agendamento da compactação
+      log.error("Falha na compactação dos limites de débito", e);
+    }
+  }
+
+  private long dayOf(long nowMillis) {
+    Day day = today;
+    if (nowMillis < day.startMillis() || nowMillis >= day.endMillis()) {
+      day = day(nowMillis);
+      today = day;
+    }
+    return day.epochDay();
+  }
+
+  private Day day(long nowMillis) {
+    LocalDate date = Instant.ofEpochMilli(nowMillis).atZone(zone).toLocalDate();
+    return new Day(
+        date.toEpochDay(),
+        date.atStartOfDay(zone).toInstant().toEpochMilli(),
+        date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+  }
+
+  private static Map<String, Limits> limits(Map<String, DebitLimitProperties.Tier> configured) {
+    Map<String, Limits> limits = new HashMap<>();
+    if (configured == null) {
+      return limits;
+    }
+    configured.forEach((name, tier) -> {
+      long dailyCents = FixedPointMoney.brl(tier.dailyAmount()).getCents();
+      if (dailyCents < 0 || dailyCents > DebitCounters.MAX_DAILY_CENTS) {
+        throw new IllegalArgumentException("Daily limit out of range for tier " + name + ": " + tier.dailyAmount());
+      }
+      if (tier.debitsPerMinute() < 1 || tier.debitsPerMinute() > DebitCounters.MAX_DEBITS_PER_MINUTE) {
+        throw new IllegalArgumentException("Debits per minute out of range for tier " + name + ": " + tier.debitsPerMinute());
+      }
+      limits.put(name, new Limits(name, dailyCents, tier.debitsPerMinute()));
+    });
+    return limits;
+  }
+}
@@ -0,0 +1,26 @@
+package com.inter.banking.banking.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas do caminho quente (banking.metrics.enabled, padrão true)
+ * Expostas em /actuator/metrics e /actuator/prometheus, com histogramas para percentis
+ * (management.metrics.distribution no application.yml)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "banking.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HotPathMetricsConfiguration {
+
+  // static: post processor não pode depender da instância da configuração
+  @Bean
+  public static HotPathMetricsPostProcessor hotPathMetricsPostProcessor(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      ObjectProvider<ObservationRegistry> observationRegistry) {
+    return new HotPathMetricsPostProcessor(meterRegistry, observationRegistry);
+  }
+}
@@ -0,0 +1,163 @@
+package com.inter.banking.banking.infrastructure.metrics;
+
+import com.inter.banking.banking.domain.exception.AccountNotActiveException;
+import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.exception.DuplicateIdempotencyKeyException;
+import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
+import com.inter.banking.banking.domain.exception.InvalidAmountException;
+import com.inter.banking.banking.domain.exception.InvalidTransferException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede os casos de uso do AccountCommandService e as chamadas aos ports secundários
+ * Caso de uso: observation banking.command (timer + span quando houver tracer) e contador
+ * banking.command.rejections por motivo de recusa do domínio.
+ * Port: timer banking.port por port/método/adapter/resultado, com os timers resolvidos uma vez
+ * por método, para o custo no caminho quente ser só o relógio e o registro no histograma
+ */
+final class HotPathMetricsInterceptor implements MethodInterceptor {
+  static final String COMMAND = "banking.command";
+  static final String REJECTIONS = "banking.command.rejections";
+  static final String PORT = "banking.port";
+
+  private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+  private final ObjectProvider<ObservationRegistry> observationRegistryProvider;
+  private final List<Class<?>> ports;
+  private final Map<Class<?>, Map<Method, PortTimers>> portTimers = new ConcurrentHashMap<>();
+  // Resolvidos na primeira chamada: o post processor sobe antes dos registries
+  private volatile MeterRegistry meterRegistry;
+  private volatile ObservationRegistry observationRegistry;
+
+  private record PortTimers(Timer success, Timer error) {}
+
+  HotPathMetricsInterceptor(
+      ObjectProvider<MeterRegistry> meterRegistryProvider,
+      ObjectProvider<ObservationRegistry> observationRegistryProvider,
+      List<Class<?>> ports) {
+    this.meterRegistryProvider = meterRegistryProvider;
+    this.observationRegistryProvider = observationRegistryProvider;
+    this.ports = List.copyOf(ports);
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Object target = invocation.getThis();
+    Class<?> targetClass = target == null ? invocation.getMethod().getDeclaringClass() : AopUtils.getTargetClass(target);
+    Class<?> port = portOf(targetClass, invocation.getMethod());
+    return port == null ? observeCommand(invocation) : timePort(invocation, port, targetClass);
+  }
+
+  private Object observeCommand(MethodInvocation invocation) throws Throwable {
+    String useCase = invocation.getMethod().getName();
+    Observation observation = Observation.createNotStarted(COMMAND, observationRegistry())
+        .lowCardinalityKeyValue("use.case", useCase)
+        .start();
+    try (Observation.Scope scope = observation.openScope()) {
+      return invocation.proceed();
+    } catch (Throwable e) {
+      observation.error(e);
+      String reason = rejectionReason(e);
+      if (reason != null) {
+        Counter.builder(REJECTIONS)
+            .tag("use.case", useCase)
+            .tag("reason", reason)
+            .register(meterRegistry())
+            .increment();
+      }
+      throw e;
+    } finally {
+      observation.stop();
+    }
+  }
+
+  private Object timePort(MethodInvocation invocation, Class<?> port, Class<?> targetClass) throws Throwable {
+    PortTimers timers = portTimers
+        .computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(invocation.getMethod(), method -> register(port, targetClass, method));
+    long start = System.nanoTime();
+    try {
+      Object result = invocation.proceed();
+      timers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (Throwable e) {
+      timers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+  }
+
+  private PortTimers register(Class<?> port, Class<?> targetClass, Method method) {
+    return new PortTimers(portTimer(port, targetClass, method, "success"), portTimer(port, targetClass, method, "error"));
+  }
+
+  private Timer portTimer(Class<?> port, Class<?> targetClass, Method method, String outcome) {
+    return Timer.builder(PORT)
+        .tag("port", port.getSimpleName())
+        .tag("method", method.getName())
+        .tag("adapter", targetClass.getSimpleName())
+        .tag("outcome", outcome)
+        .register(meterRegistry());
+  }
+
+  /** Port ao qual o método pertence, ou null quando é um caso de uso */
+  Class<?> portOf(Class<?> targetClass, Method method) {
+    for (Class<?> port : ports) {
+      if (port.isAssignableFrom(targetClass) && declares(port, method)) {
+        return port;
+      }
+    }
+    return null;
+  }
+
+  private static boolean declares(Class<?> port, Method method) {
+    try {
+      port.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static String rejectionReason(Throwable e) {
+    return switch (e) {
+      case InsufficientBalanceException ignored -> "insufficient_balance";
+      case InvalidAmountException ignored -> "invalid_amount";
+      case AccountNotActiveException ignored -> "inactive_account";
+      case AccountNotFoundException ignored -> "account_not_found";
+      case InvalidTransferException ignored -> "invalid_transfer";
+      case DuplicateIdempotencyKeyException ignored -> "duplicate_idempotency_key";
+      default -> null;
+    };
+  }
+
+  private MeterRegistry meterRegistry() {
+    MeterRegistry registry = meterRegistry;
+    if (registry == null) {
+      registry = meterRegistryProvider.getObject();
+      meterRegistry = registry;
+    }
+    return registry;
+  }
+
+  private ObservationRegistry observationRegistry() {
+    ObservationRegistry registry = observationRegistry;
+    if (registry == null) {
+      registry = observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP);
+      observationRegistry = registry;
+    }
+    return registry;
+  }
+}
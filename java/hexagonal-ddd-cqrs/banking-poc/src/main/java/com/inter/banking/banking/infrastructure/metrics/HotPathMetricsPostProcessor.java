@@ -0,0 +1,66 @@
+package com.inter.banking.banking.infrastructure.metrics;
+
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.domain.port.AccountNumberGenerator;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.banking.domain.port.AuditService;
+import com.inter.banking.banking.domain.port.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Aplica o HotPathMetricsInterceptor aos casos de uso e aos adapters dos ports medidos
+ * Proxies já existentes (@Transactional, @Repository) só ganham o advisor, antes dos demais,
+ * para o tempo do caso de uso incluir o commit. Os demais viram proxy por classe, mantendo
+ * a injeção pelo tipo concreto
+ */
+public class HotPathMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+  static final List<Class<?>> PORTS = List.of(
+      AccountRepository.class,
+      AccountStatementStore.class,
+      AuditService.class,
+      NotificationService.class,
+      AccountNumberGenerator.class);
+
+  public HotPathMetricsPostProcessor(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      ObjectProvider<ObservationRegistry> observationRegistry) {
+    HotPathMetricsInterceptor interceptor = new HotPathMetricsInterceptor(meterRegistry, observationRegistry, PORTS);
+    this.advisor = new DefaultPointcutAdvisor(new HotPathPointcut(interceptor), interceptor);
+    this.beforeExistingAdvisors = true;
+    setProxyTargetClass(true);
+  }
+
+  private static final class HotPathPointcut extends StaticMethodMatcherPointcut {
+    private final HotPathMetricsInterceptor interceptor;
+
+    private HotPathPointcut(HotPathMetricsInterceptor interceptor) {
+      this.interceptor = interceptor;
+      setClassFilter(HotPathPointcut::isInstrumented);
+    }
+
+    private static boolean isInstrumented(Class<?> targetClass) {
+      return AccountCommandService.class.isAssignableFrom(targetClass)
+          || PORTS.stream().anyMatch(port -> port.isAssignableFrom(targetClass));
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+      if (interceptor.portOf(targetClass, method) != null) {
+        return true;
+      }
+      return AccountCommandService.class.isAssignableFrom(targetClass)
+          && method.getDeclaringClass() == AccountCommandService.class
+          && Modifier.isPublic(method.getModifiers());
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.inter.banking.banking.infrastructure.outbox;
+
+import com.inter.banking.banking.domain.event.AccountEvent;
+
+import java.util.List;
+
+/**
+ * Evento que esgotou as tentativas em algum handler
+ *
+ * @param event    o evento como foi gravado na outbox
+ * @param handlers os handlers que não o aplicaram; os demais já o receberam e não devem receber de novo
+ * @param error    a última falha, truncada
+ */
+public record DeadLetter(AccountEvent event, List<String> handlers, String error) {}
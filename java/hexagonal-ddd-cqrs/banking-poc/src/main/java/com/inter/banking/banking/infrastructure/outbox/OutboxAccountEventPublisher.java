@@ -0,0 +1,60 @@
+package com.inter.banking.banking.infrastructure.outbox;
+
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.port.AccountEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava os eventos na tabela outbox dentro da transação corrente e só os entrega ao dispatcher após o commit
+ * Os eventos da transação vão num único batch antes do commit: falha na gravação desfaz o comando,
+ * rollback descarta os eventos. Fora de transação o evento é gravado e segue direto para a fila
+ */
+public class OutboxAccountEventPublisher implements AccountEventPublisher {
+  private final OutboxStore store;
+  private final OutboxDispatcher dispatcher;
+
+  OutboxAccountEventPublisher(OutboxStore store, OutboxDispatcher dispatcher) {
+    this.store = store;
+    this.dispatcher = dispatcher;
+  }
+
+  @Override
+  public void publish(AccountEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      dispatcher.enqueue(store.insert(List.of(event)));
+      return;
+    }
+    pendingEvents().add(event);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<AccountEvent> pendingEvents() {
+    List<AccountEvent> pending = (List<AccountEvent>) TransactionSynchronizationManager.getResource(this);
+    if (pending != null) {
+      return pending;
+    }
+
+    List<AccountEvent> events = new ArrayList<>();
+    List<OutboxStore.Stored> stored = new ArrayList<>();
+    TransactionSynchronizationManager.bindResource(this, events);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void beforeCommit(boolean readOnly) {
+        stored.addAll(store.insert(events));
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(OutboxAccountEventPublisher.this);
+        if (status == STATUS_COMMITTED) {
+          dispatcher.enqueue(stored);
+        }
+      }
+    });
+    return events;
+  }
+}
@@ -0,0 +1,47 @@
+package com.inter.banking.banking.infrastructure.outbox;
+
+import com.inter.banking.banking.application.event.AccountEventHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Liga o despacho assíncrono dos efeitos colaterais (banking.outbox.enabled, padrão true)
+ * Os eventos são gravados na tabela outbox na transação do comando; auditoria e notificação
+ * saem da transação e passam a ser entregues em lote após o commit
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "banking.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfiguration {
+
+  @Bean
+  OutboxStore outboxStore(JdbcTemplate jdbcTemplate) {
+    return new OutboxStore(jdbcTemplate);
+  }
+
+  @Bean(destroyMethod = "close")
+  public OutboxDispatcher outboxDispatcher(
+      List<AccountEventHandler> handlers,
+      OutboxStore store,
+      OutboxProperties properties,
+      Environment environment) {
+    // Virtual thread quando spring.threads.virtual.enabled; JVM não espera virtual threads, daemon implícito
+    ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+        ? Thread.ofVirtual().name("outbox-dispatcher").factory()
+        : Thread.ofPlatform().name("outbox-dispatcher").daemon(true).factory();
+    return new OutboxDispatcher(handlers, store, properties, threadFactory);
+  }
+
+  @Bean
+  public OutboxAccountEventPublisher outboxAccountEventPublisher(OutboxStore store, OutboxDispatcher dispatcher) {
+    return new OutboxAccountEventPublisher(store, dispatcher);
+  }
+}
@@ -0,0 +1,319 @@
+package com.inter.banking.banking.infrastructure.outbox;
+
+import com.inter.banking.banking.application.event.AccountEventHandler;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Despacho em background dos eventos já confirmados na tabela outbox_events
+ * Os eventos de uma transação confirmada chegam pela fila em memória (caminho rápido); uma thread
+ * os agrupa em lotes, entrega cada lote a todos os handlers, na ordem da fila, e marca as linhas DELIVERED.
+ * Handler com falha é retentado com backoff exponencial; esgotadas as tentativas, o lote é reentregue a
+ * ele evento a evento, e só os eventos que esse handler não aceita ficam DEAD, com o nome dos handlers
+ * que não os aplicaram; o resto do lote segue DELIVERED. A mesma thread relê periodicamente as linhas PENDING que
+ * não estão em andamento (queda do processo, fila cheia), então a entrega é at-least-once.
+ * Fila cheia segura quem publicou até enqueueTimeout; depois disso o evento (e os seguintes da mesma
+ * transação) fica PENDING para a releitura, sem entrega fora da thread de despacho. Evento relido chega
+ * depois de outros mais novos: quem guarda estado da conta ordena pela versão do evento
+ */
+@Slf4j
+public class OutboxDispatcher implements AutoCloseable {
+  private final List<AccountEventHandler> handlers;
+  private final OutboxStore store;
+  private final OutboxProperties properties;
+  private final BlockingQueue<Entry> queue;
+  // Ids já na fila ou em entrega: a releitura do banco não os enfileira de novo
+  private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+  // Linhas gravadas antes da subida são órfãs de outro processo: elegíveis sem esperar redeliveryDelay
+  private final Instant startedAt = Instant.now();
+  private final Thread worker;
+  private volatile boolean running = true;
+  private long nextPollNanos;
+
+  private final LongAdder delivered = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder deadLettered = new LongAdder();
+  private final LongAdder overflowed = new LongAdder();
+  private final LongAdder recovered = new LongAdder();
+  private final AtomicLong maxLagNanos = new AtomicLong();
+  private volatile long lastLagNanos;
+
+  /** Evento aguardando entrega: id da linha na outbox e o instante em que saiu da transação */
+  record Entry(long id, AccountEvent event, long enqueuedAtNanos) {}
+
+  OutboxDispatcher(List<AccountEventHandler> handlers, OutboxStore store, OutboxProperties properties) {
+    this(handlers, store, properties, Thread.ofPlatform().name("outbox-dispatcher").daemon(true).factory());
+  }
+
+  /**
+   * @param threadFactory cria a thread de despacho; no modo virtual threads os handlers bloqueantes
+   *                      (auditoria, notificação) não ocupam uma thread de plataforma
+   */
+  OutboxDispatcher(
+      List<AccountEventHandler> handlers,
+      OutboxStore store,
+      OutboxProperties properties,
+      ThreadFactory threadFactory) {
+    this.handlers = List.copyOf(handlers);
+    this.store = store;
+    this.properties = properties;
+    this.queue = new ArrayBlockingQueue<>(properties.capacity());
+    this.nextPollNanos = System.nanoTime();
+    this.worker = threadFactory.newThread(this::run);
+    this.worker.start();
+  }
+
+  /**
+   * Enfileira os eventos de uma transação confirmada (já gravados na outbox), preservando a ordem
+   */
+  void enqueue(List<OutboxStore.Stored> events) {
+    for (int i = 0; i < events.size(); i++) {
+      OutboxStore.Stored stored = events.get(i);
+      Entry entry = new Entry(stored.id(), stored.event(), System.nanoTime());
+      inFlight.add(entry.id());
+      if (!offer(entry)) {
+        // Fila cheia além da espera: este e os seguintes ficam PENDING, na ordem, para a releitura do banco
+        inFlight.remove(entry.id());
+        overflowed.add(events.size() - i);
+        log.warn("Fila do outbox cheia, {} eventos ficam para a releitura do banco", events.size() - i);
+        return;
+      }
+    }
+  }
+
+  public OutboxMetrics metrics() {
+    return new OutboxMetrics(
+        queue.size(),
+        delivered.sum(),
+        retries.sum(),
+        deadLettered.sum(),
+        overflowed.sum(),
+        recovered.sum(),
+        TimeUnit.NANOSECONDS.toMillis(lastLagNanos),
+        TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get()));
+  }
+
+  /** Eventos que esgotaram as tentativas em algum handler (os mais recentes, até limit), lidos da outbox */
+  public List<DeadLetter> deadLetters(int limit) {
+    return store.findDead(limit);
+  }
+
+  private boolean offer(Entry entry) {
+    try {
+      return queue.offer(entry, properties.enqueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void run() {
+    List<Entry> batch = new ArrayList<>(properties.batchSize());
+    while (running || !queue.isEmpty()) {
+      try {
+        pollStoreIfDue();
+        Entry first = queue.poll(properties.lingerTime().toMillis() + 1, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        fill(batch);
+        deliver(batch);
+        batch.clear();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        // Banco fora: as linhas continuam PENDING e voltam na próxima releitura
+        log.error("Falha no despacho do outbox, {} eventos voltam na releitura do banco", batch.size(), e);
+        batch.forEach(entry -> inFlight.remove(entry.id()));
+        batch.clear();
+      }
+    }
+  }
+
+  /**
+   * Relê do banco as pendentes que ficaram sem entrega e remove as entregues além da retenção
+   * Só as gravadas há mais de redeliveryDelay (ou antes da subida), que já deveriam ter saído pela fila
+   */
+  private void pollStoreIfDue() {
+    long now = System.nanoTime();
+    if (now - nextPollNanos < 0 || !running) {
+      return;
+    }
+    nextPollNanos = now + properties.pollInterval().toNanos();
+
+    Instant cutoff = Instant.now().minus(properties.redeliveryDelay());
+    if (cutoff.isBefore(startedAt)) {
+      cutoff = startedAt;
+    }
+    for (OutboxStore.Stored stored : store.findPending(cutoff, properties.batchSize())) {
+      if (queue.remainingCapacity() == 0) {
+        break;
+      }
+      if (inFlight.add(stored.id())) {
+        recovered.increment();
+        queue.add(new Entry(stored.id(), stored.event(), System.nanoTime()));
+      }
+    }
+    store.purgeDelivered(Instant.now().minus(properties.retention()));
+  }
+
+  /** Completa o lote com o que já está na fila, esperando no máximo lingerTime */
+  private void fill(List<Entry> batch) throws InterruptedException {
+    int batchSize = properties.batchSize();
+    queue.drainTo(batch, batchSize - batch.size());
+    long deadline = System.nanoTime() + properties.lingerTime().toNanos();
+    while (batch.size() < batchSize && running) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return;
+      }
+      Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+      queue.drainTo(batch, batchSize - batch.size());
+    }
+  }
+
+  private void deliver(List<Entry> batch) {
+    List<AccountEvent> events = batch.stream().map(Entry::event).toList();
+    // Por posição no lote: handlers que esgotaram as tentativas naquele evento e a última falha
+    Map<Integer, List<String>> failedHandlers = new HashMap<>();
+    Map<Integer, RuntimeException> failures = new HashMap<>();
+
+    try {
+      for (AccountEventHandler handler : handlers) {
+        if (deliverWithRetry(handler, events) == null) {
+          continue;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+          // Desligamento no meio das tentativas: o lote continua PENDING e volta na próxima subida
+          return;
+        }
+        isolate(handler, events, failedHandlers, failures);
+      }
+
+      List<Long> deliveredIds = new ArrayList<>(batch.size());
+      List<OutboxStore.Failed> dead = new ArrayList<>(failedHandlers.size());
+      for (int i = 0; i < batch.size(); i++) {
+        List<String> failed = failedHandlers.get(i);
+        if (failed == null) {
+          deliveredIds.add(batch.get(i).id());
+        } else {
+          dead.add(new OutboxStore.Failed(batch.get(i).id(), failed, failures.get(i)));
+        }
+      }
+      if (!deliveredIds.isEmpty()) {
+        store.markDelivered(deliveredIds);
+        delivered.add(deliveredIds.size());
+      }
+      if (!dead.isEmpty()) {
+        store.markDead(dead, properties.maxAttempts());
+        deadLettered.add(dead.size());
+      }
+    } finally {
+      batch.forEach(entry -> inFlight.remove(entry.id()));
+    }
+
+    long lag = System.nanoTime() - batch.get(0).enqueuedAtNanos();
+    lastLagNanos = lag;
+    maxLagNanos.accumulateAndGet(lag, Math::max);
+  }
+
+  /**
+   * Reentrega o lote evento a evento ao handler que esgotou as tentativas, uma vez cada, para achar
+   * os eventos que ele não aceita; os outros handlers não recebem nada de novo
+   */
+  private void isolate(
+      AccountEventHandler handler,
+      List<AccountEvent> events,
+      Map<Integer, List<String>> failedHandlers,
+      Map<Integer, RuntimeException> failures) {
+    String name = name(handler);
+    int refused = 0;
+    for (int i = 0; i < events.size(); i++) {
+      try {
+        handler.handle(List.of(events.get(i)));
+      } catch (RuntimeException e) {
+        failedHandlers.computeIfAbsent(i, position -> new ArrayList<>()).add(name);
+        failures.put(i, e);
+        refused++;
+      }
+    }
+    log.error("Handler {} recusou {} de {} eventos, enviados para a dead-letter", name, refused, events.size());
+  }
+
+  /** @return a última falha, se o handler esgotou as tentativas (ou foi interrompido entre elas) */
+  private RuntimeException deliverWithRetry(AccountEventHandler handler, List<AccountEvent> events) {
+    Duration backoff = properties.initialBackoff();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        handler.handle(events);
+        return null;
+      } catch (RuntimeException e) {
+        if (attempt >= properties.maxAttempts()) {
+          log.error("Handler {} falhou {} vezes, {} eventos reentregues um a um",
+              name(handler), attempt, events.size(), e);
+          return e;
+        }
+        retries.increment();
+        log.warn("Handler {} falhou (tentativa {}), nova tentativa em {}",
+            name(handler), attempt, backoff, e);
+        if (!sleep(backoff)) {
+          // Interrompido no desligamento: as linhas continuam PENDING e voltam na próxima subida
+          return e;
+        }
+        backoff = backoff.multipliedBy(2).compareTo(properties.maxBackoff()) > 0
+            ? properties.maxBackoff()
+            : backoff.multipliedBy(2);
+      }
+    }
+  }
+
+  private static String name(AccountEventHandler handler) {
+    return ClassUtils.getUserClass(handler).getSimpleName();
+  }
+
+  private static boolean sleep(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Para de aceitar novos lotes e entrega o que ainda está na fila
+   * O que não sair até aqui continua PENDING na outbox e é relido na próxima subida
+   */
+  @Override
+  public void close() {
+    running = false;
+    try {
+      worker.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.inter.banking.banking.infrastructure.outbox;
+
+/**
+ * Fotografia das métricas do despacho
+ *
+ * @param queueDepth    eventos aguardando entrega
+ * @param delivered     eventos entregues a todos os handlers
+ * @param retries       retentativas feitas após falha de um handler
+ * @param deadLettered  eventos que esgotaram as tentativas
+ * @param overflowed    eventos deixados PENDING para a releitura porque a fila seguiu cheia
+ * @param recovered     eventos relidos da tabela outbox (sem entrega pela fila em memória)
+ * @param lastLagMillis atraso entre o commit e a entrega do último lote
+ * @param maxLagMillis  maior atraso observado
+ */
+public record OutboxMetrics(
+    int queueDepth,
+    long delivered,
+    long retries,
+    long deadLettered,
+    long overflowed,
+    long recovered,
+    long lastLagMillis,
+    long maxLagMillis) {}
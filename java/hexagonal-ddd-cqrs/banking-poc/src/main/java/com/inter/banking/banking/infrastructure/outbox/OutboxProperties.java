@@ -0,0 +1,35 @@
+package com.inter.banking.banking.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do despacho assíncrono dos efeitos colaterais (banking.outbox.*)
+ *
+ * @param enabled        entrega após o commit em background; desligado, entrega na transação
+ * @param capacity       capacidade da fila; cheia, quem publicou espera até enqueueTimeout
+ * @param batchSize      máximo de eventos entregues por lote
+ * @param lingerTime     espera para completar um lote antes de entregá-lo incompleto
+ * @param enqueueTimeout espera por espaço na fila antes de deixar o evento PENDING para a releitura
+ * @param maxAttempts    tentativas por handler antes de marcar o lote como DEAD na tabela
+ * @param initialBackoff espera antes da primeira retentativa (dobra a cada falha)
+ * @param maxBackoff     teto da espera entre retentativas
+ * @param pollInterval   intervalo da releitura das linhas PENDING da tabela outbox
+ * @param redeliveryDelay idade mínima de uma linha PENDING para a releitura reenfileirá-la
+ * @param retention      por quanto tempo as linhas DELIVERED ficam na tabela
+ */
+@ConfigurationProperties(prefix = "banking.outbox")
+public record OutboxProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10000") int capacity,
+    @DefaultValue("200") int batchSize,
+    @DefaultValue("5ms") Duration lingerTime,
+    @DefaultValue("10ms") Duration enqueueTimeout,
+    @DefaultValue("5") int maxAttempts,
+    @DefaultValue("50ms") Duration initialBackoff,
+    @DefaultValue("2s") Duration maxBackoff,
+    @DefaultValue("1s") Duration pollInterval,
+    @DefaultValue("10s") Duration redeliveryDelay,
+    @DefaultValue("1h") Duration retention) {}
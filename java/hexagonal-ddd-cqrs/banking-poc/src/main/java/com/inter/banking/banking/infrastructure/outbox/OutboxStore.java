@@ -0,0 +1,264 @@
+package com.inter.banking.banking.infrastructure.outbox;
+
+import com.inter.banking.banking.domain.event.AccountCreatedEvent;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.event.AccountStatusChangedEvent;
+import com.inter.banking.banking.domain.event.FundsHoldChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tabela outbox_events: os eventos entram na transação do comando (PENDING) e o dispatcher os marca
+ * DELIVERED depois de entregues a todos os handlers, ou DEAD quando algum handler esgota as tentativas;
+ * failed_handlers guarda quais, para a reentrega não repetir o evento nos que já o aplicaram.
+ * Cada tipo de evento ocupa as suas colunas; o estado completo da conta (criação, mudança de status)
+ * vai junto para reconstruir o evento sem consultar a conta, que pode ter mudado desde então.
+ * Reserva usa transaction_id para o id da reserva, operation para o status e held_cents para o
+ * total reservado da conta (o disponível é balance_cents - held_cents).
+ * account_version vai em todos os tipos: é o que ordena os eventos da mesma conta na entrega
+ */
+final class OutboxStore {
+  private static final String COLUMNS = "type, account_id, occurred_at, transaction_id, operation, amount_cents, "
+      + "balance_cents, held_cents, currency, status, old_status, account_number, customer_id, "
+      + "account_created_at, account_updated_at, account_version";
+  private static final String INSERT_SQL =
+      "INSERT INTO outbox_events (" + COLUMNS + ", state, created_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', ?)";
+  // Keyset por id sobre o índice (state, id): a recarga lê as pendentes mais antigas primeiro
+  private static final String SELECT_PENDING_SQL =
+      "SELECT id, " + COLUMNS + " FROM outbox_events WHERE state = 'PENDING' AND created_at < ? "
+          + "ORDER BY state, id LIMIT ?";
+  private static final String SELECT_DEAD_SQL =
+      "SELECT id, " + COLUMNS + ", failed_handlers, last_error FROM outbox_events WHERE state = 'DEAD' "
+          + "ORDER BY state, id DESC LIMIT ?";
+  private static final String MARK_DELIVERED_SQL =
+      "UPDATE outbox_events SET state = 'DELIVERED', resolved_at = ? WHERE id = ? AND state = 'PENDING'";
+  private static final String MARK_DEAD_SQL =
+      "UPDATE outbox_events SET state = 'DEAD', attempts = ?, failed_handlers = ?, last_error = ?, resolved_at = ? "
+          + "WHERE id = ? AND state = 'PENDING'";
+  private static final String DELETE_DELIVERED_SQL =
+      "DELETE FROM outbox_events WHERE state = 'DELIVERED' AND resolved_at < ?";
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private static final RowMapper<Stored> STORED_MAPPER = (rs, rowNum) -> new Stored(rs.getLong("id"), event(rs));
+  private static final RowMapper<DeadLetter> DEAD_MAPPER = (rs, rowNum) -> new DeadLetter(
+      event(rs), List.of(rs.getString("failed_handlers").split(",")), rs.getString("last_error"));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Evento gravado, com o id da linha na outbox */
+  record Stored(long id, AccountEvent event) {}
+
+  /** Linha que esgotou as tentativas: os handlers que não a aplicaram e a última falha */
+  record Failed(long id, List<String> handlers, RuntimeException failure) {}
+
+  OutboxStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Grava os eventos num único JDBC batch, na transação corrente
+   *
+   * @return os eventos com os ids gerados, na mesma ordem
+   */
+  List<Stored> insert(List<AccountEvent> events) {
+    Timestamp now = Timestamp.from(Instant.now());
+    KeyHolder keys = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            bind(ps, events.get(i));
+            ps.setTimestamp(17, now);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return events.size();
+          }
+        },
+        keys);
+
+    List<Map<String, Object>> generated = keys.getKeyList();
+    List<Stored> stored = new ArrayList<>(events.size());
+    for (int i = 0; i < events.size(); i++) {
+      long id = ((Number) generated.get(i).values().iterator().next()).longValue();
+      stored.add(new Stored(id, events.get(i)));
+    }
+    return stored;
+  }
+
+  /** Pendentes gravadas antes de createdBefore, das mais antigas para as mais novas */
+  List<Stored> findPending(Instant createdBefore, int limit) {
+    return jdbcTemplate.query(SELECT_PENDING_SQL, STORED_MAPPER, Timestamp.from(createdBefore), limit);
+  }
+
+  /** Eventos que esgotaram as tentativas, dos mais recentes para os mais antigos */
+  List<DeadLetter> findDead(int limit) {
+    return jdbcTemplate.query(SELECT_DEAD_SQL, DEAD_MAPPER, limit);
+  }
+
+  void markDelivered(List<Long> ids) {
+    Timestamp now = Timestamp.from(Instant.now());
+    jdbcTemplate.batchUpdate(MARK_DELIVERED_SQL, ids, ids.size(), (ps, id) -> {
+      ps.setTimestamp(1, now);
+      ps.setLong(2, id);
+    });
+  }
+
+  void markDead(List<Failed> failed, int attempts) {
+    Timestamp now = Timestamp.from(Instant.now());
+    jdbcTemplate.batchUpdate(MARK_DEAD_SQL, failed, failed.size(), (ps, row) -> {
+      String error = String.valueOf(row.failure());
+      ps.setInt(1, attempts);
+      ps.setString(2, String.join(",", row.handlers()));
+      ps.setString(3, error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+      ps.setTimestamp(4, now);
+      ps.setLong(5, row.id());
+    });
+  }
+
+  /** Remove as entregues há mais tempo que a retenção; as DEAD ficam para inspeção */
+  int purgeDelivered(Instant resolvedBefore) {
+    return jdbcTemplate.update(DELETE_DELIVERED_SQL, Timestamp.from(resolvedBefore));
+  }
+
+  private static void bind(PreparedStatement ps, AccountEvent event) throws SQLException {
+    ps.setObject(2, event.accountId().getValue());
+    ps.setTimestamp(3, Timestamp.from(event.occurredAt().truncatedTo(ChronoUnit.MICROS)));
+    switch (event) {
+      case TransactionCompletedEvent transaction -> {
+        ps.setString(1, "TRANSACTION_COMPLETED");
+        ps.setString(4, transaction.transactionId());
+        ps.setString(5, transaction.operation());
+        ps.setLong(6, transaction.amount().getCents());
+        ps.setLong(7, FixedPointMoney.from(transaction.balance()).getCents());
+        ps.setNull(8, Types.BIGINT);
+        ps.setString(9, transaction.amount().getCurrency().name());
+        ps.setNull(10, Types.VARCHAR);
+        ps.setNull(11, Types.VARCHAR);
+        bindAccount(ps, null);
+        ps.setLong(16, transaction.version());
+      }
+      case FundsHoldChangedEvent hold -> {
+        long balanceCents = FixedPointMoney.from(hold.balance()).getCents();
+        ps.setString(1, "HOLD_CHANGED");
+        ps.setString(4, hold.holdId());
+        ps.setString(5, hold.status());
+        ps.setLong(6, hold.amount().getCents());
+        ps.setLong(7, balanceCents);
+        ps.setLong(8, balanceCents - FixedPointMoney.from(hold.availableBalance()).getCents());
+        ps.setString(9, hold.amount().getCurrency().name());
+        ps.setNull(10, Types.VARCHAR);
+        ps.setNull(11, Types.VARCHAR);
+        bindAccount(ps, null);
+        ps.setLong(16, hold.version());
+      }
+      case AccountCreatedEvent created -> {
+        ps.setString(1, "ACCOUNT_CREATED");
+        bindState(ps, created.account());
+        ps.setNull(11, Types.VARCHAR);
+        bindAccount(ps, created.account());
+      }
+      case AccountStatusChangedEvent statusChanged -> {
+        ps.setString(1, "STATUS_CHANGED");
+        bindState(ps, statusChanged.account());
+        ps.setString(11, statusChanged.oldStatus());
+        bindAccount(ps, statusChanged.account());
+      }
+    }
+  }
+
+  private static void bindState(PreparedStatement ps, Account account) throws SQLException {
+    ps.setNull(4, Types.VARCHAR);
+    ps.setNull(5, Types.VARCHAR);
+    ps.setNull(6, Types.BIGINT);
+    ps.setLong(7, account.getBalanceCents());
+    ps.setLong(8, account.getHeldCents());
+    ps.setString(9, account.getCurrency().name());
+    ps.setString(10, account.getStatus().name());
+  }
+
+  private static void bindAccount(PreparedStatement ps, Account account) throws SQLException {
+    if (account == null) {
+      ps.setNull(12, Types.VARCHAR);
+      ps.setNull(13, Types.OTHER);
+      ps.setNull(14, Types.TIMESTAMP);
+      ps.setNull(15, Types.TIMESTAMP);
+      ps.setNull(16, Types.BIGINT);
+      return;
+    }
+    ps.setString(12, account.getAccountNumber());
+    ps.setObject(13, account.getCustomerId().getValue());
+    ps.setTimestamp(14, Timestamp.valueOf(account.getCreatedAt()));
+    ps.setTimestamp(15, Timestamp.valueOf(account.getUpdatedAt()));
+    ps.setLong(16, account.getVersion());
+  }
+
+  private static AccountEvent event(ResultSet rs) throws SQLException {
+    AccountId accountId = new AccountId(rs.getObject("account_id", UUID.class));
+    Instant occurredAt = rs.getTimestamp("occurred_at").toInstant();
+    CurrencyCode currency = CurrencyCode.valueOf(rs.getString("currency"));
+    String type = rs.getString("type");
+    return switch (type) {
+      case "TRANSACTION_COMPLETED" -> new TransactionCompletedEvent(
+          accountId,
+          rs.getString("transaction_id"),
+          rs.getString("operation"),
+          FixedPointMoney.of(rs.getLong("amount_cents"), currency),
+          FixedPointMoney.toMoney(rs.getLong("balance_cents"), currency),
+          rs.getLong("account_version"),
+          occurredAt);
+      case "HOLD_CHANGED" -> new FundsHoldChangedEvent(
+          accountId,
+          rs.getString("transaction_id"),
+          rs.getString("operation"),
+          FixedPointMoney.of(rs.getLong("amount_cents"), currency),
+          FixedPointMoney.toMoney(rs.getLong("balance_cents"), currency),
+          FixedPointMoney.toMoney(rs.getLong("balance_cents") - rs.getLong("held_cents"), currency),
+          rs.getLong("account_version"),
+          occurredAt);
+      case "ACCOUNT_CREATED" -> new AccountCreatedEvent(account(rs, accountId, currency), occurredAt);
+      case "STATUS_CHANGED" -> new AccountStatusChangedEvent(
+          account(rs, accountId, currency), rs.getString("old_status"), occurredAt);
+      default -> throw new IllegalStateException("Unknown outbox event type: " + type);
+    };
+  }
+
+  private static Account account(ResultSet rs, AccountId accountId, CurrencyCode currency) throws SQLException {
+    return new Account(
+        accountId,
+        rs.getString("account_number"),
+        new CustomerId(rs.getObject("customer_id", UUID.class)),
+        rs.getLong("balance_cents"),
+        rs.getLong("held_cents"),
+        currency,
+        AccountStatus.valueOf(rs.getString("status")),
+        rs.getTimestamp("account_created_at").toLocalDateTime(),
+        rs.getTimestamp("account_updated_at").toLocalDateTime(),
+        rs.getLong("account_version"));
+  }
+}
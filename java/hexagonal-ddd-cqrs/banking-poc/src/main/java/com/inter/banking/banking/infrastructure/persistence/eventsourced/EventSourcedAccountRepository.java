@@ -0,0 +1,313 @@
+package com.inter.banking.banking.infrastructure.persistence.eventsourced;
+
+import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter event-sourced para o port AccountRepository (Secondary/Driven Adapter)
+ * Cada save acrescenta eventos ao stream da conta em vez de sobrescrever uma linha; os eventos
+ * são derivados da diferença entre o estado gravado na versão lida e o estado novo.
+ * A chave (account_id, version) faz a checagem de concorrência: dois saves a partir da mesma
+ * versão disputam a mesma chave e o segundo vira AccountVersionConflictException.
+ * findById parte do último snapshot e reaplica só os eventos posteriores
+ */
+@Repository
+@Qualifier("accountStore")
+@EnableConfigurationProperties(EventSourcingProperties.class)
+@ConditionalOnProperty(prefix = "banking.persistence", name = "adapter", havingValue = "event-sourced")
+public class EventSourcedAccountRepository implements AccountRepository {
+  private static final String INSERT_STREAM_SQL =
+      "INSERT INTO account_streams (account_id, account_number, customer_id, currency, created_at) VALUES (?, ?, ?, ?, ?)";
+  private static final String INSERT_EVENT_SQL =
+      "INSERT INTO account_events (account_id, version, type, amount_cents, balance_after_cents, held_after_cents, "
+          + "status_after, occurred_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String SELECT_STREAM_SQL =
+      "SELECT account_number, customer_id, currency, created_at FROM account_streams WHERE account_id = ?";
+  private static final String LOCK_STREAM_SQL =
+      "SELECT account_id FROM account_streams WHERE account_id = ? FOR UPDATE";
+  private static final String SELECT_EVENT_STATE_SQL =
+      "SELECT balance_after_cents, held_after_cents, status_after FROM account_events WHERE account_id = ? AND version = ?";
+  private static final String SELECT_SNAPSHOT_SQL =
+      "SELECT version, balance_cents, held_cents, status, updated_at FROM account_snapshots WHERE account_id = ?";
+  private static final String SELECT_TAIL_SQL =
+      "SELECT type, amount_cents, status_after, occurred_at FROM account_events "
+          + "WHERE account_id = ? AND version > ? ORDER BY version";
+  private static final String UPDATE_SNAPSHOT_SQL =
+      "UPDATE account_snapshots SET version = ?, balance_cents = ?, held_cents = ?, status = ?, updated_at = ? "
+          + "WHERE account_id = ?";
+  private static final String INSERT_SNAPSHOT_SQL =
+      "INSERT INTO account_snapshots (version, balance_cents, held_cents, status, updated_at, account_id) "
+          + "VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int snapshotEvery;
+
+  public EventSourcedAccountRepository(JdbcTemplate jdbcTemplate, EventSourcingProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.snapshotEvery = properties.snapshotEvery();
+  }
+
+  /** Evento derivado de um save, ainda sem versão */
+  private record Change(StoredEventType type, long amountCents) {}
+
+  /** Estado gravado em uma versão do stream */
+  private record RecordedState(long balanceCents, long heldCents, AccountStatus status) {}
+
+  // Conflito não marca a transação do chamador para rollback: nada foi gravado e o comando pode ser repetido
+  @Override
+  @Transactional(noRollbackFor = AccountVersionConflictException.class)
+  public Account save(Account account) {
+    long expected = account.getVersion();
+    List<Change> changes = expected == 0 ? create(account) : diff(account, expected);
+
+    long version = expected;
+    try {
+      for (Change change : changes) {
+        version++;
+        jdbcTemplate.update(INSERT_EVENT_SQL,
+            account.getId().getValue(),
+            version,
+            change.type().name(),
+            change.amountCents(),
+            account.getBalanceCents(),
+            account.getHeldCents(),
+            account.getStatus().name(),
+            Timestamp.valueOf(account.getUpdatedAt()));
+      }
+    } catch (DuplicateKeyException e) {
+      throw conflict(account);
+    }
+
+    for (long v = expected; v < version; v++) {
+      account.advanceVersion();
+    }
+    if (snapshotEvery > 0 && version / snapshotEvery > expected / snapshotEvery) {
+      writeSnapshot(account);
+    }
+    return account;
+  }
+
+  @Override
+  public Optional<Account> findById(AccountId id) {
+    return jdbcTemplate.query(SELECT_STREAM_SQL, rs -> {
+      if (!rs.next()) {
+        return Optional.<Account>empty();
+      }
+      return Optional.of(replay(
+          id,
+          rs.getString("account_number"),
+          new CustomerId(rs.getObject("customer_id", UUID.class)),
+          CurrencyCode.of(rs.getString("currency")),
+          rs.getTimestamp("created_at").toLocalDateTime()));
+    }, id.getValue());
+  }
+
+  @Override
+  public Optional<Account> findByIdForUpdate(AccountId id) {
+    if (!lockStream(id)) {
+      return Optional.empty();
+    }
+    return findById(id);
+  }
+
+  @Override
+  public Optional<Account> findByAccountNumber(String accountNumber) {
+    return jdbcTemplate.queryForList(
+            "SELECT account_id FROM account_streams WHERE account_number = ?", UUID.class, accountNumber)
+        .stream()
+        .findFirst()
+        .flatMap(accountId -> findById(new AccountId(accountId)));
+  }
+
+  @Override
+  public List<Account> findByCustomerId(CustomerId customerId) {
+    return jdbcTemplate.queryForList(
+            "SELECT account_id FROM account_streams WHERE customer_id = ?", UUID.class, customerId.getValue())
+        .stream()
+        .map(accountId -> findById(new AccountId(accountId)))
+        .flatMap(Optional::stream)
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public void delete(AccountId id) {
+    jdbcTemplate.update("DELETE FROM account_snapshots WHERE account_id = ?", id.getValue());
+    jdbcTemplate.update("DELETE FROM account_events WHERE account_id = ?", id.getValue());
+    jdbcTemplate.update("DELETE FROM account_streams WHERE account_id = ?", id.getValue());
+  }
+
+  @Override
+  public boolean existsByAccountNumber(String accountNumber) {
+    Integer count = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM account_streams WHERE account_number = ?", Integer.class, accountNumber);
+    return count != null && count > 0;
+  }
+
+  private List<Change> create(Account account) {
+    try {
+      jdbcTemplate.update(INSERT_STREAM_SQL,
+          account.getId().getValue(),
+          account.getAccountNumber(),
+          account.getCustomerId().getValue(),
+          account.getCurrency().name(),
+          Timestamp.valueOf(account.getCreatedAt()));
+    } catch (DuplicateKeyException e) {
+      // Mesmo id: outra transação criou a conta primeiro; senão é número de conta duplicado
+      if (streamExists(account.getId())) {
+        throw conflict(account);
+      }
+      throw e;
+    }
+    return List.of(new Change(StoredEventType.CREATED, account.getBalanceCents()));
+  }
+
+  // Eventos que levam o estado gravado na versão esperada até o estado atual da conta
+  // A linha do stream é travada antes: quem segura a conta com findByIdForUpdate grava sem conflito
+  private List<Change> diff(Account account, long expected) {
+    if (!lockStream(account.getId())) {
+      throw new AccountNotFoundException("Account not found: " + account.getId());
+    }
+    RecordedState recorded = jdbcTemplate.query(SELECT_EVENT_STATE_SQL, rs -> rs.next()
+        ? new RecordedState(
+            rs.getLong("balance_after_cents"),
+            rs.getLong("held_after_cents"),
+            AccountStatus.valueOf(rs.getString("status_after")))
+        : null, account.getId().getValue(), expected);
+    if (recorded == null) {
+      throw conflictOrNotFound(account);
+    }
+
+    // Captura de reserva vira HOLD_RELEASED + DEBITED
+    List<Change> changes = new ArrayList<>(3);
+    long heldDelta = account.getHeldCents() - recorded.heldCents();
+    if (heldDelta > 0) {
+      changes.add(new Change(StoredEventType.HOLD_PLACED, heldDelta));
+    } else if (heldDelta < 0) {
+      changes.add(new Change(StoredEventType.HOLD_RELEASED, -heldDelta));
+    }
+    long delta = account.getBalanceCents() - recorded.balanceCents();
+    if (delta < 0) {
+      changes.add(new Change(StoredEventType.DEBITED, -delta));
+    } else if (delta > 0) {
+      changes.add(new Change(StoredEventType.CREDITED, delta));
+    }
+    if (account.getStatus() != recorded.status()) {
+      changes.add(new Change(statusEvent(account.getStatus()), 0));
+    }
+    return changes;
+  }
+
+  private Account replay(
+      AccountId id,
+      String accountNumber,
+      CustomerId customerId,
+      CurrencyCode currency,
+      LocalDateTime createdAt) {
+    long[] balance = {0};
+    long[] held = {0};
+    long[] version = {0};
+    AccountStatus[] status = {AccountStatus.ACTIVE};
+    LocalDateTime[] updatedAt = {createdAt};
+
+    jdbcTemplate.query(SELECT_SNAPSHOT_SQL, rs -> {
+      version[0] = rs.getLong("version");
+      balance[0] = rs.getLong("balance_cents");
+      held[0] = rs.getLong("held_cents");
+      status[0] = AccountStatus.valueOf(rs.getString("status"));
+      updatedAt[0] = rs.getTimestamp("updated_at").toLocalDateTime();
+    }, id.getValue());
+
+    jdbcTemplate.query(SELECT_TAIL_SQL, rs -> {
+      long amount = rs.getLong("amount_cents");
+      switch (StoredEventType.valueOf(rs.getString("type"))) {
+        case CREATED -> balance[0] = amount;
+        case CREDITED -> balance[0] = FixedPointMoney.add(balance[0], amount);
+        case DEBITED -> balance[0] = FixedPointMoney.subtract(balance[0], amount);
+        case HOLD_PLACED -> held[0] = FixedPointMoney.add(held[0], amount);
+        case HOLD_RELEASED -> held[0] = FixedPointMoney.subtract(held[0], amount);
+        case BLOCKED, UNBLOCKED, CLOSED -> { }
+      }
+      status[0] = AccountStatus.valueOf(rs.getString("status_after"));
+      updatedAt[0] = rs.getTimestamp("occurred_at").toLocalDateTime();
+      version[0]++;
+    }, id.getValue(), version[0]);
+
+    return new Account(
+        id,
+        accountNumber,
+        customerId,
+        balance[0],
+        held[0],
+        currency,
+        status[0],
+        createdAt,
+        updatedAt[0],
+        version[0]);
+  }
+
+  private void writeSnapshot(Account account) {
+    Object[] args = {
+        account.getVersion(),
+        account.getBalanceCents(),
+        account.getHeldCents(),
+        account.getStatus().name(),
+        Timestamp.valueOf(account.getUpdatedAt()),
+        account.getId().getValue()
+    };
+    if (jdbcTemplate.update(UPDATE_SNAPSHOT_SQL, args) == 0) {
+      jdbcTemplate.update(INSERT_SNAPSHOT_SQL, args);
+    }
+  }
+
+  private static StoredEventType statusEvent(AccountStatus status) {
+    return switch (status) {
+      case ACTIVE -> StoredEventType.UNBLOCKED;
+      case BLOCKED -> StoredEventType.BLOCKED;
+      case CLOSED -> StoredEventType.CLOSED;
+    };
+  }
+
+  private boolean lockStream(AccountId id) {
+    return !jdbcTemplate.queryForList(LOCK_STREAM_SQL, UUID.class, id.getValue()).isEmpty();
+  }
+
+  private boolean streamExists(AccountId id) {
+    Integer count = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM account_streams WHERE account_id = ?", Integer.class, id.getValue());
+    return count != null && count > 0;
+  }
+
+  private RuntimeException conflictOrNotFound(Account account) {
+    if (!streamExists(account.getId())) {
+      return new AccountNotFoundException("Account not found: " + account.getId());
+    }
+    return conflict(account);
+  }
+
+  private static AccountVersionConflictException conflict(Account account) {
+    return new AccountVersionConflictException(
+        "Account " + account.getId() + " was modified concurrently (expected version " + account.getVersion() + ")");
+  }
+}
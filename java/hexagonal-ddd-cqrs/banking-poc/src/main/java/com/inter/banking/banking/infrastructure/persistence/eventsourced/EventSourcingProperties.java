@@ -0,0 +1,13 @@
+package com.inter.banking.banking.infrastructure.persistence.eventsourced;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do adapter event-sourced (banking.persistence.event-sourced.*)
+ *
+ * @param snapshotEvery grava um snapshot a cada N eventos da conta; findById reaplica no máximo
+ *                      N - 1 eventos além do snapshot (0 desliga os snapshots)
+ */
+@ConfigurationProperties(prefix = "banking.persistence.event-sourced")
+public record EventSourcingProperties(@DefaultValue("100") int snapshotEvery) {}
@@ -0,0 +1,15 @@
+package com.inter.banking.banking.infrastructure.persistence.eventsourced;
+
+/**
+ * Tipos de evento gravados no stream da conta
+ */
+public enum StoredEventType {
+    CREATED,
+    DEBITED,
+    CREDITED,
+    HOLD_PLACED,
+    HOLD_RELEASED,
+    BLOCKED,
+    UNBLOCKED,
+    CLOSED
+}
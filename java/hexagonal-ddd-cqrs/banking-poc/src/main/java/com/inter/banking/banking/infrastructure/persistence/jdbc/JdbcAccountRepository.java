@@ -0,0 +1,216 @@
+package com.inter.banking.banking.infrastructure.persistence.jdbc;
+
+import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter JDBC para o port AccountRepository (Secondary/Driven Adapter), na mesma tabela accounts do JPA
+ * Sem entidade nem contexto de persistência: a linha vira Account direto pelo construtor de reconstrução
+ * e a gravação de uma conta existente é um UPDATE só das colunas que mudam, condicional pela versão.
+ * Todo SQL é um texto constante (inclusive a busca por vários ids, com = ANY(?)), então o driver
+ * reaproveita o comando já preparado em cada conexão em vez de recompilar
+ */
+@Repository
+@Qualifier("accountStore")
+@ConditionalOnProperty(prefix = "banking.persistence", name = "adapter", havingValue = "jdbc")
+public class JdbcAccountRepository implements AccountRepository {
+  private static final String COLUMNS =
+      "id, account_number, customer_id, balance, held_amount, currency, status, created_at, updated_at, version";
+  private static final String INSERT_SQL =
+      "INSERT INTO accounts (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String UPDATE_SQL =
+      "UPDATE accounts SET balance = ?, held_amount = ?, status = ?, updated_at = ?, version = version + 1 "
+          + "WHERE id = ? AND version = ?";
+  private static final String SELECT_BY_ID_SQL = "SELECT " + COLUMNS + " FROM accounts WHERE id = ?";
+  private static final String SELECT_FOR_UPDATE_SQL = SELECT_BY_ID_SQL + " FOR UPDATE";
+  private static final String SELECT_BY_NUMBER_SQL = "SELECT " + COLUMNS + " FROM accounts WHERE account_number = ?";
+  private static final String SELECT_BY_CUSTOMER_SQL = "SELECT " + COLUMNS + " FROM accounts WHERE customer_id = ?";
+  private static final String SELECT_BY_IDS_SQL = "SELECT " + COLUMNS + " FROM accounts WHERE id = ANY(?)";
+  private static final String EXISTS_BY_NUMBER_SQL = "SELECT COUNT(*) FROM accounts WHERE account_number = ?";
+  private static final String EXISTS_BY_ID_SQL = "SELECT COUNT(*) FROM accounts WHERE id = ?";
+  private static final String DELETE_SQL = "DELETE FROM accounts WHERE id = ?";
+
+  private static final RowMapper<Account> ACCOUNT_MAPPER = (rs, rowNum) -> new Account(
+      new AccountId(rs.getObject("id", UUID.class)),
+      rs.getString("account_number"),
+      new CustomerId(rs.getObject("customer_id", UUID.class)),
+      FixedPointMoney.toCents(rs.getBigDecimal("balance")),
+      FixedPointMoney.toCents(rs.getBigDecimal("held_amount")),
+      CurrencyCode.of(rs.getString("currency")),
+      AccountStatus.valueOf(rs.getString("status")),
+      rs.getObject("created_at", LocalDateTime.class),
+      rs.getObject("updated_at", LocalDateTime.class),
+      rs.getLong("version"));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcAccountRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public Account save(Account account) {
+    if (account.getVersion() == 0) {
+      insert(account);
+    } else if (jdbcTemplate.update(UPDATE_SQL, ps -> bindUpdate(ps, account)) == 0) {
+      throw conflictOrNotFound(account);
+    }
+    account.advanceVersion();
+    return account;
+  }
+
+  @Override
+  public Optional<Account> findById(AccountId id) {
+    return first(jdbcTemplate.query(SELECT_BY_ID_SQL, ACCOUNT_MAPPER, id.getValue()));
+  }
+
+  @Override
+  public Optional<Account> findByIdForUpdate(AccountId id) {
+    return first(jdbcTemplate.query(SELECT_FOR_UPDATE_SQL, ACCOUNT_MAPPER, id.getValue()));
+  }
+
+  @Override
+  public Optional<Account> findByAccountNumber(String accountNumber) {
+    return first(jdbcTemplate.query(SELECT_BY_NUMBER_SQL, ACCOUNT_MAPPER, accountNumber));
+  }
+
+  @Override
+  public List<Account> findByCustomerId(CustomerId customerId) {
+    return jdbcTemplate.query(SELECT_BY_CUSTOMER_SQL, ACCOUNT_MAPPER, customerId.getValue());
+  }
+
+  @Override
+  public void delete(AccountId id) {
+    jdbcTemplate.update(DELETE_SQL, id.getValue());
+  }
+
+  @Override
+  public boolean existsByAccountNumber(String accountNumber) {
+    Integer count = jdbcTemplate.queryForObject(EXISTS_BY_NUMBER_SQL, Integer.class, accountNumber);
+    return count != null && count > 0;
+  }
+
+  // Um único parâmetro array: o texto do SQL não muda com a quantidade de ids
+  @Override
+  public List<Account> findAllById(Collection<AccountId> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Object[] values = ids.stream().map(AccountId::getValue).toArray();
+    return jdbcTemplate.query(SELECT_BY_IDS_SQL,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("UUID", values)),
+        ACCOUNT_MAPPER);
+  }
+
+  /**
+   * Grava em JDBC batch: um lote de UPDATEs condicionais para as contas existentes e um de INSERTs
+   * para as novas. Um conflito de versão aborta o lote inteiro
+   */
+  @Override
+  @Transactional
+  public List<Account> saveAll(Collection<Account> accounts) {
+    if (accounts.isEmpty()) {
+      return List.of();
+    }
+    List<Account> batch = new ArrayList<>(accounts);
+    List<Account> existing = new ArrayList<>(batch.size());
+    List<Account> created = new ArrayList<>();
+    batch.forEach(account -> (account.getVersion() == 0 ? created : existing).add(account));
+
+    if (!existing.isEmpty()) {
+      int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, existing, existing.size(),
+          JdbcAccountRepository::bindUpdate);
+      int[] counts = updated[0];
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] == 0) {
+          throw conflictOrNotFound(existing.get(i));
+        }
+      }
+    }
+    if (!created.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_SQL, created, created.size(), JdbcAccountRepository::bindInsert);
+    }
+
+    batch.forEach(Account::advanceVersion);
+    return batch;
+  }
+
+  private void insert(Account account) {
+    try {
+      jdbcTemplate.update(INSERT_SQL, ps -> bindInsert(ps, account));
+    } catch (DuplicateKeyException e) {
+      // Mesmo id: outra transação criou a conta primeiro; senão é número de conta duplicado
+      if (exists(account.getId())) {
+        throw conflict(account);
+      }
+      throw e;
+    }
+  }
+
+  // Conta nova (versão 0) é gravada já na versão 1
+  private static void bindInsert(PreparedStatement ps, Account account) throws SQLException {
+    ps.setObject(1, account.getId().getValue());
+    ps.setString(2, account.getAccountNumber());
+    ps.setObject(3, account.getCustomerId().getValue());
+    ps.setBigDecimal(4, FixedPointMoney.toBigDecimal(account.getBalanceCents()));
+    ps.setBigDecimal(5, FixedPointMoney.toBigDecimal(account.getHeldCents()));
+    ps.setString(6, account.getCurrency().name());
+    ps.setString(7, account.getStatus().name());
+    ps.setObject(8, account.getCreatedAt());
+    ps.setObject(9, account.getUpdatedAt());
+    ps.setLong(10, account.getVersion() + 1);
+  }
+
+  private static void bindUpdate(PreparedStatement ps, Account account) throws SQLException {
+    ps.setBigDecimal(1, FixedPointMoney.toBigDecimal(account.getBalanceCents()));
+    ps.setBigDecimal(2, FixedPointMoney.toBigDecimal(account.getHeldCents()));
+    ps.setString(3, account.getStatus().name());
+    ps.setObject(4, account.getUpdatedAt());
+    ps.setObject(5, account.getId().getValue());
+    ps.setLong(6, account.getVersion());
+  }
+
+  private boolean exists(AccountId id) {
+    Integer count = jdbcTemplate.queryForObject(EXISTS_BY_ID_SQL, Integer.class, id.getValue());
+    return count != null && count > 0;
+  }
+
+  private RuntimeException conflictOrNotFound(Account account) {
+    if (!exists(account.getId())) {
+      return new AccountNotFoundException("Account not found: " + account.getId());
+    }
+    return conflict(account);
+  }
+
+  private static AccountVersionConflictException conflict(Account account) {
+    return new AccountVersionConflictException(
+        "Account " + account.getId() + " was modified concurrently (expected version " + account.getVersion() + ")");
+  }
+
+  private static Optional<Account> first(List<Account> accounts) {
+    return accounts.isEmpty() ? Optional.empty() : Optional.of(accounts.getFirst());
+  }
+}
@@ -0,0 +1,66 @@
+package com.inter.banking.banking.infrastructure.persistence.jpa;
+
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade JPA da conta (detalhe de infraestrutura)
+ * O domínio nunca enxerga esta classe, o mapeamento fica no adapter
+ */
+@Entity
+@Table(
+    name = "accounts",
+    indexes = @Index(name = "idx_accounts_customer_id", columnList = "customer_id"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AccountJpaEntity {
+  @Id
+  private UUID id;
+
+  @Column(name = "account_number", nullable = false, unique = true, length = 20)
+  private String accountNumber;
+
+  @Column(name = "customer_id", nullable = false)
+  private UUID customerId;
+
+  @Column(nullable = false, precision = 19, scale = 2)
+  private BigDecimal balance;
+
+  // Reservas ativas (autorizações); já incluídas em balance
+  @Column(name = "held_amount", nullable = false, precision = 19, scale = 2)
+  private BigDecimal heldAmount;
+
+  @Column(nullable = false, length = 3)
+  private String currency;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private AccountStatus status;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  // Controlado pelo adapter (UPDATE condicional), não pelo @Version do Hibernate
+  @Column(nullable = false)
+  private long version;
+}
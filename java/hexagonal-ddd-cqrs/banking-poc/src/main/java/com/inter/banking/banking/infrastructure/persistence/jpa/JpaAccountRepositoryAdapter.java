@@ -0,0 +1,218 @@
+package com.inter.banking.banking.infrastructure.persistence.jpa;
+
+import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter JPA para o port AccountRepository (Secondary/Driven Adapter)
+ * Converte entre o modelo de domínio e a entidade JPA
+ * Gravações de contas existentes são UPDATEs condicionais pela versão (optimistic locking)
+ */
+@Repository
+@Qualifier("accountStore")
+@ConditionalOnProperty(prefix = "banking.persistence", name = "adapter", havingValue = "jpa", matchIfMissing = true)
+public class JpaAccountRepositoryAdapter implements AccountRepository {
+  private static final String BATCH_UPDATE_SQL =
+      "UPDATE accounts SET balance = ?, held_amount = ?, status = ?, updated_at = ?, version = version + 1 "
+          + "WHERE id = ? AND version = ?";
+  private static final String SELECT_FOR_UPDATE_SQL =
+      "SELECT id, account_number, customer_id, balance, held_amount, currency, status, created_at, updated_at, version "
+          + "FROM accounts WHERE id = ? FOR UPDATE";
+  private static final String BATCH_INSERT_SQL =
+      "INSERT INTO accounts (id, account_number, customer_id, balance, held_amount, currency, status, created_at, "
+          + "updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1)";
+
+  private final SpringDataAccountRepository repository;
+  private final JdbcTemplate jdbcTemplate;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public JpaAccountRepositoryAdapter(SpringDataAccountRepository repository, JdbcTemplate jdbcTemplate) {
+    this.repository = repository;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public Account save(Account account) {
+    if (account.getVersion() == 0) {
+      entityManager.persist(toEntity(account));
+    } else {
+      int updated = repository.updateIfVersionMatches(
+          account.getId().getValue(),
+          account.getBalance().getAmount(),
+          FixedPointMoney.toBigDecimal(account.getHeldCents()),
+          account.getStatus(),
+          account.getUpdatedAt(),
+          account.getVersion());
+      if (updated == 0) {
+        throw conflictOrNotFound(account);
+      }
+    }
+    account.advanceVersion();
+    return account;
+  }
+
+  @Override
+  public Optional<Account> findById(AccountId id) {
+    return repository.findById(id.getValue()).map(JpaAccountRepositoryAdapter::toDomain);
+  }
+
+  // Via JDBC: a entidade no contexto JPA pode estar desatualizada e a leitura travada precisa ser a do banco
+  @Override
+  public Optional<Account> findByIdForUpdate(AccountId id) {
+    entityManager.flush();
+    return jdbcTemplate.query(SELECT_FOR_UPDATE_SQL, (rs, rowNum) -> new Account(
+            new AccountId(rs.getObject("id", UUID.class)),
+            rs.getString("account_number"),
+            new CustomerId(rs.getObject("customer_id", UUID.class)),
+            FixedPointMoney.toCents(rs.getBigDecimal("balance")),
+            FixedPointMoney.toCents(rs.getBigDecimal("held_amount")),
+            CurrencyCode.of(rs.getString("currency")),
+            AccountStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("updated_at").toLocalDateTime(),
+            rs.getLong("version")), id.getValue())
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public Optional<Account> findByAccountNumber(String accountNumber) {
+    return repository.findByAccountNumber(accountNumber).map(JpaAccountRepositoryAdapter::toDomain);
+  }
+
+  @Override
+  public List<Account> findByCustomerId(CustomerId customerId) {
+    return repository.findByCustomerId(customerId.getValue()).stream()
+        .map(JpaAccountRepositoryAdapter::toDomain)
+        .toList();
+  }
+
+  @Override
+  public void delete(AccountId id) {
+    repository.deleteById(id.getValue());
+  }
+
+  @Override
+  public boolean existsByAccountNumber(String accountNumber) {
+    return repository.existsByAccountNumber(accountNumber);
+  }
+
+  @Override
+  public List<Account> findAllById(Collection<AccountId> ids) {
+    return repository.findAllById(ids.stream().map(AccountId::getValue).toList()).stream()
+        .map(JpaAccountRepositoryAdapter::toDomain)
+        .toList();
+  }
+
+  /**
+   * Grava em JDBC batch, sem dirty checking: UPDATE condicional só das colunas que mudam e
+   * INSERT em lote para as contas novas. Um conflito de versão aborta o lote inteiro
+   */
+  @Override
+  @Transactional
+  public List<Account> saveAll(Collection<Account> accounts) {
+    if (accounts.isEmpty()) {
+      return List.of();
+    }
+    // Alterações pendentes do JPA vão antes, e o contexto é limpo depois para não servir estado antigo
+    entityManager.flush();
+
+    List<Account> batch = new ArrayList<>(accounts);
+    List<Account> existing = new ArrayList<>(batch.size());
+    List<Account> created = new ArrayList<>();
+    batch.forEach(account -> (account.getVersion() == 0 ? created : existing).add(account));
+
+    if (!existing.isEmpty()) {
+      int[][] updated = jdbcTemplate.batchUpdate(BATCH_UPDATE_SQL, existing, existing.size(), (ps, account) -> {
+        ps.setBigDecimal(1, account.getBalance().getAmount());
+        ps.setBigDecimal(2, FixedPointMoney.toBigDecimal(account.getHeldCents()));
+        ps.setString(3, account.getStatus().name());
+        ps.setObject(4, account.getUpdatedAt());
+        ps.setObject(5, account.getId().getValue());
+        ps.setLong(6, account.getVersion());
+      });
+      int[] counts = updated[0];
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] == 0) {
+          throw conflictOrNotFound(existing.get(i));
+        }
+      }
+    }
+    if (!created.isEmpty()) {
+      jdbcTemplate.batchUpdate(BATCH_INSERT_SQL, created, created.size(), (ps, account) -> {
+        ps.setObject(1, account.getId().getValue());
+        ps.setString(2, account.getAccountNumber());
+        ps.setObject(3, account.getCustomerId().getValue());
+        ps.setBigDecimal(4, account.getBalance().getAmount());
+        ps.setBigDecimal(5, FixedPointMoney.toBigDecimal(account.getHeldCents()));
+        ps.setString(6, account.getBalance().getCurrency());
+        ps.setString(7, account.getStatus().name());
+        ps.setObject(8, account.getCreatedAt());
+        ps.setObject(9, account.getUpdatedAt());
+      });
+    }
+
+    entityManager.clear();
+    batch.forEach(Account::advanceVersion);
+    return batch;
+  }
+
+  private RuntimeException conflictOrNotFound(Account account) {
+    if (!repository.existsById(account.getId().getValue())) {
+      return new AccountNotFoundException("Account not found: " + account.getId());
+    }
+    return new AccountVersionConflictException(
+        "Account " + account.getId() + " was modified concurrently (expected version " + account.getVersion() + ")");
+  }
+
+  // Só para inserção: a conta nova (versão 0) é gravada já na versão 1
+  private static AccountJpaEntity toEntity(Account account) {
+    return new AccountJpaEntity(
+        account.getId().getValue(),
+        account.getAccountNumber(),
+        account.getCustomerId().getValue(),
+        account.getBalance().getAmount(),
+        FixedPointMoney.toBigDecimal(account.getHeldCents()),
+        account.getBalance().getCurrency(),
+        account.getStatus(),
+        account.getCreatedAt(),
+        account.getUpdatedAt(),
+        account.getVersion() + 1);
+  }
+
+  private static Account toDomain(AccountJpaEntity entity) {
+    return new Account(
+        new AccountId(entity.getId()),
+        entity.getAccountNumber(),
+        new CustomerId(entity.getCustomerId()),
+        FixedPointMoney.toCents(entity.getBalance()),
+        FixedPointMoney.toCents(entity.getHeldAmount()),
+        CurrencyCode.of(entity.getCurrency()),
+        entity.getStatus(),
+        entity.getCreatedAt(),
+        entity.getUpdatedAt(),
+        entity.getVersion());
+  }
+}
@@ -0,0 +1,36 @@
+package com.inter.banking.banking.infrastructure.persistence.jpa;
+
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SpringDataAccountRepository extends JpaRepository<AccountJpaEntity, UUID> {
+  Optional<AccountJpaEntity> findByAccountNumber(String accountNumber);
+
+  List<AccountJpaEntity> findByCustomerId(UUID customerId);
+
+  boolean existsByAccountNumber(String accountNumber);
+
+  /**
+   * UPDATE condicional pela versão lida (optimistic locking); devolve 0 em caso de conflito
+   * Limpa o contexto de persistência para que uma nova leitura venha do banco
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE AccountJpaEntity a SET a.balance = :balance, a.heldAmount = :heldAmount, a.status = :status, "
+      + "a.updatedAt = :updatedAt, a.version = a.version + 1 WHERE a.id = :id AND a.version = :version")
+  int updateIfVersionMatches(
+      @Param("id") UUID id,
+      @Param("balance") BigDecimal balance,
+      @Param("heldAmount") BigDecimal heldAmount,
+      @Param("status") AccountStatus status,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("version") long version);
+}
@@ -0,0 +1,137 @@
+package com.inter.banking.banking.infrastructure.statement;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Adapter JDBC para o port AccountStatementStore (Secondary/Driven Adapter)
+ * Tabela append-only account_statement_entries, gravada na transação do comando: o lançamento fica
+ * visível junto com o commit que alterou a conta. A ordem do extrato e o cursor são o id (sequência
+ * atribuída na gravação), indexado por (account_id, id): uma página é uma faixa contínua do índice
+ * (keyset), com custo que não depende de quantas páginas vieram antes. Paginar por occurred_at pularia
+ * lançamentos gravados depois de um cursor com instante posterior ao deles.
+ * O stream é uma sequência dessas páginas, cada uma numa consulta curta
+ */
+@Repository
+@EnableConfigurationProperties(StatementProperties.class)
+public class JdbcAccountStatementStore implements AccountStatementStore {
+  // Reentrega do mesmo lançamento não gera linha nem erro: a transação do comando segue válida
+  private static final String INSERT_SQL =
+      "INSERT INTO account_statement_entries "
+          + "(account_id, transaction_id, type, amount_cents, balance_after_cents, occurred_at) "
+          + "SELECT ?, ?, ?, ?, ?, ? WHERE NOT EXISTS "
+          + "(SELECT 1 FROM account_statement_entries WHERE account_id = ? AND transaction_id = ?)";
+  // account_id no ORDER BY, mesmo fixo no WHERE: o ORDER BY casa com o índice e a página sai lida
+  // em ordem do índice; o período filtra as linhas lidas
+  private static final String SELECT_PAGE_SQL =
+      "SELECT id, transaction_id, type, amount_cents, balance_after_cents, occurred_at FROM account_statement_entries "
+          + "WHERE account_id = ? AND id > ? AND occurred_at >= ? AND occurred_at < ? "
+          + "ORDER BY account_id, id LIMIT ?";
+  // Primeiro lançamento do período pelo índice de tempo: a primeira página não percorre o histórico anterior
+  private static final String SELECT_PERIOD_START_SQL =
+      "SELECT MIN(id) FROM account_statement_entries WHERE account_id = ? AND occurred_at >= ?";
+  private static final String EXISTS_SQL =
+      "SELECT COUNT(*) FROM account_statement_entries WHERE account_id = ? AND transaction_id = ?";
+  // Sem índice por período em todas as contas: varre a tabela, só na subida da aplicação
+  private static final String SELECT_DEBIT_TOTALS_SQL =
+      "SELECT account_id, SUM(amount_cents) AS amount_cents FROM account_statement_entries "
+          + "WHERE type = 'DEBIT' AND occurred_at >= ? AND occurred_at < ? GROUP BY account_id";
+  // Limites do período aberto, dentro da faixa de TIMESTAMP do banco
+  private static final Instant OPEN_START = Instant.EPOCH;
+  private static final Instant OPEN_END = Instant.parse("9999-01-01T00:00:00Z");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int chunkSize;
+
+  public JdbcAccountStatementStore(JdbcTemplate jdbcTemplate, StatementProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.chunkSize = properties.chunkSize();
+  }
+
+  @Override
+  public void append(List<Entry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+      ps.setObject(1, entry.accountId().getValue());
+      ps.setString(2, entry.transactionId());
+      ps.setString(3, entry.operation());
+      ps.setLong(4, entry.amountCents());
+      ps.setLong(5, entry.balanceAfterCents());
+      ps.setTimestamp(6, Timestamp.from(entry.occurredAt().truncatedTo(ChronoUnit.MICROS)));
+      ps.setObject(7, entry.accountId().getValue());
+      ps.setString(8, entry.transactionId());
+    });
+  }
+
+  @Override
+  public List<Entry> findPage(AccountId accountId, Instant from, Instant to, Position after, int limit) {
+    long lower = after != null ? after.sequence() : periodStart(accountId, from);
+    return jdbcTemplate.query(SELECT_PAGE_SQL, mapper(accountId),
+        accountId.getValue(),
+        lower,
+        Timestamp.from(from != null ? from : OPEN_START),
+        Timestamp.from(to != null ? to : OPEN_END),
+        limit);
+  }
+
+  @Override
+  public Stream<Entry> stream(AccountId accountId, Instant from, Instant to) {
+    // Primeira página lida já na chamada; as seguintes só quando o consumidor chega ao fim da anterior
+    return Stream.iterate(
+            findPage(accountId, from, to, null, chunkSize),
+            page -> !page.isEmpty(),
+            page -> page.size() < chunkSize
+                ? List.of()
+                : findPage(accountId, from, to, page.getLast().position(), chunkSize))
+        .flatMap(List::stream);
+  }
+
+  @Override
+  public boolean contains(AccountId accountId, String transactionId) {
+    Integer rows = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, accountId.getValue(), transactionId);
+    return rows != null && rows > 0;
+  }
+
+  @Override
+  public List<DebitTotal> debitTotals(Instant from, Instant to) {
+    return jdbcTemplate.query(SELECT_DEBIT_TOTALS_SQL, (rs, rowNum) -> new DebitTotal(
+            new AccountId(rs.getObject("account_id", UUID.class)),
+            rs.getLong("amount_cents")),
+        Timestamp.from(from != null ? from : OPEN_START),
+        Timestamp.from(to != null ? to : OPEN_END));
+  }
+
+  /** Sequência logo antes do primeiro lançamento do período (0 sem início ou sem lançamentos) */
+  private long periodStart(AccountId accountId, Instant from) {
+    if (from == null) {
+      return 0;
+    }
+    Long first = jdbcTemplate.queryForObject(SELECT_PERIOD_START_SQL, Long.class,
+        accountId.getValue(), Timestamp.from(from));
+    return first != null ? first - 1 : 0;
+  }
+
+  private static RowMapper<Entry> mapper(AccountId accountId) {
+    return (rs, rowNum) -> new Entry(
+        rs.getLong("id"),
+        accountId,
+        rs.getString("transaction_id"),
+        rs.getString("type"),
+        rs.getLong("amount_cents"),
+        rs.getLong("balance_after_cents"),
+        rs.getTimestamp("occurred_at").toInstant());
+  }
+}
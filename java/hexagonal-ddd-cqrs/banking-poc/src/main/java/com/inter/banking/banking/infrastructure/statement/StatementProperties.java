@@ -0,0 +1,12 @@
+package com.inter.banking.banking.infrastructure.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do extrato (banking.statement.*)
+ *
+ * @param chunkSize lançamentos lidos por consulta ao percorrer o extrato em stream (limita a memória do stream)
+ */
+@ConfigurationProperties(prefix = "banking.statement")
+public record StatementProperties(@DefaultValue("1000") int chunkSize) {}
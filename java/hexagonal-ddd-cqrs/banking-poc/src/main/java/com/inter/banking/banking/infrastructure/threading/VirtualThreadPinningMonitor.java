@@ -0,0 +1,97 @@
+package com.inter.banking.banking.infrastructure.threading;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta virtual threads presas ao carrier (evento JFR jdk.VirtualThreadPinned)
+ * No Java 21 um bloqueio dentro de synchronized — JDBC num método synchronized, por exemplo —
+ * segura o carrier inteiro e a virtual thread deixa de escalar. Cada ponto de pinning é logado
+ * uma vez com a pilha; as ocorrências seguintes só entram na contagem
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "banking.virtual-threads", name = "pinning-monitor", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private final VirtualThreadProperties properties;
+  private final RecordingStream stream;
+  private final LongAdder pinnedEvents = new LongAdder();
+  private final AtomicLong maxPinnedNanos = new AtomicLong();
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+  public VirtualThreadPinningMonitor(VirtualThreadProperties properties) {
+    this.properties = properties;
+    this.stream = new RecordingStream();
+    this.stream.enable(PINNED_EVENT).withThreshold(properties.pinningThreshold()).withStackTrace();
+    this.stream.onEvent(PINNED_EVENT, this::onPinned);
+    this.stream.startAsync();
+    log.info("Monitor de pinning de virtual threads ativo (limite {})", properties.pinningThreshold());
+  }
+
+  /** Ocorrências de pinning acima do limite desde a subida */
+  public long pinnedEvents() {
+    return pinnedEvents.sum();
+  }
+
+  public Duration maxPinnedDuration() {
+    return Duration.ofNanos(maxPinnedNanos.get());
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedEvents.increment();
+    maxPinnedNanos.accumulateAndGet(event.getDuration().toNanos(), Math::max);
+
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+    String site = site(frames);
+    if (reportedSites.add(site)) {
+      log.warn("Virtual thread presa ao carrier por {} ms em {}:\n\t{}",
+          event.getDuration().toMillis(),
+          site,
+          frames.stream()
+              .limit(properties.stackDepth())
+              .map(VirtualThreadPinningMonitor::describe)
+              .collect(Collectors.joining("\n\t")));
+    }
+  }
+
+  // Primeiro frame fora do JDK: o topo da pilha costuma ser o park/sleep, não quem segurou o monitor
+  private static String site(List<RecordedFrame> frames) {
+    return frames.stream()
+        .filter(frame -> !frame.getMethod().getType().getName().startsWith("java.")
+            && !frame.getMethod().getType().getName().startsWith("jdk."))
+        .findFirst()
+        .or(() -> frames.stream().findFirst())
+        .map(VirtualThreadPinningMonitor::describe)
+        .orElse("<sem pilha>");
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+  }
+
+  @Override
+  public void close() {
+    stream.close();
+  }
+}
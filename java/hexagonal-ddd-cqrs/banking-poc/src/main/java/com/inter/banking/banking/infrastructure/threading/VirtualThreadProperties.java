@@ -0,0 +1,20 @@
+package com.inter.banking.banking.infrastructure.threading;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Diagnóstico do modo virtual threads (spring.threads.virtual.enabled)
+ *
+ * @param pinningThreshold tempo mínimo que uma virtual thread presa ao carrier (synchronized/JNI
+ *                         com bloqueio dentro) precisa ficar parada para ser registrada
+ * @param stackDepth       quantidade de frames logados por ocorrência
+ */
+@ConfigurationProperties(prefix = "banking.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("true") boolean pinningMonitor,
+        @DefaultValue("20ms") Duration pinningThreshold,
+        @DefaultValue("12") int stackDepth
+) {}
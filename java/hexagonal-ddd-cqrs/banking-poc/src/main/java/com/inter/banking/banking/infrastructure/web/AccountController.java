@@ -0,0 +1,250 @@
+package com.inter.banking.banking.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inter.banking.banking.application.command.BlockAccountCommand;
+import com.inter.banking.banking.application.command.CaptureHoldCommand;
+import com.inter.banking.banking.application.command.ChangeLimitTierCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.PlaceHoldCommand;
+import com.inter.banking.banking.application.command.ReleaseHoldCommand;
+import com.inter.banking.banking.application.command.TransferCommand;
+import com.inter.banking.banking.application.command.UnblockAccountCommand;
+import com.inter.banking.banking.application.command.result.AccountCreatedResult;
+import com.inter.banking.banking.application.command.result.AccountStatusResult;
+import com.inter.banking.banking.application.command.result.HoldResult;
+import com.inter.banking.banking.application.command.result.LimitTierResult;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.command.result.TransferResult;
+import com.inter.banking.banking.application.query.GetAccountBalanceQuery;
+import com.inter.banking.banking.application.query.GetAccountByIdQuery;
+import com.inter.banking.banking.application.query.GetAccountStatementQuery;
+import com.inter.banking.banking.application.query.GetAccountsByCustomerQuery;
+import com.inter.banking.banking.application.query.GetCustomerSummaryQuery;
+import com.inter.banking.banking.application.query.StreamAccountStatementQuery;
+import com.inter.banking.banking.application.query.StreamAccountsByCustomerQuery;
+import com.inter.banking.banking.application.query.dto.AccountBalanceDto;
+import com.inter.banking.banking.application.query.dto.AccountDto;
+import com.inter.banking.banking.application.query.dto.AccountStatementDto;
+import com.inter.banking.banking.application.query.dto.CustomerAccountsDto;
+import com.inter.banking.banking.application.query.dto.CustomerSummaryDto;
+import com.inter.banking.banking.application.query.dto.StatementEntryDto;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.application.service.AccountQueryService;
+import com.inter.banking.banking.application.service.FundsHoldService;
+import com.inter.banking.banking.infrastructure.cluster.CommandRouter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Adapter HTTP (Primary/Driving Adapter) sobre os serviços de comando e consulta
+ * Com spring.threads.virtual.enabled cada requisição roda numa virtual thread, e o JDBC
+ * bloqueante dos comandos deixa de ser limitado pelo pool de threads do Tomcat.
+ * Requisições de uma conta passam pelo CommandRouter, que as executa no nó dono da conta
+ */
+@RestController
+@RequestMapping("/api")
+public class AccountController {
+  /** Header da chave de idempotência de débitos/créditos */
+  static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+  private static final String NDJSON = "application/x-ndjson";
+
+  private final AccountCommandService commandService;
+  private final AccountQueryService queryService;
+  private final FundsHoldService holdService;
+  private final CommandRouter router;
+  private final ObjectMapper objectMapper;
+
+  public AccountController(
+      AccountCommandService commandService,
+      AccountQueryService queryService,
+      FundsHoldService holdService,
+      CommandRouter router,
+      ObjectMapper objectMapper) {
+    this.commandService = commandService;
+    this.queryService = queryService;
+    this.holdService = holdService;
+    this.router = router;
+    this.objectMapper = objectMapper;
+  }
+
+  /** Corpo de débito/crédito; a conta vem do path */
+  public record TransactionRequest(BigDecimal amount, String description) {}
+
+  /** Corpo da reserva; expiresIn em ISO-8601 (ex.: PT15M), opcional */
+  public record HoldRequest(BigDecimal amount, String description, Duration expiresIn) {}
+
+  /** Corpo da captura; sem amount captura a reserva inteira */
+  public record CaptureRequest(BigDecimal amount) {}
+
+  /** Corpo de bloqueio */
+  public record StatusRequest(String reason) {}
+
+  /** Corpo da troca de faixa de limites (banking.limits.tiers) */
+  public record LimitTierRequest(String tier) {}
+
+  @PostMapping("/accounts")
+  @ResponseStatus(HttpStatus.CREATED)
+  public AccountCreatedResult createAccount(@RequestBody CreateAccountCommand command) {
+    return commandService.createdAccount(command);
+  }
+
+  @GetMapping("/accounts/{accountId}")
+  public AccountDto getAccount(@PathVariable String accountId) {
+    return router.route(accountId, null, AccountDto.class,
+        () -> queryService.getAccountById(new GetAccountByIdQuery(accountId)));
+  }
+
+  @GetMapping("/accounts/{accountId}/balance")
+  public AccountBalanceDto getBalance(@PathVariable String accountId) {
+    return router.route(accountId, null, AccountBalanceDto.class,
+        () -> queryService.getAccountBalance(new GetAccountBalanceQuery(accountId)));
+  }
+
+  /**
+   * Página do extrato; from/to em ISO-8601 (ex.: 2025-01-01T00:00:00Z), to exclusivo
+   */
+  @GetMapping("/accounts/{accountId}/statement")
+  public AccountStatementDto getStatement(
+      @PathVariable String accountId,
+      @RequestParam(required = false) Instant from,
+      @RequestParam(required = false) Instant to,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + GetAccountStatementQuery.DEFAULT_LIMIT) int limit) {
+    return queryService.getAccountStatement(new GetAccountStatementQuery(accountId, from, to, cursor, limit));
+  }
+
+  /**
+   * Extrato inteiro do período em NDJSON, um lançamento por linha, em memória constante
+   */
+  @GetMapping(path = "/accounts/{accountId}/statement/stream", produces = NDJSON)
+  public ResponseEntity<StreamingResponseBody> streamStatement(
+      @PathVariable String accountId,
+      @RequestParam(required = false) Instant from,
+      @RequestParam(required = false) Instant to) {
+    Stream<StatementEntryDto> entries =
+        queryService.streamAccountStatement(new StreamAccountStatementQuery(accountId, from, to));
+    return ndjson(entries);
+  }
+
+  @PostMapping("/accounts/{accountId}/debits")
+  public TransactionResult debit(
+      @PathVariable String accountId,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+      @RequestBody TransactionRequest request) {
+    return router.route(accountId, request, TransactionResult.class, () -> commandService.debitAccount(
+        new DebitAccountCommand(accountId, request.amount(), request.description(), idempotencyKey)));
+  }
+
+  @PostMapping("/accounts/{accountId}/credits")
+  public TransactionResult credit(
+      @PathVariable String accountId,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+      @RequestBody TransactionRequest request) {
+    return router.route(accountId, request, TransactionResult.class, () -> commandService.creditAccount(
+        new CreditAccountCommand(accountId, request.amount(), request.description(), idempotencyKey)));
+  }
+
+  @PostMapping("/accounts/{accountId}/holds")
+  @ResponseStatus(HttpStatus.CREATED)
+  public HoldResult placeHold(@PathVariable String accountId, @RequestBody HoldRequest request) {
+    return router.route(accountId, request, HoldResult.class, () -> holdService.placeHold(
+        new PlaceHoldCommand(accountId, request.amount(), request.description(), request.expiresIn())));
+  }
+
+  @PostMapping("/accounts/{accountId}/holds/{holdId}/capture")
+  public TransactionResult captureHold(
+      @PathVariable String accountId,
+      @PathVariable String holdId,
+      @RequestBody(required = false) CaptureRequest request) {
+    return router.route(accountId, request, TransactionResult.class, () -> holdService.captureHold(
+        new CaptureHoldCommand(accountId, holdId, request != null ? request.amount() : null)));
+  }
+
+  @PostMapping("/accounts/{accountId}/holds/{holdId}/release")
+  public HoldResult releaseHold(@PathVariable String accountId, @PathVariable String holdId) {
+    return router.route(accountId, null, HoldResult.class,
+        () -> holdService.releaseHold(new ReleaseHoldCommand(accountId, holdId)));
+  }
+
+  @PostMapping("/accounts/{accountId}/block")
+  public AccountStatusResult block(@PathVariable String accountId, @RequestBody StatusRequest request) {
+    return router.route(accountId, request, AccountStatusResult.class,
+        () -> commandService.blockAccount(new BlockAccountCommand(accountId, request.reason())));
+  }
+
+  @PostMapping("/accounts/{accountId}/unblock")
+  public AccountStatusResult unblock(@PathVariable String accountId) {
+    return router.route(accountId, null, AccountStatusResult.class,
+        () -> commandService.unblockAccount(new UnblockAccountCommand(accountId)));
+  }
+
+  // No nó dono: é ele que conta os débitos da conta
+  @PostMapping("/accounts/{accountId}/limit-tier")
+  public LimitTierResult changeLimitTier(@PathVariable String accountId, @RequestBody LimitTierRequest request) {
+    return router.route(accountId, request, LimitTierResult.class,
+        () -> commandService.changeLimitTier(new ChangeLimitTierCommand(accountId, request.tier())));
+  }
+
+  // Roteada pela conta de origem; a de destino é travada no banco pelo dono da origem.
+  // No modo ledger o destino precisa ser do mesmo nó: entre donos diferentes a transferência é recusada (409)
+  @PostMapping("/transfers")
+  public TransferResult transfer(@RequestBody TransferCommand command) {
+    return router.route(command.sourceAccountId(), command, TransferResult.class, () -> commandService.transfer(command));
+  }
+
+  @GetMapping("/customers/{customerId}/accounts")
+  public CustomerAccountsDto getCustomerAccounts(
+      @PathVariable String customerId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "" + GetAccountsByCustomerQuery.DEFAULT_PAGE_SIZE) int size) {
+    return queryService.getAccountsByCustomer(new GetAccountsByCustomerQuery(customerId, page, size));
+  }
+
+  @GetMapping("/customers/{customerId}/summary")
+  public CustomerSummaryDto getCustomerSummary(@PathVariable String customerId) {
+    return queryService.getCustomerSummary(new GetCustomerSummaryQuery(customerId));
+  }
+
+  /**
+   * Todas as contas do cliente em NDJSON, uma linha por conta, sem montar a resposta inteira em memória
+   */
+  @GetMapping(path = "/customers/{customerId}/accounts/stream", produces = NDJSON)
+  public ResponseEntity<StreamingResponseBody> streamCustomerAccounts(@PathVariable String customerId) {
+    // Resolvido aqui, na thread da requisição: cliente inválido vira erro antes de abrir o corpo
+    Stream<AccountDto> accounts = queryService.streamAccountsByCustomer(new StreamAccountsByCustomerQuery(customerId));
+    return ndjson(accounts);
+  }
+
+  private ResponseEntity<StreamingResponseBody> ndjson(Stream<?> items) {
+    StreamingResponseBody body = output -> {
+      try (items) {
+        Iterator<?> iterator = items.iterator();
+        while (iterator.hasNext()) {
+          objectMapper.writeValue(StreamUtils.nonClosing(output), iterator.next());
+          output.write('\n');
+        }
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+  }
+}
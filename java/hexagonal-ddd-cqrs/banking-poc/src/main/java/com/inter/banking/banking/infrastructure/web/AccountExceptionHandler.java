@@ -0,0 +1,79 @@
+package com.inter.banking.banking.infrastructure.web;
+
+import com.inter.banking.banking.domain.exception.AccountNotActiveException;
+import com.inter.banking.banking.domain.exception.AccountNotFoundException;
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.exception.DebitLimitExceededException;
+import com.inter.banking.banking.domain.exception.DuplicateIdempotencyKeyException;
+import com.inter.banking.banking.domain.exception.HoldNotFoundException;
+import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
+import com.inter.banking.banking.domain.exception.InvalidAmountException;
+import com.inter.banking.banking.domain.exception.InvalidTransferException;
+import com.inter.banking.banking.domain.exception.VelocityLimitExceededException;
+import com.inter.banking.banking.infrastructure.cluster.ForwardedCommandException;
+import com.inter.banking.banking.infrastructure.cluster.OwnerUnavailableException;
+import com.inter.banking.banking.infrastructure.ledger.AccountNotOwnedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Traduz as exceções de domínio para respostas HTTP (RFC 7807)
+ */
+@RestControllerAdvice(assignableTypes = AccountController.class)
+public class AccountExceptionHandler {
+
+  // Reserva inexistente ou já capturada, liberada ou expirada
+  @ExceptionHandler({AccountNotFoundException.class, HoldNotFoundException.class})
+  public ProblemDetail notFound(RuntimeException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+  }
+
+  // Retentativas esgotadas: o cliente pode repetir a requisição
+  @ExceptionHandler(AccountVersionConflictException.class)
+  public ProblemDetail conflict(AccountVersionConflictException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+  }
+
+  // Mesma chave em comando diferente, ou repetição concorrente com o original ainda em execução
+  @ExceptionHandler(DuplicateIdempotencyKeyException.class)
+  public ProblemDetail duplicateIdempotencyKey(DuplicateIdempotencyKeyException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+  }
+
+  // Erro devolvido pelo nó dono da conta: repassado com o status e o corpo originais
+  @ExceptionHandler(ForwardedCommandException.class)
+  public ProblemDetail forwarded(ForwardedCommandException e) {
+    return e.getProblem();
+  }
+
+  // Sem resposta do dono o resultado é incerto: repetir com a mesma Idempotency-Key é seguro
+  @ExceptionHandler(OwnerUnavailableException.class)
+  public ProblemDetail ownerUnavailable(OwnerUnavailableException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+  }
+
+  // Conta de outro nó no modo ledger (ex.: transferência entre donos diferentes): nada foi alterado
+  @ExceptionHandler(AccountNotOwnedException.class)
+  public ProblemDetail notOwned(AccountNotOwnedException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+  }
+
+  // Débitos demais no último minuto: a janela deslizante libera vaga em segundos
+  @ExceptionHandler(VelocityLimitExceededException.class)
+  public ProblemDetail tooManyDebits(VelocityLimitExceededException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+  }
+
+  @ExceptionHandler({
+      InsufficientBalanceException.class,
+      DebitLimitExceededException.class,
+      InvalidAmountException.class,
+      InvalidTransferException.class,
+      AccountNotActiveException.class,
+      IllegalArgumentException.class})
+  public ProblemDetail unprocessable(RuntimeException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+  }
+}
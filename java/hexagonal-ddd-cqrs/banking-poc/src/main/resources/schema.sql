@@ -0,0 +1,141 @@
+-- Tabelas fora do JPA: adapter event-sourced, reserva de blocos de números de conta e importação
+-- Executado depois do DDL do Hibernate (spring.jpa.defer-datasource-initialization)
+
+-- Dados imutáveis da conta, gravados uma vez na criação
+CREATE TABLE IF NOT EXISTS account_streams (
+    account_id     UUID         NOT NULL PRIMARY KEY,
+    account_number VARCHAR(20)  NOT NULL UNIQUE,
+    customer_id    UUID         NOT NULL,
+    currency       VARCHAR(3)   NOT NULL,
+    created_at     TIMESTAMP    NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_account_streams_customer_id ON account_streams (customer_id);
+
+-- Stream append-only; a chave (account_id, version) é a checagem de concorrência
+CREATE TABLE IF NOT EXISTS account_events (
+    account_id          UUID        NOT NULL,
+    version             BIGINT      NOT NULL,
+    type                VARCHAR(20) NOT NULL,
+    amount_cents        BIGINT      NOT NULL,
+    balance_after_cents BIGINT      NOT NULL,
+    held_after_cents    BIGINT      DEFAULT 0 NOT NULL,
+    status_after        VARCHAR(20) NOT NULL,
+    occurred_at         TIMESTAMP   NOT NULL,
+    PRIMARY KEY (account_id, version)
+);
+
+-- Último snapshot de cada conta; findById reconstrói a partir dele + eventos posteriores
+CREATE TABLE IF NOT EXISTS account_snapshots (
+    account_id    UUID        NOT NULL PRIMARY KEY,
+    version       BIGINT      NOT NULL,
+    balance_cents BIGINT      NOT NULL,
+    held_cents    BIGINT      DEFAULT 0 NOT NULL,
+    status        VARCHAR(20) NOT NULL,
+    updated_at    TIMESTAMP   NOT NULL
+);
+
+-- Próximo número de conta ainda não reservado; cada reserva avança um bloco inteiro
+CREATE TABLE IF NOT EXISTS account_number_allocations (
+    name       VARCHAR(40) NOT NULL PRIMARY KEY,
+    next_value BIGINT      NOT NULL
+);
+INSERT INTO account_number_allocations (name, next_value) SELECT 'account', 1
+    WHERE NOT EXISTS (SELECT 1 FROM account_number_allocations WHERE name = 'account');
+
+-- Última linha importada de cada importação (importId ou SHA-256 do arquivo), gravada na mesma transação das contas do lote
+CREATE TABLE IF NOT EXISTS account_import_checkpoints (
+    source     VARCHAR(500) NOT NULL PRIMARY KEY,
+    last_line  BIGINT       NOT NULL,
+    updated_at TIMESTAMP    NOT NULL
+);
+
+-- Resultado dos comandos com chave de idempotência, gravado na transação do comando
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(128)   NOT NULL PRIMARY KEY,
+    operation       VARCHAR(20)    NOT NULL,
+    account_id      UUID           NOT NULL,
+    amount          DECIMAL(19, 2) NOT NULL,
+    transaction_id  VARCHAR(36)    NOT NULL,
+    new_balance     DECIMAL(19, 2) NOT NULL,
+    created_at      TIMESTAMP      NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at ON idempotency_keys (created_at);
+
+-- Extrato: lançamentos append-only gravados na transação do comando; (account_id, id) é a ordem do extrato
+-- e a chave do cursor; (account_id, occurred_at) localiza o início de um período
+-- (account_id, transaction_id) único descarta a reentrega do mesmo evento
+CREATE TABLE IF NOT EXISTS account_statement_entries (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id          UUID        NOT NULL,
+    transaction_id      VARCHAR(36) NOT NULL,
+    type                VARCHAR(20) NOT NULL,
+    amount_cents        BIGINT      NOT NULL,
+    balance_after_cents BIGINT      NOT NULL,
+    occurred_at         TIMESTAMP   NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_statement_entries_account_sequence ON account_statement_entries (account_id, id);
+CREATE INDEX IF NOT EXISTS idx_statement_entries_account_time ON account_statement_entries (account_id, occurred_at, id);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_statement_entries_transaction ON account_statement_entries (account_id, transaction_id);
+
+-- Reservas de saldo (autorizações); só as ACTIVE compõem o saldo reservado da conta
+-- (status, hold_id) percorre as ativas em ordem de chave na recarga da expiração
+CREATE TABLE IF NOT EXISTS funds_holds (
+    hold_id      UUID         NOT NULL PRIMARY KEY,
+    account_id   UUID         NOT NULL,
+    amount_cents BIGINT       NOT NULL,
+    description  VARCHAR(255),
+    status       VARCHAR(20)  NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    expires_at   TIMESTAMP    NOT NULL,
+    resolved_at  TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_funds_holds_status ON funds_holds (status, hold_id);
+
+-- Faixa de limites de débito atribuída a cada conta (sem linha = faixa padrão); carregada em memória na subida
+CREATE TABLE IF NOT EXISTS account_limit_tiers (
+    account_id UUID        NOT NULL PRIMARY KEY,
+    tier       VARCHAR(40) NOT NULL,
+    updated_at TIMESTAMP   NOT NULL
+);
+
+-- Snapshots do ledger que o write-behind não conseguiu gravar depois das tentativas (colunas de estado nulas = remoção)
+CREATE TABLE IF NOT EXISTS ledger_dead_letters (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id     UUID          NOT NULL,
+    balance_cents  BIGINT,
+    held_cents     BIGINT,
+    status         VARCHAR(20),
+    ledger_version BIGINT,
+    error          VARCHAR(1000) NOT NULL,
+    failed_at      TIMESTAMP     NOT NULL
+);
+
+-- Outbox transacional: eventos gravados na transação do comando e marcados pelo dispatcher depois da entrega
+-- (state, id) serve a releitura das PENDING em ordem de gravação; as DEAD ficam para inspeção,
+-- com os handlers que não aplicaram o evento em failed_handlers
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type               VARCHAR(30)   NOT NULL,
+    account_id         UUID          NOT NULL,
+    occurred_at        TIMESTAMP     NOT NULL,
+    transaction_id     VARCHAR(36),
+    operation          VARCHAR(20),
+    amount_cents       BIGINT,
+    balance_cents      BIGINT        NOT NULL,
+    held_cents         BIGINT,
+    currency           VARCHAR(3)    NOT NULL,
+    status             VARCHAR(20),
+    old_status         VARCHAR(20),
+    account_number     VARCHAR(20),
+    customer_id        UUID,
+    account_created_at TIMESTAMP,
+    account_updated_at TIMESTAMP,
+    account_version    BIGINT,
+    state              VARCHAR(20)   NOT NULL,
+    attempts           INT           DEFAULT 0 NOT NULL,
+    failed_handlers    VARCHAR(500),
+    last_error         VARCHAR(1000),
+    created_at         TIMESTAMP     NOT NULL,
+    resolved_at        TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_state ON outbox_events (state, id);
@@ -0,0 +1,45 @@
+package com.inter.banking.banking.application.query.cache;
+
+import com.inter.banking.banking.application.query.dto.AccountBalanceDto;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountNearCacheTests {
+
+	@Test
+	void writeThroughIgnoresEventsOlderThanTheCachedBalance() {
+		AccountNearCache cache = new AccountNearCache(
+				new NearCacheProperties(100, Duration.ofMinutes(1), Duration.ofMinutes(1), true));
+		AccountId id = AccountId.generate();
+		cache.balance(id, accountId -> new AccountBalanceDto(
+				accountId.toString(), "0001", new BigDecimal("100.00"), new BigDecimal("100.00"), "BRL",
+				LocalDateTime.now(), 2));
+
+		cache.handle(List.of(transaction(id, "300.00", 3)));
+		// Reentrega atrasada da versão 2 não volta o saldo
+		cache.handle(List.of(transaction(id, "200.00", 2)));
+
+		AccountBalanceDto cached = cache.balance(id, accountId -> {
+			throw new AssertionError("balance should be cached");
+		});
+		assertThat(cached.balance()).isEqualByComparingTo("300.00");
+		assertThat(cached.version()).isEqualTo(3);
+	}
+
+	private static TransactionCompletedEvent transaction(AccountId accountId, String balance, long version) {
+		return new TransactionCompletedEvent(accountId, UUID.randomUUID().toString(), "CREDIT",
+				FixedPointMoney.brl(100), Money.brl(balance), version, Instant.now());
+	}
+}
@@ -0,0 +1,57 @@
+package com.inter.banking.banking.application.query.projection;
+
+import com.inter.banking.banking.domain.event.AccountCreatedEvent;
+import com.inter.banking.banking.domain.event.AccountStatusChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountProjectionTests {
+
+	@Test
+	void lateEventDoesNotMoveBalanceOrCustomerTotalBack() {
+		AccountProjection projection = new AccountProjection();
+		Account account = account(AccountStatus.ACTIVE, "100.00", 1);
+		projection.handle(List.of(new AccountCreatedEvent(account, Instant.now())));
+
+		// Versão 3 entregue antes da 2 (reentrega de pendente, lote concorrente)
+		projection.handle(List.of(transaction(account.getId(), "300.00", 3)));
+		projection.handle(List.of(transaction(account.getId(), "200.00", 2)));
+
+		AccountView view = projection.findById(account.getId()).orElseThrow();
+		assertThat(view.balanceCents()).isEqualTo(30_000);
+		assertThat(view.version()).isEqualTo(3);
+		assertThat(projection.findCustomer(account.getCustomerId()).orElseThrow().totalBalanceCents()).isEqualTo(30_000);
+
+		// Bloqueio com estado anterior ao projetado também não volta o saldo
+		Account stale = new Account(account.getId(), account.getAccountNumber(), account.getCustomerId(),
+				Money.brl("200.00"), AccountStatus.BLOCKED, account.getCreatedAt(), LocalDateTime.now(), 2);
+		projection.handle(List.of(new AccountStatusChangedEvent(stale, "ACTIVE", Instant.now())));
+
+		assertThat(projection.findById(account.getId()).orElseThrow().status()).isEqualTo("ACTIVE");
+		assertThat(projection.findCustomer(account.getCustomerId()).orElseThrow().totalBalanceCents()).isEqualTo(30_000);
+	}
+
+	private static Account account(AccountStatus status, String balance, long version) {
+		LocalDateTime now = LocalDateTime.now();
+		return new Account(AccountId.generate(), UUID.randomUUID().toString(), CustomerId.generate(),
+				Money.brl(balance), status, now, now, version);
+	}
+
+	private static TransactionCompletedEvent transaction(AccountId accountId, String balance, long version) {
+		return new TransactionCompletedEvent(accountId, UUID.randomUUID().toString(), "CREDIT",
+				FixedPointMoney.brl(100), Money.brl(balance), version, Instant.now());
+	}
+}
@@ -0,0 +1,53 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.command.BatchTransactionCommand;
+import com.inter.banking.banking.application.command.BatchTransactionCommand.Item;
+import com.inter.banking.banking.application.command.BatchTransactionCommand.Operation;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.result.BatchTransactionResult;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AccountCommandServiceBatchTests {
+
+	@Autowired
+	private AccountCommandService service;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Test
+	void appliesItemsInOrderAndReportsPartialFailures() {
+		String customerId = UUID.randomUUID().toString();
+		String first = service.createdAccount(new CreateAccountCommand(customerId, new BigDecimal("100.00"))).accountId();
+		String second = service.createdAccount(new CreateAccountCommand(customerId, new BigDecimal("10.00"))).accountId();
+
+		BatchTransactionResult result = service.processBatch(new BatchTransactionCommand(List.of(
+				new Item(Operation.CREDIT, first, new BigDecimal("50.00"), "settlement"),
+				new Item(Operation.DEBIT, second, new BigDecimal("20.00"), "insufficient"),
+				new Item(Operation.DEBIT, first, new BigDecimal("120.00"), "after credit"),
+				new Item(Operation.CREDIT, UUID.randomUUID().toString(), BigDecimal.ONE, "unknown account"),
+				new Item(Operation.CREDIT, "not-a-uuid", BigDecimal.ONE, "invalid id"))));
+
+		assertThat(result.completed()).isEqualTo(2);
+		assertThat(result.failed()).isEqualTo(3);
+		assertThat(result.items()).extracting(item -> item.result().status())
+				.containsExactly("COMPLETED", "FAILED", "COMPLETED", "FAILED", "FAILED");
+		assertThat(result.items().get(2).result().newBalance()).isEqualByComparingTo("30.00");
+
+		assertThat(accountRepository.findById(AccountId.from(first)).orElseThrow().getBalance().getAmount())
+				.isEqualByComparingTo("30.00");
+		assertThat(accountRepository.findById(AccountId.from(second)).orElseThrow().getBalance().getAmount())
+				.isEqualByComparingTo("10.00");
+	}
+}
@@ -0,0 +1,79 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"banking.retry.max-attempts=100",
+		"banking.retry.budget-ratio=100",
+		"banking.retry.budget-reserve=1000"
+})
+class AccountConcurrencyStressTests {
+	private static final int THREADS = 8;
+	private static final int OPERATIONS_PER_THREAD = 50;
+
+	@Autowired
+	private AccountCommandService service;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private ConcurrencyRetryPolicy retryPolicy;
+
+	@Test
+	void concurrentWritesOnOneAccountLoseNoUpdates() throws Exception {
+		String accountId = service.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("1000.00"))).accountId();
+		long retriesBefore = retryPolicy.retryCount();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> workers = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			boolean crediting = t % 2 == 0;
+			workers.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					if (crediting) {
+						service.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("3.00"), "stress"));
+					} else {
+						service.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("1.00"), "stress"));
+					}
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> worker : workers) {
+			worker.get();
+		}
+		executor.shutdown();
+
+		// 4 threads creditando 3.00 e 4 debitando 1.00, 50 vezes cada
+		BigDecimal expected = new BigDecimal("1000.00")
+				.add(new BigDecimal("3.00").multiply(BigDecimal.valueOf(4L * OPERATIONS_PER_THREAD)))
+				.subtract(new BigDecimal("1.00").multiply(BigDecimal.valueOf(4L * OPERATIONS_PER_THREAD)));
+		var account = accountRepository.findById(AccountId.from(accountId)).orElseThrow();
+		assertThat(account.getBalance().getAmount()).isEqualByComparingTo(expected);
+		assertThat(account.getVersion()).isEqualTo(1L + THREADS * OPERATIONS_PER_THREAD);
+		assertThat(retryPolicy.retryCount()).isGreaterThan(retriesBefore);
+	}
+}
@@ -0,0 +1,206 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.command.BatchTransactionCommand;
+import com.inter.banking.banking.application.command.CaptureHoldCommand;
+import com.inter.banking.banking.application.command.ChangeLimitTierCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.PlaceHoldCommand;
+import com.inter.banking.banking.application.command.TransferCommand;
+import com.inter.banking.banking.application.command.result.BatchTransactionResult;
+import com.inter.banking.banking.application.command.result.HoldResult;
+import com.inter.banking.banking.domain.exception.DebitLimitExceededException;
+import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
+import com.inter.banking.banking.domain.exception.VelocityLimitExceededException;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.banking.domain.port.TransactionJournal;
+import com.inter.banking.banking.infrastructure.journal.JournalProperties;
+import com.inter.banking.banking.infrastructure.journal.MappedTransactionJournal;
+import com.inter.banking.banking.infrastructure.journal.NoOpTransactionJournal;
+import com.inter.banking.banking.infrastructure.limits.DebitLimitProperties;
+import com.inter.banking.banking.infrastructure.limits.WindowedDebitLimiter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+		"banking.limits.enabled=true",
+		"banking.limits.tiers.standard.daily-amount=100.00",
+		"banking.limits.tiers.standard.debits-per-minute=3",
+		"banking.limits.tiers.premium.daily-amount=1000.00",
+		"banking.limits.tiers.premium.debits-per-minute=10"
+})
+class AccountDebitLimitTests {
+
+	@Autowired
+	private AccountCommandService service;
+
+	@Autowired
+	private WindowedDebitLimiter limiter;
+
+	@Autowired
+	private FundsHoldService holdService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DebitLimitProperties properties;
+
+	@Autowired
+	private AccountStatementStore statementStore;
+
+	@Test
+	void rejectsDebitsAboveTheDailyAndPerMinuteLimits() {
+		String accountId = openAccount("500.00");
+
+		debit(accountId, "60.00");
+		assertThatThrownBy(() -> debit(accountId, "40.01")).isInstanceOf(DebitLimitExceededException.class);
+		debit(accountId, "40.00");
+		assertThatThrownBy(() -> debit(accountId, "0.01")).isInstanceOf(DebitLimitExceededException.class);
+
+		// Outra conta tem os próprios contadores
+		String other = openAccount("500.00");
+		for (int i = 0; i < 3; i++) {
+			debit(other, "1.00");
+		}
+		assertThatThrownBy(() -> debit(other, "1.00")).isInstanceOf(VelocityLimitExceededException.class);
+
+		assertThat(limiter.stats().rejectedDaily()).isPositive();
+		assertThat(limiter.stats().rejectedVelocity()).isPositive();
+	}
+
+	@Test
+	void rolledBackDebitDoesNotCountTowardsTheLimits() {
+		String accountId = openAccount("50.00");
+
+		assertThatThrownBy(() -> debit(accountId, "80.00")).isInstanceOf(InsufficientBalanceException.class);
+		assertThatThrownBy(() -> debit(accountId, "80.00")).isInstanceOf(InsufficientBalanceException.class);
+		debit(accountId, "50.00");
+	}
+
+	@Test
+	void higherTierRaisesTheLimitsOfTheAccount() {
+		String accountId = openAccount("500.00");
+		debit(accountId, "100.00");
+
+		var result = service.changeLimitTier(new ChangeLimitTierCommand(accountId, "premium"));
+
+		assertThat(result.dailyLimit()).isEqualByComparingTo("1000.00");
+		debit(accountId, "300.00");
+		assertThatThrownBy(() -> service.changeLimitTier(new ChangeLimitTierCommand(accountId, "gold")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void transferBatchAndHoldCaptureCountTowardsTheDailyLimit() {
+		String accountId = openAccount("300.00");
+		String target = openAccount("0.00");
+		service.changeLimitTier(new ChangeLimitTierCommand(accountId, "premium"));
+
+		service.transfer(new TransferCommand(accountId, target, new BigDecimal("100.00"), "limits"));
+		// O item sem saldo falha e devolve o débito à contagem; o outro conta
+		BatchTransactionResult batch = service.processBatch(new BatchTransactionCommand(List.of(
+				batchDebit(accountId, "250.00"),
+				batchDebit(accountId, "150.00"))));
+		assertThat(batch.completed()).isEqualTo(1);
+		service.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("1000.00"), "limits"));
+		HoldResult hold = holdService.placeHold(new PlaceHoldCommand(accountId, new BigDecimal("700.00"), "hotel", null));
+		holdService.captureHold(new CaptureHoldCommand(accountId, hold.holdId(), null));
+
+		// 100 + 150 + 700 já debitados: item de lote acima do que resta falha só ele
+		BatchTransactionResult refused = service.processBatch(new BatchTransactionCommand(List.of(
+				batchDebit(accountId, "50.01"))));
+		assertThat(refused.failed()).isEqualTo(1);
+		assertThat(refused.items().getFirst().error()).startsWith("Daily debit limit");
+		assertThatThrownBy(() -> service.transfer(new TransferCommand(accountId, target, new BigDecimal("50.01"), "limits")))
+				.isInstanceOf(DebitLimitExceededException.class);
+		debit(accountId, "50.00");
+	}
+
+	@Test
+	void restartRestoresTierAndTodaysCommittedDebitsFromTheStatement() {
+		String accountId = openAccount("500.00");
+		service.changeLimitTier(new ChangeLimitTierCommand(accountId, "premium"));
+		debit(accountId, "400.00");
+		service.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("900.00"), "limits"));
+		debit(accountId, "550.00");
+		// Journal desligado (e débito que voltou no journal não teria lançamento no extrato)
+		try (WindowedDebitLimiter restarted = new WindowedDebitLimiter(
+				jdbcTemplate, statementStore, new NoOpTransactionJournal(), properties)) {
+			restarted.recover();
+
+			AccountId id = AccountId.from(accountId);
+			restarted.acquire(id, FixedPointMoney.brl(new BigDecimal("50.00")));
+			assertThatThrownBy(() -> restarted.acquire(id, FixedPointMoney.brl(new BigDecimal("0.01"))))
+					.isInstanceOf(DebitLimitExceededException.class);
+		}
+	}
+
+	@Test
+	void restartRestoresTodaysDebitsFromTheJournalWhenEnabled(@TempDir Path directory) throws Exception {
+		String accountId = openAccount("500.00");
+		service.changeLimitTier(new ChangeLimitTierCommand(accountId, "premium"));
+		// Débitos de antes da "queda", retidos no journal; o crédito não conta
+		JournalProperties journalProperties = new JournalProperties(
+				true, directory, DataSize.ofMegabytes(1), Duration.ZERO, Duration.ofDays(2));
+		try (MappedTransactionJournal journal = MappedTransactionJournal.open(journalProperties, entries -> {})) {
+			journal.appendAll(List.of(
+					journalEntry(accountId, "DEBIT", 40_000),
+					journalEntry(accountId, "CREDIT", 90_000),
+					journalEntry(accountId, "DEBIT", 55_000)));
+		}
+		Thread.sleep(1);
+
+		try (MappedTransactionJournal journal = MappedTransactionJournal.open(journalProperties, entries -> {});
+				WindowedDebitLimiter restarted = new WindowedDebitLimiter(
+						jdbcTemplate, statementStore, journal, fromJournal(properties))) {
+			restarted.recover();
+
+			AccountId id = AccountId.from(accountId);
+			restarted.acquire(id, FixedPointMoney.brl(new BigDecimal("50.00")));
+			assertThatThrownBy(() -> restarted.acquire(id, FixedPointMoney.brl(new BigDecimal("0.01"))))
+					.isInstanceOf(DebitLimitExceededException.class);
+		}
+	}
+
+	private static DebitLimitProperties fromJournal(DebitLimitProperties properties) {
+		return new DebitLimitProperties(properties.enabled(), properties.zone(), properties.defaultTier(),
+				properties.compactionInterval(), true, properties.tiers());
+	}
+
+	private TransactionJournal.Entry journalEntry(String accountId, String operation, long amountCents) {
+		return new TransactionJournal.Entry(
+				AccountId.from(accountId), UUID.randomUUID().toString(), operation, amountCents, 0, 1, Instant.now());
+	}
+
+	private static BatchTransactionCommand.Item batchDebit(String accountId, String amount) {
+		return new BatchTransactionCommand.Item(
+				BatchTransactionCommand.Operation.DEBIT, accountId, new BigDecimal(amount), "limits");
+	}
+
+	private void debit(String accountId, String amount) {
+		service.debitAccount(new DebitAccountCommand(accountId, new BigDecimal(amount), "limits"));
+	}
+
+	private String openAccount(String initialBalance) {
+		return service.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal(initialBalance))).accountId();
+	}
+}
@@ -0,0 +1,198 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.command.BlockAccountCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.PlaceHoldCommand;
+import com.inter.banking.banking.application.command.ReleaseHoldCommand;
+import com.inter.banking.banking.application.command.result.HoldResult;
+import com.inter.banking.banking.application.query.GetAccountBalanceQuery;
+import com.inter.banking.banking.application.query.GetAccountByIdQuery;
+import com.inter.banking.banking.application.query.GetAccountStatementQuery;
+import com.inter.banking.banking.application.query.GetAccountsByCustomerQuery;
+import com.inter.banking.banking.application.query.GetCustomerSummaryQuery;
+import com.inter.banking.banking.application.query.StreamAccountStatementQuery;
+import com.inter.banking.banking.application.query.StreamAccountsByCustomerQuery;
+import com.inter.banking.banking.application.query.cache.AccountNearCache;
+import com.inter.banking.banking.application.query.cache.NearCacheStats;
+import com.inter.banking.banking.application.query.dto.AccountBalanceDto;
+import com.inter.banking.banking.application.query.dto.AccountDto;
+import com.inter.banking.banking.application.query.dto.AccountStatementDto;
+import com.inter.banking.banking.application.query.dto.CustomerAccountsDto;
+import com.inter.banking.banking.application.query.dto.CustomerSummaryDto;
+import com.inter.banking.banking.application.query.dto.StatementEntryDto;
+import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "banking.outbox.enabled=false")
+class AccountQueryServiceTests {
+
+	@Autowired
+	private AccountCommandService commandService;
+
+	@Autowired
+	private AccountQueryService queryService;
+
+	@Autowired
+	private FundsHoldService holdService;
+
+	@Autowired
+	private AccountNearCache nearCache;
+
+	@Autowired
+	private AccountStatementStore statementStore;
+
+	@Test
+	void projectionFollowsCommandsAndKeepsCustomerTotal() {
+		String customerId = UUID.randomUUID().toString();
+		String first = commandService.createdAccount(new CreateAccountCommand(customerId, new BigDecimal("100.00"))).accountId();
+		String second = commandService.createdAccount(new CreateAccountCommand(customerId, new BigDecimal("20.00"))).accountId();
+
+		commandService.creditAccount(new CreditAccountCommand(first, new BigDecimal("0.50"), "deposit"));
+		commandService.debitAccount(new DebitAccountCommand(second, new BigDecimal("5.00"), "payment"));
+		assertThatThrownBy(() -> commandService.debitAccount(new DebitAccountCommand(second, new BigDecimal("500.00"), "rejected")))
+				.isInstanceOf(InsufficientBalanceException.class);
+		commandService.blockAccount(new BlockAccountCommand(second, "fraud check"));
+
+		CustomerAccountsDto customer = queryService.getAccountsByCustomer(new GetAccountsByCustomerQuery(customerId));
+		assertThat(customer.accounts()).hasSize(2);
+		assertThat(customer.totalBalance()).isEqualByComparingTo("115.50");
+
+		assertThat(queryService.getAccountBalance(new GetAccountBalanceQuery(first)).balance()).isEqualByComparingTo("100.50");
+		assertThat(queryService.getAccountById(new GetAccountByIdQuery(second)).status()).isEqualTo("BLOCKED");
+	}
+
+	@Test
+	void customerIndexPagesAccountsAndKeepsTotalIncrementally() {
+		String customerId = UUID.randomUUID().toString();
+		List<String> accountIds = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			accountIds.add(commandService.createdAccount(new CreateAccountCommand(customerId, new BigDecimal("10.00"))).accountId());
+		}
+		commandService.creditAccount(new CreditAccountCommand(accountIds.get(3), new BigDecimal("5.00"), "deposit"));
+		commandService.debitAccount(new DebitAccountCommand(accountIds.get(20), new BigDecimal("10.00"), "payment"));
+
+		CustomerSummaryDto summary = queryService.getCustomerSummary(new GetCustomerSummaryQuery(customerId));
+		assertThat(summary.accountCount()).isEqualTo(25);
+		assertThat(summary.totalBalance()).isEqualByComparingTo("245.00");
+
+		CustomerAccountsDto lastPage = queryService.getAccountsByCustomer(new GetAccountsByCustomerQuery(customerId, 2, 10));
+		assertThat(lastPage.accounts()).extracting(AccountDto::id).containsExactlyElementsOf(accountIds.subList(20, 25));
+		assertThat(lastPage.accounts().getFirst().balance()).isEqualByComparingTo("0.00");
+		assertThat(lastPage.accountCount()).isEqualTo(25);
+		assertThat(queryService.getAccountsByCustomer(new GetAccountsByCustomerQuery(customerId, 3, 10)).accounts()).isEmpty();
+
+		try (Stream<AccountDto> accounts = queryService.streamAccountsByCustomer(new StreamAccountsByCustomerQuery(customerId))) {
+			assertThat(accounts.map(AccountDto::id)).containsExactlyElementsOf(accountIds);
+		}
+	}
+
+	@Test
+	void statementPagesByCursorWithRunningBalancesAndStreamsWholePeriod() {
+		String accountId = commandService.createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("100.00"))).accountId();
+		for (int i = 0; i < 12; i++) {
+			commandService.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("2.00"), "deposit"));
+			commandService.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("1.00"), "payment"));
+		}
+
+		List<StatementEntryDto> paged = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			AccountStatementDto page = queryService.getAccountStatement(new GetAccountStatementQuery(accountId, null, null, cursor, 10));
+			paged.addAll(page.entries());
+			cursor = page.nextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertThat(pages).isEqualTo(3);
+		assertThat(paged).hasSize(24);
+		assertThat(paged.getFirst().type()).isEqualTo("CREDIT");
+		assertThat(paged.getFirst().balanceAfter()).isEqualByComparingTo("102.00");
+		assertThat(paged.getLast().balanceAfter()).isEqualByComparingTo("112.00");
+
+		// Reentrega do mesmo lançamento não duplica o extrato
+		List<AccountStatementStore.Entry> recorded = statementStore.findPage(AccountId.from(accountId), null, null, null, 2);
+		statementStore.append(recorded);
+
+		Instant from = paged.get(4).occurredAt();
+		try (Stream<StatementEntryDto> entries = queryService.streamAccountStatement(new StreamAccountStatementQuery(accountId, null, null))) {
+			assertThat(entries.map(StatementEntryDto::transactionId)).containsExactlyElementsOf(paged.stream().map(StatementEntryDto::transactionId).toList());
+		}
+		try (Stream<StatementEntryDto> entries = queryService.streamAccountStatement(new StreamAccountStatementQuery(accountId, from, null))) {
+			assertThat(entries.count()).isEqualTo(paged.stream().filter(entry -> !entry.occurredAt().isBefore(from)).count());
+		}
+		assertThatThrownBy(() -> queryService.getAccountStatement(new GetAccountStatementQuery(accountId, null, null, "not-a-cursor", 10)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void entryRecordedAfterCursorIsNotSkippedEvenWithEarlierTimestamp() {
+		String accountId = commandService.createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("100.00"))).accountId();
+		commandService.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("1.00"), "deposit"));
+		commandService.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("1.00"), "deposit"));
+
+		AccountStatementDto first = queryService.getAccountStatement(new GetAccountStatementQuery(accountId, null, null, null, 1));
+		assertThat(first.nextCursor()).isNotNull();
+
+		// Gravado depois da leitura da primeira página, com instante anterior ao do último lançamento entregue
+		Instant earlier = first.entries().getFirst().occurredAt().minusSeconds(60);
+		statementStore.append(List.of(new AccountStatementStore.Entry(
+				0, AccountId.from(accountId), UUID.randomUUID().toString(), "DEBIT", 50, 10150, earlier)));
+
+		AccountStatementDto rest = queryService.getAccountStatement(new GetAccountStatementQuery(accountId, null, null, first.nextCursor(), 10));
+		assertThat(rest.entries()).hasSize(2);
+		assertThat(rest.entries().getLast().occurredAt()).isEqualTo(earlier);
+	}
+
+	@Test
+	void cachedBalanceIsUpdatedByCommittedWrites() {
+		String accountId = commandService.createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("10.00"))).accountId();
+		GetAccountBalanceQuery query = new GetAccountBalanceQuery(accountId);
+		NearCacheStats before = nearCache.balanceStats();
+
+		assertThat(queryService.getAccountBalance(query).balance()).isEqualByComparingTo("10.00");
+		commandService.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("2.50"), "deposit"));
+		assertThat(queryService.getAccountBalance(query).balance()).isEqualByComparingTo("12.50");
+
+		NearCacheStats after = nearCache.balanceStats();
+		assertThat(after.misses() - before.misses()).isEqualTo(1);
+		assertThat(after.hits() - before.hits()).isEqualTo(1);
+	}
+
+	@Test
+	void balanceQueryReflectsHoldsInTheAvailableBalance() {
+		String accountId = commandService.createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("100.00"))).accountId();
+		GetAccountBalanceQuery query = new GetAccountBalanceQuery(accountId);
+		assertThat(queryService.getAccountBalance(query).availableBalance()).isEqualByComparingTo("100.00");
+
+		// Saldo já em cache: a reserva chega pelo evento
+		HoldResult hold = holdService.placeHold(new PlaceHoldCommand(accountId, new BigDecimal("40.00"), "hotel", null));
+		AccountBalanceDto held = queryService.getAccountBalance(query);
+		assertThat(held.balance()).isEqualByComparingTo("100.00");
+		assertThat(held.availableBalance()).isEqualByComparingTo("60.00");
+
+		commandService.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("10.00"), "payment"));
+		assertThat(queryService.getAccountBalance(query).availableBalance()).isEqualByComparingTo("50.00");
+
+		holdService.releaseHold(new ReleaseHoldCommand(accountId, hold.holdId()));
+		AccountBalanceDto released = queryService.getAccountBalance(query);
+		assertThat(released.balance()).isEqualByComparingTo("90.00");
+		assertThat(released.availableBalance()).isEqualByComparingTo("90.00");
+	}
+}
@@ -0,0 +1,89 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.TransferCommand;
+import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+		"banking.retry.max-attempts=100",
+		"banking.retry.budget-ratio=100",
+		"banking.retry.budget-reserve=1000"
+})
+class AccountTransferTests {
+	private static final int THREADS = 8;
+	private static final int TRANSFERS_PER_THREAD = 25;
+
+	@Autowired
+	private AccountCommandService service;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Test
+	void opposingConcurrentTransfersPreserveTotalWithoutDeadlock() throws Exception {
+		String a = openAccount("1000.00");
+		String b = openAccount("1000.00");
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> workers = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			// Metade das threads transfere A→B e a outra metade B→A
+			boolean forward = t % 2 == 0;
+			workers.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+					service.transfer(new TransferCommand(forward ? a : b, forward ? b : a, BigDecimal.ONE, "stress"));
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> worker : workers) {
+			worker.get();
+		}
+		executor.shutdown();
+
+		assertThat(balance(a)).isEqualByComparingTo("1000.00");
+		assertThat(balance(b)).isEqualByComparingTo("1000.00");
+	}
+
+	@Test
+	void failedTransferChangesNeitherAccount() {
+		String source = openAccount("10.00");
+		String target = openAccount("0.00");
+
+		assertThatThrownBy(() -> service.transfer(
+				new TransferCommand(source, target, new BigDecimal("10.01"), "too much")))
+				.isInstanceOf(InsufficientBalanceException.class);
+
+		assertThat(balance(source)).isEqualByComparingTo("10.00");
+		assertThat(balance(target)).isEqualByComparingTo("0.00");
+	}
+
+	private String openAccount(String balance) {
+		return service.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal(balance))).accountId();
+	}
+
+	private BigDecimal balance(String accountId) {
+		return accountRepository.findById(AccountId.from(accountId)).orElseThrow().getBalance().getAmount();
+	}
+}
@@ -0,0 +1,76 @@
+package com.inter.banking.banking.application.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommandLogTests {
+
+	@Autowired
+	private AccountCommandService service;
+
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+	private Logger logger;
+	private Level previousLevel;
+
+	@AfterEach
+	void detach() {
+		if (logger != null) {
+			logger.detachAppender(appender);
+			logger.setLevel(previousLevel);
+		}
+	}
+
+	@Test
+	void sampleRatePicksInfoOrDebugForCompletion() {
+		Logger log = capture(CommandLogTests.class);
+
+		new CommandLog(new CommandLoggingProperties(1.0)).completed(log).log("sampled");
+		new CommandLog(new CommandLoggingProperties(0.0)).completed(log).log("not sampled");
+
+		assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.INFO, Level.DEBUG);
+	}
+
+	@Test
+	void commandLogsCarryTransactionAndAccountOnlyWhileRunning() {
+		String accountId = service.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("100.00"))).accountId();
+		capture(AccountCommandService.class);
+
+		TransactionResult credit = service.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("10.00"), "mdc"));
+
+		List<ILoggingEvent> events = appender.list;
+		assertThat(events).isNotEmpty().allSatisfy(event -> {
+			assertThat(event.getMDCPropertyMap()).containsEntry(CommandLog.TRANSACTION_ID, credit.transactionId());
+			assertThat(event.getMDCPropertyMap()).containsEntry(CommandLog.ACCOUNT_ID, accountId);
+		});
+		assertThat(MDC.get(CommandLog.TRANSACTION_ID)).isNull();
+		assertThat(MDC.get(CommandLog.ACCOUNT_ID)).isNull();
+	}
+
+	private Logger capture(Class<?> type) {
+		logger = (Logger) LoggerFactory.getLogger(type);
+		previousLevel = logger.getLevel();
+		logger.setLevel(Level.DEBUG);
+		appender.start();
+		logger.addAppender(appender);
+		return logger;
+	}
+}
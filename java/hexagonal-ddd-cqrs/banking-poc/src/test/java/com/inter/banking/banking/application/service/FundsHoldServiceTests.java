@@ -0,0 +1,142 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.command.CaptureHoldCommand;
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.PlaceHoldCommand;
+import com.inter.banking.banking.application.command.ReleaseHoldCommand;
+import com.inter.banking.banking.application.command.result.HoldResult;
+import com.inter.banking.banking.domain.exception.HoldNotFoundException;
+import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
+import com.inter.banking.banking.domain.exception.InvalidAmountException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.domain.port.FundsHoldStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class FundsHoldServiceTests {
+
+	@Autowired
+	private FundsHoldService holdService;
+
+	@Autowired
+	private AccountCommandService commandService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private FundsHoldStore holdStore;
+
+	@Test
+	void holdReducesAvailableBalanceUntilPartialCapture() {
+		String accountId = openAccount("100.00");
+
+		HoldResult hold = holdService.placeHold(new PlaceHoldCommand(accountId, new BigDecimal("80.00"), "hotel", null));
+
+		assertThat(hold.availableBalance()).isEqualByComparingTo("20.00");
+		assertThatThrownBy(() -> commandService.debitAccount(
+				new DebitAccountCommand(accountId, new BigDecimal("30.00"), "payment")))
+				.isInstanceOf(InsufficientBalanceException.class);
+
+		holdService.captureHold(new CaptureHoldCommand(accountId, hold.holdId(), new BigDecimal("50.00")));
+
+		Account account = account(accountId);
+		assertThat(account.getBalance().getAmount()).isEqualByComparingTo("50.00");
+		assertThat(account.getAvailableBalance().getAmount()).isEqualByComparingTo("50.00");
+		assertThat(account.getHeldCents()).isZero();
+	}
+
+	@Test
+	void holdLeavesActiveStateOnlyOnce() {
+		String accountId = openAccount("100.00");
+		HoldResult hold = holdService.placeHold(new PlaceHoldCommand(accountId, new BigDecimal("40.00"), "rental", null));
+
+		holdService.releaseHold(new ReleaseHoldCommand(accountId, hold.holdId()));
+
+		assertThatThrownBy(() -> holdService.captureHold(new CaptureHoldCommand(accountId, hold.holdId(), null)))
+				.isInstanceOf(HoldNotFoundException.class);
+		assertThat(holdService.expireHolds(List.of(UUID.fromString(hold.holdId())))).isZero();
+		assertThat(account(accountId).getAvailableBalance().getAmount()).isEqualByComparingTo("100.00");
+	}
+
+	@Test
+	void captureAboveHeldAmountKeepsHoldActive() {
+		String accountId = openAccount("100.00");
+		HoldResult hold = holdService.placeHold(new PlaceHoldCommand(accountId, new BigDecimal("10.00"), "fuel", null));
+
+		assertThatThrownBy(() -> holdService.captureHold(
+				new CaptureHoldCommand(accountId, hold.holdId(), new BigDecimal("10.01"))))
+				.isInstanceOf(InvalidAmountException.class);
+
+		holdService.captureHold(new CaptureHoldCommand(accountId, hold.holdId(), null));
+		assertThat(account(accountId).getBalance().getAmount()).isEqualByComparingTo("90.00");
+	}
+
+	@Test
+	void expiryReleasesActiveHoldsInOneBatch() {
+		String first = openAccount("100.00");
+		String second = openAccount("100.00");
+		Duration ttl = Duration.ofMinutes(5);
+		HoldResult a = holdService.placeHold(new PlaceHoldCommand(first, new BigDecimal("30.00"), "a", ttl));
+		HoldResult b = holdService.placeHold(new PlaceHoldCommand(first, new BigDecimal("20.00"), "b", ttl));
+		HoldResult c = holdService.placeHold(new PlaceHoldCommand(second, new BigDecimal("70.00"), "c", ttl));
+		holdService.captureHold(new CaptureHoldCommand(second, c.holdId(), null));
+
+		int released = holdService.expireHolds(List.of(
+				UUID.fromString(a.holdId()), UUID.fromString(b.holdId()), UUID.fromString(c.holdId())));
+
+		assertThat(released).isEqualTo(2);
+		assertThat(account(first).getAvailableBalance().getAmount()).isEqualByComparingTo("100.00");
+		assertThat(account(second).getBalance().getAmount()).isEqualByComparingTo("30.00");
+	}
+
+	@Test
+	void failedReleaseKeepsHoldActiveForAnotherExpiryAttempt() {
+		String accountId = openAccount("100.00");
+		HoldResult hold = holdService.placeHold(new PlaceHoldCommand(accountId, new BigDecimal("25.00"), "parking", Duration.ofMinutes(5)));
+		// Reserva de uma conta que não existe: a liberação dela falha no lote
+		Instant now = Instant.now();
+		UUID orphan = UUID.randomUUID();
+		holdStore.insert(new FundsHoldStore.Hold(orphan, AccountId.generate(), 1_000, "orphan", now, now.plusSeconds(60)));
+
+		int released = holdService.expireHolds(List.of(UUID.fromString(hold.holdId()), orphan));
+
+		assertThat(released).isEqualTo(1);
+		assertThat(account(accountId).getAvailableBalance().getAmount()).isEqualByComparingTo("100.00");
+		assertThat(holdStore.findActive(UUID.fromString(hold.holdId()))).isEmpty();
+		assertThat(holdStore.findActive(orphan)).isPresent();
+	}
+
+	@Test
+	void rejectsHoldBeyondMaximumExpiry() {
+		String accountId = openAccount("100.00");
+
+		assertThatThrownBy(() -> holdService.placeHold(
+				new PlaceHoldCommand(accountId, BigDecimal.ONE, "too long", Duration.ofDays(365))))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(account(accountId).getHeldCents()).isZero();
+	}
+
+	private String openAccount(String initialBalance) {
+		return commandService.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal(initialBalance))).accountId();
+	}
+
+	private Account account(String accountId) {
+		return accountRepository.findById(AccountId.from(accountId)).orElseThrow();
+	}
+}
@@ -0,0 +1,126 @@
+package com.inter.banking.banking.application.service;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.domain.exception.DuplicateIdempotencyKeyException;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.infrastructure.idempotency.TieredIdempotencyStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+		"banking.retry.max-attempts=100",
+		"banking.retry.budget-ratio=100",
+		"banking.retry.budget-reserve=1000"
+})
+class IdempotentCommandTests {
+	private static final int THREADS = 8;
+
+	@Autowired
+	private AccountCommandService service;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private TieredIdempotencyStore idempotencyStore;
+
+	@Test
+	void repeatedDebitReturnsOriginalResultWithoutDebitingTwice() {
+		String accountId = openAccount("100.00");
+		String key = UUID.randomUUID().toString();
+
+		TransactionResult first = service.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("30.00"), "pix", key));
+		TransactionResult retry = service.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("30.00"), "pix", key));
+
+		assertThat(retry.transactionId()).isEqualTo(first.transactionId());
+		assertThat(retry.newBalance()).isEqualByComparingTo("70.00");
+		assertThat(balance(accountId)).isEqualByComparingTo("70.00");
+	}
+
+	@Test
+	void repeatIsAnsweredFromDatabaseWhenMemoryTierIsCold() {
+		String accountId = openAccount("0.00");
+		String key = UUID.randomUUID().toString();
+		TransactionResult first = service.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("15.00"), "ted", key));
+
+		idempotencyStore.clearMemory();
+		TransactionResult retry = service.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("15.00"), "ted", key));
+
+		assertThat(retry.transactionId()).isEqualTo(first.transactionId());
+		assertThat(balance(accountId)).isEqualByComparingTo("15.00");
+		assertThat(idempotencyStore.stats().storeHits()).isPositive();
+	}
+
+	@Test
+	void keyReusedForDifferentCommandIsRejected() {
+		String accountId = openAccount("100.00");
+		String key = UUID.randomUUID().toString();
+		service.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("10.00"), "pix", key));
+
+		assertThatThrownBy(() -> service.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("20.00"), "pix", key)))
+				.isInstanceOf(DuplicateIdempotencyKeyException.class);
+		assertThatThrownBy(() -> service.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("10.00"), "pix", key)))
+				.isInstanceOf(DuplicateIdempotencyKeyException.class);
+		assertThat(balance(accountId)).isEqualByComparingTo("90.00");
+	}
+
+	@Test
+	void concurrentRepeatsApplyExactlyOnce() throws Exception {
+		String accountId = openAccount("100.00");
+		String key = UUID.randomUUID().toString();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<TransactionResult>> workers = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			workers.add(executor.submit(() -> {
+				start.await();
+				return service.debitAccount(new DebitAccountCommand(accountId, BigDecimal.ONE, "retry", key));
+			}));
+		}
+		start.countDown();
+
+		// Quem perde a corrida com o original ainda em execução recebe conflito; quem chega depois recebe o original
+		Set<String> transactionIds = new HashSet<>();
+		for (Future<TransactionResult> worker : workers) {
+			try {
+				transactionIds.add(worker.get().transactionId());
+			} catch (ExecutionException e) {
+				assertThat(e.getCause()).isInstanceOf(DuplicateIdempotencyKeyException.class);
+			}
+		}
+		executor.shutdown();
+
+		assertThat(transactionIds).hasSizeLessThanOrEqualTo(1);
+		assertThat(balance(accountId)).isEqualByComparingTo("99.00");
+	}
+
+	private String openAccount(String initialBalance) {
+		return service.createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal(initialBalance)))
+				.accountId();
+	}
+
+	private BigDecimal balance(String accountId) {
+		return accountRepository.findById(AccountId.from(accountId)).orElseThrow().getBalance().getAmount();
+	}
+}
@@ -0,0 +1,45 @@
+package com.inter.banking.banking.domain.model;
+
+import com.inter.banking.banking.domain.exception.InvalidAmountException;
+import com.inter.banking.banking.domain.model.enums.CurrencyCode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FixedPointMoneyTest {
+
+	@Test
+	void convertsToAndFromMoneyWithoutLoss() {
+		Money money = Money.brl("1234567.895");
+
+		FixedPointMoney fixed = FixedPointMoney.from(money);
+
+		assertThat(fixed.getCents()).isEqualTo(123456790L);
+		assertThat(fixed.toMoney()).isEqualTo(money);
+		assertThat(fixed.toString()).isEqualTo(money.toString());
+	}
+
+	@Test
+	void rejectsOverflow() {
+		FixedPointMoney max = FixedPointMoney.of(Long.MAX_VALUE, CurrencyCode.BRL);
+
+		assertThatThrownBy(() -> max.add(FixedPointMoney.brl(1)))
+				.isInstanceOf(InvalidAmountException.class);
+		assertThatThrownBy(() -> FixedPointMoney.brl(new BigDecimal("1e30")))
+				.isInstanceOf(InvalidAmountException.class);
+	}
+
+	@Test
+	void accountKeepsBalanceInCents() {
+		Account account = new Account(AccountId.generate(), "00000001-8", CustomerId.generate(), Money.brl("100.00"));
+
+		account.debit(FixedPointMoney.brl(2550));
+		account.credit(Money.brl("0.05"));
+
+		assertThat(account.getBalanceCents()).isEqualTo(7455L);
+		assertThat(account.getBalance()).isEqualTo(Money.brl("74.55"));
+	}
+}
@@ -0,0 +1,55 @@
+package com.inter.banking.banking.infrastructure.adapter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bloco pequeno para forçar muitas trocas de bloco concorrentes
+@SpringBootTest(properties = "banking.account-number.block-size=7")
+class BlockAccountNumberGeneratorTests {
+	private static final int THREADS = 8;
+	private static final int NUMBERS_PER_THREAD = 500;
+
+	@Autowired
+	private BlockAccountNumberGenerator generator;
+
+	@Test
+	void concurrentThreadsNeverReceiveTheSameNumber() throws Exception {
+		Set<String> numbers = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> workers = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			workers.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < NUMBERS_PER_THREAD; i++) {
+					numbers.add(generator.generateAccountNumber());
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> worker : workers) {
+			worker.get();
+		}
+		executor.shutdown();
+
+		assertThat(numbers).hasSize(THREADS * NUMBERS_PER_THREAD);
+		assertThat(numbers).allSatisfy(number -> {
+			assertThat(number).matches("\\d{8}-\\d");
+			long value = Long.parseLong(number.substring(0, 8));
+			assertThat(number).endsWith("-" + AccountNumbers.checkDigit(value));
+		});
+	}
+}
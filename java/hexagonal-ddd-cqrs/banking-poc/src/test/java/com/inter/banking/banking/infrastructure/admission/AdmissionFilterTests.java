@@ -0,0 +1,69 @@
+package com.inter.banking.banking.infrastructure.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionFilterTests {
+
+	@Test
+	void shedsWhenPermitsAndQueueAreFull() throws Exception {
+		AdmissionBulkhead bulkhead = new AdmissionBulkhead(1, 1, Duration.ofSeconds(5));
+		assertThat(bulkhead.tryAcquire()).isTrue();
+
+		// Segunda requisição ocupa o único lugar na fila; a terceira é recusada sem esperar
+		CountDownLatch waiting = new CountDownLatch(1);
+		Thread waiter = Thread.ofVirtual().start(() -> {
+			waiting.countDown();
+			if (bulkhead.tryAcquire()) {
+				bulkhead.release();
+			}
+		});
+		waiting.await();
+		while (bulkhead.stats().waiting() == 0) {
+			Thread.onSpinWait();
+		}
+		long start = System.nanoTime();
+		assertThat(bulkhead.tryAcquire()).isFalse();
+		assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+		bulkhead.release();
+		waiter.join();
+		assertThat(bulkhead.stats()).isEqualTo(new AdmissionStats(0, 0, 2, 1));
+	}
+
+	@Test
+	void rejectsCommandsBeyondPermitsWithRetryAfter() throws Exception {
+		AdmissionFilter filter = new AdmissionFilter(
+				new AdmissionProperties(true, 1, 1, 0, Duration.ZERO, Duration.ofSeconds(2)), new ObjectMapper());
+		MockHttpServletResponse rejected = new MockHttpServletResponse();
+		MockHttpServletResponse query = new MockHttpServletResponse();
+
+		// Enquanto o primeiro crédito executa, outro crédito é recusado e uma consulta ainda entra
+		MockFilterChain firstCredit = new MockFilterChain(new HttpServlet() {}, (request, response, chain) -> {
+			filter.doFilter(request("POST", "/api/accounts/1/credits"), rejected, new MockFilterChain());
+			filter.doFilter(request("GET", "/api/accounts/1/balance"), query, new MockFilterChain());
+		});
+		filter.doFilter(request("POST", "/api/accounts/1/credits"), new MockHttpServletResponse(), firstCredit);
+
+		assertThat(rejected.getStatus()).isEqualTo(503);
+		assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+		assertThat(rejected.getContentAsString()).contains("\"status\":503");
+		assertThat(query.getStatus()).isEqualTo(200);
+		assertThat(filter.commandStats()).isEqualTo(new AdmissionStats(0, 0, 1, 1));
+		assertThat(filter.queryStats()).isEqualTo(new AdmissionStats(0, 0, 1, 0));
+	}
+
+	private static MockHttpServletRequest request(String method, String uri) {
+		return new MockHttpServletRequest(method, uri);
+	}
+}
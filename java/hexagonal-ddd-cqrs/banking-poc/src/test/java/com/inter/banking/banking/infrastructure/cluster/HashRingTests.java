@@ -0,0 +1,54 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HashRingTests {
+	private static final int ACCOUNTS = 30_000;
+
+	@Test
+	void spreadsAccountsEvenlyAndIndependentlyOfMemberOrder() {
+		HashRing ring = HashRing.of(List.of("node-1", "node-2", "node-3"), 128);
+		HashRing reordered = HashRing.of(List.of("node-3", "node-1", "node-2"), 128);
+
+		Map<String, Integer> owned = new HashMap<>();
+		for (int i = 0; i < ACCOUNTS; i++) {
+			AccountId accountId = new AccountId(UUID.randomUUID());
+			String owner = ring.ownerOf(accountId);
+			assertThat(reordered.ownerOf(accountId)).isEqualTo(owner);
+			owned.merge(owner, 1, Integer::sum);
+		}
+
+		owned.values().forEach(count -> assertThat((double) count / ACCOUNTS).isCloseTo(1.0 / 3, within(0.05)));
+		ring.shares().values().forEach(share -> assertThat(share).isCloseTo(1.0 / 3, within(0.05)));
+	}
+
+	@Test
+	void joiningNodeTakesOnlyItsShareFromTheOthers() {
+		HashRing before = HashRing.of(List.of("node-1", "node-2", "node-3"), 128);
+		HashRing after = HashRing.of(List.of("node-1", "node-2", "node-3", "node-4"), 128);
+
+		int moved = 0;
+		for (int i = 0; i < ACCOUNTS; i++) {
+			AccountId accountId = new AccountId(UUID.randomUUID());
+			String owner = after.ownerOf(accountId);
+			if (!before.ownerOf(accountId).equals(owner)) {
+				// Conta só muda de dono para o nó novo
+				assertThat(owner).isEqualTo("node-4");
+				moved++;
+			}
+		}
+		// Move só a fatia do anel que o nó novo assumiu, perto de 1/4 mas sem depender da amostra de vnodes
+		double share = after.shares().get("node-4");
+		assertThat(share).isCloseTo(0.25, within(0.07));
+		assertThat((double) moved / ACCOUNTS).isCloseTo(share, within(0.02));
+	}
+}
@@ -0,0 +1,162 @@
+package com.inter.banking.banking.infrastructure.cluster;
+
+import com.inter.banking.banking.BankingPocApplication;
+import com.inter.banking.banking.application.command.result.AccountCreatedResult;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.query.dto.AccountBalanceDto;
+import com.inter.banking.banking.domain.model.AccountId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Duas instâncias na mesma JVM, em portas aleatórias e sobre o mesmo banco H2 em memória
+ */
+class PartitionedCommandRouterTests {
+	private static final int ACCOUNTS = 20;
+
+	private static ConfigurableApplicationContext nodeA;
+	private static ConfigurableApplicationContext nodeB;
+
+	@BeforeAll
+	static void startNodes() {
+		nodeA = start("node-a");
+		nodeB = start("node-b");
+		membership(nodeA).join("node-b", address(nodeB));
+		membership(nodeB).join("node-a", address(nodeA));
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		nodeB.close();
+		nodeA.close();
+	}
+
+	@Test
+	void commandsRunOnTheOwningNodeWhicheverNodeReceivesThem() {
+		RestClient viaA = client(nodeA);
+		RestClient viaB = client(nodeB);
+		PartitionedCommandRouter.RoutingStats beforeA = router(nodeA).stats();
+		PartitionedCommandRouter.RoutingStats beforeB = router(nodeB).stats();
+
+		List<String> accountIds = new ArrayList<>();
+		for (int i = 0; i < ACCOUNTS; i++) {
+			String accountId = openAccount(viaA);
+			accountIds.add(accountId);
+			viaA.post().uri("/api/accounts/{id}/credits", accountId)
+					.contentType(MediaType.APPLICATION_JSON)
+					.body(Map.of("amount", new BigDecimal("5.00"), "description", "deposit"))
+					.retrieve()
+					.body(TransactionResult.class);
+		}
+
+		for (String accountId : accountIds) {
+			AccountBalanceDto balance = viaB.get().uri("/api/accounts/{id}/balance", accountId)
+					.retrieve()
+					.body(AccountBalanceDto.class);
+			assertThat(balance.balance()).isEqualByComparingTo("15.00");
+		}
+
+		// Cada nó executou como dono as contas dele e encaminhou as do outro
+		long ownedByA = accountIds.stream().filter(id -> membership(nodeA).owns(AccountId.from(id))).count();
+		PartitionedCommandRouter.RoutingStats a = router(nodeA).stats();
+		PartitionedCommandRouter.RoutingStats b = router(nodeB).stats();
+		assertThat(ownedByA).isBetween(1L, ACCOUNTS - 1L);
+		assertThat(a.local() - beforeA.local()).isEqualTo(ownedByA);
+		assertThat(a.forwarded() - beforeA.forwarded()).isEqualTo(ACCOUNTS - ownedByA);
+		assertThat(b.forwarded() - beforeB.forwarded()).isEqualTo(ownedByA);
+		assertThat(b.received() - beforeB.received()).isEqualTo(ACCOUNTS - ownedByA);
+		assertThat(a.received() - beforeA.received()).isEqualTo(ownedByA);
+	}
+
+	@Test
+	void ownerErrorsReachTheClientUnchanged() {
+		RestClient viaA = client(nodeA);
+		String accountId = accountOwnedBy(viaA, "node-b");
+
+		assertThatThrownBy(() -> viaA.post().uri("/api/accounts/{id}/debits", accountId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(Map.of("amount", new BigDecimal("500.00"), "description", "payment"))
+				.retrieve()
+				.toBodilessEntity())
+				.isInstanceOfSatisfying(HttpClientErrorException.class, e -> {
+					assertThat(e.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(422));
+					assertThat(e.getResponseBodyAsString()).contains("Insufficient");
+				});
+	}
+
+	@Test
+	void rebalanceMovesOwnershipWhenNodeLeavesAndJoins() {
+		RestClient viaA = client(nodeA);
+		String accountId = accountOwnedBy(viaA, "node-b");
+
+		ClusterStatus alone = membership(nodeA).leave("node-b");
+		assertThat(alone.shares()).containsOnlyKeys("node-a");
+		PartitionedCommandRouter.RoutingStats before = router(nodeA).stats();
+		viaA.get().uri("/api/accounts/{id}", accountId).retrieve().toBodilessEntity();
+		assertThat(router(nodeA).stats().local() - before.local()).isEqualTo(1);
+
+		ClusterStatus rejoined = membership(nodeA).join("node-b", address(nodeB));
+		assertThat(rejoined.shares()).containsOnlyKeys("node-a", "node-b");
+		assertThat(membership(nodeA).ownerOf(AccountId.from(accountId))).isEqualTo("node-b");
+	}
+
+	private static String accountOwnedBy(RestClient client, String nodeId) {
+		while (true) {
+			String accountId = openAccount(client);
+			if (membership(nodeA).ownerOf(AccountId.from(accountId)).equals(nodeId)) {
+				return accountId;
+			}
+		}
+	}
+
+	private static String openAccount(RestClient client) {
+		return client.post().uri("/api/accounts")
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(Map.of("customerId", UUID.randomUUID().toString(), "initialBalance", new BigDecimal("10.00")))
+				.retrieve()
+				.body(AccountCreatedResult.class)
+				.accountId();
+	}
+
+	private static ConfigurableApplicationContext start(String nodeId) {
+		return new SpringApplicationBuilder(BankingPocApplication.class).run(
+				"--server.port=0",
+				"--spring.datasource.url=jdbc:h2:mem:cluster-tests;DB_CLOSE_DELAY=-1",
+				"--spring.jpa.hibernate.ddl-auto=update",
+				"--banking.cluster.enabled=true",
+				"--banking.cluster.node-id=" + nodeId);
+	}
+
+	private static URI address(ConfigurableApplicationContext node) {
+		return URI.create("http://localhost:" + node.getEnvironment().getProperty("local.server.port"));
+	}
+
+	private static RestClient client(ConfigurableApplicationContext node) {
+		return RestClient.builder().baseUrl(address(node).toString()).build();
+	}
+
+	private static ClusterMembership membership(ConfigurableApplicationContext node) {
+		return node.getBean(ClusterMembership.class);
+	}
+
+	private static PartitionedCommandRouter router(ConfigurableApplicationContext node) {
+		return node.getBean(PartitionedCommandRouter.class);
+	}
+}
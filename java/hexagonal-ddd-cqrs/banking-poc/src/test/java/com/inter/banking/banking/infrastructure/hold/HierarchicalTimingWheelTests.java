@@ -0,0 +1,77 @@
+package com.inter.banking.banking.infrastructure.hold;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTests {
+
+	@Test
+	void expiresEachKeyOnTheFirstAdvancePastItsDeadlineAcrossAllLevels() {
+		// Tick de 1 ms a partir de 0: prazos de até 2^24 ticks passam pelos níveis 0 a 3
+		HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1, 0);
+		SplittableRandom random = new SplittableRandom(7);
+		Map<Long, Long> deadlines = new HashMap<>();
+		for (long key = 1; key <= 20_000; key++) {
+			long deadline = 1 + random.nextLong(1L << 24);
+			deadlines.put(key, deadline);
+			wheel.schedule(key, -key, deadline);
+		}
+
+		long previous = 0;
+		int expired = 0;
+		for (long now = 997; now < (1L << 24) + 997; now += 997) {
+			wheel.advance(now);
+			long lower = previous;
+			long upper = now;
+			expired += wheel.drainDue(Integer.MAX_VALUE, (high, low) -> {
+				assertThat(low).isEqualTo(-high);
+				assertThat(deadlines.get(high)).isGreaterThan(lower).isLessThanOrEqualTo(upper);
+			});
+			previous = now;
+		}
+
+		assertThat(expired).isEqualTo(deadlines.size());
+		assertThat(wheel.scheduled()).isZero();
+	}
+
+	@Test
+	void keepsDeadlinesBeyondTheWheelRangeUntilTheyAreDue() {
+		HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1, 0);
+		long farDeadline = 3L << 26;
+		wheel.schedule(1, 1, farDeadline);
+
+		wheel.advance(farDeadline - 1);
+		assertThat(wheel.due()).isZero();
+
+		wheel.advance(farDeadline);
+		assertThat(wheel.due()).isEqualTo(1);
+	}
+
+	@Test
+	void drainsDueKeysInBoundedBatchesInExpiryOrder() {
+		HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(100, 0);
+		for (long key = 0; key < 5_000; key++) {
+			wheel.schedule(key, key, 100 + key / 1000 * 100);
+		}
+		// Vencido no passado: entra no próximo tick
+		wheel.schedule(9_999, 9_999, -1);
+
+		wheel.advance(500);
+		List<Long> drained = new ArrayList<>();
+		while (wheel.due() > 0) {
+			int count = wheel.drainDue(700, (high, low) -> drained.add(high));
+			assertThat(count).isLessThanOrEqualTo(700);
+		}
+
+		assertThat(drained).hasSize(5_001);
+		assertThat(drained.subList(0, 1_001)).contains(9_999L);
+		assertThat(drained.subList(1_001, 5_001)).isSorted();
+	}
+}
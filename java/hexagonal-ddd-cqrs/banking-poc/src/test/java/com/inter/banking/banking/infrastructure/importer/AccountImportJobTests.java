@@ -0,0 +1,101 @@
+package com.inter.banking.banking.infrastructure.importer;
+
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "banking.import.batch-size=3")
+class AccountImportJobTests {
+
+	@Autowired
+	private AccountImportJob importJob;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void importsValidLinesRejectsInvalidOnesAndResumesFromCheckpoint() throws IOException {
+		String customerId = UUID.randomUUID().toString();
+		List<String> lines = new ArrayList<>();
+		lines.add("customerId,initialBalance");
+		for (int i = 0; i < 7; i++) {
+			lines.add(customerId + "," + (100 + i) + ".00");
+		}
+		lines.add(customerId + ",-1.00");
+		lines.add("not-a-uuid,10.00");
+		Path file = Files.write(directory.resolve("accounts.csv"), lines);
+
+		AccountImportReport report = importJob.run(file);
+
+		assertThat(report.created()).isEqualTo(7);
+		assertThat(report.failed()).isEqualTo(2);
+		assertThat(accountRepository.findByCustomerId(CustomerId.from(customerId))).hasSize(7);
+		assertThat(Files.readAllLines(directory.resolve("accounts.csv.rejects")))
+				.hasSize(2)
+				.allSatisfy(reject -> assertThat(reject).matches("(9|10)\t.+"));
+
+		// Segunda execução retoma do checkpoint: nada é criado de novo
+		AccountImportReport rerun = importJob.run(file);
+
+		assertThat(rerun.skipped()).isEqualTo(lines.size());
+		assertThat(rerun.created()).isZero();
+		assertThat(accountRepository.findByCustomerId(CustomerId.from(customerId))).hasSize(7);
+	}
+
+	@Test
+	void checkpointFollowsTheContentOrTheImportIdNotThePath() throws IOException {
+		String customerId = UUID.randomUUID().toString();
+		Path file = Files.write(directory.resolve("first.csv"), List.of(
+				customerId + ",10.00", customerId + ",20.00"));
+		importJob.run(file);
+
+		// Mesmo conteúdo em outro caminho: já importado
+		Path moved = Files.move(file, directory.resolve("moved.csv"));
+		assertThat(importJob.run(moved).created()).isZero();
+
+		// Conteúdo novo no caminho antigo: outra importação, começa do zero
+		Files.write(file, List.of(customerId + ",30.00"));
+		assertThat(importJob.run(file).created()).isEqualTo(1);
+
+		// Arquivo que cresce: o importId mantém o checkpoint entre as versões
+		String importId = UUID.randomUUID().toString();
+		Path growing = Files.write(directory.resolve("growing.csv"), List.of(customerId + ",40.00"));
+		importJob.run(growing, importId);
+		Files.write(growing, List.of(customerId + ",50.00"), StandardOpenOption.APPEND);
+		AccountImportReport appended = importJob.run(growing, importId);
+
+		assertThat(appended.skipped()).isEqualTo(1);
+		assertThat(appended.created()).isEqualTo(1);
+		assertThat(accountRepository.findByCustomerId(CustomerId.from(customerId))).hasSize(5);
+	}
+
+	@Test
+	void importsNdjson() throws IOException {
+		String customerId = UUID.randomUUID().toString();
+		Path file = Files.write(directory.resolve("accounts.ndjson"), List.of(
+				"{\"customerId\":\"" + customerId + "\",\"initialBalance\":10.00}",
+				"",
+				"{\"customerId\":\"" + customerId + "\",\"initialBalance\":20.00}"));
+
+		AccountImportReport report = importJob.run(file);
+
+		assertThat(report.created()).isEqualTo(2);
+		assertThat(accountRepository.findByCustomerId(CustomerId.from(customerId))).hasSize(2);
+	}
+}
@@ -0,0 +1,118 @@
+package com.inter.banking.banking.infrastructure.index;
+
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountIndexTests {
+
+	@Test
+	void storesEveryColumnAndKeepsOnlyNewerVersions() {
+		AccountIndex index = new AccountIndex(4, 100);
+		Account account = account(42, 7);
+		account.block();
+
+		assertThat(index.put(account)).isTrue();
+		assertThat(index.find(account.getId())).contains(account);
+		assertThat(index.findIdByAccountNumber("00000042-7")).contains(account.getId());
+
+		Account newer = copy(account, account.getVersion() + 1, new BigDecimal("99.99"));
+		Account older = copy(account, account.getVersion(), new BigDecimal("1.00"));
+		assertThat(index.put(newer)).isTrue();
+		assertThat(index.put(older)).isTrue();
+		assertThat(index.find(account.getId()).orElseThrow().getBalanceCents()).isEqualTo(9999);
+
+		Account imported = new Account(AccountId.generate(), "AG-0001", CustomerId.generate(), Money.brl(BigDecimal.ONE));
+		assertThat(index.put(imported)).isFalse();
+		assertThat(index.find(imported.getId())).isEmpty();
+	}
+
+	@Test
+	void removalKeepsProbeChainsAndTablesGrowPastExpectedSize() {
+		AccountIndex index = new AccountIndex(1, 16);
+		List<Account> accounts = new ArrayList<>();
+		for (int i = 1; i <= 20_000; i++) {
+			Account account = account(i, i % 10);
+			accounts.add(account);
+			index.put(account);
+		}
+		for (int i = 0; i < accounts.size(); i += 3) {
+			index.remove(accounts.get(i).getId());
+		}
+
+		assertThat(index.size()).isEqualTo(20_000 - 6_667);
+		for (int i = 0; i < accounts.size(); i++) {
+			Account account = accounts.get(i);
+			if (i % 3 == 0) {
+				assertThat(index.find(account.getId())).isEmpty();
+				assertThat(index.findIdByAccountNumber(account.getAccountNumber())).isEmpty();
+			} else {
+				assertThat(index.find(account.getId())).contains(account);
+				assertThat(index.findIdByAccountNumber(account.getAccountNumber())).contains(account.getId());
+			}
+		}
+	}
+
+	@Test
+	void optimisticReadersNeverSeeTornAccounts() throws Exception {
+		AccountIndex index = new AccountIndex(1, 16);
+		List<Account> accounts = new ArrayList<>();
+		for (int i = 1; i <= 1_000; i++) {
+			accounts.add(account(i, 0));
+			index.put(accounts.getLast());
+		}
+
+		// Saldo e versão gravados juntos: saldo = versão * 100 em toda conta
+		AtomicBoolean running = new AtomicBoolean(true);
+		ExecutorService readers = Executors.newFixedThreadPool(2);
+		List<Future<?>> checks = new ArrayList<>();
+		for (int r = 0; r < 2; r++) {
+			checks.add(readers.submit(() -> {
+				while (running.get()) {
+					for (Account account : accounts) {
+						index.find(account.getId()).ifPresent(found ->
+								assertThat(found.getBalanceCents()).isEqualTo(found.getVersion() * 100));
+					}
+				}
+				return null;
+			}));
+		}
+		for (long version = 2; version <= 50; version++) {
+			for (Account account : accounts) {
+				index.put(copy(account, version, BigDecimal.valueOf(version)));
+			}
+			index.remove(accounts.get((int) version).getId());
+		}
+		running.set(false);
+		for (Future<?> check : checks) {
+			check.get();
+		}
+		readers.shutdown();
+	}
+
+	private static Account account(long number, int checkDigit) {
+		AccountId id = AccountId.generate();
+		LocalDateTime now = LocalDateTime.now();
+		return new Account(id, "%08d-%d".formatted(number, checkDigit), CustomerId.generate(),
+				Money.brl(BigDecimal.ONE), AccountStatus.ACTIVE, now.minusDays(3), now, 1);
+	}
+
+	private static Account copy(Account account, long version, BigDecimal balance) {
+		return new Account(account.getId(), account.getAccountNumber(), account.getCustomerId(), Money.brl(balance),
+				account.getStatus(), account.getCreatedAt(), account.getUpdatedAt(), version);
+	}
+}
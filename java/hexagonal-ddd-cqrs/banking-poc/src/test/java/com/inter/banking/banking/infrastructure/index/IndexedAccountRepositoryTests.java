@@ -0,0 +1,74 @@
+package com.inter.banking.banking.infrastructure.index;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "banking.account-index.enabled=true")
+class IndexedAccountRepositoryTests {
+
+	@Autowired
+	private AccountCommandService commandService;
+
+	@Autowired
+	private IndexedAccountRepository indexedRepository;
+
+	@Autowired
+	@Qualifier("accountStore")
+	private AccountRepository store;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void commandsAreServedFromTheIndexAfterTheFirstRead() {
+		String accountId = commandService.createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("50.00"))).accountId();
+		AccountIndexStats before = indexedRepository.stats();
+
+		for (int i = 0; i < 10; i++) {
+			commandService.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("1.00"), "deposit"));
+		}
+
+		AccountIndexStats after = indexedRepository.stats();
+		assertThat(after.hits() - before.hits()).isGreaterThanOrEqualTo(10);
+		assertThat(after.misses() - before.misses()).isZero();
+		assertThat(indexedRepository.findById(AccountId.from(accountId)).orElseThrow().getBalanceCents()).isEqualTo(6000);
+		assertThat(store.findById(AccountId.from(accountId)).orElseThrow().getBalanceCents()).isEqualTo(6000);
+	}
+
+	@Test
+	void writeOutsideTheIndexIsDetectedByVersionAndReloaded() {
+		String accountId = commandService.createdAccount(new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("50.00"))).accountId();
+		AccountId id = AccountId.from(accountId);
+		commandService.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("1.00"), "deposit"));
+
+		// Outra instância grava direto no banco: o índice fica com a versão anterior
+		transactionTemplate.executeWithoutResult(status -> {
+			Account elsewhere = store.findById(id).orElseThrow();
+			elsewhere.credit(Money.brl(new BigDecimal("100.00")));
+			store.save(elsewhere);
+		});
+		AccountIndexStats before = indexedRepository.stats();
+
+		commandService.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("10.00"), "payment"));
+
+		assertThat(indexedRepository.stats().evictions() - before.evictions()).isEqualTo(1);
+		assertThat(store.findById(id).orElseThrow().getBalanceCents()).isEqualTo(14100);
+		assertThat(indexedRepository.findById(id).orElseThrow().getBalanceCents()).isEqualTo(14100);
+	}
+}
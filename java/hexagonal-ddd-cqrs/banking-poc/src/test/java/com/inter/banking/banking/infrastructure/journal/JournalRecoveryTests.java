@@ -0,0 +1,56 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.result.TransactionResult;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import com.inter.banking.banking.domain.port.AccountStatementStore;
+import com.inter.banking.banking.domain.port.TransactionJournal.Entry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JournalRecoveryTests {
+
+	@Autowired
+	private AccountCommandService service;
+
+	@Autowired
+	@Qualifier("accountStore")
+	private AccountRepository store;
+
+	@Autowired
+	private AccountStatementStore statementStore;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void ignoresNewerRecordsOfTransactionsThatNeverCommitted() {
+		String accountId = service.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("100.00"))).accountId();
+		TransactionResult credit = service.creditAccount(
+				new CreditAccountCommand(accountId, new BigDecimal("50.00"), "recovery"));
+		AccountId id = AccountId.from(accountId);
+
+		// Gravado no journal, mas a transação voltou depois do fsync: não há lançamento no extrato
+		Entry committed = new Entry(id, credit.transactionId(), "CREDIT", 5_000, 15_000, 1, Instant.now());
+		Entry rolledBack = new Entry(id, UUID.randomUUID().toString(), "CREDIT", 900_000, 915_000, 2, Instant.now());
+
+		new JournalRecovery(store, statementStore, transactionTemplate).accept(List.of(committed, rolledBack));
+
+		assertThat(store.findById(id).orElseThrow().getBalance().getAmount()).isEqualByComparingTo("150.00");
+	}
+}
@@ -0,0 +1,132 @@
+package com.inter.banking.banking.infrastructure.journal;
+
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.port.TransactionJournal.Entry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedTransactionJournalTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void recoversEveryRecordAcrossRolledSegments() throws IOException {
+		// Cabem 13 registros por segmento: 40 registros rolam para 4 segmentos
+		JournalProperties properties = properties(1024);
+		List<Entry> entries = new ArrayList<>();
+		try (MappedTransactionJournal journal = MappedTransactionJournal.open(properties, recovered -> {})) {
+			for (int i = 0; i < 40; i++) {
+				Entry entry = entry(i);
+				entries.add(entry);
+				journal.append(entry);
+			}
+			assertThat(journal.metrics().records()).isEqualTo(40);
+			assertThat(journal.metrics().fsyncs()).isPositive();
+		}
+		assertThat(segmentCount()).isEqualTo(4);
+
+		List<Entry> recovered = new ArrayList<>();
+		try (MappedTransactionJournal reopened = MappedTransactionJournal.open(properties, recovered::addAll)) {
+			assertThat(reopened.metrics().records()).isZero();
+		}
+
+		assertThat(recovered).containsExactlyElementsOf(entries);
+		assertThat(segmentCount()).isEqualTo(1);
+	}
+
+	@Test
+	void stopsAtTornRecord() throws IOException {
+		JournalProperties properties = properties(64 * 1024);
+		List<Entry> entries = new ArrayList<>();
+		try (MappedTransactionJournal journal = MappedTransactionJournal.open(properties, recovered -> {})) {
+			for (int i = 0; i < 3; i++) {
+				entries.add(entry(i));
+			}
+			journal.appendAll(entries);
+		}
+
+		// Corrompe o payload do último registro, como uma escrita interrompida pela queda
+		try (Stream<Path> files = Files.list(directory);
+				RandomAccessFile file = new RandomAccessFile(files.findFirst().orElseThrow().toFile(), "rw")) {
+			file.seek(JournalSegment.RECORD_SIZE * 2L + JournalSegment.HEADER_SIZE + 20);
+			file.write(0x7F);
+		}
+
+		List<Entry> recovered = new ArrayList<>();
+		MappedTransactionJournal.open(properties, recovered::addAll).close();
+
+		assertThat(recovered).containsExactlyElementsOf(entries.subList(0, 2));
+	}
+
+	@Test
+	void replaysRetainedSegmentsAndClosesTornSegmentForTheNextRun() throws IOException {
+		JournalProperties properties = new JournalProperties(
+				true, directory, DataSize.ofBytes(64 * 1024), Duration.ZERO, Duration.ofDays(2));
+		List<Entry> first = List.of(entry(0), entry(1), entry(2));
+		try (MappedTransactionJournal journal = MappedTransactionJournal.open(properties, recovered -> {})) {
+			journal.appendAll(first);
+		}
+		try (Stream<Path> files = Files.list(directory);
+				RandomAccessFile file = new RandomAccessFile(files.findFirst().orElseThrow().toFile(), "rw")) {
+			file.seek(JournalSegment.RECORD_SIZE * 2L + JournalSegment.HEADER_SIZE + 20);
+			file.write(0x7F);
+		}
+
+		Entry second = entry(3);
+		try (MappedTransactionJournal journal = MappedTransactionJournal.open(properties, recovered -> {})) {
+			journal.append(second);
+
+			// Só o que execuções anteriores deixaram no disco, a partir do instante pedido
+			List<Entry> replayed = new ArrayList<>();
+			journal.replay(Instant.EPOCH, replayed::add);
+			assertThat(replayed).containsExactlyElementsOf(first.subList(0, 2));
+			List<Entry> future = new ArrayList<>();
+			journal.replay(Instant.now().plusSeconds(60), future::add);
+			assertThat(future).isEmpty();
+		}
+		assertThat(segmentCount()).isEqualTo(2);
+
+		// O segmento interrompido termina no último registro íntegro e não esconde o segmento seguinte
+		List<Entry> recovered = new ArrayList<>();
+		MappedTransactionJournal.open(properties, recovered::addAll).close();
+
+		assertThat(recovered).containsExactly(first.get(0), first.get(1), second);
+	}
+
+	private JournalProperties properties(int segmentSize) {
+		return new JournalProperties(true, directory, DataSize.ofBytes(segmentSize), Duration.ZERO, Duration.ZERO);
+	}
+
+	private long segmentCount() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+
+	private static Entry entry(int sequence) {
+		return new Entry(
+				AccountId.generate(),
+				UUID.randomUUID().toString(),
+				sequence % 2 == 0 ? "CREDIT" : "DEBIT",
+				100 + sequence,
+				10_000 + sequence,
+				sequence + 1,
+				Instant.now().truncatedTo(ChronoUnit.MILLIS));
+	}
+}
@@ -0,0 +1,262 @@
+package com.inter.banking.banking.infrastructure.ledger;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.command.TransferCommand;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.application.service.AccountOperationExecutor;
+import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.domain.port.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "banking.ledger.enabled=true")
+class LedgerEngineTests {
+	private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+	@Autowired
+	private AccountCommandService service;
+
+	@Autowired
+	private LedgerEngine engine;
+
+	@Autowired
+	@Qualifier("accountStore")
+	private AccountRepository store;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void singleAccountOperationsArePersistedByWriteBehind() {
+		AccountId id = openAccount("100.00");
+
+		service.debitAccount(new DebitAccountCommand(id.toString(), new BigDecimal("30.00"), "debit"));
+		service.creditAccount(new CreditAccountCommand(id.toString(), new BigDecimal("5.50"), "credit"));
+
+		assertThat(engine.find(id).orElseThrow().getBalanceCents()).isEqualTo(7550);
+		assertThat(engine.awaitFlushed(FLUSH_TIMEOUT)).isTrue();
+		assertThat(store.findById(id).orElseThrow().getBalanceCents()).isEqualTo(7550);
+	}
+
+	@Test
+	void transferAcrossPartitionsMovesMoneyBetweenBothAccounts() {
+		AccountId source = openAccount("100.00");
+		AccountId target = openAccount("10.00");
+		while (engine.partitionFor(target) == engine.partitionFor(source)) {
+			target = openAccount("10.00");
+		}
+
+		service.transfer(new TransferCommand(source.toString(), target.toString(), new BigDecimal("40.00"), "transfer"));
+
+		assertThat(engine.find(source).orElseThrow().getBalanceCents()).isEqualTo(6000);
+		assertThat(engine.find(target).orElseThrow().getBalanceCents()).isEqualTo(5000);
+		assertThat(engine.awaitFlushed(FLUSH_TIMEOUT)).isTrue();
+		assertThat(store.findById(source).orElseThrow().getBalanceCents()).isEqualTo(6000);
+		assertThat(store.findById(target).orElseThrow().getBalanceCents()).isEqualTo(5000);
+	}
+
+	@Test
+	void rolledBackTransactionLeavesLedgerAndStoreUntouched() {
+		AccountId id = openAccount("100.00");
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+			service.debitAccount(new DebitAccountCommand(id.toString(), new BigDecimal("60.00"), "debit"));
+			// Débito retido até o commit: o estado confirmado ainda não mudou
+			assertThat(engine.find(id).orElseThrow().getBalanceCents()).isEqualTo(10000);
+			throw new IllegalStateException("later step failed");
+		})).isInstanceOf(IllegalStateException.class);
+
+		// A retenção foi devolvida: o débito seguinte enxerga o saldo inteiro
+		service.debitAccount(new DebitAccountCommand(id.toString(), new BigDecimal("100.00"), "debit"));
+		assertThat(engine.find(id).orElseThrow().getBalanceCents()).isZero();
+		assertThat(engine.awaitFlushed(FLUSH_TIMEOUT)).isTrue();
+		assertThat(store.findById(id).orElseThrow().getBalanceCents()).isZero();
+	}
+
+	@Test
+	void uncommittedCreditCannotBeSpent() {
+		AccountId id = openAccount("10.00");
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		transaction.executeWithoutResult(status -> {
+			service.creditAccount(new CreditAccountCommand(id.toString(), new BigDecimal("90.00"), "credit"));
+			status.setRollbackOnly();
+		});
+
+		assertThatThrownBy(() -> service.debitAccount(new DebitAccountCommand(id.toString(), new BigDecimal("50.00"), "debit")))
+				.isInstanceOf(InsufficientBalanceException.class);
+		assertThat(engine.find(id).orElseThrow().getBalanceCents()).isEqualTo(1000);
+	}
+
+	@Test
+	void resultReportsCommittedStatePlusOwnChangeWhileAnotherTransactionHoldsFunds() throws Exception {
+		AccountId id = openAccount("100.00");
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		CountDownLatch reserved = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+
+		// Outra transação debita 60 e fica aberta: o valor fica retido, mas não confirmado
+		Thread open = Thread.ofPlatform().start(() -> transaction.executeWithoutResult(status -> {
+			engine.execute(id, account -> account.debit(FixedPointMoney.brl(new BigDecimal("60.00"))));
+			reserved.countDown();
+			await(finish);
+			status.setRollbackOnly();
+		}));
+		reserved.await();
+
+		Account credited = engine.execute(id, account -> account.credit(FixedPointMoney.brl(new BigDecimal("5.00"))));
+		Account committed = engine.find(id).orElseThrow();
+		assertThat(credited.getBalanceCents()).isEqualTo(10500);
+		assertThat(credited.getVersion()).isEqualTo(committed.getVersion());
+
+		List<AccountOperationExecutor.Outcome> outcomes = engine.executeAll(List.of(
+				new AccountOperationExecutor.Operation(id, account -> account.debit(FixedPointMoney.brl(new BigDecimal("1.00")))),
+				new AccountOperationExecutor.Operation(id, account -> account.debit(FixedPointMoney.brl(new BigDecimal("2.00"))))));
+		assertThat(outcomes.get(0).balance().getAmount()).isEqualByComparingTo("104.00");
+		assertThat(outcomes.get(1).balance().getAmount()).isEqualByComparingTo("102.00");
+		assertThat(outcomes.get(1).version()).isEqualTo(engine.find(id).orElseThrow().getVersion());
+
+		finish.countDown();
+		open.join();
+		assertThat(engine.find(id).orElseThrow().getBalanceCents()).isEqualTo(10200);
+	}
+
+	@Test
+	void transferToAccountOwnedByAnotherNodeFailsWithoutTouchingEitherAccount() {
+		AccountId source = openAccount("100.00");
+		AccountId target = openAccount("10.00");
+		LedgerAccountOperationExecutor executor = new LedgerAccountOperationExecutor(engine, source::equals);
+
+		assertThatThrownBy(() -> executor.executePair(source, target, (debited, credited) -> {
+			debited.debit(FixedPointMoney.brl(new BigDecimal("40.00")));
+			credited.credit(FixedPointMoney.brl(new BigDecimal("40.00")));
+		})).isInstanceOf(AccountNotOwnedException.class);
+
+		List<AccountOperationExecutor.Outcome> outcomes = executor.executeAll(List.of(
+				new AccountOperationExecutor.Operation(target, account -> account.credit(FixedPointMoney.brl(new BigDecimal("1.00")))),
+				new AccountOperationExecutor.Operation(source, account -> account.debit(FixedPointMoney.brl(new BigDecimal("1.00"))))));
+		assertThat(outcomes.get(0).failure()).isInstanceOf(AccountNotOwnedException.class);
+		assertThat(outcomes.get(1).succeeded()).isTrue();
+
+		assertThat(engine.find(source).orElseThrow().getBalanceCents()).isEqualTo(9900);
+		assertThat(engine.find(target).orElseThrow().getBalanceCents()).isEqualTo(1000);
+	}
+
+	@Test
+	void poisonedEntryIsDeadLetteredWithoutStallingTheJournal() {
+		AccountId poisoned = AccountId.generate();
+		AccountId healthy = AccountId.generate();
+		FailingStore failingStore = new FailingStore(poisoned);
+		List<AccountId> deadLetters = new CopyOnWriteArrayList<>();
+		JdbcLedgerDeadLetters jdbcDeadLetters = new JdbcLedgerDeadLetters(jdbcTemplate);
+
+		try (WriteBehindJournal journal = new WriteBehindJournal(failingStore, new TransactionTemplate(transactionManager),
+				10, 10, Duration.ofMillis(1), 2, (entry, failure) -> {
+					deadLetters.add(entry.accountId());
+					jdbcDeadLetters.record(entry, failure);
+				})) {
+			journal.append(account(poisoned));
+			journal.append(account(healthy));
+
+			assertThat(journal.awaitFlushed(FLUSH_TIMEOUT)).isTrue();
+			assertThat(journal.deadLettered()).isEqualTo(1);
+		}
+
+		assertThat(deadLetters).containsExactly(poisoned);
+		assertThat(failingStore.findById(healthy)).isPresent();
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM ledger_dead_letters WHERE account_id = ?", Integer.class, poisoned.getValue()))
+				.isEqualTo(1);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private AccountId openAccount(String initialBalance) {
+		String accountId = service.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal(initialBalance))).accountId();
+		return AccountId.from(accountId);
+	}
+
+	private static Account account(AccountId id) {
+		return new Account(id, id.toString().substring(0, 10), CustomerId.generate(), Money.brl("10.00"));
+	}
+
+	/** Repositório em memória que recusa gravar uma conta específica */
+	private static final class FailingStore implements AccountRepository {
+		private final AccountId poisoned;
+		private final Map<AccountId, Account> accounts = new ConcurrentHashMap<>();
+
+		FailingStore(AccountId poisoned) {
+			this.poisoned = poisoned;
+		}
+
+		@Override
+		public Account save(Account account) {
+			if (account.getId().equals(poisoned)) {
+				throw new IllegalStateException("constraint violation");
+			}
+			accounts.put(account.getId(), account);
+			return account;
+		}
+
+		@Override
+		public Optional<Account> findById(AccountId id) {
+			return Optional.ofNullable(accounts.get(id));
+		}
+
+		@Override
+		public Optional<Account> findByAccountNumber(String accountNumber) {
+			return Optional.empty();
+		}
+
+		@Override
+		public List<Account> findByCustomerId(CustomerId customerId) {
+			return List.of();
+		}
+
+		@Override
+		public void delete(AccountId id) {
+			accounts.remove(id);
+		}
+
+		@Override
+		public boolean existsByAccountNumber(String accountNumber) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.inter.banking.banking.infrastructure.limits;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DebitCountersTests {
+	private static final long MINUTE = 60_000;
+	// Início de um minuto qualquer, longe da época
+	private static final long T0 = 28_000_000L * MINUTE;
+	private static final long DAY = 20_000;
+
+	@Test
+	void slidingWindowWeighsThePreviousMinuteByTheTimeItStillCovers() {
+		DebitCounters counters = new DebitCounters();
+		for (int i = 0; i < 4; i++) {
+			assertThat(counters.tryAcquire(T0 + 50_000, DAY, 1, 1_000, 4)).isEqualTo(DebitCounters.Outcome.ACCEPTED);
+		}
+		assertThat(counters.tryAcquire(T0 + 59_999, DAY, 1, 1_000, 4)).isEqualTo(DebitCounters.Outcome.VELOCITY_EXCEEDED);
+
+		// 15 s do minuto seguinte: os 4 anteriores ainda pesam 3 (45 s de 60), cabe mais um
+		assertThat(counters.tryAcquire(T0 + MINUTE + 15_000, DAY, 1, 1_000, 4)).isEqualTo(DebitCounters.Outcome.ACCEPTED);
+		assertThat(counters.tryAcquire(T0 + MINUTE + 15_000, DAY, 1, 1_000, 4)).isEqualTo(DebitCounters.Outcome.VELOCITY_EXCEEDED);
+		// 45 s: pesam 1, somados ao do minuto corrente cabem mais dois
+		for (int i = 0; i < 2; i++) {
+			assertThat(counters.tryAcquire(T0 + MINUTE + 45_000, DAY, 1, 1_000, 4)).isEqualTo(DebitCounters.Outcome.ACCEPTED);
+		}
+		assertThat(counters.tryAcquire(T0 + MINUTE + 45_000, DAY, 1, 1_000, 4)).isEqualTo(DebitCounters.Outcome.VELOCITY_EXCEEDED);
+		// Dois minutos sem débitos: janela vazia
+		assertThat(counters.tryAcquire(T0 + 3 * MINUTE, DAY, 1, 1_000, 1)).isEqualTo(DebitCounters.Outcome.ACCEPTED);
+	}
+
+	@Test
+	void dailyRejectionAndReleaseLeaveBothWindowsUnchanged() {
+		DebitCounters counters = new DebitCounters();
+		assertThat(counters.tryAcquire(T0, DAY, 700, 1_000, 2)).isEqualTo(DebitCounters.Outcome.ACCEPTED);
+		assertThat(counters.tryAcquire(T0, DAY, 301, 1_000, 2)).isEqualTo(DebitCounters.Outcome.DAILY_EXCEEDED);
+
+		// A recusa diária não gastou a vaga do minuto
+		assertThat(counters.tryAcquire(T0, DAY, 300, 1_000, 2)).isEqualTo(DebitCounters.Outcome.ACCEPTED);
+		assertThat(counters.spentOn(DAY)).isEqualTo(1_000);
+
+		// Rollback do último débito: devolve o valor e a vaga
+		counters.release(T0, DAY, 300);
+		assertThat(counters.spentOn(DAY)).isEqualTo(700);
+		assertThat(counters.tryAcquire(T0 + 1, DAY, 300, 1_000, 2)).isEqualTo(DebitCounters.Outcome.ACCEPTED);
+
+		// Dia seguinte começa do zero
+		assertThat(counters.tryAcquire(T0 + 1, DAY + 1, 1_000, 1_000, 3)).isEqualTo(DebitCounters.Outcome.ACCEPTED);
+	}
+
+	@Test
+	void retiresOnlyCountersWithoutOpenWindows() {
+		DebitCounters counters = new DebitCounters();
+		counters.tryAcquire(T0, DAY, 100, 1_000, 10);
+
+		assertThat(counters.retireIfIdle(T0 + MINUTE, DAY + 1)).isFalse();
+		assertThat(counters.retireIfIdle(T0 + 2 * MINUTE, DAY)).isFalse();
+		assertThat(counters.retireIfIdle(T0 + 2 * MINUTE, DAY + 1)).isTrue();
+		assertThat(counters.tryAcquire(T0 + 2 * MINUTE, DAY + 1, 100, 1_000, 10)).isEqualTo(DebitCounters.Outcome.RETIRED);
+	}
+}
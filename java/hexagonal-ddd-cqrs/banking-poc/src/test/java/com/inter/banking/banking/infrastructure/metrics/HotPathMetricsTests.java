@@ -0,0 +1,59 @@
+package com.inter.banking.banking.infrastructure.metrics;
+
+import com.inter.banking.banking.application.command.CreateAccountCommand;
+import com.inter.banking.banking.application.command.CreditAccountCommand;
+import com.inter.banking.banking.application.command.DebitAccountCommand;
+import com.inter.banking.banking.application.service.AccountCommandService;
+import com.inter.banking.banking.domain.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class HotPathMetricsTests {
+
+	@Autowired
+	private AccountCommandService service;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void timesUseCasesAndPortCalls() {
+		String accountId = service.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), new BigDecimal("10.00"))).accountId();
+		service.creditAccount(new CreditAccountCommand(accountId, new BigDecimal("5.00"), "deposit"));
+
+		assertThat(meterRegistry.get("banking.command").tag("use.case", "creditAccount").timer().count())
+				.isGreaterThanOrEqualTo(1);
+		assertThat(meterRegistry.get("banking.port")
+				.tag("port", "AccountRepository")
+				.tag("method", "save")
+				.tag("outcome", "success")
+				.timers())
+				.anySatisfy(timer -> assertThat(timer.count()).isPositive());
+		assertThat(meterRegistry.get("banking.port").tag("port", "AccountNumberGenerator").timers()).isNotEmpty();
+	}
+
+	@Test
+	void countsDomainRejectionsByReason() {
+		String accountId = service.createdAccount(
+				new CreateAccountCommand(UUID.randomUUID().toString(), BigDecimal.ZERO)).accountId();
+
+		assertThatThrownBy(() -> service.debitAccount(new DebitAccountCommand(accountId, new BigDecimal("1.00"), "payment")))
+				.isInstanceOf(InsufficientBalanceException.class);
+
+		assertThat(meterRegistry.get("banking.command.rejections")
+				.tag("use.case", "debitAccount")
+				.tag("reason", "insufficient_balance")
+				.counter().count())
+				.isGreaterThanOrEqualTo(1);
+	}
+}
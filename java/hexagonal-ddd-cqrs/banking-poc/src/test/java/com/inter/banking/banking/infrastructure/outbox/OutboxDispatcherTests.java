@@ -0,0 +1,241 @@
+package com.inter.banking.banking.infrastructure.outbox;
+
+import com.inter.banking.banking.application.event.AccountEventHandler;
+import com.inter.banking.banking.domain.event.AccountEvent;
+import com.inter.banking.banking.domain.event.FundsHoldChangedEvent;
+import com.inter.banking.banking.domain.event.TransactionCompletedEvent;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OutboxDispatcherTests {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void retriesFailedHandlerAndMarksEveryEventDelivered() {
+		OutboxStore store = new OutboxStore(jdbcTemplate);
+		List<AccountEvent> received = new CopyOnWriteArrayList<>();
+		AtomicInteger failures = new AtomicInteger(2);
+		AccountEventHandler flaky = events -> {
+			if (failures.getAndDecrement() > 0) {
+				throw new IllegalStateException("unavailable");
+			}
+			received.addAll(events);
+		};
+
+		List<OutboxStore.Stored> events = store.insert(List.of(event(), event(), event()));
+		try (OutboxDispatcher dispatcher = new OutboxDispatcher(List.of(flaky), store, properties(5))) {
+			dispatcher.enqueue(events);
+		}
+
+		assertThat(received).containsAll(events.stream().map(OutboxStore.Stored::event).toList());
+		assertThat(events).allSatisfy(stored -> assertThat(state(stored.id())).isEqualTo("DELIVERED"));
+	}
+
+	@Test
+	void persistsBatchAsDeadLetterAfterMaxAttempts() {
+		OutboxStore store = new OutboxStore(jdbcTemplate);
+		AccountEventHandler broken = events -> {
+			throw new IllegalStateException("unavailable");
+		};
+
+		OutboxDispatcher dispatcher = new OutboxDispatcher(List.of(broken), store, properties(2));
+		TransactionCompletedEvent event = event();
+		List<OutboxStore.Stored> stored = store.insert(List.of(event));
+		dispatcher.enqueue(stored);
+		dispatcher.close();
+
+		assertThat(state(stored.get(0).id())).isEqualTo("DEAD");
+		assertThat(dispatcher.deadLetters(100))
+				.anySatisfy(dead -> assertThat(((TransactionCompletedEvent) dead.event()).transactionId())
+						.isEqualTo(event.transactionId()));
+		assertThat(dispatcher.metrics().deadLettered()).isEqualTo(1);
+		assertThat(dispatcher.metrics().queueDepth()).isZero();
+	}
+
+	@Test
+	void deadLettersOnlyTheEventTheFailingHandlerRefuses() {
+		OutboxStore store = new OutboxStore(jdbcTemplate);
+		List<AccountEvent> audited = new CopyOnWriteArrayList<>();
+		TransactionCompletedEvent poison = event();
+		RefusingHandler notifier = new RefusingHandler(poison);
+
+		List<OutboxStore.Stored> stored = store.insert(List.of(event(), poison, event()));
+		OutboxDispatcher dispatcher = new OutboxDispatcher(List.of(audited::addAll, notifier), store, properties(2));
+		dispatcher.enqueue(stored);
+		dispatcher.close();
+
+		// Auditoria aplicou o lote uma vez só; a notificação recebeu os dois eventos válidos
+		assertThat(audited).containsExactlyElementsOf(stored.stream().map(OutboxStore.Stored::event).toList());
+		assertThat(notifier.received).containsExactly(stored.get(0).event(), stored.get(2).event());
+		assertThat(state(stored.get(0).id())).isEqualTo("DELIVERED");
+		assertThat(state(stored.get(1).id())).isEqualTo("DEAD");
+		assertThat(state(stored.get(2).id())).isEqualTo("DELIVERED");
+		assertThat(dispatcher.deadLetters(100))
+				.anySatisfy(dead -> {
+					assertThat(((TransactionCompletedEvent) dead.event()).transactionId()).isEqualTo(poison.transactionId());
+					assertThat(dead.handlers()).containsExactly("RefusingHandler");
+				});
+		assertThat(dispatcher.metrics().deadLettered()).isEqualTo(1);
+		assertThat(dispatcher.metrics().delivered()).isEqualTo(2);
+	}
+
+	@Test
+	void fullQueueLeavesEventsPendingInsteadOfDeliveringFromTheCaller() throws InterruptedException {
+		OutboxStore store = new OutboxStore(jdbcTemplate);
+		CountDownLatch busy = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Thread> callers = new CopyOnWriteArrayList<>();
+		AccountEventHandler slow = events -> {
+			callers.add(Thread.currentThread());
+			busy.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		OutboxDispatcher dispatcher = new OutboxDispatcher(List.of(slow), store, properties(1, 5));
+		dispatcher.enqueue(store.insert(List.of(event())));
+		busy.await();
+
+		// Despacho ocupado e fila de 1: o primeiro espera na fila, os outros dois ficam para a releitura
+		List<OutboxStore.Stored> overflow = store.insert(List.of(event(), event(), event()));
+		dispatcher.enqueue(overflow);
+		release.countDown();
+		dispatcher.close();
+
+		assertThat(dispatcher.metrics().overflowed()).isEqualTo(2);
+		assertThat(state(overflow.get(0).id())).isEqualTo("DELIVERED");
+		assertThat(overflow.subList(1, 3)).allSatisfy(stored -> assertThat(state(stored.id())).isEqualTo("PENDING"));
+		assertThat(callers).doesNotContain(Thread.currentThread());
+		// Não deixa órfãs para o despacho dos outros testes
+		store.markDelivered(overflow.subList(1, 3).stream().map(OutboxStore.Stored::id).toList());
+	}
+
+	@Test
+	void redeliversPendingRowsLeftByPreviousProcess() {
+		OutboxStore store = new OutboxStore(jdbcTemplate);
+		// Gravadas e confirmadas, mas o processo caiu antes de enfileirar
+		List<OutboxStore.Stored> orphaned = store.insert(List.of(event(), event()));
+		List<Long> received = new CopyOnWriteArrayList<>();
+		AccountEventHandler handler = events -> events.forEach(event -> received.add(
+				orphaned.stream().filter(stored -> stored.event().accountId().equals(event.accountId()))
+						.findFirst().map(OutboxStore.Stored::id).orElse(-1L)));
+
+		try (OutboxDispatcher dispatcher = new OutboxDispatcher(List.of(handler), store, properties(5))) {
+			long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+			while (!received.containsAll(orphaned.stream().map(OutboxStore.Stored::id).toList())
+					&& System.nanoTime() < deadline) {
+				Thread.onSpinWait();
+			}
+		}
+
+		assertThat(received).containsAll(orphaned.stream().map(OutboxStore.Stored::id).toList());
+		assertThat(orphaned).allSatisfy(stored -> assertThat(state(stored.id())).isEqualTo("DELIVERED"));
+	}
+
+	@Test
+	void holdEventKeepsBalanceAndAvailableBalanceThroughTheTable() {
+		OutboxStore store = new OutboxStore(jdbcTemplate);
+		FundsHoldChangedEvent hold = new FundsHoldChangedEvent(AccountId.generate(), UUID.randomUUID().toString(),
+				"ACTIVE", FixedPointMoney.brl(4_000), Money.brl("100.00"), Money.brl("60.00"), 7, Instant.now());
+
+		long id = store.insert(List.of(hold)).get(0).id();
+
+		FundsHoldChangedEvent read = (FundsHoldChangedEvent) store.findPending(Instant.now().plusSeconds(1), 1_000).stream()
+				.filter(stored -> stored.id() == id).findFirst().orElseThrow().event();
+		assertThat(read.holdId()).isEqualTo(hold.holdId());
+		assertThat(read.status()).isEqualTo("ACTIVE");
+		assertThat(read.amount()).isEqualTo(hold.amount());
+		assertThat(read.balance().getAmount()).isEqualByComparingTo("100.00");
+		assertThat(read.availableBalance().getAmount()).isEqualByComparingTo("60.00");
+		assertThat(read.version()).isEqualTo(7);
+		store.markDelivered(List.of(id));
+	}
+
+	@Test
+	void rolledBackTransactionLeavesNoOutboxRows() {
+		OutboxStore store = new OutboxStore(jdbcTemplate);
+		List<AccountEvent> received = new CopyOnWriteArrayList<>();
+		TransactionCompletedEvent committed = event();
+		TransactionCompletedEvent rolledBack = event();
+
+		try (OutboxDispatcher dispatcher = new OutboxDispatcher(List.of(received::addAll), store, properties(5))) {
+			OutboxAccountEventPublisher publisher = new OutboxAccountEventPublisher(store, dispatcher);
+			transactionTemplate.executeWithoutResult(status -> publisher.publish(committed));
+			transactionTemplate.executeWithoutResult(status -> {
+				publisher.publish(rolledBack);
+				status.setRollbackOnly();
+			});
+		}
+
+		assertThat(rows(committed.transactionId())).isEqualTo(1);
+		assertThat(rows(rolledBack.transactionId())).isZero();
+		assertThat(received).containsExactly(committed);
+	}
+
+	/** Recusa sempre o mesmo evento; aplica os demais */
+	private static final class RefusingHandler implements AccountEventHandler {
+		private final AccountEvent refused;
+		private final List<AccountEvent> received = new CopyOnWriteArrayList<>();
+
+		RefusingHandler(AccountEvent refused) {
+			this.refused = refused;
+		}
+
+		@Override
+		public void handle(List<AccountEvent> events) {
+			if (events.contains(refused)) {
+				throw new IllegalArgumentException("rejected " + refused);
+			}
+			received.addAll(events);
+		}
+	}
+
+	private String state(long id) {
+		return jdbcTemplate.queryForObject("SELECT state FROM outbox_events WHERE id = ?", String.class, id);
+	}
+
+	private int rows(String transactionId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM outbox_events WHERE transaction_id = ?", Integer.class, transactionId);
+	}
+
+	private static OutboxProperties properties(int maxAttempts) {
+		return properties(100, maxAttempts);
+	}
+
+	private static OutboxProperties properties(int capacity, int maxAttempts) {
+		return new OutboxProperties(true, capacity, 10, Duration.ofMillis(1), Duration.ofMillis(10),
+				maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5),
+				Duration.ofMillis(50), Duration.ofSeconds(10), Duration.ofHours(1));
+	}
+
+	private static TransactionCompletedEvent event() {
+		return new TransactionCompletedEvent(AccountId.generate(), UUID.randomUUID().toString(), "CREDIT",
+				FixedPointMoney.brl(100), Money.brl("1.00"), 1, Instant.now());
+	}
+}
@@ -0,0 +1,82 @@
+package com.inter.banking.banking.infrastructure.persistence.eventsourced;
+
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+		"banking.persistence.adapter=event-sourced",
+		"banking.persistence.event-sourced.snapshot-every=3"
+})
+class EventSourcedAccountRepositoryTests {
+
+	@Autowired
+	private EventSourcedAccountRepository repository;
+
+	@Test
+	void rebuildsStateFromSnapshotAndTail() {
+		AccountId id = AccountId.generate();
+		Account account = repository.save(new Account(id, "10000001-3", CustomerId.generate(), Money.brl("100.00")));
+		for (int i = 0; i < 7; i++) {
+			account = repository.findById(id).orElseThrow();
+			account.credit(FixedPointMoney.brl(1000));
+			repository.save(account);
+		}
+		account = repository.findById(id).orElseThrow();
+		account.debit(FixedPointMoney.brl(500));
+		account.block();
+		repository.save(account);
+
+		Account rebuilt = repository.findById(id).orElseThrow();
+		assertThat(rebuilt.getBalance().getAmount()).isEqualByComparingTo("165.00");
+		assertThat(rebuilt.getStatus()).isEqualTo(AccountStatus.BLOCKED);
+		// 1 criação + 7 créditos + débito + bloqueio
+		assertThat(rebuilt.getVersion()).isEqualTo(10);
+		assertThat(repository.findByAccountNumber("10000001-3")).contains(rebuilt);
+	}
+
+	@Test
+	void replaysHeldBalanceThroughCapture() {
+		AccountId id = AccountId.generate();
+		repository.save(new Account(id, "10000003-0", CustomerId.generate(), Money.brl("100.00")));
+		for (int amount : new int[]{3000, 2000}) {
+			Account account = repository.findById(id).orElseThrow();
+			account.placeHold(FixedPointMoney.brl(amount));
+			repository.save(account);
+		}
+		Account account = repository.findById(id).orElseThrow();
+		account.captureHold(FixedPointMoney.brl(3000), FixedPointMoney.brl(2500));
+		repository.save(account);
+
+		Account rebuilt = repository.findById(id).orElseThrow();
+		assertThat(rebuilt.getBalance().getAmount()).isEqualByComparingTo("75.00");
+		assertThat(rebuilt.getHeldCents()).isEqualTo(2000);
+		// 1 criação + 2 reservas + captura (liberação da reserva e débito)
+		assertThat(rebuilt.getVersion()).isEqualTo(5);
+	}
+
+	@Test
+	void rejectsSaveFromStaleVersion() {
+		AccountId id = AccountId.generate();
+		repository.save(new Account(id, "10000002-1", CustomerId.generate(), Money.brl("50.00")));
+
+		Account first = repository.findById(id).orElseThrow();
+		Account second = repository.findById(id).orElseThrow();
+		first.debit(FixedPointMoney.brl(1000));
+		repository.save(first);
+		second.debit(FixedPointMoney.brl(2000));
+
+		assertThatThrownBy(() -> repository.save(second)).isInstanceOf(AccountVersionConflictException.class);
+		assertThat(repository.findById(id).orElseThrow().getBalance().getAmount()).isEqualByComparingTo("40.00");
+	}
+}
@@ -0,0 +1,61 @@
+package com.inter.banking.banking.infrastructure.persistence.jdbc;
+
+import com.inter.banking.banking.domain.exception.AccountVersionConflictException;
+import com.inter.banking.banking.domain.model.Account;
+import com.inter.banking.banking.domain.model.AccountId;
+import com.inter.banking.banking.domain.model.CustomerId;
+import com.inter.banking.banking.domain.model.FixedPointMoney;
+import com.inter.banking.banking.domain.model.Money;
+import com.inter.banking.banking.domain.model.enums.AccountStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "banking.persistence.adapter=jdbc")
+class JdbcAccountRepositoryTests {
+
+	@Autowired
+	private JdbcAccountRepository repository;
+
+	@Test
+	void savesOnlyFromCurrentVersion() {
+		AccountId id = AccountId.generate();
+		CustomerId customerId = CustomerId.generate();
+		repository.save(new Account(id, "20000001-5", customerId, Money.brl("50.00")));
+
+		Account first = repository.findById(id).orElseThrow();
+		Account second = repository.findById(id).orElseThrow();
+		first.debit(FixedPointMoney.brl(1000));
+		first.block();
+		repository.save(first);
+		second.debit(FixedPointMoney.brl(2000));
+
+		assertThatThrownBy(() -> repository.save(second)).isInstanceOf(AccountVersionConflictException.class);
+		Account stored = repository.findByAccountNumber("20000001-5").orElseThrow();
+		assertThat(stored.getBalance().getAmount()).isEqualByComparingTo("40.00");
+		assertThat(stored.getStatus()).isEqualTo(AccountStatus.BLOCKED);
+		assertThat(stored.getVersion()).isEqualTo(2);
+		assertThat(repository.findByCustomerId(customerId)).containsExactly(stored);
+	}
+
+	@Test
+	void batchesInsertsAndUpdates() {
+		Account existing = repository.save(
+				new Account(AccountId.generate(), "20000002-3", CustomerId.generate(), Money.brl("10.00")));
+		existing.credit(FixedPointMoney.brl(500));
+		Account created = new Account(AccountId.generate(), "20000003-1", CustomerId.generate(), Money.brl("7.00"));
+
+		repository.saveAll(List.of(existing, created));
+
+		List<Account> stored = repository.findAllById(List.of(existing.getId(), created.getId(), AccountId.generate()));
+		assertThat(stored).extracting(Account::getVersion).containsExactlyInAnyOrder(2L, 1L);
+		assertThat(repository.findById(existing.getId()).orElseThrow().getBalance().getAmount())
+				.isEqualByComparingTo("15.00");
+		assertThat(repository.existsByAccountNumber("20000003-1")).isTrue();
+	}
+}
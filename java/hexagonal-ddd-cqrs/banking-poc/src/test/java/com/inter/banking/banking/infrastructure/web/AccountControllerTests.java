@@ -0,0 +1,105 @@
+package com.inter.banking.banking.infrastructure.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AccountControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void createsAccountAndAppliesTransactions() throws Exception {
+		String accountId = openAccount("100.00");
+
+		mockMvc.perform(post("/api/accounts/{id}/credits", accountId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"amount\": 50.00, \"description\": \"deposit\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.newBalance").value(150.00));
+
+		mockMvc.perform(post("/api/accounts/{id}/debits", accountId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"amount\": 30.00, \"description\": \"payment\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.newBalance").value(120.00));
+
+		mockMvc.perform(get("/api/accounts/{id}/balance", accountId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accountId").value(accountId));
+	}
+
+	@Test
+	void mapsDomainErrorsToHttpStatus() throws Exception {
+		String accountId = openAccount("10.00");
+
+		mockMvc.perform(post("/api/accounts/{id}/debits", accountId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"amount\": 50.00, \"description\": \"payment\"}"))
+				.andExpect(status().isUnprocessableEntity());
+
+		mockMvc.perform(get("/api/accounts/{id}", UUID.randomUUID()))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void pagesAndStreamsCustomerAccounts() throws Exception {
+		String customerId = UUID.randomUUID().toString();
+		for (int i = 0; i < 3; i++) {
+			openAccount(customerId, "10.00");
+		}
+
+		mockMvc.perform(get("/api/customers/{id}/accounts", customerId).param("page", "1").param("size", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accounts.length()").value(1))
+				.andExpect(jsonPath("$.accountCount").value(3))
+				.andExpect(jsonPath("$.totalBalance").value(30.00));
+
+		mockMvc.perform(get("/api/customers/{id}/accounts", customerId).param("size", "5000"))
+				.andExpect(status().isUnprocessableEntity());
+
+		MvcResult streaming = mockMvc.perform(get("/api/customers/{id}/accounts/stream", customerId))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String lines = mockMvc.perform(asyncDispatch(streaming))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		assertThat(lines.lines()).hasSize(3).allSatisfy(line -> assertThat(line).contains(customerId));
+	}
+
+	private String openAccount(String initialBalance) throws Exception {
+		return openAccount(UUID.randomUUID().toString(), initialBalance);
+	}
+
+	private String openAccount(String customerId, String initialBalance) throws Exception {
+		String body = mockMvc.perform(post("/api/accounts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"customerId\": \"" + customerId + "\", \"initialBalance\": " + initialBalance + "}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		JsonNode created = objectMapper.readTree(body);
+		return created.get("accountId").asText();
+	}
+}